@@ -2,6 +2,7 @@ package com.fintech.wallet.application.command;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.Objects;
 
 /**
@@ -17,6 +18,7 @@ public final class CreateScheduledPaymentCommand {
     private final String recurrencePattern;
     private final LocalDate startDate;
     private final LocalDate endDate;
+    private final LocalTime executionTime;
     private final int maxExecutions;
 
     public CreateScheduledPaymentCommand(
@@ -28,6 +30,7 @@ public final class CreateScheduledPaymentCommand {
             String recurrencePattern,
             LocalDate startDate,
             LocalDate endDate,
+            LocalTime executionTime,
             int maxExecutions) {
 
         Objects.requireNonNull(sourceWalletId, "Source wallet ID is required");
@@ -49,6 +52,7 @@ public final class CreateScheduledPaymentCommand {
         this.recurrencePattern = recurrencePattern.toUpperCase();
         this.startDate = startDate;
         this.endDate = endDate;
+        this.executionTime = executionTime;
         this.maxExecutions = maxExecutions;
     }
 
@@ -60,5 +64,6 @@ public final class CreateScheduledPaymentCommand {
     public String getRecurrencePattern() { return recurrencePattern; }
     public LocalDate getStartDate() { return startDate; }
     public LocalDate getEndDate() { return endDate; }
+    public LocalTime getExecutionTime() { return executionTime; }
     public int getMaxExecutions() { return maxExecutions; }
 }
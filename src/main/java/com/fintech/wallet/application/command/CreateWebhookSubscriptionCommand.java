@@ -0,0 +1,49 @@
+package com.fintech.wallet.application.command;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Command for subscribing an endpoint to webhook events.
+ * Immutable command object following CQRS pattern.
+ */
+public final class CreateWebhookSubscriptionCommand {
+
+    private final String webhookUrl;
+    private final List<String> eventTypes;
+    private final List<String> walletIds;
+
+    public CreateWebhookSubscriptionCommand(String webhookUrl, List<String> eventTypes, List<String> walletIds) {
+        Objects.requireNonNull(webhookUrl, "Webhook URL is required");
+        if (webhookUrl.isBlank()) {
+            throw new IllegalArgumentException("Webhook URL cannot be blank");
+        }
+        this.webhookUrl = webhookUrl.trim();
+        this.eventTypes = eventTypes == null ? List.of() : List.copyOf(eventTypes);
+        this.walletIds = walletIds == null ? List.of() : List.copyOf(walletIds);
+    }
+
+    public String getWebhookUrl() {
+        return webhookUrl;
+    }
+
+    /**
+     * Event types to receive; empty for all event types.
+     */
+    public List<String> getEventTypes() {
+        return eventTypes;
+    }
+
+    /**
+     * Wallets to receive events for; empty for all wallets.
+     */
+    public List<String> getWalletIds() {
+        return walletIds;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CreateWebhookSubscriptionCommand{webhookUrl='%s', eventTypes=%s, wallets=%d}",
+                webhookUrl, eventTypes, walletIds.size());
+    }
+}
@@ -0,0 +1,30 @@
+package com.fintech.wallet.application.port.in;
+
+import com.fintech.wallet.domain.valueobject.CashFlowForecast;
+
+import java.util.List;
+
+/**
+ * Input port for projecting wallet balances from scheduled payments.
+ */
+public interface CashFlowForecastUseCase {
+
+    /**
+     * Projects a wallet's balance over the coming days.
+     *
+     * @param walletId the wallet ID
+     * @param days the forecast horizon in days, starting today
+     * @return the forecast
+     */
+    CashFlowForecast forecastWallet(String walletId, int days);
+
+    /**
+     * Forecasts every wallet that sends scheduled payments and raises a
+     * shortfall event for each wallet that cannot cover one of them.
+     * Called by the scheduler.
+     *
+     * @param days the forecast horizon in days, starting today
+     * @return the forecasts that contain at least one shortfall
+     */
+    List<CashFlowForecast> forecastAllWallets(int days);
+}
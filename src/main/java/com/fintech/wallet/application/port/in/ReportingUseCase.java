@@ -1,10 +1,12 @@
 package com.fintech.wallet.application.port.in;
 
+import com.fintech.wallet.domain.model.LedgerEntry;
 import com.fintech.wallet.domain.valueobject.AccountStatement;
 import com.fintech.wallet.domain.valueobject.MonthlySummary;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.List;
 
 /**
  * Input port for generating reports and analytics.
@@ -30,6 +32,16 @@ public interface ReportingUseCase {
      */
     MonthlySummary generateMonthlySummary(String walletId, YearMonth month);
 
+    /**
+     * Searches a wallet's ledger entry descriptions.
+     *
+     * @param walletId the wallet ID
+     * @param query words to look for; each must prefix a word of the description
+     * @param limit the maximum number of entries to return
+     * @return matching entries, newest first
+     */
+    List<LedgerEntry> searchEntries(String walletId, String query, int limit);
+
     /**
      * Exports an account statement to PDF format.
      *
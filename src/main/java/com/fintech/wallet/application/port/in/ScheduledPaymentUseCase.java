@@ -2,8 +2,10 @@ package com.fintech.wallet.application.port.in;
 
 import com.fintech.wallet.application.command.CreateScheduledPaymentCommand;
 import com.fintech.wallet.domain.model.ScheduledPayment;
+import com.fintech.wallet.domain.valueobject.PaymentRunSummary;
 import com.fintech.wallet.domain.valueobject.ScheduledPaymentId;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -42,10 +44,26 @@ public interface ScheduledPaymentUseCase {
     void cancelScheduledPayment(String paymentId);
 
     /**
-     * Executes all due scheduled payments.
+     * Executes all due scheduled payments, each in its own transaction.
      * Called by the scheduler.
+     *
+     * @return counts and timing for the run
      */
-    void executeDuePayments();
+    PaymentRunSummary executeDuePayments();
+
+    /**
+     * Executes a single payment if it is due and not claimed by another node.
+     * Called when a payment's execution time is reached.
+     *
+     * @return true if the payment was executed
+     */
+    boolean executeScheduledPayment(String paymentId);
+
+    /**
+     * Gets the active payments with an execution time falling between the
+     * given moments, for loading into the in-memory timer.
+     */
+    List<ScheduledPayment> getTimedPaymentsBetween(LocalDateTime from, LocalDateTime to);
 
     /**
      * Sends reminders for upcoming payments.
@@ -0,0 +1,39 @@
+package com.fintech.wallet.application.port.in;
+
+import com.fintech.wallet.domain.model.Transaction;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Input port for searching a wallet's transfers, for example by support staff.
+ */
+public interface TransferSearchUseCase {
+
+    /**
+     * Finds transfers sent or received by a wallet, newest first, one page at a time.
+     *
+     * @param search the wallet, optional filters and page position
+     * @return the page and the cursor of the next one
+     */
+    TransferPage search(TransferSearch search);
+
+    /**
+     * Search parameters as received. Every filter except the wallet is optional.
+     *
+     * @param from earliest creation time, inclusive
+     * @param to latest creation time, exclusive
+     * @param cursor {@link TransferPage#nextCursor()} of the previous page, or null for the first
+     */
+    record TransferSearch(String walletId, String counterpartyWalletId, BigDecimal minAmount,
+                          BigDecimal maxAmount, Instant from, Instant to, String status, String currency,
+                          String cursor, int limit) {
+    }
+
+    /**
+     * @param nextCursor opaque position after the last transfer, or null if there are no more
+     */
+    record TransferPage(List<Transaction> transfers, String nextCursor) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.fintech.wallet.application.port.in;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * Input port for onboarding wallets in bulk, for example when migrating a
+ * partner's customers.
+ */
+public interface WalletImportUseCase {
+
+    /**
+     * Creates a wallet with its opening balance for every valid row, in chunks
+     * that are committed one at a time. Invalid rows and rows whose wallet ID
+     * already exists are passed to {@code rejects} and skipped.
+     * No domain events are published for imported wallets.
+     *
+     * @param rows the rows to import, read lazily
+     * @param rejects receives each skipped row with the reason
+     * @return counts of imported and rejected rows
+     */
+    ImportResult importWallets(Iterator<ImportRow> rows, Consumer<Rejection> rejects);
+
+    /**
+     * One input record as read from the file. Fields are unparsed; a blank
+     * wallet ID means a new one is generated and a blank opening balance means zero.
+     *
+     * @param record position of the record in the file, starting at 1
+     * @param raw the record as it appeared in the file
+     * @param error set if the record could not be read at all
+     */
+    record ImportRow(long record, String walletId, String currency, String openingBalance,
+                     String raw, String error) {
+
+        public ImportRow(long record, String walletId, String currency, String openingBalance, String raw) {
+            this(record, walletId, currency, openingBalance, raw, null);
+        }
+
+        public static ImportRow malformed(long record, String raw, String error) {
+            return new ImportRow(record, null, null, null, raw, error);
+        }
+    }
+
+    record Rejection(long record, String reason, String raw) {
+    }
+
+    record ImportResult(long imported, long rejected, Duration duration) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.fintech.wallet.application.port.in;
+
+import com.fintech.wallet.domain.model.WebhookDelivery;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Input port for the durable webhook delivery queue.
+ */
+public interface WebhookDeliveryUseCase {
+
+    /**
+     * Queues a serialized event for delivery to each endpoint.
+     */
+    void enqueue(List<String> webhookUrls, String eventType, UUID eventId, String payload);
+
+    /**
+     * Starts attempts on the deliveries that are due, at most a fixed number
+     * per endpoint. Returns without waiting for the receivers; each outcome
+     * is recorded when its attempt completes.
+     * Called by the scheduler.
+     *
+     * @return the number of deliveries attempted
+     */
+    int deliverDue();
+
+    /**
+     * Gets a page of dead-lettered deliveries.
+     */
+    List<WebhookDelivery> getDeadLetters(int page, int size);
+
+    /**
+     * Replays one dead-lettered delivery.
+     */
+    WebhookDelivery replay(String deliveryId);
+
+    /**
+     * Replays all dead-lettered deliveries, optionally only for one endpoint.
+     *
+     * @param webhookUrl the endpoint, or null for all endpoints
+     * @return the number of deliveries replayed
+     */
+    int replayDeadLetters(String webhookUrl);
+
+    /**
+     * Deletes delivered entries older than the retention period.
+     */
+    int purgeDelivered(Duration retention);
+}
@@ -0,0 +1,48 @@
+package com.fintech.wallet.application.port.in;
+
+import com.fintech.wallet.application.command.CreateWebhookSubscriptionCommand;
+import com.fintech.wallet.domain.model.WebhookSubscription;
+import com.fintech.wallet.domain.valueobject.WalletId;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Input port for managing webhook subscriptions and routing events to them.
+ */
+public interface WebhookSubscriptionUseCase {
+
+    /**
+     * Subscribes an endpoint and updates the routes on this node.
+     */
+    WebhookSubscription subscribe(CreateWebhookSubscriptionCommand command);
+
+    /**
+     * Gets a subscription by ID.
+     */
+    WebhookSubscription getSubscription(String subscriptionId);
+
+    /**
+     * Gets all active subscriptions.
+     */
+    List<WebhookSubscription> getActiveSubscriptions();
+
+    /**
+     * Deactivates a subscription and updates the routes on this node.
+     */
+    void unsubscribe(String subscriptionId);
+
+    /**
+     * Returns the endpoints subscribed to an event type for any of the given
+     * wallets, from the in-memory routes.
+     */
+    List<String> route(String eventType, Collection<WalletId> walletIds);
+
+    /**
+     * Rebuilds the routes if subscriptions changed since they were built,
+     * for example on another node.
+     *
+     * @return true if the routes were rebuilt
+     */
+    boolean refreshRoutes();
+}
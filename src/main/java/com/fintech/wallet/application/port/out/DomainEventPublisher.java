@@ -4,7 +4,8 @@ import com.fintech.wallet.domain.event.DomainEvent;
 
 /**
  * Output port for publishing domain events.
- * Implemented by infrastructure to integrate with Spring Events.
+ * Implemented by infrastructure with a transactional outbox, so events are
+ * stored together with the change that raised them.
  */
 public interface DomainEventPublisher {
 
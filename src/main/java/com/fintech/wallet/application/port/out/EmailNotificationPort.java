@@ -1,5 +1,7 @@
 package com.fintech.wallet.application.port.out;
 
+import java.util.List;
+
 /**
  * Output port for sending email notifications.
  * Implemented by infrastructure adapters.
@@ -25,4 +27,18 @@ public interface EmailNotificationPort {
      */
     void sendEmailWithAttachments(String to, String subject, String body, 
             java.util.Map<String, byte[]> attachments);
+
+    /**
+     * Sends several emails, reusing one SMTP connection for as many of them
+     * as the adapter allows.
+     *
+     * @param emails emails to send
+     */
+    void sendEmails(List<Email> emails);
+
+    /**
+     * An email to send; the body may be HTML.
+     */
+    record Email(String to, String subject, String body) {
+    }
 }
@@ -0,0 +1,34 @@
+package com.fintech.wallet.application.port.out;
+
+import com.fintech.wallet.domain.model.LedgerEntry;
+import com.fintech.wallet.domain.valueobject.WalletId;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Output port for ledger entries moved out of the hot table into archive
+ * segments. Everything created before {@link #archivedUntil()} is archived;
+ * the hot ledger keeps one carried-forward balance row per wallet in its place.
+ */
+public interface LedgerArchivePort {
+
+    /**
+     * End of the archived history, or empty if nothing is archived.
+     */
+    Optional<Instant> archivedUntil();
+
+    /**
+     * Loads a wallet's archived entries created in {@code [from, to)}, oldest first.
+     * {@code to} must not be after {@link #archivedUntil()}.
+     */
+    List<LedgerEntry> loadEntries(WalletId walletId, Instant from, Instant to);
+
+    /**
+     * Sums a wallet's archived credits minus debits created before {@code before}.
+     * {@code before} must not be after {@link #archivedUntil()}.
+     */
+    BigDecimal sumBefore(WalletId walletId, Instant before);
+}
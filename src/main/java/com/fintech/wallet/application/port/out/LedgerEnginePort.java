@@ -0,0 +1,62 @@
+package com.fintech.wallet.application.port.out;
+
+import com.fintech.wallet.domain.event.DomainEvent;
+import com.fintech.wallet.domain.model.LedgerEntry;
+import com.fintech.wallet.domain.model.Transaction;
+import com.fintech.wallet.domain.valueobject.Money;
+import com.fintech.wallet.domain.valueobject.WalletId;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Output port for posting ledger rows through the in-memory ledger engine
+ * instead of loading and saving wallet aggregates.
+ * The engine holds balances in memory and persists rows asynchronously.
+ */
+public interface LedgerEnginePort {
+
+    /**
+     * Validates and applies a posting, returning once it is durable.
+     *
+     * @param posting the rows to apply
+     * @return the new balances of the posting's wallets held with its home entry, always including that
+     *         entry's wallet; a striped wallet's balance is its total over all stripes
+     * @throws com.fintech.wallet.domain.exception.WalletNotFoundException if a wallet does not exist
+     * @throws com.fintech.wallet.domain.exception.InvalidCurrencyException if an entry's currency is not its wallet's
+     * @throws com.fintech.wallet.domain.exception.InsufficientBalanceException if the debited wallet lacks funds
+     */
+    Map<WalletId, Money> post(Posting posting);
+
+    /**
+     * Ledger entries applied together, at most one of them a debit.
+     *
+     * @param transaction the transfer record to store with the entries, or null
+     * @param entries     the entries to apply
+     * @param event       builds the event to publish from the new balances, or null
+     */
+    record Posting(Transaction transaction, List<LedgerEntry> entries,
+                   Function<Map<WalletId, Money>, DomainEvent> event) {
+
+        public Posting {
+            if (entries == null || entries.isEmpty()) {
+                throw new IllegalArgumentException("A posting needs at least one entry");
+            }
+            if (entries.stream().filter(LedgerEntry::isDebit).count() > 1) {
+                throw new IllegalArgumentException("A posting may debit at most one wallet");
+            }
+            entries = List.copyOf(entries);
+        }
+
+        /**
+         * The entry whose shard owns the posting: the debit, or the first credit.
+         */
+        public LedgerEntry homeEntry() {
+            return entries.stream()
+                    .filter(LedgerEntry::isDebit)
+                    .findFirst()
+                    .orElse(entries.get(0));
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.fintech.wallet.application.port.out;
+
+import com.fintech.wallet.domain.model.LedgerEntry;
+import com.fintech.wallet.domain.valueobject.WalletId;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Output port for indexed reads of a wallet's ledger.
+ * Date-bounded queries only read the ledger partitions covering the period.
+ */
+public interface LedgerQueryPort {
+
+    /**
+     * Loads a wallet's entries created in {@code [from, to)}, oldest first.
+     */
+    List<LedgerEntry> loadEntries(WalletId walletId, Instant from, Instant to);
+
+    /**
+     * Sums a wallet's credits minus its debits created before {@code before}.
+     * Not clamped at zero.
+     */
+    BigDecimal sumBefore(WalletId walletId, Instant before);
+
+    /**
+     * Finds a wallet's entries whose description contains a word starting
+     * with each of the terms, newest first, using the full-text index.
+     *
+     * @param terms lower-case letters and digits only
+     */
+    List<LedgerEntry> searchEntries(WalletId walletId, List<String> terms, int limit);
+}
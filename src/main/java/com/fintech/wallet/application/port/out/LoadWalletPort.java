@@ -1,8 +1,11 @@
 package com.fintech.wallet.application.port.out;
 
 import com.fintech.wallet.domain.model.Wallet;
+import com.fintech.wallet.domain.valueobject.Money;
 import com.fintech.wallet.domain.valueobject.WalletId;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -18,4 +21,13 @@ public interface LoadWalletPort {
      * @return an Optional containing the wallet if found, empty otherwise
      */
     Optional<Wallet> loadById(WalletId walletId);
+
+    /**
+     * Loads the current balances of several wallets without loading their
+     * ledgers. Unknown wallet IDs are absent from the result.
+     *
+     * @param walletIds the wallet identifiers
+     * @return the balance of each wallet found
+     */
+    Map<WalletId, Money> loadBalances(Collection<WalletId> walletIds);
 }
@@ -2,6 +2,8 @@ package com.fintech.wallet.application.port.out;
 
 import com.fintech.wallet.domain.model.Transaction;
 
+import java.util.List;
+
 /**
  * Output port for saving transactions to persistence.
  * Implemented by infrastructure adapters.
@@ -14,4 +16,11 @@ public interface SaveTransactionPort {
      * @param transaction the transaction to save
      */
     void save(Transaction transaction);
+
+    /**
+     * Saves a batch of new transaction records.
+     *
+     * @param transactions the transactions to save
+     */
+    void saveAll(List<Transaction> transactions);
 }
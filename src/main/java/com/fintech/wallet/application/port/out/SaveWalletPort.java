@@ -1,7 +1,10 @@
 package com.fintech.wallet.application.port.out;
 
+import com.fintech.wallet.domain.model.LedgerEntry;
 import com.fintech.wallet.domain.model.Wallet;
 
+import java.util.List;
+
 /**
  * Output port for saving wallets to persistence.
  * Implemented by infrastructure adapters.
@@ -14,4 +17,12 @@ public interface SaveWalletPort {
      * @param wallet the wallet to save
      */
     void save(Wallet wallet);
+
+    /**
+     * Appends new ledger entries, possibly for several wallets, in one batch
+     * without reloading the owning wallets.
+     *
+     * @param entries newly created ledger entries
+     */
+    void appendLedgerEntries(List<LedgerEntry> entries);
 }
@@ -5,7 +5,8 @@ import com.fintech.wallet.domain.model.ScheduledPaymentStatus;
 import com.fintech.wallet.domain.valueobject.ScheduledPaymentId;
 import com.fintech.wallet.domain.valueobject.WalletId;
 
-import java.time.LocalDate;
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +20,21 @@ public interface ScheduledPaymentPort {
      */
     void save(ScheduledPayment payment);
 
+    /**
+     * Saves a payment this node has claimed and executed, releasing its lease.
+     * The save is fenced on the lease: if it has meanwhile expired and been
+     * taken by another node, nothing is written and an exception is thrown so
+     * that the surrounding transaction, including the transfer, rolls back.
+     */
+    void saveClaimed(ScheduledPayment payment);
+
+    /**
+     * Saves a batch of claimed payments, releasing their leases. Fenced like
+     * {@link #saveClaimed(ScheduledPayment)}: if any lease has been lost,
+     * nothing is written and an exception is thrown.
+     */
+    void saveAllClaimed(List<ScheduledPayment> payments);
+
     /**
      * Finds a scheduled payment by ID.
      */
@@ -30,9 +46,49 @@ public interface ScheduledPaymentPort {
     List<ScheduledPayment> findBySourceWalletId(WalletId walletId);
 
     /**
-     * Finds all active scheduled payments due for execution.
+     * Finds the active payments a wallet sends or receives.
+     */
+    List<ScheduledPayment> findActiveByWalletId(WalletId walletId);
+
+    /**
+     * Finds active payments with an execution time whose next execution
+     * falls between the given moments (both inclusive).
+     */
+    List<ScheduledPayment> findTimedPayments(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Claims the next batch of due payments for this node by leasing them.
+     * Payments leased by another node are skipped; leases that have expired
+     * (for example because the owning node crashed) are reclaimed. The lease
+     * is released when the payment is saved with {@link #saveClaimed} or
+     * {@link #saveAllClaimed}.
+     *
+     * @param dueAt the moment to consider payments due at; payments with an
+     *              execution time later on that day are not yet due
+     * @param modifiedBefore only payments not modified since this instant are
+     *                       claimed, so a payment is executed at most once per run
+     * @return the claimed batch, empty when nothing is left to claim
+     */
+    List<ScheduledPayment> claimDuePayments(LocalDateTime dueAt, Instant modifiedBefore);
+
+    /**
+     * Claims a single payment for this node if it is due and not leased by
+     * another node. Used to execute a payment at its exact execution time.
+     *
+     * @return the claimed payment, empty when it is not due or already claimed
+     */
+    Optional<ScheduledPayment> claimDuePayment(ScheduledPaymentId id, LocalDateTime dueAt);
+
+    /**
+     * Releases the leases this node still holds from a previous process, for
+     * example one that crashed or was restarted mid-run, so that its payments
+     * are picked up immediately instead of waiting for the leases to expire.
+     * Leases held by this process - payments executing right now in a run or
+     * at their execution time - are never released.
+     *
+     * @return the number of leases released
      */
-    List<ScheduledPayment> findDuePayments(LocalDate date);
+    int releaseClaims();
 
     /**
      * Finds all scheduled payments by status.
@@ -0,0 +1,40 @@
+package com.fintech.wallet.application.port.out;
+
+import com.fintech.wallet.domain.model.Transaction;
+import com.fintech.wallet.domain.model.TransactionStatus;
+import com.fintech.wallet.domain.valueobject.Currency;
+import com.fintech.wallet.domain.valueobject.TransactionId;
+import com.fintech.wallet.domain.valueobject.WalletId;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Output port for filtered, keyset-paginated transaction lookups.
+ * Results are ordered by creation time, newest first, then by ID descending
+ * in the database's UUID order (unsigned, most significant byte first).
+ */
+public interface TransactionSearchPort {
+
+    /**
+     * Transfers sent by the filter's wallet.
+     */
+    List<Transaction> findOutgoing(TransactionFilter filter, int limit);
+
+    /**
+     * Transfers received by the filter's wallet.
+     */
+    List<Transaction> findIncoming(TransactionFilter filter, int limit);
+
+    /**
+     * Null fields are not filtered on. When {@code cursorCreatedAt} and
+     * {@code cursorId} are set, only transactions ordered after that position
+     * are returned.
+     */
+    record TransactionFilter(WalletId walletId, WalletId counterpartyWalletId,
+                             BigDecimal minAmount, BigDecimal maxAmount, Instant from, Instant to,
+                             TransactionStatus status, Currency currency,
+                             Instant cursorCreatedAt, TransactionId cursorId) {
+    }
+}
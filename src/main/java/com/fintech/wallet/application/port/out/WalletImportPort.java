@@ -0,0 +1,24 @@
+package com.fintech.wallet.application.port.out;
+
+import com.fintech.wallet.domain.model.Wallet;
+import com.fintech.wallet.domain.valueobject.WalletId;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Output port for writing imported wallets in bulk, bypassing the
+ * per-aggregate {@link SaveWalletPort}.
+ */
+public interface WalletImportPort {
+
+    /**
+     * Inserts the wallets together with their ledger entries in one
+     * transaction. Wallets whose ID already exists are left untouched,
+     * and so are their entries in the list.
+     *
+     * @param wallets new wallets with distinct IDs
+     * @return the IDs that already existed and were skipped
+     */
+    Set<WalletId> insertNew(List<Wallet> wallets);
+}
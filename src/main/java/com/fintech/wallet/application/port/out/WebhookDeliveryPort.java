@@ -0,0 +1,60 @@
+package com.fintech.wallet.application.port.out;
+
+import com.fintech.wallet.domain.model.WebhookDelivery;
+import com.fintech.wallet.domain.model.WebhookDeliveryStatus;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Output port for the persisted webhook delivery queue.
+ */
+public interface WebhookDeliveryPort {
+
+    /**
+     * Inserts newly queued deliveries.
+     */
+    void enqueueAll(List<WebhookDelivery> deliveries);
+
+    /**
+     * Saves the outcome of attempts on existing deliveries.
+     */
+    void saveAll(List<WebhookDelivery> deliveries);
+
+    Optional<WebhookDelivery> findById(UUID deliveryId);
+
+    /**
+     * Returns the endpoints that have at least one delivery due.
+     */
+    List<String> findDueEndpoints(Instant now);
+
+    /**
+     * Returns up to {@code limit} due deliveries to one endpoint, oldest
+     * attempt time first.
+     */
+    List<WebhookDelivery> findDue(String webhookUrl, Instant now, int limit);
+
+    /**
+     * Returns up to {@code limit} pending deliveries to one endpoint in the
+     * order they were queued, whether or not they are due yet.
+     */
+    List<WebhookDelivery> findPending(String webhookUrl, int limit);
+
+    List<WebhookDelivery> findByStatus(WebhookDeliveryStatus status, int page, int size);
+
+    /**
+     * Puts dead-lettered deliveries back in the queue, optionally only those
+     * for one endpoint.
+     *
+     * @param webhookUrl the endpoint, or null for all endpoints
+     * @return the number of deliveries replayed
+     */
+    int replayDeadLetters(String webhookUrl, Instant now);
+
+    /**
+     * Deletes delivered entries last attempted before the given time.
+     */
+    int deleteDeliveredBefore(Instant before);
+}
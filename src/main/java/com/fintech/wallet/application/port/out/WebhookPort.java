@@ -1,6 +1,6 @@
 package com.fintech.wallet.application.port.out;
 
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Output port for sending webhook notifications to third-party integrations.
@@ -9,24 +9,16 @@ import java.util.Map;
 public interface WebhookPort {
 
     /**
-     * Sends a webhook notification to a registered URL.
+     * Makes one delivery attempt of an already serialized payload without
+     * blocking the caller.
      *
      * @param webhookUrl the URL to send the webhook to
      * @param eventType the type of event
-     * @param payload the event payload
-     * @return true if the webhook was successfully delivered
+     * @param payload the JSON payload
+     * @return completes when the receiver accepts the webhook, exceptionally
+     *         when the attempt fails, or exceptionally with a
+     *         {@link java.util.concurrent.RejectedExecutionException} when the
+     *         attempt was not made because the sender had no room for it
      */
-    boolean sendWebhook(String webhookUrl, String eventType, Map<String, Object> payload);
-
-    /**
-     * Sends a webhook notification with retry on failure.
-     *
-     * @param webhookUrl the URL to send the webhook to
-     * @param eventType the type of event
-     * @param payload the event payload
-     * @param maxRetries maximum number of retry attempts
-     * @return true if the webhook was eventually delivered
-     */
-    boolean sendWebhookWithRetry(String webhookUrl, String eventType, 
-            Map<String, Object> payload, int maxRetries);
+    CompletableFuture<Void> send(String webhookUrl, String eventType, String payload);
 }
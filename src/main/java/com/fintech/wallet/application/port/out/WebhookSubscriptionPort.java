@@ -0,0 +1,25 @@
+package com.fintech.wallet.application.port.out;
+
+import com.fintech.wallet.domain.model.WebhookSubscription;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Output port for persisting webhook subscriptions.
+ */
+public interface WebhookSubscriptionPort {
+
+    void save(WebhookSubscription subscription);
+
+    Optional<WebhookSubscription> findById(UUID subscriptionId);
+
+    List<WebhookSubscription> findAllActive();
+
+    /**
+     * Returns a counter that increases whenever a subscription is created or
+     * changed, so nodes can tell cheaply whether their routes are stale.
+     */
+    long currentVersion();
+}
@@ -0,0 +1,152 @@
+package com.fintech.wallet.application.usecase;
+
+import com.fintech.wallet.application.port.in.CashFlowForecastUseCase;
+import com.fintech.wallet.application.port.out.DomainEventPublisher;
+import com.fintech.wallet.application.port.out.LoadWalletPort;
+import com.fintech.wallet.application.port.out.ScheduledPaymentPort;
+import com.fintech.wallet.domain.event.BalanceShortfallForecastEvent;
+import com.fintech.wallet.domain.exception.WalletNotFoundException;
+import com.fintech.wallet.domain.model.ScheduledPayment;
+import com.fintech.wallet.domain.model.ScheduledPaymentStatus;
+import com.fintech.wallet.domain.service.CashFlowForecastService;
+import com.fintech.wallet.domain.valueobject.CashFlowForecast;
+import com.fintech.wallet.domain.valueobject.Money;
+import com.fintech.wallet.domain.valueobject.WalletId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Use case handler for cash-flow forecasts.
+ */
+@Transactional(readOnly = true)
+public class CashFlowForecastUseCaseHandler implements CashFlowForecastUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(CashFlowForecastUseCaseHandler.class);
+    private static final int MAX_DAYS = 366;
+
+    private final ScheduledPaymentPort scheduledPaymentPort;
+    private final LoadWalletPort loadWalletPort;
+    private final CashFlowForecastService forecastService;
+    private final Executor forecastExecutor;
+    private final DomainEventPublisher eventPublisher;
+    private final int walletsPerTask;
+
+    public CashFlowForecastUseCaseHandler(
+            ScheduledPaymentPort scheduledPaymentPort,
+            LoadWalletPort loadWalletPort,
+            CashFlowForecastService forecastService,
+            Executor forecastExecutor,
+            DomainEventPublisher eventPublisher,
+            int walletsPerTask) {
+        this.scheduledPaymentPort = Objects.requireNonNull(scheduledPaymentPort);
+        this.loadWalletPort = Objects.requireNonNull(loadWalletPort);
+        this.forecastService = Objects.requireNonNull(forecastService);
+        this.forecastExecutor = Objects.requireNonNull(forecastExecutor);
+        this.eventPublisher = Objects.requireNonNull(eventPublisher);
+        this.walletsPerTask = walletsPerTask;
+    }
+
+    @Override
+    public CashFlowForecast forecastWallet(String walletId, int days) {
+        validateHorizon(days);
+        WalletId id = WalletId.of(walletId);
+        Money balance = loadWalletPort.loadBalances(List.of(id)).get(id);
+        if (balance == null) {
+            throw new WalletNotFoundException(walletId);
+        }
+
+        LocalDate today = LocalDate.now();
+        return forecastService.forecast(id, balance, scheduledPaymentPort.findActiveByWalletId(id),
+                today, today.plusDays(days - 1L));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<CashFlowForecast> forecastAllWallets(int days) {
+        validateHorizon(days);
+        LocalDate today = LocalDate.now();
+        LocalDate endDate = today.plusDays(days - 1L);
+
+        // One pass over the active schedules, indexed by both wallets involved
+        Map<WalletId, List<ScheduledPayment>> byWallet = new HashMap<>();
+        Set<WalletId> payerSet = new LinkedHashSet<>();
+        for (ScheduledPayment payment : scheduledPaymentPort.findByStatus(ScheduledPaymentStatus.ACTIVE)) {
+            byWallet.computeIfAbsent(payment.getSourceWalletId(), id -> new ArrayList<>()).add(payment);
+            if (!payment.getDestinationWalletId().equals(payment.getSourceWalletId())) {
+                byWallet.computeIfAbsent(payment.getDestinationWalletId(), id -> new ArrayList<>()).add(payment);
+            }
+            payerSet.add(payment.getSourceWalletId());
+        }
+        List<WalletId> payers = new ArrayList<>(payerSet);
+
+        // Only wallets that pay out can run short; forecast them in parallel chunks
+        List<CompletableFuture<List<CashFlowForecast>>> tasks = new ArrayList<>();
+        for (int from = 0; from < payers.size(); from += walletsPerTask) {
+            List<WalletId> chunk = payers.subList(from, Math.min(from + walletsPerTask, payers.size()));
+            tasks.add(CompletableFuture.supplyAsync(
+                    () -> forecastChunk(chunk, byWallet, today, endDate), forecastExecutor));
+        }
+
+        List<CashFlowForecast> shortfalls = new ArrayList<>();
+        for (CompletableFuture<List<CashFlowForecast>> task : tasks) {
+            shortfalls.addAll(task.join());
+        }
+        shortfalls.forEach(this::publishShortfall);
+
+        log.info("Forecast {} wallets over {} days: {} with projected shortfalls",
+                payers.size(), days, shortfalls.size());
+        return shortfalls;
+    }
+
+    private List<CashFlowForecast> forecastChunk(List<WalletId> walletIds,
+            Map<WalletId, List<ScheduledPayment>> byWallet, LocalDate startDate, LocalDate endDate) {
+        Map<WalletId, Money> balances = loadWalletPort.loadBalances(walletIds);
+        List<CashFlowForecast> shortfalls = new ArrayList<>();
+        for (WalletId walletId : walletIds) {
+            Money balance = balances.get(walletId);
+            if (balance == null) {
+                continue;
+            }
+            CashFlowForecast forecast = forecastService.forecast(
+                    walletId, balance, byWallet.get(walletId), startDate, endDate);
+            if (forecast.hasShortfall()) {
+                shortfalls.add(forecast);
+            }
+        }
+        return shortfalls;
+    }
+
+    private void publishShortfall(CashFlowForecast forecast) {
+        List<CashFlowForecast.ProjectedPayment> shortfalls = forecast.shortfalls();
+        CashFlowForecast.ProjectedPayment first = shortfalls.get(0);
+        log.warn("Wallet {} is projected to miss scheduled payment {} on {}: {} due, {} available",
+                forecast.walletId(), first.scheduledPaymentId(), first.date(),
+                first.amount(), first.projectedBalance());
+        eventPublisher.publish(new BalanceShortfallForecastEvent(
+                forecast.walletId(),
+                first.scheduledPaymentId(),
+                first.date(),
+                first.amount(),
+                first.projectedBalance(),
+                shortfalls.size()));
+    }
+
+    private void validateHorizon(int days) {
+        if (days < 1 || days > MAX_DAYS) {
+            throw new IllegalArgumentException("Forecast horizon must be between 1 and " + MAX_DAYS + " days");
+        }
+    }
+}
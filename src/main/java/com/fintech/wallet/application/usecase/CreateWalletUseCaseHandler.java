@@ -2,11 +2,15 @@ package com.fintech.wallet.application.usecase;
 
 import com.fintech.wallet.application.command.CreateWalletCommand;
 import com.fintech.wallet.application.port.in.CreateWalletUseCase;
+import com.fintech.wallet.application.port.out.DomainEventPublisher;
 import com.fintech.wallet.application.port.out.SaveWalletPort;
+import com.fintech.wallet.domain.event.WalletCreatedEvent;
 import com.fintech.wallet.domain.model.Wallet;
 import com.fintech.wallet.domain.valueobject.Currency;
 import com.fintech.wallet.domain.valueobject.WalletId;
 
+import org.springframework.transaction.annotation.Transactional;
+
 import java.util.Objects;
 
 /**
@@ -16,12 +20,15 @@ import java.util.Objects;
 public class CreateWalletUseCaseHandler implements CreateWalletUseCase {
 
     private final SaveWalletPort saveWalletPort;
+    private final DomainEventPublisher eventPublisher;
 
-    public CreateWalletUseCaseHandler(SaveWalletPort saveWalletPort) {
+    public CreateWalletUseCaseHandler(SaveWalletPort saveWalletPort, DomainEventPublisher eventPublisher) {
         this.saveWalletPort = Objects.requireNonNull(saveWalletPort, "SaveWalletPort is required");
+        this.eventPublisher = Objects.requireNonNull(eventPublisher, "DomainEventPublisher is required");
     }
 
     @Override
+    @Transactional
     public WalletId execute(CreateWalletCommand command) {
         Objects.requireNonNull(command, "CreateWalletCommand is required");
 
@@ -29,6 +36,7 @@ public class CreateWalletUseCaseHandler implements CreateWalletUseCase {
         Wallet wallet = Wallet.create(currency);
 
         saveWalletPort.save(wallet);
+        eventPublisher.publish(new WalletCreatedEvent(wallet.getId(), currency.getCode()));
 
         return wallet.getId();
     }
@@ -2,11 +2,15 @@ package com.fintech.wallet.application.usecase;
 
 import com.fintech.wallet.application.command.CrossCurrencyTransferCommand;
 import com.fintech.wallet.application.port.in.CrossCurrencyTransferUseCase;
+import com.fintech.wallet.application.port.out.DomainEventPublisher;
 import com.fintech.wallet.application.port.out.ExchangeRatePort;
+import com.fintech.wallet.application.port.out.LedgerEnginePort;
 import com.fintech.wallet.application.port.out.LoadWalletPort;
 import com.fintech.wallet.application.port.out.SaveTransactionPort;
 import com.fintech.wallet.application.port.out.SaveWalletPort;
+import com.fintech.wallet.domain.event.MoneyTransferredEvent;
 import com.fintech.wallet.domain.exception.WalletNotFoundException;
+import com.fintech.wallet.domain.model.LedgerEntry;
 import com.fintech.wallet.domain.model.Transaction;
 import com.fintech.wallet.domain.model.Wallet;
 import com.fintech.wallet.domain.service.CurrencyExchangeDomainService;
@@ -15,12 +19,17 @@ import com.fintech.wallet.domain.valueobject.ExchangeRate;
 import com.fintech.wallet.domain.valueobject.Money;
 import com.fintech.wallet.domain.valueobject.WalletId;
 
+import org.springframework.transaction.annotation.Transactional;
+
 import java.time.Instant;
+import java.util.List;
 import java.util.Objects;
 
 /**
  * Use case handler for cross-currency transfers.
  * Handles currency conversion with real exchange rates and fees.
+ * When a {@link LedgerEnginePort} is given, the entries are posted through
+ * the ledger engine instead of saving the loaded wallets.
  */
 public class CrossCurrencyTransferUseCaseHandler implements CrossCurrencyTransferUseCase {
 
@@ -29,21 +38,39 @@ public class CrossCurrencyTransferUseCaseHandler implements CrossCurrencyTransfe
     private final SaveTransactionPort saveTransactionPort;
     private final ExchangeRatePort exchangeRatePort;
     private final CurrencyExchangeDomainService currencyExchangeService;
+    private final DomainEventPublisher eventPublisher;
+    private final LedgerEnginePort ledgerEngine;
+
+    public CrossCurrencyTransferUseCaseHandler(
+            LoadWalletPort loadWalletPort,
+            SaveWalletPort saveWalletPort,
+            SaveTransactionPort saveTransactionPort,
+            ExchangeRatePort exchangeRatePort,
+            CurrencyExchangeDomainService currencyExchangeService,
+            DomainEventPublisher eventPublisher) {
+        this(loadWalletPort, saveWalletPort, saveTransactionPort, exchangeRatePort, currencyExchangeService,
+                eventPublisher, null);
+    }
 
     public CrossCurrencyTransferUseCaseHandler(
             LoadWalletPort loadWalletPort,
             SaveWalletPort saveWalletPort,
             SaveTransactionPort saveTransactionPort,
             ExchangeRatePort exchangeRatePort,
-            CurrencyExchangeDomainService currencyExchangeService) {
+            CurrencyExchangeDomainService currencyExchangeService,
+            DomainEventPublisher eventPublisher,
+            LedgerEnginePort ledgerEngine) {
         this.loadWalletPort = Objects.requireNonNull(loadWalletPort);
         this.saveWalletPort = Objects.requireNonNull(saveWalletPort);
         this.saveTransactionPort = Objects.requireNonNull(saveTransactionPort);
         this.exchangeRatePort = Objects.requireNonNull(exchangeRatePort);
         this.currencyExchangeService = Objects.requireNonNull(currencyExchangeService);
+        this.eventPublisher = Objects.requireNonNull(eventPublisher);
+        this.ledgerEngine = ledgerEngine;
     }
 
     @Override
+    @Transactional
     public CrossCurrencyTransferResult execute(CrossCurrencyTransferCommand command) {
         Objects.requireNonNull(command, "Command is required");
 
@@ -86,16 +113,33 @@ public class CrossCurrencyTransferUseCaseHandler implements CrossCurrencyTransfe
                 sourceAmount,
                 command.getDescription() + String.format(" (Rate: %s)", exchangeRate.getRate()));
 
-        // Execute the transfer
-        sourceWallet.debit(sourceAmount, transaction.getId(), 
-            "Cross-currency transfer to " + destinationWalletId);
-        destinationWallet.credit(targetAmount, transaction.getId(),
-            "Cross-currency transfer from " + sourceWalletId);
-
-        // Persist changes
-        saveWalletPort.save(sourceWallet);
-        saveWalletPort.save(destinationWallet);
-        saveTransactionPort.save(transaction);
+        if (ledgerEngine != null) {
+            // The engine checks the balance it holds, not the one loaded above
+            ledgerEngine.post(new LedgerEnginePort.Posting(transaction, List.of(
+                    LedgerEntry.createDebit(sourceWalletId, transaction.getId(), sourceAmount,
+                            "Cross-currency transfer to " + destinationWalletId),
+                    LedgerEntry.createCredit(destinationWalletId, transaction.getId(), targetAmount,
+                            "Cross-currency transfer from " + sourceWalletId)),
+                    balances -> new MoneyTransferredEvent(
+                            transaction.getId(), sourceWalletId, destinationWalletId,
+                            sourceAmount, transaction.getDescription(), true, targetAmount,
+                            balances.get(sourceWalletId), balances.get(destinationWalletId))));
+        } else {
+            // Execute the transfer
+            sourceWallet.debit(sourceAmount, transaction.getId(), 
+                "Cross-currency transfer to " + destinationWalletId);
+            destinationWallet.credit(targetAmount, transaction.getId(),
+                "Cross-currency transfer from " + sourceWalletId);
+
+            // Persist changes
+            saveWalletPort.save(sourceWallet);
+            saveWalletPort.save(destinationWallet);
+            saveTransactionPort.save(transaction);
+            eventPublisher.publish(new MoneyTransferredEvent(
+                    transaction.getId(), sourceWalletId, destinationWalletId,
+                    sourceAmount, transaction.getDescription(), true, targetAmount,
+                    sourceWallet.calculateBalance(), destinationWallet.calculateBalance()));
+        }
 
         return new CrossCurrencyTransferResult(
             transaction.getId().toString(),
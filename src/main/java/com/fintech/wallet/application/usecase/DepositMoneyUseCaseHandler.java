@@ -2,8 +2,10 @@ package com.fintech.wallet.application.usecase;
 
 import com.fintech.wallet.application.command.DepositMoneyCommand;
 import com.fintech.wallet.application.port.in.DepositMoneyUseCase;
+import com.fintech.wallet.application.port.out.DomainEventPublisher;
 import com.fintech.wallet.application.port.out.LoadWalletPort;
 import com.fintech.wallet.application.port.out.SaveWalletPort;
+import com.fintech.wallet.domain.event.MoneyDepositedEvent;
 import com.fintech.wallet.domain.exception.WalletNotFoundException;
 import com.fintech.wallet.domain.model.LedgerEntry;
 import com.fintech.wallet.domain.model.Wallet;
@@ -12,6 +14,8 @@ import com.fintech.wallet.domain.valueobject.Money;
 import com.fintech.wallet.domain.valueobject.TransactionId;
 import com.fintech.wallet.domain.valueobject.WalletId;
 
+import org.springframework.transaction.annotation.Transactional;
+
 import java.util.Objects;
 
 /**
@@ -22,13 +26,17 @@ public class DepositMoneyUseCaseHandler implements DepositMoneyUseCase {
 
     private final LoadWalletPort loadWalletPort;
     private final SaveWalletPort saveWalletPort;
+    private final DomainEventPublisher eventPublisher;
 
-    public DepositMoneyUseCaseHandler(LoadWalletPort loadWalletPort, SaveWalletPort saveWalletPort) {
+    public DepositMoneyUseCaseHandler(LoadWalletPort loadWalletPort, SaveWalletPort saveWalletPort,
+            DomainEventPublisher eventPublisher) {
         this.loadWalletPort = Objects.requireNonNull(loadWalletPort, "LoadWalletPort is required");
         this.saveWalletPort = Objects.requireNonNull(saveWalletPort, "SaveWalletPort is required");
+        this.eventPublisher = Objects.requireNonNull(eventPublisher, "DomainEventPublisher is required");
     }
 
     @Override
+    @Transactional
     public LedgerEntryId execute(DepositMoneyCommand command) {
         Objects.requireNonNull(command, "DepositMoneyCommand is required");
 
@@ -50,6 +58,10 @@ public class DepositMoneyUseCaseHandler implements DepositMoneyUseCase {
         // Persist the updated wallet
         saveWalletPort.save(wallet);
 
+        // Written to the outbox in the same transaction as the ledger entry
+        eventPublisher.publish(new MoneyDepositedEvent(
+                walletId, amount, wallet.calculateBalance(), ledgerEntry.getDescription()));
+
         return ledgerEntry.getId();
     }
 }
@@ -0,0 +1,95 @@
+package com.fintech.wallet.application.usecase;
+
+import com.fintech.wallet.application.command.DepositMoneyCommand;
+import com.fintech.wallet.application.command.TransferMoneyCommand;
+import com.fintech.wallet.application.command.WithdrawMoneyCommand;
+import com.fintech.wallet.application.port.in.DepositMoneyUseCase;
+import com.fintech.wallet.application.port.in.TransferMoneyUseCase;
+import com.fintech.wallet.application.port.in.WithdrawMoneyUseCase;
+import com.fintech.wallet.application.port.out.LedgerEnginePort;
+import com.fintech.wallet.application.port.out.LedgerEnginePort.Posting;
+import com.fintech.wallet.domain.event.MoneyDepositedEvent;
+import com.fintech.wallet.domain.event.MoneyTransferredEvent;
+import com.fintech.wallet.domain.event.MoneyWithdrawnEvent;
+import com.fintech.wallet.domain.model.LedgerEntry;
+import com.fintech.wallet.domain.model.Transaction;
+import com.fintech.wallet.domain.valueobject.Currency;
+import com.fintech.wallet.domain.valueobject.LedgerEntryId;
+import com.fintech.wallet.domain.valueobject.Money;
+import com.fintech.wallet.domain.valueobject.TransactionId;
+import com.fintech.wallet.domain.valueobject.WalletId;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Use case handler for deposits, withdrawals and transfers posted through
+ * the in-memory ledger engine. Replaces the load-and-save handlers when
+ * ledger.engine.enabled is set; validation happens on the engine's shard
+ * instead of on a loaded {@link com.fintech.wallet.domain.model.Wallet}.
+ *
+ * No database transaction is opened here; the engine persists the rows.
+ */
+public class LedgerEngineUseCaseHandler implements DepositMoneyUseCase, WithdrawMoneyUseCase, TransferMoneyUseCase {
+
+    private final LedgerEnginePort ledgerEngine;
+
+    public LedgerEngineUseCaseHandler(LedgerEnginePort ledgerEngine) {
+        this.ledgerEngine = Objects.requireNonNull(ledgerEngine, "LedgerEnginePort is required");
+    }
+
+    @Override
+    public LedgerEntryId execute(DepositMoneyCommand command) {
+        Objects.requireNonNull(command, "DepositMoneyCommand is required");
+
+        WalletId walletId = WalletId.of(command.getWalletId());
+        Money amount = Money.of(command.getAmount().toString(), command.getCurrency());
+        LedgerEntry entry = LedgerEntry.createCredit(walletId, TransactionId.generate(), amount,
+                command.getDescription());
+
+        ledgerEngine.post(new Posting(null, List.of(entry), balances -> new MoneyDepositedEvent(
+                walletId, amount, balances.get(walletId), entry.getDescription())));
+        return entry.getId();
+    }
+
+    @Override
+    public LedgerEntryId execute(WithdrawMoneyCommand command) {
+        Objects.requireNonNull(command, "WithdrawMoneyCommand is required");
+
+        WalletId walletId = WalletId.of(command.getWalletId());
+        Money amount = Money.of(command.getAmount().toString(), command.getCurrency());
+        LedgerEntry entry = LedgerEntry.createDebit(walletId, TransactionId.generate(), amount,
+                command.getDescription());
+
+        ledgerEngine.post(new Posting(null, List.of(entry), balances -> new MoneyWithdrawnEvent(
+                walletId, amount, balances.get(walletId), entry.getDescription())));
+        return entry.getId();
+    }
+
+    @Override
+    public TransactionId execute(TransferMoneyCommand command) {
+        Objects.requireNonNull(command, "TransferMoneyCommand is required");
+
+        WalletId sourceWalletId = WalletId.of(command.getSourceWalletId());
+        WalletId destinationWalletId = WalletId.of(command.getDestinationWalletId());
+        Money transferAmount = Money.of(command.getAmount(), Currency.of(command.getCurrency()));
+
+        // Both entries carry the transfer currency; the engine rejects them unless it is each wallet's currency
+        Transaction transaction = Transaction.createTransfer(
+                sourceWalletId,
+                destinationWalletId,
+                transferAmount,
+                command.getDescription());
+        LedgerEntry debit = LedgerEntry.createDebit(sourceWalletId, transaction.getId(), transferAmount,
+                "Transfer to " + destinationWalletId);
+        LedgerEntry credit = LedgerEntry.createCredit(destinationWalletId, transaction.getId(), transferAmount,
+                "Transfer from " + sourceWalletId);
+
+        // The balances only cover wallets on the posting's shard
+        ledgerEngine.post(new Posting(transaction, List.of(debit, credit), balances -> new MoneyTransferredEvent(
+                transaction.getId(), sourceWalletId, destinationWalletId,
+                transferAmount, transaction.getDescription(), false, null,
+                balances.get(sourceWalletId), balances.get(destinationWalletId))));
+        return transaction.getId();
+    }
+}
@@ -1,63 +1,74 @@
 package com.fintech.wallet.application.usecase;
 
 import com.fintech.wallet.application.port.in.ReportingUseCase;
+import com.fintech.wallet.application.port.out.LedgerArchivePort;
+import com.fintech.wallet.application.port.out.LedgerQueryPort;
 import com.fintech.wallet.application.port.out.LoadWalletPort;
 import com.fintech.wallet.application.port.out.ReportExportPort;
 import com.fintech.wallet.domain.exception.WalletNotFoundException;
 import com.fintech.wallet.domain.model.LedgerEntry;
 import com.fintech.wallet.domain.model.LedgerEntryType;
-import com.fintech.wallet.domain.model.Wallet;
 import com.fintech.wallet.domain.valueobject.AccountStatement;
 import com.fintech.wallet.domain.valueobject.Currency;
 import com.fintech.wallet.domain.valueobject.Money;
 import com.fintech.wallet.domain.valueobject.MonthlySummary;
 import com.fintech.wallet.domain.valueobject.WalletId;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.ZoneId;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.regex.Pattern;
 
 /**
  * Use case handler for generating reports and analytics.
+ * Reads only the ledger entries of the reported period plus one aggregate
+ * for the opening balance, never the wallet's full history. Periods before
+ * the end of the ledger archive are read from the archive instead.
+ * Read-only, so reports are served by a replica when one is configured.
  */
+@Transactional(readOnly = true)
 public class ReportingUseCaseHandler implements ReportingUseCase {
 
+    static final int MAX_SEARCH_RESULTS = 200;
+    static final int MAX_SEARCH_TERMS = 8;
+
+    // Same word boundaries as PostgreSQL's text search parser for plain words
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
     private final LoadWalletPort loadWalletPort;
+    private final LedgerQueryPort ledgerQueryPort;
+    private final LedgerArchivePort ledgerArchivePort;
     private final ReportExportPort reportExportPort;
 
-    public ReportingUseCaseHandler(LoadWalletPort loadWalletPort, ReportExportPort reportExportPort) {
+    public ReportingUseCaseHandler(LoadWalletPort loadWalletPort, LedgerQueryPort ledgerQueryPort,
+                                   LedgerArchivePort ledgerArchivePort, ReportExportPort reportExportPort) {
         this.loadWalletPort = Objects.requireNonNull(loadWalletPort);
+        this.ledgerQueryPort = Objects.requireNonNull(ledgerQueryPort);
+        this.ledgerArchivePort = Objects.requireNonNull(ledgerArchivePort);
         this.reportExportPort = Objects.requireNonNull(reportExportPort);
     }
 
     @Override
     public AccountStatement generateAccountStatement(String walletId, LocalDate startDate, LocalDate endDate) {
         WalletId id = WalletId.of(walletId);
-        Wallet wallet = loadWalletPort.loadById(id)
-                .orElseThrow(() -> new WalletNotFoundException(walletId));
+        Currency currency = loadCurrency(id, walletId);
+        Instant from = startOfDay(startDate);
+        Instant archivedUntil = ledgerArchivePort.archivedUntil().orElse(Instant.MIN);
 
-        List<LedgerEntry> allEntries = wallet.getLedgerEntries();
-        
-        // Filter entries within date range
-        List<LedgerEntry> filteredEntries = allEntries.stream()
-                .filter(entry -> {
-                    LocalDate entryDate = entry.getCreatedAt()
-                            .atZone(ZoneId.systemDefault())
-                            .toLocalDate();
-                    return !entryDate.isBefore(startDate) && !entryDate.isAfter(endDate);
-                })
-                .sorted(Comparator.comparing(LedgerEntry::getCreatedAt))
-                .toList();
+        List<LedgerEntry> filteredEntries = loadEntries(id, from, startOfDay(endDate.plusDays(1)), archivedUntil);
 
-        // Calculate opening balance (sum of entries before start date)
-        Money openingBalance = calculateBalanceUpTo(allEntries, startDate, wallet.getCurrency());
+        // Opening balance is the net of all entries before the start date
+        Money openingBalance = Money.of(sumBefore(id, from, archivedUntil).max(BigDecimal.ZERO), currency);
         
         // Build statement entries with running balance
         List<AccountStatement.StatementEntry> statementEntries = new ArrayList<>();
@@ -87,7 +98,7 @@ public class ReportingUseCaseHandler implements ReportingUseCase {
 
         return new AccountStatement(
             id,
-            wallet.getCurrency(),
+            currency,
             startDate,
             endDate,
             openingBalance,
@@ -100,28 +111,19 @@ public class ReportingUseCaseHandler implements ReportingUseCase {
     @Override
     public MonthlySummary generateMonthlySummary(String walletId, YearMonth month) {
         WalletId id = WalletId.of(walletId);
-        Wallet wallet = loadWalletPort.loadById(id)
-                .orElseThrow(() -> new WalletNotFoundException(walletId));
+        Currency currency = loadCurrency(id, walletId);
+        Instant from = startOfDay(month.atDay(1));
+        Instant to = startOfDay(month.plusMonths(1).atDay(1));
 
-        LocalDate startOfMonth = month.atDay(1);
-        LocalDate endOfMonth = month.atEndOfMonth();
+        Instant archivedUntil = ledgerArchivePort.archivedUntil().orElse(Instant.MIN);
 
-        List<LedgerEntry> allEntries = wallet.getLedgerEntries();
-        
-        // Filter entries for the month
-        List<LedgerEntry> monthEntries = allEntries.stream()
-                .filter(entry -> {
-                    LocalDate entryDate = entry.getCreatedAt()
-                            .atZone(ZoneId.systemDefault())
-                            .toLocalDate();
-                    return !entryDate.isBefore(startOfMonth) && !entryDate.isAfter(endOfMonth);
-                })
-                .toList();
+        List<LedgerEntry> monthEntries = loadEntries(id, from, to, archivedUntil);
 
         BigDecimal totalDeposits = BigDecimal.ZERO;
         BigDecimal totalWithdrawals = BigDecimal.ZERO;
         BigDecimal totalTransfersIn = BigDecimal.ZERO;
         BigDecimal totalTransfersOut = BigDecimal.ZERO;
+        BigDecimal net = BigDecimal.ZERO;
         Map<String, BigDecimal> spendingByCategory = new HashMap<>();
 
         for (LedgerEntry entry : monthEntries) {
@@ -129,12 +131,14 @@ public class ReportingUseCaseHandler implements ReportingUseCase {
             String description = entry.getDescription().toLowerCase();
             
             if (entry.getType() == LedgerEntryType.CREDIT) {
+                net = net.add(amount);
                 if (description.contains("transfer from")) {
                     totalTransfersIn = totalTransfersIn.add(amount);
                 } else {
                     totalDeposits = totalDeposits.add(amount);
                 }
             } else {
+                net = net.subtract(amount);
                 if (description.contains("transfer to")) {
                     totalTransfersOut = totalTransfersOut.add(amount);
                 } else {
@@ -147,19 +151,20 @@ public class ReportingUseCaseHandler implements ReportingUseCase {
             }
         }
 
-        Money openingBalance = calculateBalanceUpTo(allEntries, startOfMonth, wallet.getCurrency());
-        Money closingBalance = calculateBalanceUpTo(allEntries, endOfMonth.plusDays(1), wallet.getCurrency());
+        BigDecimal balanceBefore = sumBefore(id, from, archivedUntil);
+        BigDecimal openingBalance = balanceBefore.max(BigDecimal.ZERO);
+        BigDecimal closingBalance = balanceBefore.add(net).max(BigDecimal.ZERO);
 
         return MonthlySummary.create(
             id,
             month,
-            wallet.getCurrency(),
+            currency,
             totalDeposits,
             totalWithdrawals,
             totalTransfersIn,
             totalTransfersOut,
-            openingBalance.getAmount(),
-            closingBalance.getAmount(),
+            openingBalance,
+            closingBalance,
             monthEntries.size(),
             spendingByCategory
         );
@@ -175,24 +180,71 @@ public class ReportingUseCaseHandler implements ReportingUseCase {
         return reportExportPort.exportToCsv(statement);
     }
 
-    private Money calculateBalanceUpTo(List<LedgerEntry> entries, LocalDate date, Currency currency) {
-        BigDecimal balance = BigDecimal.ZERO;
-        
-        for (LedgerEntry entry : entries) {
-            LocalDate entryDate = entry.getCreatedAt()
-                    .atZone(ZoneId.systemDefault())
-                    .toLocalDate();
-            
-            if (entryDate.isBefore(date)) {
-                if (entry.isCredit()) {
-                    balance = balance.add(entry.getAmount().getAmount());
-                } else {
-                    balance = balance.subtract(entry.getAmount().getAmount());
-                }
-            }
+    private Currency loadCurrency(WalletId id, String walletId) {
+        Money balance = loadWalletPort.loadBalances(List.of(id)).get(id);
+        if (balance == null) {
+            throw new WalletNotFoundException(walletId);
         }
-        
-        return Money.of(balance.max(BigDecimal.ZERO), currency);
+        return balance.getCurrency();
+    }
+
+    /**
+     * Searches the hot ledger through its full-text index. Archived months
+     * are not indexed and are not searched.
+     */
+    @Override
+    public List<LedgerEntry> searchEntries(String walletId, String query, int limit) {
+        if (limit < 1 || limit > MAX_SEARCH_RESULTS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SEARCH_RESULTS);
+        }
+        return ledgerQueryPort.searchEntries(WalletId.of(walletId), searchTerms(query), limit);
+    }
+
+    /**
+     * Splits a query into lower-case words of letters and digits, which
+     * carry no text search operators.
+     */
+    static List<String> searchTerms(String query) {
+        List<String> terms = query == null ? List.of() : Arrays.stream(NON_WORD.split(query.toLowerCase(Locale.ROOT)))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .toList();
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException("Search query must contain a letter or digit");
+        }
+        if (terms.size() > MAX_SEARCH_TERMS) {
+            throw new IllegalArgumentException("Search query cannot have more than " + MAX_SEARCH_TERMS + " words");
+        }
+        return terms;
+    }
+
+    /**
+     * Entries of {@code [from, to)}, taking the part before {@code archivedUntil} from the archive.
+     */
+    private List<LedgerEntry> loadEntries(WalletId id, Instant from, Instant to, Instant archivedUntil) {
+        if (!from.isBefore(archivedUntil)) {
+            return ledgerQueryPort.loadEntries(id, from, to);
+        }
+        List<LedgerEntry> entries = new ArrayList<>(
+                ledgerArchivePort.loadEntries(id, from, to.isBefore(archivedUntil) ? to : archivedUntil));
+        if (to.isAfter(archivedUntil)) {
+            entries.addAll(ledgerQueryPort.loadEntries(id, archivedUntil, to));
+        }
+        return entries;
+    }
+
+    /**
+     * The hot ledger's carried-forward rows cover everything archived, so
+     * only balances inside the archived history need the archive.
+     */
+    private BigDecimal sumBefore(WalletId id, Instant before, Instant archivedUntil) {
+        return before.isBefore(archivedUntil)
+                ? ledgerArchivePort.sumBefore(id, before)
+                : ledgerQueryPort.sumBefore(id, before);
+    }
+
+    private Instant startOfDay(LocalDate date) {
+        return date.atStartOfDay(ZoneId.systemDefault()).toInstant();
     }
 
     private String categorizeTransaction(String description) {
@@ -0,0 +1,164 @@
+package com.fintech.wallet.application.usecase;
+
+import com.fintech.wallet.application.command.TransferMoneyCommand;
+import com.fintech.wallet.application.port.in.TransferMoneyUseCase;
+import com.fintech.wallet.application.port.out.DomainEventPublisher;
+import com.fintech.wallet.application.port.out.LoadWalletPort;
+import com.fintech.wallet.application.port.out.SaveTransactionPort;
+import com.fintech.wallet.application.port.out.SaveWalletPort;
+import com.fintech.wallet.application.port.out.ScheduledPaymentPort;
+import com.fintech.wallet.domain.event.MoneyTransferredEvent;
+import com.fintech.wallet.domain.exception.InvalidCurrencyException;
+import com.fintech.wallet.domain.exception.WalletNotFoundException;
+import com.fintech.wallet.domain.model.LedgerEntry;
+import com.fintech.wallet.domain.model.ScheduledPayment;
+import com.fintech.wallet.domain.model.Transaction;
+import com.fintech.wallet.domain.model.Wallet;
+import com.fintech.wallet.domain.valueobject.Money;
+import com.fintech.wallet.domain.valueobject.WalletId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Executes scheduled payments in their own database transactions.
+ * Kept separate from the use case handler so that each unit of work commits
+ * or rolls back independently of the rest of the run.
+ */
+public class ScheduledPaymentExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(ScheduledPaymentExecutor.class);
+
+    private final ScheduledPaymentPort scheduledPaymentPort;
+    private final TransferMoneyUseCase transferMoneyUseCase;
+    private final LoadWalletPort loadWalletPort;
+    private final SaveWalletPort saveWalletPort;
+    private final SaveTransactionPort saveTransactionPort;
+    private final DomainEventPublisher eventPublisher;
+
+    public ScheduledPaymentExecutor(
+            ScheduledPaymentPort scheduledPaymentPort,
+            TransferMoneyUseCase transferMoneyUseCase,
+            LoadWalletPort loadWalletPort,
+            SaveWalletPort saveWalletPort,
+            SaveTransactionPort saveTransactionPort,
+            DomainEventPublisher eventPublisher) {
+        this.scheduledPaymentPort = Objects.requireNonNull(scheduledPaymentPort);
+        this.transferMoneyUseCase = Objects.requireNonNull(transferMoneyUseCase);
+        this.loadWalletPort = Objects.requireNonNull(loadWalletPort);
+        this.saveWalletPort = Objects.requireNonNull(saveWalletPort);
+        this.saveTransactionPort = Objects.requireNonNull(saveTransactionPort);
+        this.eventPublisher = Objects.requireNonNull(eventPublisher);
+    }
+
+    /**
+     * Executes a single payment through the regular transfer use case.
+     * The transfer rolls back if the payment's lease was lost meanwhile.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void execute(ScheduledPayment payment) {
+        log.info("Executing scheduled payment: {}", payment.getId());
+
+        TransferMoneyCommand transferCommand = new TransferMoneyCommand(
+                payment.getSourceWalletId().toString(),
+                payment.getDestinationWalletId().toString(),
+                payment.getAmount().getAmount(),
+                payment.getAmount().getCurrency().getCode(),
+                "Scheduled: " + payment.getDescription()
+        );
+
+        transferMoneyUseCase.execute(transferCommand);
+
+        // Update payment with execution; fails if another node took over the lease
+        ScheduledPayment updated = payment.withExecution();
+        scheduledPaymentPort.saveClaimed(updated);
+
+        log.info("Successfully executed scheduled payment: {}", payment.getId());
+    }
+
+    /**
+     * Executes payments that share a source wallet in one transaction.
+     * The source wallet is loaded once and each debit is checked against the
+     * running balance in the given order; a payment that cannot be made (for
+     * example insufficient balance or a missing destination) is skipped and
+     * the remaining ones still execute. Ledger entries, transactions and
+     * payment updates are written as batches at the end. If a lease was lost
+     * meanwhile, the whole transaction rolls back.
+     *
+     * @param payments payments from the same source wallet, in execution order
+     * @return the number of payments executed
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int executeForSourceWallet(List<ScheduledPayment> payments) {
+        WalletId sourceWalletId = payments.get(0).getSourceWalletId();
+        Wallet sourceWallet = loadWalletPort.loadById(sourceWalletId)
+                .orElseThrow(() -> new WalletNotFoundException(sourceWalletId.toString()));
+
+        Map<WalletId, Wallet> destinationWallets = new HashMap<>();
+        List<LedgerEntry> ledgerEntries = new ArrayList<>();
+        List<Transaction> transactions = new ArrayList<>();
+        List<MoneyTransferredEvent> events = new ArrayList<>();
+        List<ScheduledPayment> executed = new ArrayList<>();
+
+        for (ScheduledPayment payment : payments) {
+            try {
+                Wallet destinationWallet = destinationWallets.computeIfAbsent(
+                        payment.getDestinationWalletId(),
+                        id -> loadWalletPort.loadById(id)
+                                .orElseThrow(() -> new WalletNotFoundException(id.toString())));
+                Money amount = payment.getAmount();
+                validateCurrencies(sourceWallet, destinationWallet, amount);
+
+                Transaction transaction = Transaction.createTransfer(
+                        sourceWalletId,
+                        destinationWallet.getId(),
+                        amount,
+                        "Scheduled: " + payment.getDescription());
+
+                // Debit first: it is the only step that can fail on balance
+                ledgerEntries.add(sourceWallet.debit(
+                        amount, transaction.getId(), "Transfer to " + destinationWallet.getId()));
+                ledgerEntries.add(destinationWallet.credit(
+                        amount, transaction.getId(), "Transfer from " + sourceWalletId));
+
+                transactions.add(transaction);
+                events.add(new MoneyTransferredEvent(
+                        transaction.getId(), sourceWalletId, destinationWallet.getId(),
+                        amount, transaction.getDescription(), false, null,
+                        sourceWallet.calculateBalance(), destinationWallet.calculateBalance()));
+                executed.add(payment.withExecution());
+            } catch (RuntimeException e) {
+                log.error("Failed to execute scheduled payment {}: {}", payment.getId(), e.getMessage());
+            }
+        }
+
+        saveWalletPort.appendLedgerEntries(ledgerEntries);
+        saveTransactionPort.saveAll(transactions);
+        scheduledPaymentPort.saveAllClaimed(executed);
+        events.forEach(eventPublisher::publish);
+
+        log.info("Executed {} of {} scheduled payments from wallet {}",
+                executed.size(), payments.size(), sourceWalletId);
+        return executed.size();
+    }
+
+    private void validateCurrencies(Wallet source, Wallet destination, Money amount) {
+        if (!source.getCurrency().isSameAs(destination.getCurrency())) {
+            throw new InvalidCurrencyException(
+                    source.getCurrency().getCode(),
+                    destination.getCurrency().getCode());
+        }
+        if (!source.getCurrency().isSameAs(amount.getCurrency())) {
+            throw new InvalidCurrencyException(
+                    String.format("Transfer currency %s does not match wallet currency %s",
+                            amount.getCurrency(), source.getCurrency()));
+        }
+    }
+}
@@ -1,9 +1,7 @@
 package com.fintech.wallet.application.usecase;
 
 import com.fintech.wallet.application.command.CreateScheduledPaymentCommand;
-import com.fintech.wallet.application.command.TransferMoneyCommand;
 import com.fintech.wallet.application.port.in.ScheduledPaymentUseCase;
-import com.fintech.wallet.application.port.in.TransferMoneyUseCase;
 import com.fintech.wallet.application.port.out.DomainEventPublisher;
 import com.fintech.wallet.application.port.out.LoadWalletPort;
 import com.fintech.wallet.application.port.out.ScheduledPaymentPort;
@@ -13,15 +11,25 @@ import com.fintech.wallet.domain.model.RecurrencePattern;
 import com.fintech.wallet.domain.model.ScheduledPayment;
 import com.fintech.wallet.domain.valueobject.Currency;
 import com.fintech.wallet.domain.valueobject.Money;
+import com.fintech.wallet.domain.valueobject.PaymentRunSummary;
 import com.fintech.wallet.domain.valueobject.ScheduledPaymentId;
 import com.fintech.wallet.domain.valueobject.WalletId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Use case handler for scheduled payments.
@@ -31,19 +39,35 @@ public class ScheduledPaymentUseCaseHandler implements ScheduledPaymentUseCase {
 
     private static final Logger log = LoggerFactory.getLogger(ScheduledPaymentUseCaseHandler.class);
 
+    /**
+     * How due payments from one source wallet are executed.
+     */
+    public enum ExecutionMode {
+        /** Each payment goes through the transfer use case in its own transaction. */
+        PER_PAYMENT,
+        /** All payments of a source wallet share one wallet load, one transaction and batched writes. */
+        PER_SOURCE_WALLET
+    }
+
     private final ScheduledPaymentPort scheduledPaymentPort;
     private final LoadWalletPort loadWalletPort;
-    private final TransferMoneyUseCase transferMoneyUseCase;
+    private final ScheduledPaymentExecutor scheduledPaymentExecutor;
+    private final Executor paymentExecutor;
+    private final ExecutionMode executionMode;
     private final DomainEventPublisher eventPublisher;
 
     public ScheduledPaymentUseCaseHandler(
             ScheduledPaymentPort scheduledPaymentPort,
             LoadWalletPort loadWalletPort,
-            TransferMoneyUseCase transferMoneyUseCase,
+            ScheduledPaymentExecutor scheduledPaymentExecutor,
+            Executor paymentExecutor,
+            ExecutionMode executionMode,
             DomainEventPublisher eventPublisher) {
         this.scheduledPaymentPort = Objects.requireNonNull(scheduledPaymentPort);
         this.loadWalletPort = Objects.requireNonNull(loadWalletPort);
-        this.transferMoneyUseCase = Objects.requireNonNull(transferMoneyUseCase);
+        this.scheduledPaymentExecutor = Objects.requireNonNull(scheduledPaymentExecutor);
+        this.paymentExecutor = Objects.requireNonNull(paymentExecutor);
+        this.executionMode = Objects.requireNonNull(executionMode);
         this.eventPublisher = Objects.requireNonNull(eventPublisher);
     }
 
@@ -69,7 +93,8 @@ public class ScheduledPaymentUseCaseHandler implements ScheduledPaymentUseCase {
                     destinationWalletId,
                     amount,
                     command.getDescription(),
-                    command.getStartDate());
+                    command.getStartDate(),
+                    command.getExecutionTime());
         } else {
             payment = ScheduledPayment.createRecurring(
                     sourceWalletId,
@@ -79,6 +104,7 @@ public class ScheduledPaymentUseCaseHandler implements ScheduledPaymentUseCase {
                     pattern,
                     command.getStartDate(),
                     command.getEndDate(),
+                    command.getExecutionTime(),
                     command.getMaxExecutions());
         }
 
@@ -137,43 +163,121 @@ public class ScheduledPaymentUseCaseHandler implements ScheduledPaymentUseCase {
     }
 
     @Override
-    public void executeDuePayments() {
-        List<ScheduledPayment> duePayments = scheduledPaymentPort.findDuePayments(LocalDate.now());
-        log.info("Found {} due scheduled payments", duePayments.size());
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PaymentRunSummary executeDuePayments() {
+        long startNanos = System.nanoTime();
+        Instant runStartedAt = Instant.now();
+        LocalDateTime now = LocalDateTime.now();
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        int claimed = 0;
+
+        // Resume work left behind by a previous process on this node: executed
+        // payments have already moved on, the rest only need their leases back.
+        // Timed payments executing concurrently keep theirs.
+        int released = scheduledPaymentPort.releaseClaims();
+        if (released > 0) {
+            log.info("Released {} leases left by a previous process", released);
+        }
+
+        // Other nodes claim their own batches concurrently. The next batch is
+        // claimed while the current one executes; it only runs once the current
+        // batch has finished, so per-wallet order is preserved. There is no
+        // separate checkpoint: every executed payment is saved as it commits,
+        // and an interrupted run's leases are released above on the next run.
+        List<ScheduledPayment> batch = scheduledPaymentPort.claimDuePayments(now, runStartedAt);
+        while (!batch.isEmpty()) {
+            claimed += batch.size();
+            CompletableFuture<Void> inFlight = executeBatch(batch, succeeded, failed);
+            List<ScheduledPayment> next = scheduledPaymentPort.claimDuePayments(now, runStartedAt);
+            inFlight.join();
+            log.info("{} scheduled payments processed so far ({} failed)",
+                    succeeded.get() + failed.get(), failed.get());
+            batch = next;
+        }
 
-        for (ScheduledPayment payment : duePayments) {
+        PaymentRunSummary summary = new PaymentRunSummary(
+                claimed,
+                succeeded.get(),
+                failed.get(),
+                Duration.ofNanos(System.nanoTime() - startNanos));
+        log.info("Executed {} scheduled payments ({} failed) in {} ms - {} payments/s",
+                summary.succeeded(), summary.failed(), summary.elapsed().toMillis(),
+                String.format("%.1f", summary.throughputPerSecond()));
+        return summary;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean executeScheduledPayment(String paymentId) {
+        ScheduledPaymentId id = ScheduledPaymentId.of(paymentId);
+        ScheduledPayment payment = scheduledPaymentPort.claimDuePayment(id, LocalDateTime.now()).orElse(null);
+        if (payment == null) {
+            // Paused, cancelled, already executed or claimed by another node
+            log.debug("Scheduled payment {} is not due or already claimed", paymentId);
+            return false;
+        }
+        try {
+            scheduledPaymentExecutor.execute(payment);
+            log.info("Executed scheduled payment {} at its execution time {}", paymentId, payment.getExecutionTime());
+            return true;
+        } catch (Exception e) {
+            // The lease expires and the next polling run retries the payment
+            log.error("Failed to execute scheduled payment {}: {}", paymentId, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ScheduledPayment> getTimedPaymentsBetween(LocalDateTime from, LocalDateTime to) {
+        return scheduledPaymentPort.findTimedPayments(from, to);
+    }
+
+    private CompletableFuture<Void> executeBatch(List<ScheduledPayment> batch,
+            AtomicInteger succeeded, AtomicInteger failed) {
+        // Payments from the same source wallet run sequentially so that debits
+        // are applied in schedule order; different wallets run in parallel.
+        Map<WalletId, List<ScheduledPayment>> bySourceWallet = new LinkedHashMap<>();
+        for (ScheduledPayment payment : batch) {
+            bySourceWallet.computeIfAbsent(payment.getSourceWalletId(), id -> new ArrayList<>()).add(payment);
+        }
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(bySourceWallet.size());
+        for (List<ScheduledPayment> walletPayments : bySourceWallet.values()) {
+            Runnable task = executionMode == ExecutionMode.PER_SOURCE_WALLET
+                    ? () -> executeForSourceWallet(walletPayments, succeeded, failed)
+                    : () -> executeInOrder(walletPayments, succeeded, failed);
+            futures.add(CompletableFuture.runAsync(task, paymentExecutor));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+
+    private void executeInOrder(List<ScheduledPayment> payments, AtomicInteger succeeded, AtomicInteger failed) {
+        for (ScheduledPayment payment : payments) {
             try {
-                executePayment(payment);
+                scheduledPaymentExecutor.execute(payment);
+                succeeded.incrementAndGet();
             } catch (Exception e) {
-                log.error("Failed to execute scheduled payment {}: {}", 
+                failed.incrementAndGet();
+                log.error("Failed to execute scheduled payment {}: {}",
                         payment.getId(), e.getMessage());
                 // Mark as failed but don't stop processing other payments
             }
         }
     }
 
-    private void executePayment(ScheduledPayment payment) {
-        log.info("Executing scheduled payment: {}", payment.getId());
-
-        TransferMoneyCommand transferCommand = new TransferMoneyCommand(
-                payment.getSourceWalletId().toString(),
-                payment.getDestinationWalletId().toString(),
-                payment.getAmount().getAmount(),
-                payment.getAmount().getCurrency().getCode(),
-                "Scheduled: " + payment.getDescription()
-        );
-
+    private void executeForSourceWallet(List<ScheduledPayment> payments,
+            AtomicInteger succeeded, AtomicInteger failed) {
         try {
-            transferMoneyUseCase.execute(transferCommand);
-            
-            // Update payment with execution
-            ScheduledPayment updated = payment.withExecution();
-            scheduledPaymentPort.save(updated);
-            
-            log.info("Successfully executed scheduled payment: {}", payment.getId());
+            int executed = scheduledPaymentExecutor.executeForSourceWallet(payments);
+            succeeded.addAndGet(executed);
+            failed.addAndGet(payments.size() - executed);
         } catch (Exception e) {
-            log.error("Failed to execute scheduled payment {}: {}", payment.getId(), e.getMessage());
-            throw e;
+            failed.addAndGet(payments.size());
+            log.error("Failed to execute {} scheduled payments from wallet {}: {}",
+                    payments.size(), payments.get(0).getSourceWalletId(), e.getMessage());
         }
     }
 
@@ -2,9 +2,11 @@ package com.fintech.wallet.application.usecase;
 
 import com.fintech.wallet.application.command.TransferMoneyCommand;
 import com.fintech.wallet.application.port.in.TransferMoneyUseCase;
+import com.fintech.wallet.application.port.out.DomainEventPublisher;
 import com.fintech.wallet.application.port.out.LoadWalletPort;
 import com.fintech.wallet.application.port.out.SaveTransactionPort;
 import com.fintech.wallet.application.port.out.SaveWalletPort;
+import com.fintech.wallet.domain.event.MoneyTransferredEvent;
 import com.fintech.wallet.domain.exception.InvalidCurrencyException;
 import com.fintech.wallet.domain.exception.WalletNotFoundException;
 import com.fintech.wallet.domain.model.Transaction;
@@ -14,6 +16,8 @@ import com.fintech.wallet.domain.valueobject.Money;
 import com.fintech.wallet.domain.valueobject.TransactionId;
 import com.fintech.wallet.domain.valueobject.WalletId;
 
+import org.springframework.transaction.annotation.Transactional;
+
 import java.util.Objects;
 
 /**
@@ -28,16 +32,20 @@ public class TransferMoneyUseCaseHandler implements TransferMoneyUseCase {
     private final LoadWalletPort loadWalletPort;
     private final SaveWalletPort saveWalletPort;
     private final SaveTransactionPort saveTransactionPort;
+    private final DomainEventPublisher eventPublisher;
 
     public TransferMoneyUseCaseHandler(LoadWalletPort loadWalletPort,
             SaveWalletPort saveWalletPort,
-            SaveTransactionPort saveTransactionPort) {
+            SaveTransactionPort saveTransactionPort,
+            DomainEventPublisher eventPublisher) {
         this.loadWalletPort = Objects.requireNonNull(loadWalletPort, "LoadWalletPort is required");
         this.saveWalletPort = Objects.requireNonNull(saveWalletPort, "SaveWalletPort is required");
         this.saveTransactionPort = Objects.requireNonNull(saveTransactionPort, "SaveTransactionPort is required");
+        this.eventPublisher = Objects.requireNonNull(eventPublisher, "DomainEventPublisher is required");
     }
 
     @Override
+    @Transactional
     public TransactionId execute(TransferMoneyCommand command) {
         Objects.requireNonNull(command, "TransferMoneyCommand is required");
 
@@ -69,6 +77,10 @@ public class TransferMoneyUseCaseHandler implements TransferMoneyUseCase {
         saveWalletPort.save(sourceWallet);
         saveWalletPort.save(destinationWallet);
         saveTransactionPort.save(transaction);
+        eventPublisher.publish(new MoneyTransferredEvent(
+                transaction.getId(), sourceWalletId, destinationWalletId,
+                transferAmount, transaction.getDescription(), false, null,
+                sourceWallet.calculateBalance(), destinationWallet.calculateBalance()));
 
         return transaction.getId();
     }
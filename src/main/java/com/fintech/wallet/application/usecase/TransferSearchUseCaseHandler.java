@@ -0,0 +1,158 @@
+package com.fintech.wallet.application.usecase;
+
+import com.fintech.wallet.application.port.in.TransferSearchUseCase;
+import com.fintech.wallet.application.port.out.TransactionSearchPort;
+import com.fintech.wallet.application.port.out.TransactionSearchPort.TransactionFilter;
+import com.fintech.wallet.domain.model.Transaction;
+import com.fintech.wallet.domain.model.TransactionStatus;
+import com.fintech.wallet.domain.valueobject.Currency;
+import com.fintech.wallet.domain.valueobject.TransactionId;
+import com.fintech.wallet.domain.valueobject.WalletId;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Use case handler for transfer search.
+ * <p>
+ * A wallet's transfers are two index-ordered streams, outgoing and incoming.
+ * Each is read up to one row past the page, and the two are merged; the
+ * page is then exact because no transfer can be in both streams. The
+ * position of the last transfer is returned as an opaque cursor, so later
+ * pages cost the same as the first.
+ */
+@Transactional(readOnly = true)
+public class TransferSearchUseCaseHandler implements TransferSearchUseCase {
+
+    static final int MAX_LIMIT = 200;
+
+    /**
+     * Newest first, then ID descending in PostgreSQL's unsigned UUID order.
+     */
+    static final Comparator<Transaction> NEWEST_FIRST = Comparator
+            .comparing(Transaction::getCreatedAt)
+            .thenComparing(transaction -> transaction.getId().getValue(), TransferSearchUseCaseHandler::compareUuids)
+            .reversed();
+
+    private static final Base64.Encoder CURSOR_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder CURSOR_DECODER = Base64.getUrlDecoder();
+
+    private final TransactionSearchPort transactionSearchPort;
+
+    public TransferSearchUseCaseHandler(TransactionSearchPort transactionSearchPort) {
+        this.transactionSearchPort = Objects.requireNonNull(transactionSearchPort, "TransactionSearchPort is required");
+    }
+
+    @Override
+    public TransferPage search(TransferSearch search) {
+        Objects.requireNonNull(search, "TransferSearch is required");
+        if (search.limit() < 1 || search.limit() > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        TransactionFilter filter = toFilter(search);
+        int fetch = search.limit() + 1;
+        List<Transaction> merged = merge(
+                transactionSearchPort.findOutgoing(filter, fetch),
+                transactionSearchPort.findIncoming(filter, fetch),
+                fetch);
+
+        if (merged.size() <= search.limit()) {
+            return new TransferPage(merged, null);
+        }
+        List<Transaction> page = merged.subList(0, search.limit());
+        return new TransferPage(List.copyOf(page), encodeCursor(page.get(page.size() - 1)));
+    }
+
+    private static TransactionFilter toFilter(TransferSearch search) {
+        if (search.walletId() == null || search.walletId().isBlank()) {
+            throw new IllegalArgumentException("Wallet ID is required");
+        }
+        if (search.minAmount() != null && search.maxAmount() != null
+                && search.minAmount().compareTo(search.maxAmount()) > 0) {
+            throw new IllegalArgumentException("Minimum amount cannot exceed maximum amount");
+        }
+        if (search.from() != null && search.to() != null && !search.from().isBefore(search.to())) {
+            throw new IllegalArgumentException("From must be before to");
+        }
+
+        WalletId walletId = WalletId.of(search.walletId());
+        WalletId counterparty = search.counterpartyWalletId() == null || search.counterpartyWalletId().isBlank()
+                ? null : WalletId.of(search.counterpartyWalletId());
+        TransactionStatus status = search.status() == null || search.status().isBlank()
+                ? null : parseStatus(search.status());
+        Currency currency = search.currency() == null || search.currency().isBlank()
+                ? null : Currency.of(search.currency());
+
+        Instant cursorCreatedAt = null;
+        TransactionId cursorId = null;
+        if (search.cursor() != null && !search.cursor().isBlank()) {
+            String[] position = decodeCursor(search.cursor());
+            cursorCreatedAt = Instant.parse(position[0]);
+            cursorId = TransactionId.of(position[1]);
+        }
+
+        return new TransactionFilter(walletId, counterparty, search.minAmount(), search.maxAmount(),
+                search.from(), search.to(), status, currency, cursorCreatedAt, cursorId);
+    }
+
+    private static TransactionStatus parseStatus(String value) {
+        try {
+            return TransactionStatus.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown status: " + value);
+        }
+    }
+
+    static List<Transaction> merge(List<Transaction> outgoing, List<Transaction> incoming, int limit) {
+        List<Transaction> merged = new ArrayList<>(Math.min(limit, outgoing.size() + incoming.size()));
+        Iterator<Transaction> out = outgoing.iterator();
+        Iterator<Transaction> in = incoming.iterator();
+        Transaction nextOut = out.hasNext() ? out.next() : null;
+        Transaction nextIn = in.hasNext() ? in.next() : null;
+        while (merged.size() < limit && (nextOut != null || nextIn != null)) {
+            if (nextIn == null || (nextOut != null && NEWEST_FIRST.compare(nextOut, nextIn) <= 0)) {
+                merged.add(nextOut);
+                nextOut = out.hasNext() ? out.next() : null;
+            } else {
+                merged.add(nextIn);
+                nextIn = in.hasNext() ? in.next() : null;
+            }
+        }
+        return merged;
+    }
+
+    static String encodeCursor(Transaction last) {
+        String position = last.getCreatedAt() + "|" + last.getId();
+        return CURSOR_ENCODER.encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String[] position = new String(CURSOR_DECODER.decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (position.length == 2) {
+                Instant.parse(position[0]);
+                UUID.fromString(position[1]);
+                return position;
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // fall through
+        }
+        throw new IllegalArgumentException("Invalid cursor");
+    }
+
+    private static int compareUuids(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,167 @@
+package com.fintech.wallet.application.usecase;
+
+import com.fintech.wallet.application.port.in.WalletImportUseCase;
+import com.fintech.wallet.application.port.out.WalletImportPort;
+import com.fintech.wallet.domain.model.LedgerEntry;
+import com.fintech.wallet.domain.model.Wallet;
+import com.fintech.wallet.domain.valueobject.Currency;
+import com.fintech.wallet.domain.valueobject.Money;
+import com.fintech.wallet.domain.valueobject.TransactionId;
+import com.fintech.wallet.domain.valueobject.WalletId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Use case handler for bulk wallet imports.
+ * Validates rows as they are read and hands them to the import port in
+ * chunks, so memory use is bounded by the chunk size rather than the file.
+ * <p>
+ * Each chunk commits on its own. An import that fails part way leaves the
+ * earlier chunks in place; running the same file again rejects those rows as
+ * already existing, provided the file assigns the wallet IDs.
+ */
+public class WalletImportUseCaseHandler implements WalletImportUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(WalletImportUseCaseHandler.class);
+
+    static final String OPENING_BALANCE = "Opening balance";
+    private static final int MONEY_SCALE = 2;
+    /** Integer digits that fit in the ledger's NUMERIC(19,2) amounts. */
+    private static final int MONEY_INTEGER_DIGITS = 17;
+
+    private final WalletImportPort walletImportPort;
+    private final int chunkSize;
+
+    public WalletImportUseCaseHandler(WalletImportPort walletImportPort, int chunkSize) {
+        this.walletImportPort = Objects.requireNonNull(walletImportPort, "WalletImportPort is required");
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public ImportResult importWallets(Iterator<ImportRow> rows, Consumer<Rejection> rejects) {
+        Objects.requireNonNull(rows, "Rows are required");
+        Objects.requireNonNull(rejects, "Reject consumer is required");
+
+        long started = System.nanoTime();
+        Map<WalletId, ImportRow> chunk = new HashMap<>(chunkSize * 4 / 3 + 1);
+        List<Wallet> wallets = new ArrayList<>(chunkSize);
+        long imported = 0;
+        long rejected = 0;
+
+        while (rows.hasNext()) {
+            ImportRow row = rows.next();
+            String reason;
+            try {
+                Wallet wallet = toWallet(row);
+                if (chunk.putIfAbsent(wallet.getId(), row) != null) {
+                    reason = "Duplicate wallet ID " + wallet.getId();
+                } else {
+                    wallets.add(wallet);
+                    reason = null;
+                }
+            } catch (IllegalArgumentException e) {
+                reason = e.getMessage();
+            }
+            if (reason != null) {
+                rejects.accept(new Rejection(row.record(), reason, row.raw()));
+                rejected++;
+            }
+
+            if (wallets.size() == chunkSize) {
+                long skipped = flush(wallets, chunk, rejects);
+                imported += wallets.size() - skipped;
+                rejected += skipped;
+                wallets.clear();
+                chunk.clear();
+            }
+        }
+        if (!wallets.isEmpty()) {
+            long skipped = flush(wallets, chunk, rejects);
+            imported += wallets.size() - skipped;
+            rejected += skipped;
+        }
+
+        Duration duration = Duration.ofNanos(System.nanoTime() - started);
+        log.info("Imported {} wallets, rejected {} rows in {} ms", imported, rejected, duration.toMillis());
+        return new ImportResult(imported, rejected, duration);
+    }
+
+    private long flush(List<Wallet> wallets, Map<WalletId, ImportRow> chunk, Consumer<Rejection> rejects) {
+        Set<WalletId> existing = walletImportPort.insertNew(wallets);
+        for (WalletId walletId : existing) {
+            ImportRow row = chunk.get(walletId);
+            rejects.accept(new Rejection(row.record(), "Wallet already exists: " + walletId, row.raw()));
+        }
+        return existing.size();
+    }
+
+    /**
+     * Builds the wallet a row describes.
+     *
+     * @throws IllegalArgumentException with the reject reason if the row is invalid
+     */
+    static Wallet toWallet(ImportRow row) {
+        if (row.error() != null) {
+            throw new IllegalArgumentException(row.error());
+        }
+
+        WalletId walletId = isBlank(row.walletId()) ? WalletId.generate() : parseWalletId(row.walletId());
+        Currency currency = Currency.of(row.currency());
+        BigDecimal amount = isBlank(row.openingBalance()) ? BigDecimal.ZERO : parseAmount(row.openingBalance());
+
+        List<LedgerEntry> entries = amount.signum() == 0
+                ? List.of()
+                : List.of(LedgerEntry.createCredit(walletId, TransactionId.generate(),
+                        Money.of(amount, currency), OPENING_BALANCE));
+        return Wallet.reconstitute(walletId, currency, entries, Instant.now());
+    }
+
+    private static WalletId parseWalletId(String value) {
+        try {
+            return WalletId.of(value.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid wallet ID: " + value);
+        }
+    }
+
+    private static BigDecimal parseAmount(String value) {
+        BigDecimal amount;
+        try {
+            amount = new BigDecimal(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid opening balance: " + value);
+        }
+        if (amount.signum() < 0) {
+            throw new IllegalArgumentException("Opening balance cannot be negative: " + value);
+        }
+        // Money would round silently; a migrated balance must match the source exactly
+        if (amount.stripTrailingZeros().scale() > MONEY_SCALE) {
+            throw new IllegalArgumentException("Opening balance has more than " + MONEY_SCALE + " decimals: " + value);
+        }
+        // Rejected here rather than failing the whole chunk's insert
+        if (amount.precision() - amount.scale() > MONEY_INTEGER_DIGITS) {
+            throw new IllegalArgumentException("Opening balance has more than " + MONEY_INTEGER_DIGITS
+                    + " integer digits: " + value);
+        }
+        return amount;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,254 @@
+package com.fintech.wallet.application.usecase;
+
+import com.fintech.wallet.application.port.in.WebhookDeliveryUseCase;
+import com.fintech.wallet.application.port.out.WebhookDeliveryPort;
+import com.fintech.wallet.application.port.out.WebhookPort;
+import com.fintech.wallet.domain.exception.WebhookDeliveryNotFoundException;
+import com.fintech.wallet.domain.model.WebhookDelivery;
+import com.fintech.wallet.domain.model.WebhookDeliveryStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Use case handler for the durable webhook delivery queue.
+ * <p>
+ * A node keeps at most {@code maxPerEndpoint} deliveries per endpoint in
+ * flight, and a run only picks as many due deliveries as the endpoint has
+ * room for, so an endpoint coming back after an outage has its backlog
+ * drained at the rate it answers instead of all at once.
+ * <p>
+ * Endpoints in batch mode receive their deliveries as one JSON array per run
+ * instead of one request each. A batch is sent once it holds
+ * {@code batchMaxItems} deliveries or its oldest delivery has waited
+ * {@code batchMaxWait}. Batch endpoints are served strictly in the order
+ * deliveries were queued: while the oldest one is waiting for a retry,
+ * nothing newer is sent, so events for a wallet never overtake each other.
+ * The same holds while a batch is in flight, because its deliveries are held
+ * back until the outcome is saved.
+ */
+@Transactional
+public class WebhookDeliveryUseCaseHandler implements WebhookDeliveryUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(WebhookDeliveryUseCaseHandler.class);
+    private static final String BATCH_EVENT_TYPE = "BATCH";
+
+    private final WebhookDeliveryPort deliveryPort;
+    private final WebhookPort webhookPort;
+    private final List<Duration> retrySchedule;
+    private final int maxPerEndpoint;
+    private final Set<String> batchEndpoints;
+    private final int batchMaxItems;
+    private final Duration batchMaxWait;
+    private final Duration inFlightTimeout;
+    private final Executor outcomeExecutor;
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+    public WebhookDeliveryUseCaseHandler(
+            WebhookDeliveryPort deliveryPort,
+            WebhookPort webhookPort,
+            List<Duration> retrySchedule,
+            int maxPerEndpoint,
+            Set<String> batchEndpoints,
+            int batchMaxItems,
+            Duration batchMaxWait,
+            Duration inFlightTimeout,
+            Executor outcomeExecutor) {
+        this.deliveryPort = Objects.requireNonNull(deliveryPort);
+        this.webhookPort = Objects.requireNonNull(webhookPort);
+        this.retrySchedule = List.copyOf(retrySchedule);
+        this.maxPerEndpoint = maxPerEndpoint;
+        this.batchEndpoints = Set.copyOf(batchEndpoints);
+        this.batchMaxItems = batchMaxItems;
+        this.batchMaxWait = Objects.requireNonNull(batchMaxWait);
+        this.inFlightTimeout = Objects.requireNonNull(inFlightTimeout);
+        this.outcomeExecutor = Objects.requireNonNull(outcomeExecutor);
+    }
+
+    @Override
+    public void enqueue(List<String> webhookUrls, String eventType, UUID eventId, String payload) {
+        Instant now = Instant.now();
+        deliveryPort.enqueueAll(webhookUrls.stream()
+                .map(url -> WebhookDelivery.queue(url, eventType, eventId, payload, now))
+                .toList());
+    }
+
+    /**
+     * Starts the due deliveries and returns without waiting for them. The
+     * selected deliveries are first held back for {@code inFlightTimeout}, so
+     * neither the next poll nor another node sends them again while they are
+     * in flight. Each attempt's outcome is saved on {@code outcomeExecutor}
+     * as soon as it completes, so a slow endpoint delays nothing but its own
+     * outcomes. An endpoint with {@code maxPerEndpoint} deliveries still in
+     * flight, or a batch endpoint with any, is skipped.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int deliverDue() {
+        Instant now = Instant.now();
+        Map<String, List<List<WebhookDelivery>>> attempts = new LinkedHashMap<>();
+        for (String webhookUrl : deliveryPort.findDueEndpoints(now)) {
+            int sending = inFlight(webhookUrl).get();
+            if (batchEndpoints.contains(webhookUrl)) {
+                List<WebhookDelivery> batch = sending > 0 ? List.of() : nextBatch(webhookUrl, now);
+                if (!batch.isEmpty()) {
+                    attempts.put(webhookUrl, List.of(batch));
+                }
+            } else if (sending < maxPerEndpoint) {
+                List<List<WebhookDelivery>> single = deliveryPort.findDue(webhookUrl, now, maxPerEndpoint - sending)
+                        .stream()
+                        .map(List::of)
+                        .toList();
+                if (!single.isEmpty()) {
+                    attempts.put(webhookUrl, single);
+                }
+            }
+        }
+        if (attempts.isEmpty()) {
+            return 0;
+        }
+
+        Instant heldUntil = now.plus(inFlightTimeout);
+        List<WebhookDelivery> held = attempts.values().stream()
+                .flatMap(List::stream)
+                .flatMap(List::stream)
+                .map(delivery -> delivery.holdUntil(heldUntil))
+                .toList();
+        deliveryPort.saveAll(held);
+
+        attempts.forEach((webhookUrl, batches) -> batches.forEach(batch -> sendBatch(webhookUrl, batch)
+                .thenAcceptAsync(this::saveOutcomes, outcomeExecutor)
+                .exceptionally(error -> {
+                    log.error("Failed to save webhook outcomes for {}, retrying after {}: {}",
+                            webhookUrl, heldUntil, message(error));
+                    return null;
+                })));
+        return held.size();
+    }
+
+    private AtomicInteger inFlight(String webhookUrl) {
+        return inFlight.computeIfAbsent(webhookUrl, url -> new AtomicInteger());
+    }
+
+    private void saveOutcomes(List<WebhookDelivery> outcomes) {
+        deliveryPort.saveAll(outcomes);
+        long dead = outcomes.stream().filter(d -> d.getStatus() == WebhookDeliveryStatus.DEAD).count();
+        if (dead > 0) {
+            log.warn("Dead-lettered {} webhook deliveries after {} attempts", dead, retrySchedule.size() + 1);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<WebhookDelivery> getDeadLetters(int page, int size) {
+        return deliveryPort.findByStatus(WebhookDeliveryStatus.DEAD, page, size);
+    }
+
+    @Override
+    public WebhookDelivery replay(String deliveryId) {
+        WebhookDelivery delivery = deliveryPort.findById(UUID.fromString(deliveryId))
+                .orElseThrow(() -> new WebhookDeliveryNotFoundException(deliveryId));
+        WebhookDelivery replayed = delivery.replay(Instant.now());
+        deliveryPort.saveAll(List.of(replayed));
+        log.info("Replaying webhook delivery {} to {}", deliveryId, delivery.getWebhookUrl());
+        return replayed;
+    }
+
+    @Override
+    public int replayDeadLetters(String webhookUrl) {
+        int replayed = deliveryPort.replayDeadLetters(webhookUrl, Instant.now());
+        log.info("Replaying {} dead-lettered webhook deliveries{}", replayed,
+                webhookUrl == null ? "" : " to " + webhookUrl);
+        return replayed;
+    }
+
+    @Override
+    public int purgeDelivered(Duration retention) {
+        return deliveryPort.deleteDeliveredBefore(Instant.now().minus(retention));
+    }
+
+    /**
+     * Returns the due prefix of the endpoint's queue, or nothing while the
+     * oldest delivery is backing off or a new batch is still filling up.
+     */
+    private List<WebhookDelivery> nextBatch(String webhookUrl, Instant now) {
+        List<WebhookDelivery> pending = deliveryPort.findPending(webhookUrl, batchMaxItems);
+        List<WebhookDelivery> batch = new ArrayList<>(pending.size());
+        for (WebhookDelivery delivery : pending) {
+            if (delivery.getNextAttemptAt().isAfter(now)) {
+                break;
+            }
+            batch.add(delivery);
+        }
+        if (batch.isEmpty()) {
+            return batch;
+        }
+        WebhookDelivery oldest = batch.get(0);
+        boolean filling = batch.size() < batchMaxItems
+                && oldest.getAttempts() == 0
+                && oldest.getCreatedAt().plus(batchMaxWait).isAfter(now);
+        return filling ? List.of() : batch;
+    }
+
+    /**
+     * Sends one delivery as is, or several as a JSON array of their payloads,
+     * and applies the outcome to each of them. An attempt the sender rejected
+     * without making it ends the hold but does not count as an attempt.
+     */
+    private CompletableFuture<List<WebhookDelivery>> sendBatch(String webhookUrl, List<WebhookDelivery> batch) {
+        String eventType;
+        String payload;
+        if (batch.size() == 1 && !batchEndpoints.contains(webhookUrl)) {
+            eventType = batch.get(0).getEventType();
+            payload = batch.get(0).getPayload();
+        } else {
+            eventType = BATCH_EVENT_TYPE;
+            payload = batch.stream()
+                    .map(WebhookDelivery::getPayload)
+                    .collect(Collectors.joining(",", "[", "]"));
+        }
+        AtomicInteger sending = inFlight(webhookUrl);
+        sending.addAndGet(batch.size());
+        return webhookPort.send(webhookUrl, eventType, payload)
+                .handle((ignored, error) -> {
+                    sending.addAndGet(-batch.size());
+                    Instant attemptedAt = Instant.now();
+                    if (error != null && cause(error) instanceof RejectedExecutionException) {
+                        log.warn("Webhook sender has no room for {}, releasing {} deliveries", webhookUrl, batch.size());
+                        return batch.stream().map(delivery -> delivery.release(attemptedAt)).toList();
+                    }
+                    return batch.stream()
+                            .map(delivery -> error == null
+                                    ? delivery.markDelivered(attemptedAt)
+                                    : delivery.recordFailure(message(error), retrySchedule, attemptedAt))
+                            .toList();
+                });
+    }
+
+    private static Throwable cause(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static String message(Throwable error) {
+        Throwable cause = cause(error);
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,133 @@
+package com.fintech.wallet.application.usecase;
+
+import com.fintech.wallet.application.command.CreateWebhookSubscriptionCommand;
+import com.fintech.wallet.application.port.in.WebhookSubscriptionUseCase;
+import com.fintech.wallet.application.port.out.WebhookSubscriptionPort;
+import com.fintech.wallet.domain.exception.WebhookSubscriptionNotFoundException;
+import com.fintech.wallet.domain.model.WebhookSubscription;
+import com.fintech.wallet.domain.valueobject.WalletId;
+import com.fintech.wallet.domain.valueobject.WebhookRoutingTable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Use case handler for webhook subscriptions.
+ * <p>
+ * Routing never touches the database: events are matched against an
+ * immutable {@link WebhookRoutingTable} that is swapped in whole when
+ * subscriptions change. Changes made on this node rebuild it as soon as they
+ * commit; changes made elsewhere are picked up by {@link #refreshRoutes()}.
+ */
+@Transactional
+public class WebhookSubscriptionUseCaseHandler implements WebhookSubscriptionUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(WebhookSubscriptionUseCaseHandler.class);
+
+    private final WebhookSubscriptionPort subscriptionPort;
+    private final List<String> staticEndpoints;
+    private volatile WebhookRoutingTable routes = WebhookRoutingTable.empty();
+    private volatile long routesVersion = -1;
+
+    /**
+     * @param staticEndpoints endpoints from configuration that receive every event
+     */
+    public WebhookSubscriptionUseCaseHandler(WebhookSubscriptionPort subscriptionPort, List<String> staticEndpoints) {
+        this.subscriptionPort = Objects.requireNonNull(subscriptionPort);
+        this.staticEndpoints = staticEndpoints.stream().filter(url -> !url.isBlank()).toList();
+    }
+
+    @Override
+    public WebhookSubscription subscribe(CreateWebhookSubscriptionCommand command) {
+        Set<WalletId> walletIds = command.getWalletIds().stream()
+                .map(WalletId::of)
+                .collect(Collectors.toSet());
+        WebhookSubscription subscription = WebhookSubscription.create(
+                command.getWebhookUrl(), Set.copyOf(command.getEventTypes()), walletIds);
+        subscriptionPort.save(subscription);
+        log.info("Subscribed {} to {}", subscription.getWebhookUrl(),
+                subscription.getEventTypes().isEmpty() ? "all events" : subscription.getEventTypes());
+        rebuildRoutesAfterCommit();
+        return subscription;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public WebhookSubscription getSubscription(String subscriptionId) {
+        return subscriptionPort.findById(UUID.fromString(subscriptionId))
+                .orElseThrow(() -> new WebhookSubscriptionNotFoundException(subscriptionId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<WebhookSubscription> getActiveSubscriptions() {
+        return subscriptionPort.findAllActive();
+    }
+
+    @Override
+    public void unsubscribe(String subscriptionId) {
+        WebhookSubscription subscription = getSubscription(subscriptionId);
+        subscriptionPort.save(subscription.deactivate());
+        log.info("Unsubscribed {}", subscription.getWebhookUrl());
+        rebuildRoutesAfterCommit();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<String> route(String eventType, Collection<WalletId> walletIds) {
+        List<String> subscribed = routes.route(eventType, walletIds);
+        if (staticEndpoints.isEmpty()) {
+            return subscribed;
+        }
+        Set<String> endpoints = new LinkedHashSet<>(staticEndpoints);
+        endpoints.addAll(subscribed);
+        return List.copyOf(endpoints);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean refreshRoutes() {
+        if (subscriptionPort.currentVersion() == routesVersion) {
+            return false;
+        }
+        rebuildRoutes();
+        return true;
+    }
+
+    /**
+     * Rebuilds the routes once the current transaction has committed, so the
+     * rebuild sees the change and a rolled-back change never reaches them.
+     */
+    private void rebuildRoutesAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            rebuildRoutes();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                rebuildRoutes();
+            }
+        });
+    }
+
+    private synchronized void rebuildRoutes() {
+        // Read the version first: a change racing with the load is seen again next refresh
+        long version = subscriptionPort.currentVersion();
+        List<WebhookSubscription> active = subscriptionPort.findAllActive();
+        routes = WebhookRoutingTable.of(active);
+        routesVersion = version;
+        log.info("Rebuilt webhook routes from {} active subscriptions", active.size());
+    }
+}
@@ -0,0 +1,78 @@
+package com.fintech.wallet.domain.event;
+
+import com.fintech.wallet.domain.valueobject.Money;
+import com.fintech.wallet.domain.valueobject.ScheduledPaymentId;
+import com.fintech.wallet.domain.valueobject.UuidV7;
+import com.fintech.wallet.domain.valueobject.WalletId;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Event raised when a wallet's projected balance will not cover an upcoming
+ * scheduled payment.
+ */
+public final class BalanceShortfallForecastEvent extends DomainEvent {
+
+    private final WalletId walletId;
+    private final ScheduledPaymentId scheduledPaymentId;
+    private final LocalDate shortfallDate;
+    private final Money paymentAmount;
+    private final Money projectedBalance;
+    private final int shortfallCount;
+
+    public BalanceShortfallForecastEvent(WalletId walletId, ScheduledPaymentId scheduledPaymentId,
+                                         LocalDate shortfallDate, Money paymentAmount,
+                                         Money projectedBalance, int shortfallCount) {
+        this(UuidV7.generate(), Instant.now(), walletId, scheduledPaymentId, shortfallDate,
+                paymentAmount, projectedBalance, shortfallCount);
+    }
+
+    public BalanceShortfallForecastEvent(UUID eventId, Instant occurredAt, WalletId walletId,
+                                         ScheduledPaymentId scheduledPaymentId, LocalDate shortfallDate,
+                                         Money paymentAmount, Money projectedBalance, int shortfallCount) {
+        super(eventId, occurredAt);
+        this.walletId = walletId;
+        this.scheduledPaymentId = scheduledPaymentId;
+        this.shortfallDate = shortfallDate;
+        this.paymentAmount = paymentAmount;
+        this.projectedBalance = projectedBalance;
+        this.shortfallCount = shortfallCount;
+    }
+
+    @Override
+    public String getEventType() {
+        return "BALANCE_SHORTFALL_FORECAST";
+    }
+
+    public WalletId getWalletId() {
+        return walletId;
+    }
+
+    /**
+     * Returns the first scheduled payment that is projected to fail.
+     */
+    public ScheduledPaymentId getScheduledPaymentId() {
+        return scheduledPaymentId;
+    }
+
+    public LocalDate getShortfallDate() {
+        return shortfallDate;
+    }
+
+    public Money getPaymentAmount() {
+        return paymentAmount;
+    }
+
+    public Money getProjectedBalance() {
+        return projectedBalance;
+    }
+
+    /**
+     * Returns the number of projected failures within the forecast horizon.
+     */
+    public int getShortfallCount() {
+        return shortfallCount;
+    }
+}
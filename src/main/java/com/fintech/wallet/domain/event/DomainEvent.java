@@ -1,5 +1,7 @@
 package com.fintech.wallet.domain.event;
 
+import com.fintech.wallet.domain.valueobject.UuidV7;
+
 import java.time.Instant;
 import java.util.UUID;
 
@@ -13,8 +15,16 @@ public abstract class DomainEvent {
     private final Instant occurredAt;
 
     protected DomainEvent() {
-        this.eventId = UUID.randomUUID();
-        this.occurredAt = Instant.now();
+        this(UuidV7.generate(), Instant.now());
+    }
+
+    /**
+     * Restores the identity of an event raised earlier, for example when it
+     * is read back from the outbox.
+     */
+    protected DomainEvent(UUID eventId, Instant occurredAt) {
+        this.eventId = eventId;
+        this.occurredAt = occurredAt;
     }
 
     public UUID getEventId() {
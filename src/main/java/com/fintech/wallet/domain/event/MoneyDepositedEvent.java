@@ -1,8 +1,12 @@
 package com.fintech.wallet.domain.event;
 
 import com.fintech.wallet.domain.valueobject.Money;
+import com.fintech.wallet.domain.valueobject.UuidV7;
 import com.fintech.wallet.domain.valueobject.WalletId;
 
+import java.time.Instant;
+import java.util.UUID;
+
 /**
  * Event raised when money is deposited into a wallet.
  */
@@ -14,7 +18,12 @@ public final class MoneyDepositedEvent extends DomainEvent {
     private final String description;
 
     public MoneyDepositedEvent(WalletId walletId, Money amount, Money newBalance, String description) {
-        super();
+        this(UuidV7.generate(), Instant.now(), walletId, amount, newBalance, description);
+    }
+
+    public MoneyDepositedEvent(UUID eventId, Instant occurredAt, WalletId walletId, Money amount,
+            Money newBalance, String description) {
+        super(eventId, occurredAt);
         this.walletId = walletId;
         this.amount = amount;
         this.newBalance = newBalance;
@@ -2,10 +2,16 @@ package com.fintech.wallet.domain.event;
 
 import com.fintech.wallet.domain.valueobject.Money;
 import com.fintech.wallet.domain.valueobject.TransactionId;
+import com.fintech.wallet.domain.valueobject.UuidV7;
 import com.fintech.wallet.domain.valueobject.WalletId;
 
+import java.time.Instant;
+import java.util.UUID;
+
 /**
  * Event raised when money is transferred between wallets.
+ * Carries each wallet's balance after the transfer where the raiser knew it;
+ * either may be null.
  */
 public final class MoneyTransferredEvent extends DomainEvent {
 
@@ -16,6 +22,8 @@ public final class MoneyTransferredEvent extends DomainEvent {
     private final String description;
     private final boolean crossCurrency;
     private final Money convertedAmount;
+    private final Money sourceBalance;
+    private final Money destinationBalance;
 
     public MoneyTransferredEvent(TransactionId transactionId, WalletId sourceWalletId, 
             WalletId destinationWalletId, Money amount, String description) {
@@ -25,7 +33,21 @@ public final class MoneyTransferredEvent extends DomainEvent {
     public MoneyTransferredEvent(TransactionId transactionId, WalletId sourceWalletId, 
             WalletId destinationWalletId, Money amount, String description,
             boolean crossCurrency, Money convertedAmount) {
-        super();
+        this(transactionId, sourceWalletId, destinationWalletId, amount, description, crossCurrency,
+                convertedAmount, null, null);
+    }
+
+    public MoneyTransferredEvent(TransactionId transactionId, WalletId sourceWalletId,
+            WalletId destinationWalletId, Money amount, String description,
+            boolean crossCurrency, Money convertedAmount, Money sourceBalance, Money destinationBalance) {
+        this(UuidV7.generate(), Instant.now(), transactionId, sourceWalletId, destinationWalletId,
+                amount, description, crossCurrency, convertedAmount, sourceBalance, destinationBalance);
+    }
+
+    public MoneyTransferredEvent(UUID eventId, Instant occurredAt, TransactionId transactionId,
+            WalletId sourceWalletId, WalletId destinationWalletId, Money amount, String description,
+            boolean crossCurrency, Money convertedAmount, Money sourceBalance, Money destinationBalance) {
+        super(eventId, occurredAt);
         this.transactionId = transactionId;
         this.sourceWalletId = sourceWalletId;
         this.destinationWalletId = destinationWalletId;
@@ -33,6 +55,8 @@ public final class MoneyTransferredEvent extends DomainEvent {
         this.description = description;
         this.crossCurrency = crossCurrency;
         this.convertedAmount = convertedAmount;
+        this.sourceBalance = sourceBalance;
+        this.destinationBalance = destinationBalance;
     }
 
     @Override
@@ -67,4 +91,12 @@ public final class MoneyTransferredEvent extends DomainEvent {
     public Money getConvertedAmount() {
         return convertedAmount;
     }
+
+    public Money getSourceBalance() {
+        return sourceBalance;
+    }
+
+    public Money getDestinationBalance() {
+        return destinationBalance;
+    }
 }
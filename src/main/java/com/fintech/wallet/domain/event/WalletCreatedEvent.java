@@ -1,7 +1,11 @@
 package com.fintech.wallet.domain.event;
 
+import com.fintech.wallet.domain.valueobject.UuidV7;
 import com.fintech.wallet.domain.valueobject.WalletId;
 
+import java.time.Instant;
+import java.util.UUID;
+
 /**
  * Event raised when a new wallet is created.
  */
@@ -11,7 +15,11 @@ public final class WalletCreatedEvent extends DomainEvent {
     private final String currency;
 
     public WalletCreatedEvent(WalletId walletId, String currency) {
-        super();
+        this(UuidV7.generate(), Instant.now(), walletId, currency);
+    }
+
+    public WalletCreatedEvent(UUID eventId, Instant occurredAt, WalletId walletId, String currency) {
+        super(eventId, occurredAt);
         this.walletId = walletId;
         this.currency = currency;
     }
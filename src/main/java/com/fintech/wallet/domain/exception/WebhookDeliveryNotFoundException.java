@@ -0,0 +1,18 @@
+package com.fintech.wallet.domain.exception;
+
+/**
+ * Exception thrown when a webhook delivery is not found.
+ */
+public class WebhookDeliveryNotFoundException extends RuntimeException {
+
+    private final String deliveryId;
+
+    public WebhookDeliveryNotFoundException(String deliveryId) {
+        super("Webhook delivery not found: " + deliveryId);
+        this.deliveryId = deliveryId;
+    }
+
+    public String getDeliveryId() {
+        return deliveryId;
+    }
+}
@@ -0,0 +1,18 @@
+package com.fintech.wallet.domain.exception;
+
+/**
+ * Exception thrown when a webhook subscription is not found.
+ */
+public class WebhookSubscriptionNotFoundException extends RuntimeException {
+
+    private final String subscriptionId;
+
+    public WebhookSubscriptionNotFoundException(String subscriptionId) {
+        super("Webhook subscription not found: " + subscriptionId);
+        this.subscriptionId = subscriptionId;
+    }
+
+    public String getSubscriptionId() {
+        return subscriptionId;
+    }
+}
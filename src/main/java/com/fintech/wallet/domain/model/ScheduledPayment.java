@@ -6,6 +6,8 @@ import com.fintech.wallet.domain.valueobject.WalletId;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.Objects;
 
 /**
@@ -23,6 +25,7 @@ public final class ScheduledPayment {
     private final LocalDate startDate;
     private final LocalDate endDate; // null for indefinite recurring payments
     private final LocalDate nextExecutionDate;
+    private final LocalTime executionTime; // null to execute at any time on the execution date
     private final int executionCount;
     private final int maxExecutions; // 0 for unlimited
     private final ScheduledPaymentStatus status;
@@ -39,6 +42,7 @@ public final class ScheduledPayment {
         this.startDate = builder.startDate;
         this.endDate = builder.endDate;
         this.nextExecutionDate = builder.nextExecutionDate;
+        this.executionTime = builder.executionTime;
         this.executionCount = builder.executionCount;
         this.maxExecutions = builder.maxExecutions;
         this.status = builder.status;
@@ -52,13 +56,16 @@ public final class ScheduledPayment {
 
     /**
      * Creates a one-time scheduled payment for a future date.
+     * An execution time is optional; without one the payment runs with the
+     * first scheduler pass on the execution date.
      */
     public static ScheduledPayment createOneTime(
             WalletId sourceWalletId,
             WalletId destinationWalletId,
             Money amount,
             String description,
-            LocalDate executionDate) {
+            LocalDate executionDate,
+            LocalTime executionTime) {
 
         if (executionDate.isBefore(LocalDate.now())) {
             throw new IllegalArgumentException("Execution date must be in the future");
@@ -73,6 +80,7 @@ public final class ScheduledPayment {
                 .recurrencePattern(RecurrencePattern.ONCE)
                 .startDate(executionDate)
                 .nextExecutionDate(executionDate)
+                .executionTime(executionTime)
                 .maxExecutions(1)
                 .status(ScheduledPaymentStatus.ACTIVE)
                 .createdAt(Instant.now())
@@ -91,6 +99,7 @@ public final class ScheduledPayment {
             RecurrencePattern pattern,
             LocalDate startDate,
             LocalDate endDate,
+            LocalTime executionTime,
             int maxExecutions) {
 
         if (pattern == RecurrencePattern.ONCE) {
@@ -107,6 +116,7 @@ public final class ScheduledPayment {
                 .startDate(startDate)
                 .endDate(endDate)
                 .nextExecutionDate(startDate)
+                .executionTime(executionTime)
                 .maxExecutions(maxExecutions)
                 .status(ScheduledPaymentStatus.ACTIVE)
                 .createdAt(Instant.now())
@@ -133,10 +143,35 @@ public final class ScheduledPayment {
      * Checks if this payment is due for execution.
      */
     public boolean isDue() {
-        if (status != ScheduledPaymentStatus.ACTIVE) {
+        return isDueAt(LocalDateTime.now());
+    }
+
+    /**
+     * Checks if this payment is due for execution at the given moment.
+     * A payment with an execution time only becomes due on its execution
+     * date once that time has been reached.
+     */
+    public boolean isDueAt(LocalDateTime moment) {
+        if (status != ScheduledPaymentStatus.ACTIVE || nextExecutionDate == null) {
             return false;
         }
-        return !nextExecutionDate.isAfter(LocalDate.now());
+        LocalDate date = moment.toLocalDate();
+        if (nextExecutionDate.isBefore(date)) {
+            return true;
+        }
+        return nextExecutionDate.isEqual(date)
+                && (executionTime == null || !executionTime.isAfter(moment.toLocalTime()));
+    }
+
+    /**
+     * Returns the moment of the next execution, or null when the payment
+     * has no execution time or no further executions.
+     */
+    public LocalDateTime getNextExecutionDateTime() {
+        if (nextExecutionDate == null || executionTime == null) {
+            return null;
+        }
+        return nextExecutionDate.atTime(executionTime);
     }
 
     /**
@@ -180,6 +215,7 @@ public final class ScheduledPayment {
                 .recurrencePattern(this.recurrencePattern)
                 .startDate(this.startDate)
                 .endDate(this.endDate)
+                .executionTime(this.executionTime)
                 .nextExecutionDate(newNextDate)
                 .executionCount(newExecutionCount)
                 .maxExecutions(this.maxExecutions)
@@ -202,6 +238,7 @@ public final class ScheduledPayment {
                 .recurrencePattern(this.recurrencePattern)
                 .startDate(this.startDate)
                 .endDate(this.endDate)
+                .executionTime(this.executionTime)
                 .nextExecutionDate(this.nextExecutionDate)
                 .executionCount(this.executionCount)
                 .maxExecutions(this.maxExecutions)
@@ -224,6 +261,7 @@ public final class ScheduledPayment {
                 .recurrencePattern(this.recurrencePattern)
                 .startDate(this.startDate)
                 .endDate(this.endDate)
+                .executionTime(this.executionTime)
                 .nextExecutionDate(this.nextExecutionDate)
                 .executionCount(this.executionCount)
                 .maxExecutions(this.maxExecutions)
@@ -246,6 +284,7 @@ public final class ScheduledPayment {
                 .recurrencePattern(this.recurrencePattern)
                 .startDate(this.startDate)
                 .endDate(this.endDate)
+                .executionTime(this.executionTime)
                 .nextExecutionDate(null)
                 .executionCount(this.executionCount)
                 .maxExecutions(this.maxExecutions)
@@ -265,6 +304,7 @@ public final class ScheduledPayment {
     public LocalDate getStartDate() { return startDate; }
     public LocalDate getEndDate() { return endDate; }
     public LocalDate getNextExecutionDate() { return nextExecutionDate; }
+    public LocalTime getExecutionTime() { return executionTime; }
     public int getExecutionCount() { return executionCount; }
     public int getMaxExecutions() { return maxExecutions; }
     public ScheduledPaymentStatus getStatus() { return status; }
@@ -281,6 +321,7 @@ public final class ScheduledPayment {
         private LocalDate startDate;
         private LocalDate endDate;
         private LocalDate nextExecutionDate;
+        private LocalTime executionTime;
         private int executionCount = 0;
         private int maxExecutions = 0;
         private ScheduledPaymentStatus status;
@@ -296,6 +337,7 @@ public final class ScheduledPayment {
         public Builder startDate(LocalDate startDate) { this.startDate = startDate; return this; }
         public Builder endDate(LocalDate endDate) { this.endDate = endDate; return this; }
         public Builder nextExecutionDate(LocalDate nextExecutionDate) { this.nextExecutionDate = nextExecutionDate; return this; }
+        public Builder executionTime(LocalTime executionTime) { this.executionTime = executionTime; return this; }
         public Builder executionCount(int executionCount) { this.executionCount = executionCount; return this; }
         public Builder maxExecutions(int maxExecutions) { this.maxExecutions = maxExecutions; return this; }
         public Builder status(ScheduledPaymentStatus status) { this.status = status; return this; }
@@ -6,6 +6,7 @@ import com.fintech.wallet.domain.valueobject.Money;
 import com.fintech.wallet.domain.valueobject.TransactionId;
 import com.fintech.wallet.domain.valueobject.WalletId;
 
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -16,6 +17,9 @@ import java.util.Objects;
  * Wallet aggregate root.
  * Balance is calculated from ledger entries (no stored balance column).
  * This approach prevents race conditions and provides a complete audit trail.
+ * The ledger is summed once when the aggregate is built and the running total
+ * is kept up to date as entries are appended, so repeated debits against the
+ * same loaded wallet do not re-scan its history.
  */
 public final class Wallet {
 
@@ -23,12 +27,14 @@ public final class Wallet {
     private final Currency currency;
     private final List<LedgerEntry> ledgerEntries;
     private final Instant createdAt;
+    private BigDecimal runningTotal;
 
     private Wallet(WalletId id, Currency currency, List<LedgerEntry> ledgerEntries, Instant createdAt) {
         this.id = id;
         this.currency = currency;
         this.ledgerEntries = new ArrayList<>(ledgerEntries);
         this.createdAt = createdAt;
+        this.runningTotal = sumLedger(this.ledgerEntries);
     }
 
     public static Wallet create(Currency currency) {
@@ -49,9 +55,20 @@ public final class Wallet {
      * Credits add to balance, debits subtract from balance.
      */
     public Money calculateBalance() {
-        java.math.BigDecimal total = java.math.BigDecimal.ZERO;
+        BigDecimal total = runningTotal;
 
-        for (LedgerEntry entry : ledgerEntries) {
+        // Balance should never be negative if business rules are enforced
+        if (total.compareTo(BigDecimal.ZERO) < 0) {
+            total = BigDecimal.ZERO;
+        }
+
+        return Money.of(total, currency);
+    }
+
+    private static BigDecimal sumLedger(List<LedgerEntry> entries) {
+        BigDecimal total = BigDecimal.ZERO;
+
+        for (LedgerEntry entry : entries) {
             if (entry.isCredit()) {
                 total = total.add(entry.getAmount().getAmount());
             } else {
@@ -59,12 +76,7 @@ public final class Wallet {
             }
         }
 
-        // Balance should never be negative if business rules are enforced
-        if (total.compareTo(java.math.BigDecimal.ZERO) < 0) {
-            total = java.math.BigDecimal.ZERO;
-        }
-
-        return Money.of(total, currency);
+        return total;
     }
 
     /**
@@ -81,6 +93,7 @@ public final class Wallet {
                 description);
 
         this.ledgerEntries.add(creditEntry);
+        this.runningTotal = this.runningTotal.add(amount.getAmount());
         return creditEntry;
     }
 
@@ -101,6 +114,7 @@ public final class Wallet {
                 description);
 
         this.ledgerEntries.add(debitEntry);
+        this.runningTotal = this.runningTotal.subtract(amount.getAmount());
         return debitEntry;
     }
 
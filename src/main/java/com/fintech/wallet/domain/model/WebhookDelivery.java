@@ -0,0 +1,290 @@
+package com.fintech.wallet.domain.model;
+
+import com.fintech.wallet.domain.valueobject.UuidV7;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * One event queued for delivery to one webhook endpoint.
+ * Immutable; each attempt produces a new instance.
+ * <p>
+ * A delivery is attempted as soon as it is queued. After the n-th failed
+ * attempt it waits for the n-th delay of the retry schedule, and once the
+ * schedule is exhausted it is dead-lettered until an operator replays it.
+ */
+public final class WebhookDelivery {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final UUID id;
+    private final String webhookUrl;
+    private final String eventType;
+    private final UUID eventId;
+    private final String payload;
+    private final WebhookDeliveryStatus status;
+    private final int attempts;
+    private final Instant nextAttemptAt;
+    private final String lastError;
+    private final Instant createdAt;
+    private final Instant lastAttemptAt;
+
+    private WebhookDelivery(Builder builder) {
+        this.id = Objects.requireNonNull(builder.id, "ID is required");
+        this.webhookUrl = Objects.requireNonNull(builder.webhookUrl, "Webhook URL is required");
+        this.eventType = Objects.requireNonNull(builder.eventType, "Event type is required");
+        this.eventId = builder.eventId;
+        this.payload = Objects.requireNonNull(builder.payload, "Payload is required");
+        this.status = Objects.requireNonNull(builder.status, "Status is required");
+        this.attempts = builder.attempts;
+        this.nextAttemptAt = builder.nextAttemptAt;
+        this.lastError = builder.lastError;
+        this.createdAt = builder.createdAt;
+        this.lastAttemptAt = builder.lastAttemptAt;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Queues an event for immediate delivery to an endpoint.
+     */
+    public static WebhookDelivery queue(String webhookUrl, String eventType, UUID eventId,
+                                        String payload, Instant now) {
+        return builder()
+                .id(UuidV7.generate())
+                .webhookUrl(webhookUrl)
+                .eventType(eventType)
+                .eventId(eventId)
+                .payload(payload)
+                .status(WebhookDeliveryStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+
+    /**
+     * Holds the delivery back from later polls while an attempt is in flight.
+     * The attempt's outcome replaces the hold; if it is never recorded, for
+     * example because the node stopped, the delivery is due again once the
+     * hold expires.
+     */
+    public WebhookDelivery holdUntil(Instant until) {
+        return toBuilder()
+                .nextAttemptAt(until)
+                .build();
+    }
+
+    /**
+     * Ends a hold without an attempt, for example when the sender had no
+     * room for it, so the delivery is due again without using up a retry.
+     */
+    public WebhookDelivery release(Instant now) {
+        return toBuilder()
+                .nextAttemptAt(now)
+                .build();
+    }
+
+    /**
+     * Records a successful attempt.
+     */
+    public WebhookDelivery markDelivered(Instant now) {
+        return toBuilder()
+                .status(WebhookDeliveryStatus.DELIVERED)
+                .attempts(attempts + 1)
+                .nextAttemptAt(null)
+                .lastError(null)
+                .lastAttemptAt(now)
+                .build();
+    }
+
+    /**
+     * Records a failed attempt and schedules the next one, or dead-letters
+     * the delivery when the retry schedule is exhausted.
+     *
+     * @param retrySchedule delay before each retry; its size is the number of retries
+     */
+    public WebhookDelivery recordFailure(String error, List<Duration> retrySchedule, Instant now) {
+        int failed = attempts + 1;
+        boolean exhausted = failed > retrySchedule.size();
+        return toBuilder()
+                .status(exhausted ? WebhookDeliveryStatus.DEAD : WebhookDeliveryStatus.PENDING)
+                .attempts(failed)
+                .nextAttemptAt(exhausted ? null : now.plus(retrySchedule.get(failed - 1)))
+                .lastError(truncate(error))
+                .lastAttemptAt(now)
+                .build();
+    }
+
+    /**
+     * Puts a dead-lettered delivery back in the queue with a fresh retry
+     * schedule.
+     */
+    public WebhookDelivery replay(Instant now) {
+        if (status != WebhookDeliveryStatus.DEAD) {
+            throw new IllegalStateException("Only dead-lettered deliveries can be replayed");
+        }
+        return toBuilder()
+                .status(WebhookDeliveryStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .build();
+    }
+
+    private Builder toBuilder() {
+        return builder()
+                .id(id)
+                .webhookUrl(webhookUrl)
+                .eventType(eventType)
+                .eventId(eventId)
+                .payload(payload)
+                .status(status)
+                .attempts(attempts)
+                .nextAttemptAt(nextAttemptAt)
+                .lastError(lastError)
+                .createdAt(createdAt)
+                .lastAttemptAt(lastAttemptAt);
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getWebhookUrl() {
+        return webhookUrl;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public UUID getEventId() {
+        return eventId;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public WebhookDeliveryStatus getStatus() {
+        return status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getLastAttemptAt() {
+        return lastAttemptAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        WebhookDelivery that = (WebhookDelivery) o;
+        return id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    public static class Builder {
+        private UUID id;
+        private String webhookUrl;
+        private String eventType;
+        private UUID eventId;
+        private String payload;
+        private WebhookDeliveryStatus status;
+        private int attempts;
+        private Instant nextAttemptAt;
+        private String lastError;
+        private Instant createdAt;
+        private Instant lastAttemptAt;
+
+        public Builder id(UUID id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder webhookUrl(String webhookUrl) {
+            this.webhookUrl = webhookUrl;
+            return this;
+        }
+
+        public Builder eventType(String eventType) {
+            this.eventType = eventType;
+            return this;
+        }
+
+        public Builder eventId(UUID eventId) {
+            this.eventId = eventId;
+            return this;
+        }
+
+        public Builder payload(String payload) {
+            this.payload = payload;
+            return this;
+        }
+
+        public Builder status(WebhookDeliveryStatus status) {
+            this.status = status;
+            return this;
+        }
+
+        public Builder attempts(int attempts) {
+            this.attempts = attempts;
+            return this;
+        }
+
+        public Builder nextAttemptAt(Instant nextAttemptAt) {
+            this.nextAttemptAt = nextAttemptAt;
+            return this;
+        }
+
+        public Builder lastError(String lastError) {
+            this.lastError = lastError;
+            return this;
+        }
+
+        public Builder createdAt(Instant createdAt) {
+            this.createdAt = createdAt;
+            return this;
+        }
+
+        public Builder lastAttemptAt(Instant lastAttemptAt) {
+            this.lastAttemptAt = lastAttemptAt;
+            return this;
+        }
+
+        public WebhookDelivery build() {
+            return new WebhookDelivery(this);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.fintech.wallet.domain.model;
+
+/**
+ * Enumeration of webhook delivery status.
+ */
+public enum WebhookDeliveryStatus {
+    PENDING,
+    DELIVERED,
+    DEAD
+}
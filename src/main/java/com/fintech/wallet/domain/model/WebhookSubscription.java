@@ -0,0 +1,178 @@
+package com.fintech.wallet.domain.model;
+
+import com.fintech.wallet.domain.valueobject.UuidV7;
+import com.fintech.wallet.domain.valueobject.WalletId;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A third-party endpoint subscribed to webhook events.
+ * <p>
+ * An empty set of event types subscribes to every event type, and an empty
+ * set of wallets to events for every wallet.
+ */
+public final class WebhookSubscription {
+
+    /**
+     * Event types that can be subscribed to.
+     */
+    public static final Set<String> EVENT_TYPES = Set.of(
+            "WALLET_CREATED",
+            "MONEY_DEPOSITED",
+            "MONEY_WITHDRAWN",
+            "MONEY_TRANSFERRED",
+            "CROSS_CURRENCY_TRANSFER",
+            "BALANCE_SHORTFALL_FORECAST");
+
+    private final UUID id;
+    private final String webhookUrl;
+    private final Set<String> eventTypes;
+    private final Set<WalletId> walletIds;
+    private final boolean active;
+    private final Instant createdAt;
+    private final Instant updatedAt;
+
+    private WebhookSubscription(Builder builder) {
+        this.id = Objects.requireNonNull(builder.id, "ID is required");
+        this.webhookUrl = Objects.requireNonNull(builder.webhookUrl, "Webhook URL is required");
+        this.eventTypes = Set.copyOf(builder.eventTypes);
+        this.walletIds = Set.copyOf(builder.walletIds);
+        this.active = builder.active;
+        this.createdAt = builder.createdAt;
+        this.updatedAt = builder.updatedAt;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static WebhookSubscription create(String webhookUrl, Set<String> eventTypes, Set<WalletId> walletIds) {
+        validateUrl(webhookUrl);
+        for (String eventType : eventTypes) {
+            if (!EVENT_TYPES.contains(eventType)) {
+                throw new IllegalArgumentException("Unknown event type: " + eventType);
+            }
+        }
+        Instant now = Instant.now();
+        return builder()
+                .id(UuidV7.generate())
+                .webhookUrl(webhookUrl)
+                .eventTypes(eventTypes)
+                .walletIds(walletIds)
+                .active(true)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    /**
+     * Deactivates the subscription. It is kept so the change is visible to
+     * every node refreshing its routes.
+     */
+    public WebhookSubscription deactivate() {
+        return builder()
+                .id(id)
+                .webhookUrl(webhookUrl)
+                .eventTypes(eventTypes)
+                .walletIds(walletIds)
+                .active(false)
+                .createdAt(createdAt)
+                .updatedAt(Instant.now())
+                .build();
+    }
+
+    private static void validateUrl(String webhookUrl) {
+        Objects.requireNonNull(webhookUrl, "Webhook URL is required");
+        URI uri;
+        try {
+            uri = URI.create(webhookUrl);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid webhook URL: " + webhookUrl);
+        }
+        if (!"https".equalsIgnoreCase(uri.getScheme()) && !"http".equalsIgnoreCase(uri.getScheme())
+                || uri.getHost() == null) {
+            throw new IllegalArgumentException("Webhook URL must be an absolute http(s) URL: " + webhookUrl);
+        }
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getWebhookUrl() {
+        return webhookUrl;
+    }
+
+    public Set<String> getEventTypes() {
+        return eventTypes;
+    }
+
+    public Set<WalletId> getWalletIds() {
+        return walletIds;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public static class Builder {
+        private UUID id;
+        private String webhookUrl;
+        private Set<String> eventTypes = Set.of();
+        private Set<WalletId> walletIds = Set.of();
+        private boolean active;
+        private Instant createdAt;
+        private Instant updatedAt;
+
+        public Builder id(UUID id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder webhookUrl(String webhookUrl) {
+            this.webhookUrl = webhookUrl;
+            return this;
+        }
+
+        public Builder eventTypes(Set<String> eventTypes) {
+            this.eventTypes = eventTypes;
+            return this;
+        }
+
+        public Builder walletIds(Set<WalletId> walletIds) {
+            this.walletIds = walletIds;
+            return this;
+        }
+
+        public Builder active(boolean active) {
+            this.active = active;
+            return this;
+        }
+
+        public Builder createdAt(Instant createdAt) {
+            this.createdAt = createdAt;
+            return this;
+        }
+
+        public Builder updatedAt(Instant updatedAt) {
+            this.updatedAt = updatedAt;
+            return this;
+        }
+
+        public WebhookSubscription build() {
+            return new WebhookSubscription(this);
+        }
+    }
+}
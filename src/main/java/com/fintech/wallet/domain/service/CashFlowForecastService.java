@@ -0,0 +1,163 @@
+package com.fintech.wallet.domain.service;
+
+import com.fintech.wallet.domain.model.RecurrencePattern;
+import com.fintech.wallet.domain.model.ScheduledPayment;
+import com.fintech.wallet.domain.model.ScheduledPaymentStatus;
+import com.fintech.wallet.domain.valueobject.CashFlowForecast;
+import com.fintech.wallet.domain.valueobject.CashFlowForecast.Direction;
+import com.fintech.wallet.domain.valueobject.CashFlowForecast.ProjectedPayment;
+import com.fintech.wallet.domain.valueobject.Money;
+import com.fintech.wallet.domain.valueobject.WalletId;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+/**
+ * Domain service projecting a wallet's balance forward across the
+ * recurrences of its scheduled payments.
+ *
+ * Business rules:
+ * - Only active payments in the wallet's currency are projected
+ * - Occurrences follow {@link ScheduledPayment#calculateNextExecutionDate},
+ *   bounded by the end date and the remaining number of executions
+ * - Overdue occurrences are projected on the first day of the horizon
+ * - On the same day payments run in execution time order, untimed first;
+ *   outgoing payments are applied before incoming ones so shortfalls are
+ *   reported conservatively
+ * - An outgoing payment the balance cannot cover is flagged and not applied,
+ *   as its execution would fail
+ */
+public final class CashFlowForecastService {
+
+    private static final Comparator<Occurrences> ORDER = Comparator
+            .comparing((Occurrences o) -> o.date)
+            .thenComparing(o -> o.payment.getExecutionTime(), Comparator.nullsFirst(Comparator.<LocalTime>naturalOrder()))
+            .thenComparing(o -> o.direction == Direction.OUTGOING ? 0 : 1)
+            .thenComparing(o -> o.payment.getId().getValue());
+
+    /**
+     * Projects the balance of a wallet over the given dates.
+     *
+     * @param walletId the wallet to forecast
+     * @param currentBalance the wallet's balance today
+     * @param scheduledPayments payments with the wallet as source or destination
+     * @param startDate first day of the horizon, usually today
+     * @param endDate last day of the horizon (inclusive)
+     * @return the forecast with every projected occurrence in execution order
+     */
+    public CashFlowForecast forecast(WalletId walletId, Money currentBalance,
+                                     Collection<ScheduledPayment> scheduledPayments,
+                                     LocalDate startDate, LocalDate endDate) {
+        Objects.requireNonNull(walletId, "Wallet ID is required");
+        Objects.requireNonNull(currentBalance, "Current balance is required");
+        Objects.requireNonNull(scheduledPayments, "Scheduled payments are required");
+
+        // k-way merge: one lazy cursor per schedule, ordered by its next occurrence
+        PriorityQueue<Occurrences> queue = new PriorityQueue<>(ORDER);
+        for (ScheduledPayment payment : scheduledPayments) {
+            Direction direction = directionFor(walletId, payment);
+            if (direction == null
+                    || payment.getStatus() != ScheduledPaymentStatus.ACTIVE
+                    || !payment.getAmount().getCurrency().isSameAs(currentBalance.getCurrency())) {
+                continue;
+            }
+            Occurrences occurrences = new Occurrences(payment, direction, startDate);
+            if (occurrences.hasOccurrenceOnOrBefore(endDate)) {
+                queue.add(occurrences);
+            }
+        }
+
+        List<ProjectedPayment> projected = new ArrayList<>();
+        Money balance = currentBalance;
+        Money lowest = currentBalance;
+        while (!queue.isEmpty()) {
+            Occurrences next = queue.poll();
+            Money amount = next.payment.getAmount();
+            boolean covered = true;
+            if (next.direction == Direction.INCOMING) {
+                balance = balance.add(amount);
+            } else if (balance.isGreaterThanOrEqual(amount)) {
+                balance = balance.subtract(amount);
+            } else {
+                covered = false;
+            }
+            if (lowest.isGreaterThan(balance)) {
+                lowest = balance;
+            }
+            projected.add(new ProjectedPayment(
+                    next.date, next.payment.getId(), next.direction, amount, balance, covered));
+
+            next.advance();
+            if (next.hasOccurrenceOnOrBefore(endDate)) {
+                queue.add(next);
+            }
+        }
+
+        return new CashFlowForecast(
+                walletId,
+                currentBalance.getCurrency(),
+                startDate,
+                endDate,
+                currentBalance,
+                balance,
+                lowest,
+                List.copyOf(projected));
+    }
+
+    private Direction directionFor(WalletId walletId, ScheduledPayment payment) {
+        if (payment.getSourceWalletId().equals(walletId)) {
+            return Direction.OUTGOING;
+        }
+        if (payment.getDestinationWalletId().equals(walletId)) {
+            return Direction.INCOMING;
+        }
+        return null;
+    }
+
+    /**
+     * Lazily enumerates the remaining occurrences of one scheduled payment.
+     */
+    private static final class Occurrences {
+        private final ScheduledPayment payment;
+        private final Direction direction;
+        private final LocalDate startDate;
+        private LocalDate scheduledDate;
+        private LocalDate date;
+        private int remaining;
+
+        Occurrences(ScheduledPayment payment, Direction direction, LocalDate startDate) {
+            this.payment = payment;
+            this.direction = direction;
+            this.startDate = startDate;
+            this.remaining = payment.getRecurrencePattern() == RecurrencePattern.ONCE
+                    ? 1 - payment.getExecutionCount()
+                    : payment.getMaxExecutions() > 0
+                            ? payment.getMaxExecutions() - payment.getExecutionCount()
+                            : Integer.MAX_VALUE;
+            moveTo(payment.getNextExecutionDate());
+        }
+
+        boolean hasOccurrenceOnOrBefore(LocalDate endDate) {
+            return scheduledDate != null
+                    && remaining > 0
+                    && !date.isAfter(endDate)
+                    && (payment.getEndDate() == null || !scheduledDate.isAfter(payment.getEndDate()));
+        }
+
+        void advance() {
+            remaining--;
+            moveTo(payment.calculateNextExecutionDate(scheduledDate));
+        }
+
+        private void moveTo(LocalDate nextDate) {
+            scheduledDate = nextDate;
+            date = nextDate == null || nextDate.isAfter(startDate) ? nextDate : startDate;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.fintech.wallet.domain.valueobject;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Value object representing a wallet's projected balance over a horizon,
+ * derived from its active scheduled payments.
+ */
+public record CashFlowForecast(
+    WalletId walletId,
+    Currency currency,
+    LocalDate startDate,
+    LocalDate endDate,
+    Money openingBalance,
+    Money closingBalance,
+    Money lowestBalance,
+    List<ProjectedPayment> payments
+) {
+
+    /**
+     * Whether money flows into or out of the forecast wallet.
+     */
+    public enum Direction {
+        INCOMING,
+        OUTGOING
+    }
+
+    /**
+     * Single projected occurrence of a scheduled payment.
+     * An outgoing payment that exceeds the projected balance is not covered:
+     * it would fail, so the balance is carried forward unchanged.
+     */
+    public record ProjectedPayment(
+        LocalDate date,
+        ScheduledPaymentId scheduledPaymentId,
+        Direction direction,
+        Money amount,
+        Money projectedBalance,
+        boolean covered
+    ) {}
+
+    /**
+     * Returns the outgoing payments the projected balance cannot cover.
+     */
+    public List<ProjectedPayment> shortfalls() {
+        return payments.stream()
+                .filter(payment -> !payment.covered())
+                .toList();
+    }
+
+    public boolean hasShortfall() {
+        return payments.stream().anyMatch(payment -> !payment.covered());
+    }
+}
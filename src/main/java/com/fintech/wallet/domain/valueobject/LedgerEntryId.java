@@ -15,7 +15,7 @@ public final class LedgerEntryId {
     }
 
     public static LedgerEntryId generate() {
-        return new LedgerEntryId(UUID.randomUUID());
+        return new LedgerEntryId(UuidV7.generate());
     }
 
     public static LedgerEntryId of(UUID value) {
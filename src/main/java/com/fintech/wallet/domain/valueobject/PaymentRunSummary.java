@@ -0,0 +1,25 @@
+package com.fintech.wallet.domain.valueobject;
+
+import java.time.Duration;
+
+/**
+ * Value object summarising a single scheduled payment execution run.
+ */
+public record PaymentRunSummary(
+    int duePayments,
+    int succeeded,
+    int failed,
+    Duration elapsed
+) {
+
+    /**
+     * Returns the number of payments processed per second during the run.
+     */
+    public double throughputPerSecond() {
+        long millis = elapsed.toMillis();
+        if (millis == 0) {
+            return succeeded + failed;
+        }
+        return (succeeded + failed) * 1000.0 / millis;
+    }
+}
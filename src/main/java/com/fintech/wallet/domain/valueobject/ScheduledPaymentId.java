@@ -15,7 +15,7 @@ public final class ScheduledPaymentId {
     }
 
     public static ScheduledPaymentId generate() {
-        return new ScheduledPaymentId(UUID.randomUUID());
+        return new ScheduledPaymentId(UuidV7.generate());
     }
 
     public static ScheduledPaymentId of(String value) {
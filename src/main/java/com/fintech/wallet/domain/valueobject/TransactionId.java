@@ -15,7 +15,7 @@ public final class TransactionId {
     }
 
     public static TransactionId generate() {
-        return new TransactionId(UUID.randomUUID());
+        return new TransactionId(UuidV7.generate());
     }
 
     public static TransactionId of(UUID value) {
@@ -0,0 +1,44 @@
+package com.fintech.wallet.domain.valueobject;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates time-ordered version 7 UUIDs (RFC 9562).
+ * The first 48 bits are the Unix time in milliseconds, so new ids append to
+ * the right edge of a primary key index instead of landing on a random page.
+ * The 12 bits after the version hold a counter, making ids from one JVM
+ * strictly increasing even within a millisecond or if the clock steps back.
+ * The remaining 62 bits are random. Safe for concurrent use.
+ */
+public final class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /** Last issued timestamp in the high 52 bits and counter in the low 12. */
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID generate() {
+        long now = System.currentTimeMillis() << 12;
+        // Counter overflow carries into the timestamp, which stays monotonic
+        long state = LAST.updateAndGet(last -> Math.max(now, last + 1));
+
+        long mostSigBits = (state >>> 12) << 16 | 0x7000L | (state & 0xFFFL);
+        long leastSigBits = RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * Returns the creation time of a version 7 UUID in epoch milliseconds.
+     */
+    public static long timestamp(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
@@ -15,7 +15,7 @@ public final class WalletId {
     }
 
     public static WalletId generate() {
-        return new WalletId(UUID.randomUUID());
+        return new WalletId(UuidV7.generate());
     }
 
     public static WalletId of(UUID value) {
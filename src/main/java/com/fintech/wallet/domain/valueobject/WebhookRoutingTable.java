@@ -0,0 +1,96 @@
+package com.fintech.wallet.domain.valueobject;
+
+import com.fintech.wallet.domain.model.WebhookSubscription;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable index from event type and wallet to subscribed endpoints.
+ * <p>
+ * Subscriptions are bucketed by event type (or "any type") and then by
+ * wallet (or "any wallet"), so a lookup only visits the four buckets that
+ * can match and its cost grows with the number of matching endpoints, not
+ * with the number of subscriptions.
+ */
+public final class WebhookRoutingTable {
+
+    private static final WebhookRoutingTable EMPTY = new WebhookRoutingTable(Map.of(), new Routes());
+
+    private final Map<String, Routes> byEventType;
+    private final Routes anyEventType;
+
+    private WebhookRoutingTable(Map<String, Routes> byEventType, Routes anyEventType) {
+        this.byEventType = byEventType;
+        this.anyEventType = anyEventType;
+    }
+
+    public static WebhookRoutingTable empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds the table from active subscriptions; inactive ones are ignored.
+     */
+    public static WebhookRoutingTable of(Collection<WebhookSubscription> subscriptions) {
+        Map<String, Routes> byEventType = new HashMap<>();
+        Routes anyEventType = new Routes();
+        for (WebhookSubscription subscription : subscriptions) {
+            if (!subscription.isActive()) {
+                continue;
+            }
+            if (subscription.getEventTypes().isEmpty()) {
+                anyEventType.add(subscription);
+            } else {
+                for (String eventType : subscription.getEventTypes()) {
+                    byEventType.computeIfAbsent(eventType, type -> new Routes()).add(subscription);
+                }
+            }
+        }
+        return new WebhookRoutingTable(Map.copyOf(byEventType), anyEventType);
+    }
+
+    /**
+     * Returns the endpoints subscribed to an event type for any of the given
+     * wallets, without duplicates.
+     */
+    public List<String> route(String eventType, Collection<WalletId> walletIds) {
+        Set<String> endpoints = new LinkedHashSet<>();
+        Routes routes = byEventType.get(eventType);
+        if (routes != null) {
+            routes.collect(walletIds, endpoints);
+        }
+        anyEventType.collect(walletIds, endpoints);
+        return new ArrayList<>(endpoints);
+    }
+
+    private static final class Routes {
+        private final List<String> anyWallet = new ArrayList<>();
+        private final Map<WalletId, List<String>> byWallet = new HashMap<>();
+
+        void add(WebhookSubscription subscription) {
+            if (subscription.getWalletIds().isEmpty()) {
+                anyWallet.add(subscription.getWebhookUrl());
+            } else {
+                for (WalletId walletId : subscription.getWalletIds()) {
+                    byWallet.computeIfAbsent(walletId, id -> new ArrayList<>()).add(subscription.getWebhookUrl());
+                }
+            }
+        }
+
+        void collect(Collection<WalletId> walletIds, Set<String> endpoints) {
+            endpoints.addAll(anyWallet);
+            for (WalletId walletId : walletIds) {
+                List<String> subscribed = byWallet.get(walletId);
+                if (subscribed != null) {
+                    endpoints.addAll(subscribed);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.fintech.wallet.infrastructure.adapter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.wallet.domain.event.BalanceShortfallForecastEvent;
+import com.fintech.wallet.domain.event.DomainEvent;
+import com.fintech.wallet.domain.event.MoneyDepositedEvent;
+import com.fintech.wallet.domain.event.MoneyTransferredEvent;
+import com.fintech.wallet.domain.event.MoneyWithdrawnEvent;
+import com.fintech.wallet.domain.event.WalletCreatedEvent;
+import com.fintech.wallet.domain.valueobject.Money;
+import com.fintech.wallet.domain.valueobject.ScheduledPaymentId;
+import com.fintech.wallet.domain.valueobject.TransactionId;
+import com.fintech.wallet.domain.valueobject.WalletId;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Converts domain events to and from the JSON stored in the outbox.
+ * <p>
+ * The payload is an explicit flat map of each event's fields rather than a
+ * reflective dump of the class, so renaming a field in the domain does not
+ * silently change the stored format.
+ */
+@Component
+public class DomainEventSerializer {
+
+    private static final TypeReference<Map<String, String>> PAYLOAD_TYPE = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
+
+    public DomainEventSerializer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public String serialize(DomainEvent event) {
+        Map<String, String> payload = new LinkedHashMap<>();
+        if (event instanceof WalletCreatedEvent e) {
+            payload.put("walletId", e.getWalletId().toString());
+            payload.put("currency", e.getCurrency());
+        } else if (event instanceof MoneyDepositedEvent e) {
+            payload.put("walletId", e.getWalletId().toString());
+            putMoney(payload, "amount", e.getAmount());
+            putMoney(payload, "newBalance", e.getNewBalance());
+            payload.put("description", e.getDescription());
+        } else if (event instanceof MoneyWithdrawnEvent e) {
+            payload.put("walletId", e.getWalletId().toString());
+            putMoney(payload, "amount", e.getAmount());
+            putMoney(payload, "newBalance", e.getNewBalance());
+            payload.put("description", e.getDescription());
+        } else if (event instanceof MoneyTransferredEvent e) {
+            payload.put("transactionId", e.getTransactionId().toString());
+            payload.put("sourceWalletId", e.getSourceWalletId().toString());
+            payload.put("destinationWalletId", e.getDestinationWalletId().toString());
+            putMoney(payload, "amount", e.getAmount());
+            payload.put("description", e.getDescription());
+            if (e.isCrossCurrency()) {
+                putMoney(payload, "convertedAmount", e.getConvertedAmount());
+            }
+            putMoney(payload, "sourceBalance", e.getSourceBalance());
+            putMoney(payload, "destinationBalance", e.getDestinationBalance());
+        } else if (event instanceof BalanceShortfallForecastEvent e) {
+            payload.put("walletId", e.getWalletId().toString());
+            payload.put("scheduledPaymentId", e.getScheduledPaymentId().toString());
+            payload.put("shortfallDate", e.getShortfallDate().toString());
+            putMoney(payload, "paymentAmount", e.getPaymentAmount());
+            putMoney(payload, "projectedBalance", e.getProjectedBalance());
+            payload.put("shortfallCount", String.valueOf(e.getShortfallCount()));
+        } else {
+            throw new IllegalArgumentException("Unsupported domain event: " + event.getEventType());
+        }
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize " + event.getEventType(), e);
+        }
+    }
+
+    public DomainEvent deserialize(UUID eventId, String eventType, Instant occurredAt, String json) {
+        Map<String, String> p;
+        try {
+            p = objectMapper.readValue(json, PAYLOAD_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read outbox event " + eventId, e);
+        }
+        return switch (eventType) {
+            case "WALLET_CREATED" -> new WalletCreatedEvent(eventId, occurredAt,
+                    WalletId.of(p.get("walletId")), p.get("currency"));
+            case "MONEY_DEPOSITED" -> new MoneyDepositedEvent(eventId, occurredAt,
+                    WalletId.of(p.get("walletId")), money(p, "amount"), money(p, "newBalance"),
+                    p.get("description"));
+            case "MONEY_WITHDRAWN" -> new MoneyWithdrawnEvent(eventId, occurredAt,
+                    WalletId.of(p.get("walletId")), money(p, "amount"), money(p, "newBalance"),
+                    p.get("description"));
+            case "MONEY_TRANSFERRED", "CROSS_CURRENCY_TRANSFER" -> new MoneyTransferredEvent(eventId, occurredAt,
+                    TransactionId.of(p.get("transactionId")), WalletId.of(p.get("sourceWalletId")),
+                    WalletId.of(p.get("destinationWalletId")), money(p, "amount"), p.get("description"),
+                    "CROSS_CURRENCY_TRANSFER".equals(eventType), money(p, "convertedAmount"),
+                    money(p, "sourceBalance"), money(p, "destinationBalance"));
+            case "BALANCE_SHORTFALL_FORECAST" -> new BalanceShortfallForecastEvent(eventId, occurredAt,
+                    WalletId.of(p.get("walletId")), ScheduledPaymentId.of(p.get("scheduledPaymentId")),
+                    LocalDate.parse(p.get("shortfallDate")), money(p, "paymentAmount"),
+                    money(p, "projectedBalance"), Integer.parseInt(p.get("shortfallCount")));
+            default -> throw new IllegalArgumentException("Unknown outbox event type: " + eventType);
+        };
+    }
+
+    /**
+     * Returns the ID of the aggregate the event belongs to, stored alongside
+     * the payload for troubleshooting.
+     */
+    public UUID aggregateId(DomainEvent event) {
+        if (event instanceof WalletCreatedEvent e) {
+            return e.getWalletId().getValue();
+        } else if (event instanceof MoneyDepositedEvent e) {
+            return e.getWalletId().getValue();
+        } else if (event instanceof MoneyWithdrawnEvent e) {
+            return e.getWalletId().getValue();
+        } else if (event instanceof MoneyTransferredEvent e) {
+            return e.getTransactionId().getValue();
+        } else if (event instanceof BalanceShortfallForecastEvent e) {
+            return e.getWalletId().getValue();
+        }
+        return null;
+    }
+
+    private static void putMoney(Map<String, String> payload, String key, Money money) {
+        if (money != null) {
+            payload.put(key, money.getAmount().toPlainString());
+            payload.put(key + "Currency", money.getCurrency().getCode());
+        }
+    }
+
+    private static Money money(Map<String, String> payload, String key) {
+        String amount = payload.get(key);
+        if (amount == null) {
+            return null;
+        }
+        return Money.of(amount, payload.get(key + "Currency"));
+    }
+}
@@ -0,0 +1,97 @@
+package com.fintech.wallet.infrastructure.adapter;
+
+import com.fintech.wallet.application.port.out.EmailNotificationPort;
+import com.fintech.wallet.application.port.out.EmailNotificationPort.Email;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects notifications per recipient and sends them as one digest email
+ * per recipient every {@code window}, all in one batch.
+ * <p>
+ * A recipient whose digest reaches {@code max-items} is sent straight away,
+ * so a burst cannot grow the buffer without bound. Pending digests are sent
+ * on shutdown; a crash loses at most one window of notifications.
+ */
+@Component
+@DependsOn("emailTaskExecutor")
+public class EmailDigestBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailDigestBuffer.class);
+
+    private final EmailNotificationPort emailNotificationPort;
+    private final int maxItems;
+    private final Map<String, List<String>> pending = new ConcurrentHashMap<>();
+
+    public EmailDigestBuffer(
+            EmailNotificationPort emailNotificationPort,
+            @Value("${notification.email.digest.max-items:200}") int maxItems) {
+        this.emailNotificationPort = emailNotificationPort;
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * Adds an HTML section to the recipient's next digest.
+     */
+    public void add(String recipient, String section) {
+        List<String> full = new ArrayList<>(0);
+        pending.compute(recipient, (key, sections) -> {
+            List<String> updated = sections == null ? new ArrayList<>() : sections;
+            updated.add(section);
+            if (updated.size() < maxItems) {
+                return updated;
+            }
+            full.addAll(updated);
+            return null;
+        });
+        if (!full.isEmpty()) {
+            emailNotificationPort.sendEmails(List.of(digest(recipient, full)));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${notification.email.digest.window:PT5M}",
+            initialDelayString = "${notification.email.digest.window:PT5M}")
+    public void flush() {
+        List<Email> digests = new ArrayList<>();
+        for (String recipient : pending.keySet()) {
+            List<String> sections = pending.remove(recipient);
+            if (sections != null && !sections.isEmpty()) {
+                digests.add(digest(recipient, sections));
+            }
+        }
+        if (!digests.isEmpty()) {
+            log.info("Sending {} notification digests", digests.size());
+            emailNotificationPort.sendEmails(digests);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private Email digest(String recipient, List<String> sections) {
+        StringBuilder body = new StringBuilder(sections.size() * 512)
+                .append("<html>\n<body>\n<h1>Wallet activity: ")
+                .append(sections.size())
+                .append(sections.size() == 1 ? " notification" : " notifications")
+                .append("</h1>\n");
+        for (String section : sections) {
+            body.append(section).append("<hr/>\n");
+        }
+        body.append("</body>\n</html>\n");
+        String subject = "Wallet Activity Digest - " + sections.size()
+                + (sections.size() == 1 ? " notification" : " notifications");
+        return new Email(recipient, subject, body.toString());
+    }
+}
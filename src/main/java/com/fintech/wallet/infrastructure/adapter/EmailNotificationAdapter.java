@@ -7,15 +7,23 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Email notification adapter using Spring Mail.
+ * <p>
+ * {@link #sendEmails} hands messages to the mail sender in chunks of
+ * {@code batch-size}, and the sender delivers each chunk over a single SMTP
+ * connection instead of connecting once per message.
  */
 @Component
 public class EmailNotificationAdapter implements EmailNotificationPort {
@@ -25,18 +33,21 @@ public class EmailNotificationAdapter implements EmailNotificationPort {
     private final JavaMailSender mailSender;
     private final String fromAddress;
     private final boolean enabled;
+    private final int batchSize;
 
     public EmailNotificationAdapter(
             JavaMailSender mailSender,
             @Value("${notification.email.from:noreply@wallet.fintech.com}") String fromAddress,
-            @Value("${notification.email.enabled:false}") boolean enabled) {
+            @Value("${notification.email.enabled:false}") boolean enabled,
+            @Value("${notification.email.batch-size:50}") int batchSize) {
         this.mailSender = mailSender;
         this.fromAddress = fromAddress;
         this.enabled = enabled;
+        this.batchSize = batchSize;
     }
 
     @Override
-    @Async
+    @Async("emailTaskExecutor")
     public void sendEmail(String to, String subject, String body) {
         if (!enabled) {
             log.debug("Email notifications disabled. Would send to: {}, subject: {}", to, subject);
@@ -44,15 +55,7 @@ public class EmailNotificationAdapter implements EmailNotificationPort {
         }
 
         try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, false, "UTF-8");
-            
-            helper.setFrom(fromAddress);
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(body, true); // true = HTML
-
-            mailSender.send(message);
+            mailSender.send(createMessage(new Email(to, subject, body)));
             log.info("Email sent successfully to: {}", to);
         } catch (MessagingException e) {
             log.error("Failed to send email to {}: {}", to, e.getMessage());
@@ -60,7 +63,7 @@ public class EmailNotificationAdapter implements EmailNotificationPort {
     }
 
     @Override
-    @Async
+    @Async("emailTaskExecutor")
     public void sendEmailWithAttachments(String to, String subject, String body, 
             Map<String, byte[]> attachments) {
         if (!enabled) {
@@ -89,4 +92,46 @@ public class EmailNotificationAdapter implements EmailNotificationPort {
             log.error("Failed to send email with attachments to {}: {}", to, e.getMessage());
         }
     }
+
+    @Override
+    @Async("emailTaskExecutor")
+    public void sendEmails(List<Email> emails) {
+        if (!enabled) {
+            log.debug("Email notifications disabled. Would send {} emails", emails.size());
+            return;
+        }
+
+        List<MimeMessage> messages = new ArrayList<>(emails.size());
+        for (Email email : emails) {
+            try {
+                messages.add(createMessage(email));
+            } catch (MessagingException e) {
+                log.error("Failed to build email to {}: {}", email.to(), e.getMessage());
+            }
+        }
+
+        for (int from = 0; from < messages.size(); from += batchSize) {
+            List<MimeMessage> chunk = messages.subList(from, Math.min(from + batchSize, messages.size()));
+            try {
+                mailSender.send(chunk.toArray(MimeMessage[]::new));
+                log.info("Sent {} emails over one SMTP connection", chunk.size());
+            } catch (MailSendException e) {
+                log.error("Failed to send {} of {} emails: {}",
+                        e.getFailedMessages().size(), chunk.size(), e.getMessage());
+            } catch (MailException e) {
+                log.error("Failed to send {} emails: {}", chunk.size(), e.getMessage());
+            }
+        }
+    }
+
+    private MimeMessage createMessage(Email email) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, false, "UTF-8");
+
+        helper.setFrom(fromAddress);
+        helper.setTo(email.to());
+        helper.setSubject(email.subject());
+        helper.setText(email.body(), true); // true = HTML
+        return message;
+    }
 }
@@ -0,0 +1,105 @@
+package com.fintech.wallet.infrastructure.adapter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A template parsed once into literal text and parameter slots.
+ * <p>
+ * {@code {{name}}} inserts a parameter, HTML-escaped when the template is
+ * HTML; {@code {{{name}}}} inserts it as is. Names are resolved to argument
+ * positions when the template is compiled, so rendering is a walk over the
+ * segments with no parsing, and an unknown name fails at startup rather
+ * than on the first event.
+ */
+public final class EmailTemplate {
+
+    private final String[] literals;
+    private final int[] slots;
+    private final boolean[] escaped;
+
+    private EmailTemplate(String[] literals, int[] slots, boolean[] escaped) {
+        this.literals = literals;
+        this.slots = slots;
+        this.escaped = escaped;
+    }
+
+    /**
+     * Compiles a template.
+     *
+     * @param source template text
+     * @param parameters parameter names, in the order arguments are passed to {@link #renderTo}
+     * @param html whether {@code {{name}}} values are HTML-escaped
+     * @throws IllegalArgumentException if a placeholder is unclosed or names an unknown parameter
+     */
+    public static EmailTemplate compile(String source, List<String> parameters, boolean html) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        List<Boolean> escaped = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int open = source.indexOf("{{", position);
+            if (open < 0) {
+                literals.add(source.substring(position));
+                break;
+            }
+            boolean raw = source.startsWith("{{{", open);
+            String close = raw ? "}}}" : "}}";
+            int nameStart = open + (raw ? 3 : 2);
+            int end = source.indexOf(close, nameStart);
+            if (end < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder at offset " + open);
+            }
+            String name = source.substring(nameStart, end).trim();
+            int slot = parameters.indexOf(name);
+            if (slot < 0) {
+                throw new IllegalArgumentException("Unknown template parameter: " + name);
+            }
+            literals.add(source.substring(position, open));
+            slots.add(slot);
+            escaped.add(html && !raw);
+            position = end + close.length();
+        }
+
+        int[] slotArray = new int[slots.size()];
+        boolean[] escapedArray = new boolean[escaped.size()];
+        for (int i = 0; i < slotArray.length; i++) {
+            slotArray[i] = slots.get(i);
+            escapedArray[i] = escaped.get(i);
+        }
+        return new EmailTemplate(literals.toArray(String[]::new), slotArray, escapedArray);
+    }
+
+    /**
+     * Appends the rendered template. A null argument renders as empty text.
+     */
+    public void renderTo(StringBuilder out, Object[] args) {
+        for (int i = 0; i < slots.length; i++) {
+            out.append(literals[i]);
+            Object value = args[slots[i]];
+            if (value == null) {
+                continue;
+            }
+            if (escaped[i]) {
+                appendEscaped(out, value.toString());
+            } else {
+                out.append(value);
+            }
+        }
+        out.append(literals[slots.length]);
+    }
+
+    private static void appendEscaped(StringBuilder out, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+}
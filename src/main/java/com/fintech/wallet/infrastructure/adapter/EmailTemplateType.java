@@ -0,0 +1,35 @@
+package com.fintech.wallet.infrastructure.adapter;
+
+import java.util.List;
+
+/**
+ * Email templates and the parameters each one accepts, in argument order.
+ */
+public enum EmailTemplateType {
+
+    DEPOSIT("deposit",
+            "walletId", "amount", "currency", "newBalance", "balanceCurrency", "description", "occurredAt"),
+    WITHDRAWAL("withdrawal",
+            "walletId", "amount", "currency", "newBalance", "balanceCurrency", "description", "occurredAt"),
+    TRANSFER("transfer",
+            "transactionId", "sourceWalletId", "destinationWalletId", "amount", "currency", "conversion",
+            "description", "occurredAt"),
+    TRANSFER_CONVERSION("transfer-conversion", "convertedAmount", "convertedCurrency"),
+    WALLET_CREATED("wallet-created", "walletId", "currency", "occurredAt");
+
+    private final String fileName;
+    private final List<String> parameters;
+
+    EmailTemplateType(String fileName, String... parameters) {
+        this.fileName = fileName;
+        this.parameters = List.of(parameters);
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public List<String> getParameters() {
+        return parameters;
+    }
+}
@@ -0,0 +1,128 @@
+package com.fintech.wallet.infrastructure.adapter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Email templates, compiled once at startup.
+ * <p>
+ * Each template is a file {@code <name>.html} under {@code location}, with
+ * locale variants named {@code <name>_fr.html} or {@code <name>_fr_CA.html}.
+ * The first line is the plain-text subject and the rest is the HTML body.
+ * A locale without its own file falls back to its language, then to the
+ * default file, which must exist.
+ * <p>
+ * Rendering reuses one {@link StringBuilder} per thread.
+ */
+@Component
+public class EmailTemplates {
+
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+    private final Map<EmailTemplateType, Map<String, Localized>> templates = new EnumMap<>(EmailTemplateType.class);
+    private final Map<EmailTemplateType, Map<Locale, Localized>> resolved = new EnumMap<>(EmailTemplateType.class);
+    private final ThreadLocal<StringBuilder> buffer = ThreadLocal.withInitial(() -> new StringBuilder(2048));
+
+    public EmailTemplates(@Value("${notification.email.templates:classpath*:templates/email/}") String location) {
+        ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        for (EmailTemplateType type : EmailTemplateType.values()) {
+            Map<String, Localized> variants = new HashMap<>();
+            for (Resource resource : resources(resolver, location + type.getFileName() + "*.html")) {
+                String baseName = resource.getFilename().substring(0, resource.getFilename().length() - ".html".length());
+                String suffix = baseName.substring(type.getFileName().length());
+                if (suffix.isEmpty() || suffix.startsWith("_")) {
+                    variants.put(suffix.isEmpty() ? "" : suffix.substring(1), compile(type, resource));
+                }
+            }
+            if (!variants.containsKey("")) {
+                throw new IllegalStateException("Missing email template " + location + type.getFileName() + ".html");
+            }
+            templates.put(type, Map.copyOf(variants));
+            resolved.put(type, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Renders the subject of a template.
+     *
+     * @param args arguments in the order of {@link EmailTemplateType#getParameters()}
+     */
+    public String subject(EmailTemplateType type, Locale locale, Object... args) {
+        return render(localized(type, locale).subject(), args);
+    }
+
+    /**
+     * Renders the HTML body of a template.
+     *
+     * @param args arguments in the order of {@link EmailTemplateType#getParameters()}
+     */
+    public String body(EmailTemplateType type, Locale locale, Object... args) {
+        return render(localized(type, locale).body(), args);
+    }
+
+    private String render(EmailTemplate template, Object[] args) {
+        StringBuilder out = buffer.get();
+        out.setLength(0);
+        template.renderTo(out, args);
+        String rendered = out.toString();
+        if (out.capacity() > MAX_RETAINED_BUFFER) {
+            buffer.remove();
+        }
+        return rendered;
+    }
+
+    private Localized localized(EmailTemplateType type, Locale locale) {
+        return resolved.get(type).computeIfAbsent(locale, key -> {
+            Map<String, Localized> variants = templates.get(type);
+            Localized match = variants.get(key.getLanguage() + "_" + key.getCountry());
+            if (match == null) {
+                match = variants.get(key.getLanguage());
+            }
+            return match != null ? match : variants.get("");
+        });
+    }
+
+    private static Localized compile(EmailTemplateType type, Resource resource) {
+        String source;
+        try {
+            source = resource.getContentAsString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read email template " + resource.getDescription(), e);
+        }
+        int newline = source.indexOf('\n');
+        if (newline < 0) {
+            throw new IllegalStateException("Email template has no body: " + resource.getDescription());
+        }
+        try {
+            return new Localized(
+                    EmailTemplate.compile(source.substring(0, newline).strip(), type.getParameters(), false),
+                    EmailTemplate.compile(source.substring(newline + 1), type.getParameters(), true));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid email template " + resource.getDescription() + ": "
+                    + e.getMessage(), e);
+        }
+    }
+
+    private static Resource[] resources(ResourcePatternResolver resolver, String pattern) {
+        try {
+            return resolver.getResources(pattern);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list email templates " + pattern, e);
+        }
+    }
+
+    private record Localized(EmailTemplate subject, EmailTemplate body) {
+    }
+}
@@ -0,0 +1,337 @@
+package com.fintech.wallet.infrastructure.adapter;
+
+import com.fintech.wallet.application.port.out.LedgerArchivePort;
+import com.fintech.wallet.domain.model.LedgerEntry;
+import com.fintech.wallet.domain.model.LedgerEntryType;
+import com.fintech.wallet.domain.valueobject.Currency;
+import com.fintech.wallet.domain.valueobject.LedgerEntryId;
+import com.fintech.wallet.domain.valueobject.Money;
+import com.fintech.wallet.domain.valueobject.TransactionId;
+import com.fintech.wallet.domain.valueobject.UuidV7;
+import com.fintech.wallet.domain.valueobject.WalletId;
+import com.fintech.wallet.infrastructure.archive.LedgerSegment;
+import com.fintech.wallet.infrastructure.archive.LedgerSegmentWriter;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Moves closed months of the ledger into immutable segment files and reads
+ * them back for reports.
+ * <p>
+ * Archiving a month writes every wallet's entries of that month to one
+ * segment, together with the wallet's balance before the month. In the same
+ * transaction all hot rows up to the end of the month are replaced by one
+ * "Balance carried forward" row per wallet, timestamped just before the
+ * month ends, so balances and later statements are unchanged.
+ * Months are archived oldest first and without gaps.
+ */
+@Component
+public class LedgerArchiveAdapter implements LedgerArchivePort {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerArchiveAdapter.class);
+
+    static final String CARRIED_FORWARD = "Balance carried forward";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Path directory;
+    private final boolean enabled;
+    private final Map<String, LedgerSegment> openSegments = new ConcurrentHashMap<>();
+
+    public LedgerArchiveAdapter(
+            DataSource dataSource,
+            @Value("${ledger.archive.directory:./ledger-archive}") String directory,
+            @Value("${ledger.archive.enabled:false}") boolean enabled) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.directory = Paths.get(directory);
+        this.enabled = enabled;
+    }
+
+    @Override
+    public Optional<Instant> archivedUntil() {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Timestamp end = jdbcTemplate.queryForObject(
+                "SELECT MAX(period_end) FROM ledger_archive_segments", Timestamp.class);
+        return Optional.ofNullable(end).map(Timestamp::toInstant);
+    }
+
+    @Override
+    public List<LedgerEntry> loadEntries(WalletId walletId, Instant from, Instant to) {
+        List<LedgerEntry> entries = new ArrayList<>();
+        for (SegmentInfo info : segments()) {
+            if (info.end().isAfter(from) && info.start().isBefore(to)) {
+                for (LedgerEntry entry : segment(info).entries(walletId)) {
+                    if (!entry.getCreatedAt().isBefore(from) && entry.getCreatedAt().isBefore(to)) {
+                        entries.add(entry);
+                    }
+                }
+            }
+        }
+        return entries;
+    }
+
+    @Override
+    public BigDecimal sumBefore(WalletId walletId, Instant before) {
+        for (SegmentInfo info : segments()) {
+            if (!before.isBefore(info.start()) && before.isBefore(info.end())) {
+                LedgerSegment segment = segment(info);
+                BigDecimal sum = segment.openingBalance(walletId);
+                for (LedgerEntry entry : segment.entries(walletId)) {
+                    if (entry.getCreatedAt().isBefore(before)) {
+                        sum = sum.add(signed(entry));
+                    }
+                }
+                return sum;
+            }
+        }
+        // Before the first archived month: the ledger had no entries yet
+        return BigDecimal.ZERO;
+    }
+
+    /**
+     * The oldest month that can be archived while keeping everything from
+     * {@code keepFrom} onwards in the hot table, if any.
+     */
+    public Optional<YearMonth> nextArchivableMonth(YearMonth keepFrom) {
+        Optional<Instant> archivedUntil = archivedUntil();
+        Instant next = archivedUntil.orElseGet(() -> {
+            Timestamp oldest = jdbcTemplate.queryForObject(
+                    "SELECT MIN(created_at) FROM ledger_entries", Timestamp.class);
+            return oldest == null ? null : oldest.toInstant();
+        });
+        if (next == null) {
+            return Optional.empty();
+        }
+        YearMonth month = YearMonth.from(next.atZone(ZoneOffset.UTC));
+        return month.isBefore(keepFrom) ? Optional.of(month) : Optional.empty();
+    }
+
+    /**
+     * Archives one month. Must be the month following the last archived one.
+     */
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public void archive(YearMonth month) {
+        Instant start = month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+        Instant end = month.plusMonths(1).atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+        Optional<Instant> archivedUntil = archivedUntil();
+        if (archivedUntil.isPresent() && !archivedUntil.get().equals(start)) {
+            throw new IllegalStateException("Archive ends at " + archivedUntil.get() + ", cannot archive " + month);
+        }
+
+        String fileName = "ledger-" + month + ".seg";
+        Path target = directory.resolve(fileName);
+        try {
+            Files.createDirectories(directory);
+            SegmentBuilder builder;
+            long checksum;
+            try (LedgerSegmentWriter writer = new LedgerSegmentWriter(target)) {
+                builder = new SegmentBuilder(writer, start);
+                jdbcTemplate.query(connection -> {
+                    var statement = connection.prepareStatement("""
+                            SELECT id, wallet_id, transaction_id, entry_type, amount, currency, description, created_at
+                            FROM ledger_entries WHERE created_at < ?
+                            ORDER BY wallet_id, created_at, id""");
+                    statement.setFetchSize(5000);
+                    statement.setTimestamp(1, Timestamp.from(end));
+                    return statement;
+                }, rs -> {
+                    try {
+                        builder.add(LedgerEntry.builder()
+                                .id(LedgerEntryId.of(rs.getObject("id", UUID.class)))
+                                .walletId(WalletId.of(rs.getObject("wallet_id", UUID.class)))
+                                .transactionId(TransactionId.of(rs.getObject("transaction_id", UUID.class)))
+                                .type(LedgerEntryType.valueOf(rs.getString("entry_type")))
+                                .amount(Money.of(rs.getBigDecimal("amount"), Currency.of(rs.getString("currency"))))
+                                .description(rs.getString("description"))
+                                .createdAt(rs.getTimestamp("created_at").toInstant())
+                                .build());
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                builder.finishWallet();
+                checksum = writer.finish();
+            }
+
+            int deleted = jdbcTemplate.update("DELETE FROM ledger_entries WHERE created_at < ?", Timestamp.from(end));
+            if (deleted != builder.rows) {
+                throw new IllegalStateException("Read " + builder.rows + " ledger rows before " + end
+                        + " but deleted " + deleted);
+            }
+            insertCarriedForward(builder.closingBalances, end);
+            jdbcTemplate.update("""
+                    INSERT INTO ledger_archive_segments
+                        (period_start, period_end, file_name, wallet_count, entry_count, checksum, archived_at)
+                    VALUES (?, ?, ?, ?, ?, ?, ?)""",
+                    Timestamp.from(start), Timestamp.from(end), fileName, builder.wallets, builder.entries,
+                    checksum, Timestamp.from(Instant.now()));
+
+            log.info("Archived {}: {} entries of {} wallets into {}", month, builder.entries, builder.wallets, target);
+        } catch (IOException e) {
+            deleteQuietly(target);
+            throw new UncheckedIOException("Failed to archive " + month, e);
+        } catch (RuntimeException e) {
+            deleteQuietly(target);
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void closeSegments() {
+        openSegments.values().forEach(segment -> {
+            try {
+                segment.close();
+            } catch (IOException e) {
+                log.debug("Failed to close segment: {}", e.getMessage());
+            }
+        });
+    }
+
+    private void insertCarriedForward(List<Balance> balances, Instant end) {
+        UUID transactionId = UuidV7.generate();
+        // TIMESTAMP has microsecond precision; keep the row inside the archived month
+        Timestamp createdAt = Timestamp.from(end.minusNanos(1000));
+        List<Object[]> rows = new ArrayList<>(balances.size());
+        for (Balance balance : balances) {
+            if (balance.amount().signum() != 0) {
+                rows.add(new Object[] {
+                        UuidV7.generate(), balance.walletId(), transactionId,
+                        balance.amount().signum() > 0 ? "CREDIT" : "DEBIT",
+                        balance.amount().abs(), balance.currency(), CARRIED_FORWARD, createdAt});
+            }
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO ledger_entries
+                    (id, wallet_id, transaction_id, entry_type, amount, currency, description, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)""", rows);
+    }
+
+    private List<SegmentInfo> segments() {
+        if (!enabled) {
+            return List.of();
+        }
+        return jdbcTemplate.query(
+                "SELECT period_start, period_end, file_name, checksum FROM ledger_archive_segments ORDER BY period_start",
+                (rs, rowNum) -> new SegmentInfo(rs.getTimestamp("period_start").toInstant(),
+                        rs.getTimestamp("period_end").toInstant(), rs.getString("file_name"), rs.getLong("checksum")));
+    }
+
+    private LedgerSegment segment(SegmentInfo info) {
+        return openSegments.computeIfAbsent(info.fileName(), fileName -> {
+            Path path = directory.resolve(fileName);
+            try {
+                LedgerSegment segment = LedgerSegment.open(path);
+                if (!segment.verify(info.checksum())) {
+                    segment.close();
+                    throw new IllegalStateException("Archive segment " + path + " is corrupt");
+                }
+                return segment;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Archive segment " + path + " is unreadable", e);
+            }
+        });
+    }
+
+    private static BigDecimal signed(LedgerEntry entry) {
+        return entry.isCredit() ? entry.getAmount().getAmount() : entry.getAmount().getAmount().negate();
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete {}: {}", path, e.getMessage());
+        }
+    }
+
+    private record SegmentInfo(Instant start, Instant end, String fileName, long checksum) {
+    }
+
+    private record Balance(UUID walletId, String currency, BigDecimal amount) {
+    }
+
+    /**
+     * Consumes hot rows ordered by wallet and time. Rows before the month
+     * are carried-forward balances and become the wallet's opening balance.
+     */
+    private static final class SegmentBuilder {
+        private final LedgerSegmentWriter writer;
+        private final Instant start;
+        private final List<Balance> closingBalances = new ArrayList<>();
+        private WalletId wallet;
+        private String currency;
+        private BigDecimal opening;
+        private BigDecimal closing;
+        private boolean begun;
+        private int rows;
+        private int wallets;
+        private long entries;
+
+        private SegmentBuilder(LedgerSegmentWriter writer, Instant start) {
+            this.writer = writer;
+            this.start = start;
+        }
+
+        void add(LedgerEntry entry) throws IOException {
+            if (!entry.getWalletId().equals(wallet)) {
+                finishWallet();
+                wallet = entry.getWalletId();
+                currency = entry.getAmount().getCurrency().getCode();
+                opening = BigDecimal.ZERO;
+                closing = BigDecimal.ZERO;
+                begun = false;
+            }
+            rows++;
+            BigDecimal signed = signed(entry);
+            closing = closing.add(signed);
+            if (entry.getCreatedAt().isBefore(start)) {
+                opening = opening.add(signed);
+                return;
+            }
+            if (!begun) {
+                writer.beginWallet(wallet.getValue(), currency, opening);
+                begun = true;
+            }
+            writer.append(entry);
+            entries++;
+        }
+
+        void finishWallet() throws IOException {
+            if (wallet == null) {
+                return;
+            }
+            if (!begun) {
+                // No activity this month: keep the carried-forward balance in the index
+                writer.beginWallet(wallet.getValue(), currency, opening);
+            }
+            closingBalances.add(new Balance(wallet.getValue(), currency, closing));
+            wallets++;
+            wallet = null;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.fintech.wallet.infrastructure.adapter;
+
+import com.fintech.wallet.application.port.out.DomainEventPublisher;
+import com.fintech.wallet.domain.event.DomainEvent;
+import com.fintech.wallet.infrastructure.persistence.entity.OutboxEventJpaEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Publishes domain events by writing them to the transactional outbox.
+ * <p>
+ * The row joins the caller's transaction, so an event is stored if and only
+ * if the change that raised it commits. The
+ * {@link com.fintech.wallet.infrastructure.scheduler.OutboxRelay} delivers it
+ * to listeners afterwards.
+ */
+@Component
+public class OutboxEventPublisherAdapter implements DomainEventPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxEventPublisherAdapter.class);
+
+    private final DomainEventSerializer serializer;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public OutboxEventPublisherAdapter(DomainEventSerializer serializer) {
+        this.serializer = serializer;
+    }
+
+    @Override
+    @Transactional
+    public void publish(DomainEvent event) {
+        OutboxEventJpaEntity entity = OutboxEventJpaEntity.builder()
+                .eventId(event.getEventId())
+                .eventType(event.getEventType())
+                .aggregateId(serializer.aggregateId(event))
+                .payload(serializer.serialize(event))
+                .occurredAt(event.getOccurredAt())
+                .build();
+        entityManager.persist(entity);
+        log.debug("Stored domain event in outbox: {} [{}]", event.getEventType(), event.getEventId());
+    }
+}
@@ -5,30 +5,63 @@ import com.fintech.wallet.domain.model.ScheduledPayment;
 import com.fintech.wallet.domain.model.ScheduledPaymentStatus;
 import com.fintech.wallet.domain.valueobject.ScheduledPaymentId;
 import com.fintech.wallet.domain.valueobject.WalletId;
+import com.fintech.wallet.infrastructure.persistence.entity.ScheduledPaymentJpaEntity;
 import com.fintech.wallet.infrastructure.persistence.entity.ScheduledPaymentStatusJpa;
 import com.fintech.wallet.infrastructure.persistence.mapper.ScheduledPaymentMapper;
 import com.fintech.wallet.infrastructure.persistence.repository.ScheduledPaymentJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Persistence adapter for scheduled payments.
+ * Due payments are claimed with row-level leases so that every node in a
+ * cluster can execute a share of the run. Leases are owned by the node name
+ * plus an id of this process, so a restarted node can tell the leases of its
+ * previous process from those of work it is running now.
  */
 @Component
 public class ScheduledPaymentPersistenceAdapter implements ScheduledPaymentPort {
 
+    private static final Logger log = LoggerFactory.getLogger(ScheduledPaymentPersistenceAdapter.class);
+
     private final ScheduledPaymentJpaRepository repository;
     private final ScheduledPaymentMapper mapper;
+    private final String nodePrefix;
+    private final String leaseOwner;
+    private final int pageSize;
+    private final Duration leaseDuration;
 
     public ScheduledPaymentPersistenceAdapter(
             ScheduledPaymentJpaRepository repository,
-            ScheduledPaymentMapper mapper) {
+            ScheduledPaymentMapper mapper,
+            @Value("${scheduler.payments.node-id:}") String nodeId,
+            @Value("${scheduler.payments.page-size:500}") int pageSize,
+            @Value("${scheduler.payments.lease-duration:PT10M}") Duration leaseDuration) {
         this.repository = repository;
         this.mapper = mapper;
+        this.nodePrefix = (nodeId.isBlank() ? ManagementFactory.getRuntimeMXBean().getName() : nodeId) + "#";
+        this.leaseOwner = nodePrefix + UUID.randomUUID();
+        this.pageSize = pageSize;
+        this.leaseDuration = leaseDuration;
     }
 
     @Override
@@ -36,6 +69,38 @@ public class ScheduledPaymentPersistenceAdapter implements ScheduledPaymentPort
         repository.save(mapper.toEntity(payment));
     }
 
+    @Override
+    public void saveClaimed(ScheduledPayment payment) {
+        releaseLeases(List.of(payment.getId().getValue()));
+        repository.save(mapper.toEntity(payment));
+    }
+
+    @Override
+    public void saveAllClaimed(List<ScheduledPayment> payments) {
+        List<UUID> ids = payments.stream().map(p -> p.getId().getValue()).toList();
+        if (ids.isEmpty()) {
+            return;
+        }
+        releaseLeases(ids);
+        // Load the rows up front so the merges below need no per-row SELECT
+        repository.findAllById(ids);
+        repository.saveAll(payments.stream().map(mapper::toEntity).toList());
+    }
+
+    /**
+     * Releases this process's leases on the given payments, failing if any of
+     * them is no longer held. The update also locks the rows, so no other node
+     * can claim them before the caller's transaction ends.
+     */
+    private void releaseLeases(List<UUID> ids) {
+        int released = repository.releaseLeases(ids, leaseOwner);
+        if (released != ids.size()) {
+            throw new OptimisticLockingFailureException(String.format(
+                    "Lease on %d of %d scheduled payments was lost by %s", ids.size() - released, ids.size(),
+                    leaseOwner));
+        }
+    }
+
     @Override
     public Optional<ScheduledPayment> findById(ScheduledPaymentId id) {
         return repository.findById(id.getValue())
@@ -51,13 +116,66 @@ public class ScheduledPaymentPersistenceAdapter implements ScheduledPaymentPort
     }
 
     @Override
-    public List<ScheduledPayment> findDuePayments(LocalDate date) {
-        return repository.findDuePayments(date)
+    public List<ScheduledPayment> findActiveByWalletId(WalletId walletId) {
+        return repository.findActiveByWalletId(walletId.getValue())
                 .stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<ScheduledPayment> findTimedPayments(LocalDateTime from, LocalDateTime to) {
+        // One query per calendar day, so a window spanning midnight is covered
+        List<ScheduledPayment> payments = new ArrayList<>();
+        for (LocalDate date = from.toLocalDate(); !date.isAfter(to.toLocalDate()); date = date.plusDays(1)) {
+            LocalTime fromTime = date.equals(from.toLocalDate()) ? from.toLocalTime() : LocalTime.MIN;
+            LocalTime toTime = date.equals(to.toLocalDate()) ? to.toLocalTime() : LocalTime.MAX;
+            repository.findTimedPayments(date, fromTime, toTime).stream()
+                    .map(mapper::toDomain)
+                    .forEach(payments::add);
+        }
+        return payments;
+    }
+
+    @Override
+    @Transactional
+    public List<ScheduledPayment> claimDuePayments(LocalDateTime dueAt, Instant modifiedBefore) {
+        List<UUID> ids = repository.lockDuePaymentIds(
+                dueAt.toLocalDate(), dueAt.toLocalTime(), modifiedBefore, leaseOwner, pageSize);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        repository.leasePayments(ids, leaseOwner, leaseDuration.toSeconds());
+        log.debug("Node {} claimed {} due scheduled payments", leaseOwner, ids.size());
+
+        // Preserve the claim order (source wallet, then execution date)
+        Map<UUID, ScheduledPaymentJpaEntity> byId = repository.findAllById(ids).stream()
+                .collect(Collectors.toMap(ScheduledPaymentJpaEntity::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public Optional<ScheduledPayment> claimDuePayment(ScheduledPaymentId id, LocalDateTime dueAt) {
+        List<UUID> ids = repository.lockDuePaymentId(
+                id.getValue(), dueAt.toLocalDate(), dueAt.toLocalTime(), leaseOwner);
+        if (ids.isEmpty()) {
+            return Optional.empty();
+        }
+        repository.leasePayments(ids, leaseOwner, leaseDuration.toSeconds());
+        return repository.findById(id.getValue()).map(mapper::toDomain);
+    }
+
+    @Override
+    @Transactional
+    public int releaseClaims() {
+        return repository.releaseLeftoverLeases(nodePrefix, leaseOwner);
+    }
+
     @Override
     public List<ScheduledPayment> findByStatus(ScheduledPaymentStatus status) {
         ScheduledPaymentStatusJpa statusJpa = ScheduledPaymentStatusJpa.valueOf(status.name());
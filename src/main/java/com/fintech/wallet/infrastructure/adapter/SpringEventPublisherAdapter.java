@@ -1,6 +1,5 @@
 package com.fintech.wallet.infrastructure.adapter;
 
-import com.fintech.wallet.application.port.out.DomainEventPublisher;
 import com.fintech.wallet.domain.event.DomainEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,9 +8,13 @@ import org.springframework.stereotype.Component;
 
 /**
  * Adapter that bridges domain events to Spring's event system.
+ * <p>
+ * Use cases do not call this directly: they publish into the outbox, and the
+ * {@link com.fintech.wallet.infrastructure.scheduler.OutboxRelay} hands each
+ * committed event to this adapter for delivery to the Spring listeners.
  */
 @Component
-public class SpringEventPublisherAdapter implements DomainEventPublisher {
+public class SpringEventPublisherAdapter {
 
     private static final Logger log = LoggerFactory.getLogger(SpringEventPublisherAdapter.class);
 
@@ -21,7 +24,6 @@ public class SpringEventPublisherAdapter implements DomainEventPublisher {
         this.applicationEventPublisher = applicationEventPublisher;
     }
 
-    @Override
     public void publish(DomainEvent event) {
         log.info("Publishing domain event: {} [{}]", event.getEventType(), event.getEventId());
         applicationEventPublisher.publishEvent(event);
@@ -1,26 +1,46 @@
 package com.fintech.wallet.infrastructure.adapter;
 
 import com.fintech.wallet.application.port.out.SaveTransactionPort;
+import com.fintech.wallet.application.port.out.TransactionSearchPort;
 import com.fintech.wallet.domain.model.Transaction;
 import com.fintech.wallet.infrastructure.persistence.entity.TransactionJpaEntity;
+import com.fintech.wallet.infrastructure.persistence.entity.TransactionStatusJpa;
 import com.fintech.wallet.infrastructure.persistence.mapper.TransactionMapper;
 import com.fintech.wallet.infrastructure.persistence.repository.TransactionJpaRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
 /**
  * Persistence adapter implementing transaction-related output ports.
  * Bridges domain and infrastructure layers.
  */
 @Component
-public class TransactionPersistenceAdapter implements SaveTransactionPort {
+public class TransactionPersistenceAdapter implements SaveTransactionPort, TransactionSearchPort {
+
+    private static final String SOURCE_WALLET_ID = "sourceWalletId";
+    private static final String DESTINATION_WALLET_ID = "destinationWalletId";
 
     private final TransactionJpaRepository transactionRepository;
     private final TransactionMapper transactionMapper;
+    private final EntityManager entityManager;
 
     public TransactionPersistenceAdapter(TransactionJpaRepository transactionRepository,
-            TransactionMapper transactionMapper) {
+            TransactionMapper transactionMapper,
+            EntityManager entityManager) {
         this.transactionRepository = transactionRepository;
         this.transactionMapper = transactionMapper;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -28,4 +48,82 @@ public class TransactionPersistenceAdapter implements SaveTransactionPort {
         TransactionJpaEntity entity = transactionMapper.toJpaEntity(transaction);
         transactionRepository.save(entity);
     }
+
+    /**
+     * Persists new transactions directly so Hibernate can batch the inserts
+     * instead of merging (and selecting) each assigned-ID entity.
+     */
+    @Override
+    public void saveAll(List<Transaction> transactions) {
+        transactions.forEach(transaction -> entityManager.persist(transactionMapper.toJpaEntity(transaction)));
+    }
+
+    @Override
+    public List<Transaction> findOutgoing(TransactionFilter filter, int limit) {
+        return search(filter, SOURCE_WALLET_ID, DESTINATION_WALLET_ID, limit);
+    }
+
+    @Override
+    public List<Transaction> findIncoming(TransactionFilter filter, int limit) {
+        return search(filter, DESTINATION_WALLET_ID, SOURCE_WALLET_ID, limit);
+    }
+
+    /**
+     * Builds the query from the filters that are set only, so each search is
+     * planned as a range scan over the matching composite index, e.g.
+     * (source_wallet_id, created_at DESC, id DESC) or, with a counterparty,
+     * (source_wallet_id, destination_wallet_id, created_at DESC, id DESC).
+     */
+    private List<Transaction> search(TransactionFilter filter, String walletSide, String counterpartySide,
+                                     int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TransactionJpaEntity> query = cb.createQuery(TransactionJpaEntity.class);
+        Root<TransactionJpaEntity> transaction = query.from(TransactionJpaEntity.class);
+        Path<Instant> createdAt = transaction.get("createdAt");
+        Path<UUID> id = transaction.get("id");
+        Path<BigDecimal> amount = transaction.get("amount");
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(transaction.get(walletSide), filter.walletId().getValue()));
+        if (filter.counterpartyWalletId() != null) {
+            predicates.add(cb.equal(transaction.get(counterpartySide), filter.counterpartyWalletId().getValue()));
+        }
+        if (filter.minAmount() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(amount, filter.minAmount()));
+        }
+        if (filter.maxAmount() != null) {
+            predicates.add(cb.lessThanOrEqualTo(amount, filter.maxAmount()));
+        }
+        if (filter.from() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(createdAt, filter.from()));
+        }
+        if (filter.to() != null) {
+            predicates.add(cb.lessThan(createdAt, filter.to()));
+        }
+        if (filter.status() != null) {
+            predicates.add(cb.equal(transaction.get("status"), TransactionStatusJpa.valueOf(filter.status().name())));
+        }
+        if (filter.currency() != null) {
+            predicates.add(cb.equal(transaction.get("currency"), filter.currency().getCode()));
+        }
+        if (filter.cursorCreatedAt() != null && filter.cursorId() != null) {
+            // Redundant with the OR below, but a plain bound lets the index scan start at the cursor
+            predicates.add(cb.lessThanOrEqualTo(createdAt, filter.cursorCreatedAt()));
+            predicates.add(cb.or(
+                    cb.lessThan(createdAt, filter.cursorCreatedAt()),
+                    cb.and(cb.equal(createdAt, filter.cursorCreatedAt()),
+                            cb.lessThan(id, filter.cursorId().getValue()))));
+        }
+
+        query.select(transaction)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(createdAt), cb.desc(id));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList()
+                .stream()
+                .map(transactionMapper::toDomain)
+                .toList();
+    }
 }
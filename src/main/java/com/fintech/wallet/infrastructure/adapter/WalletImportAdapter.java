@@ -0,0 +1,144 @@
+package com.fintech.wallet.infrastructure.adapter;
+
+import com.fintech.wallet.application.port.out.WalletImportPort;
+import com.fintech.wallet.domain.model.LedgerEntry;
+import com.fintech.wallet.domain.model.Wallet;
+import com.fintech.wallet.domain.valueobject.WalletId;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Writes imported wallets with PostgreSQL COPY instead of one JPA insert per row.
+ * <p>
+ * Each chunk is copied into a temporary staging table, then moved into
+ * wallets and ledger_entries with two set-based statements. Wallets that
+ * already exist are skipped via ON CONFLICT and reported back, so a chunk
+ * never fails on a duplicate ID. Requires PostgreSQL.
+ */
+@Component
+public class WalletImportAdapter implements WalletImportPort {
+
+    private static final String CREATE_STAGING = """
+            CREATE TEMP TABLE wallet_import (
+                id UUID NOT NULL,
+                currency VARCHAR(3) NOT NULL,
+                created_at TIMESTAMP NOT NULL,
+                entry_id UUID,
+                transaction_id UUID,
+                amount NUMERIC(19, 2),
+                description VARCHAR(255),
+                entry_created_at TIMESTAMP,
+                inserted BOOLEAN NOT NULL DEFAULT FALSE
+            ) ON COMMIT DROP
+            """;
+
+    private static final String COPY_STAGING = """
+            COPY wallet_import (id, currency, created_at, entry_id, transaction_id, amount,
+                                description, entry_created_at)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+
+    private static final String INSERT_WALLETS = """
+            WITH ins AS (
+                INSERT INTO wallets (id, currency, created_at)
+                SELECT id, currency, created_at FROM wallet_import
+                ON CONFLICT (id) DO NOTHING
+                RETURNING id
+            )
+            UPDATE wallet_import s SET inserted = TRUE FROM ins WHERE s.id = ins.id
+            """;
+
+    private static final String INSERT_ENTRIES = """
+            INSERT INTO ledger_entries (id, wallet_id, transaction_id, entry_type, amount, currency,
+                                        description, created_at)
+            SELECT entry_id, id, transaction_id, 'CREDIT', amount, currency, description, entry_created_at
+            FROM wallet_import
+            WHERE inserted AND entry_id IS NOT NULL
+            """;
+
+    private static final String SELECT_SKIPPED = "SELECT id FROM wallet_import WHERE NOT inserted";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public WalletImportAdapter(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    @Transactional
+    public Set<WalletId> insertNew(List<Wallet> wallets) {
+        if (wallets.isEmpty()) {
+            return Set.of();
+        }
+
+        jdbcTemplate.execute(CREATE_STAGING);
+        jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            try {
+                return copyManager.copyIn(COPY_STAGING, new StringReader(toCsv(wallets)));
+            } catch (IOException e) {
+                throw new UncheckedIOException("COPY into wallet_import failed", e);
+            }
+        });
+        jdbcTemplate.update(INSERT_WALLETS);
+        jdbcTemplate.update(INSERT_ENTRIES);
+
+        Set<WalletId> skipped = new HashSet<>();
+        jdbcTemplate.query(SELECT_SKIPPED,
+                rs -> { skipped.add(WalletId.of(rs.getObject(1, UUID.class))); });
+        return skipped;
+    }
+
+    /**
+     * One staging row per wallet; a wallet without entries gets empty entry columns.
+     * At most one entry per wallet is supported, which is all an import creates.
+     */
+    static String toCsv(List<Wallet> wallets) {
+        StringBuilder csv = new StringBuilder(wallets.size() * 200);
+        for (Wallet wallet : wallets) {
+            List<LedgerEntry> entries = wallet.getLedgerEntries();
+            if (entries.size() > 1) {
+                throw new IllegalArgumentException("Imported wallet " + wallet.getId() + " has more than one entry");
+            }
+            csv.append(wallet.getId()).append(',')
+                    .append(wallet.getCurrency().getCode()).append(',')
+                    .append(timestamp(wallet.getCreatedAt())).append(',');
+            if (entries.isEmpty()) {
+                csv.append(",,,,");
+            } else {
+                LedgerEntry entry = entries.get(0);
+                csv.append(entry.getId().getValue()).append(',')
+                        .append(entry.getTransactionId().getValue()).append(',')
+                        .append(entry.getAmount().getAmount().toPlainString()).append(',')
+                        .append(quote(entry.getDescription())).append(',')
+                        .append(timestamp(entry.getCreatedAt()));
+            }
+            csv.append('\n');
+        }
+        return csv.toString();
+    }
+
+    // Same wall-clock rendering as Timestamp.from() bound through JDBC, so imported rows line up with JPA ones
+    private static String timestamp(Instant instant) {
+        return Timestamp.from(instant).toString();
+    }
+
+    private static String quote(String value) {
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
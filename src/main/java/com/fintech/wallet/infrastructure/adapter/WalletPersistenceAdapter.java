@@ -1,29 +1,53 @@
 package com.fintech.wallet.infrastructure.adapter;
 
+import com.fintech.wallet.application.port.out.LedgerQueryPort;
 import com.fintech.wallet.application.port.out.LoadWalletPort;
 import com.fintech.wallet.application.port.out.SaveWalletPort;
+import com.fintech.wallet.domain.model.LedgerEntry;
 import com.fintech.wallet.domain.model.Wallet;
+import com.fintech.wallet.domain.valueobject.Currency;
+import com.fintech.wallet.domain.valueobject.Money;
 import com.fintech.wallet.domain.valueobject.WalletId;
+import com.fintech.wallet.infrastructure.persistence.entity.LedgerEntryJpaEntity;
 import com.fintech.wallet.infrastructure.persistence.entity.WalletJpaEntity;
 import com.fintech.wallet.infrastructure.persistence.mapper.WalletMapper;
+import com.fintech.wallet.infrastructure.persistence.repository.LedgerEntryJpaRepository;
 import com.fintech.wallet.infrastructure.persistence.repository.WalletJpaRepository;
+import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Persistence adapter implementing wallet-related output ports.
  * Bridges domain and infrastructure layers.
  */
 @Component
-public class WalletPersistenceAdapter implements LoadWalletPort, SaveWalletPort {
+public class WalletPersistenceAdapter implements LoadWalletPort, SaveWalletPort, LedgerQueryPort {
+
+    private static final int BALANCE_QUERY_CHUNK = 1000;
 
     private final WalletJpaRepository walletRepository;
+    private final LedgerEntryJpaRepository ledgerEntryRepository;
     private final WalletMapper walletMapper;
+    private final EntityManager entityManager;
 
-    public WalletPersistenceAdapter(WalletJpaRepository walletRepository, WalletMapper walletMapper) {
+    public WalletPersistenceAdapter(WalletJpaRepository walletRepository,
+            LedgerEntryJpaRepository ledgerEntryRepository, WalletMapper walletMapper,
+            EntityManager entityManager) {
         this.walletRepository = walletRepository;
+        this.ledgerEntryRepository = ledgerEntryRepository;
         this.walletMapper = walletMapper;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -32,6 +56,22 @@ public class WalletPersistenceAdapter implements LoadWalletPort, SaveWalletPort
                 .map(walletMapper::toDomain);
     }
 
+    @Override
+    public Map<WalletId, Money> loadBalances(Collection<WalletId> walletIds) {
+        List<UUID> ids = walletIds.stream().map(WalletId::getValue).toList();
+        Map<WalletId, Money> balances = new HashMap<>();
+        // Keep IN lists bounded for large nightly runs
+        for (int from = 0; from < ids.size(); from += BALANCE_QUERY_CHUNK) {
+            List<UUID> chunk = new ArrayList<>(ids.subList(from, Math.min(from + BALANCE_QUERY_CHUNK, ids.size())));
+            for (WalletJpaRepository.WalletBalanceView view : walletRepository.findBalances(chunk)) {
+                // A ledger can only go negative through corrupt data; mirror Wallet.calculateBalance
+                BigDecimal amount = view.getBalance().max(BigDecimal.ZERO);
+                balances.put(WalletId.of(view.getWalletId()), Money.of(amount, Currency.of(view.getCurrency())));
+            }
+        }
+        return balances;
+    }
+
     @Override
     public void save(Wallet wallet) {
         Optional<WalletJpaEntity> existingEntity = walletRepository.findById(wallet.getId().getValue());
@@ -54,4 +94,45 @@ public class WalletPersistenceAdapter implements LoadWalletPort, SaveWalletPort
             walletRepository.save(newEntity);
         }
     }
+
+    /**
+     * Persists entries against a wallet reference, so neither the wallet nor
+     * its existing ledger is loaded, and the inserts can be JDBC-batched.
+     */
+    @Override
+    public void appendLedgerEntries(List<LedgerEntry> entries) {
+        for (LedgerEntry ledgerEntry : entries) {
+            LedgerEntryJpaEntity entity = walletMapper.toLedgerEntryJpaEntity(ledgerEntry);
+            entity.setWallet(entityManager.getReference(WalletJpaEntity.class, ledgerEntry.getWalletId().getValue()));
+            entityManager.persist(entity);
+        }
+    }
+
+    @Override
+    public List<LedgerEntry> loadEntries(WalletId walletId, Instant from, Instant to) {
+        return ledgerEntryRepository.findByWalletIdAndPeriod(walletId.getValue(), from, to).stream()
+                .map(walletMapper::toLedgerEntryDomain)
+                .toList();
+    }
+
+    @Override
+    public BigDecimal sumBefore(WalletId walletId, Instant before) {
+        return ledgerEntryRepository.sumByWalletIdBefore(walletId.getValue(), before);
+    }
+
+    @Override
+    public List<LedgerEntry> searchEntries(WalletId walletId, List<String> terms, int limit) {
+        return ledgerEntryRepository.searchDescriptions(walletId.getValue(), prefixQuery(terms), limit).stream()
+                .map(walletMapper::toLedgerEntryDomain)
+                .toList();
+    }
+
+    /**
+     * Each term becomes a prefix match, and all must match: "rent jan" finds "Rent January".
+     */
+    static String prefixQuery(List<String> terms) {
+        return terms.stream()
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+    }
 }
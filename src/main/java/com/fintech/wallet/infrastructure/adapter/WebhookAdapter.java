@@ -1,84 +1,164 @@
 package com.fintech.wallet.infrastructure.adapter;
 
 import com.fintech.wallet.application.port.out.WebhookPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-import java.time.Instant;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Webhook adapter for sending notifications to third-party integrations.
+ * <p>
+ * Deliveries never hold a thread while waiting: each attempt is queued on one
+ * lane per endpoint, and a lane sends at most
+ * {@code max-concurrency-per-endpoint} requests at a time, so a slow receiver
+ * only backs up its own lane. Retries are scheduled by the persisted delivery
+ * queue, not here. When a lane's queue is full the attempt is rejected straight
+ * away, without being made, and is counted as dropped.
  */
 @Component
 public class WebhookAdapter implements WebhookPort {
 
     private static final Logger log = LoggerFactory.getLogger(WebhookAdapter.class);
-    private static final Duration TIMEOUT = Duration.ofSeconds(10);
 
     private final WebClient webClient;
+    private final Duration timeout;
+    private final int maxConcurrencyPerEndpoint;
+    private final int queueCapacity;
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+    private final Counter deliveredCounter;
+    private final Counter failedCounter;
+    private final Counter droppedCounter;
+    private final Timer deliveryTimer;
 
-    public WebhookAdapter(WebClient.Builder webClientBuilder) {
+    public WebhookAdapter(
+            WebClient.Builder webClientBuilder,
+            MeterRegistry meterRegistry,
+            @Value("${app.webhook.timeout-seconds:30}") long timeoutSeconds,
+            @Value("${app.webhook.max-concurrency-per-endpoint:8}") int maxConcurrencyPerEndpoint,
+            @Value("${app.webhook.queue-capacity:1000}") int queueCapacity) {
         this.webClient = webClientBuilder.build();
+        this.timeout = Duration.ofSeconds(timeoutSeconds);
+        this.maxConcurrencyPerEndpoint = maxConcurrencyPerEndpoint;
+        this.queueCapacity = queueCapacity;
+        this.deliveredCounter = Counter.builder("webhook.deliveries")
+                .tag("outcome", "success")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("webhook.deliveries")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("webhook.deliveries")
+                .tag("outcome", "dropped")
+                .register(meterRegistry);
+        this.deliveryTimer = Timer.builder("webhook.delivery")
+                .description("Time from queueing a webhook attempt to its outcome")
+                .register(meterRegistry);
     }
 
     @Override
-    @Async
-    public boolean sendWebhook(String webhookUrl, String eventType, Map<String, Object> payload) {
-        return sendWebhookInternal(webhookUrl, eventType, payload);
+    public CompletableFuture<Void> send(String webhookUrl, String eventType, String payload) {
+        Delivery delivery = new Delivery(webhookUrl, eventType, payload.getBytes(StandardCharsets.UTF_8),
+                System.nanoTime(), new CompletableFuture<>());
+        lanes.computeIfAbsent(webhookUrl, Lane::new).offer(delivery);
+        return delivery.result();
     }
 
-    private boolean sendWebhookInternal(String webhookUrl, String eventType, Map<String, Object> payload) {
-        try {
-            Map<String, Object> webhookPayload = new HashMap<>(payload);
-            webhookPayload.put("eventType", eventType);
-            webhookPayload.put("timestamp", Instant.now().toString());
+    @PreDestroy
+    public void shutdown() {
+        lanes.values().forEach(Lane::close);
+    }
 
-            webClient.post()
+    private Mono<Void> post(String webhookUrl, byte[] body) {
+        return webClient.post()
                 .uri(webhookUrl)
                 .contentType(MediaType.APPLICATION_JSON)
-                .bodyValue(webhookPayload)
+                .bodyValue(body)
                 .retrieve()
                 .toBodilessEntity()
-                .block(TIMEOUT);
+                .timeout(timeout)
+                .then();
+    }
+
+    private Mono<Void> deliver(Delivery delivery) {
+        return post(delivery.webhookUrl(), delivery.body())
+                .doOnSuccess(ignored -> {
+                    log.info("Webhook sent successfully to {} for event {}",
+                            delivery.webhookUrl(), delivery.eventType());
+                    complete(delivery, null);
+                })
+                .onErrorResume(e -> {
+                    log.warn("Failed to send webhook to {}: {}", delivery.webhookUrl(), e.getMessage());
+                    complete(delivery, e);
+                    return Mono.empty();
+                });
+    }
 
-            log.info("Webhook sent successfully to {} for event {}", webhookUrl, eventType);
-            return true;
-        } catch (Exception e) {
-            log.error("Failed to send webhook to {}: {}", webhookUrl, e.getMessage());
-            return false;
+    private void complete(Delivery delivery, Throwable error) {
+        deliveryTimer.record(Duration.ofNanos(System.nanoTime() - delivery.queuedAt()));
+        if (error == null) {
+            deliveredCounter.increment();
+            delivery.result().complete(null);
+        } else {
+            failedCounter.increment();
+            delivery.result().completeExceptionally(error);
         }
     }
 
-    @Override
-    @Async
-    public boolean sendWebhookWithRetry(String webhookUrl, String eventType, 
-            Map<String, Object> payload, int maxRetries) {
-        int attempt = 0;
-        while (attempt < maxRetries) {
-            attempt++;
-            if (sendWebhookInternal(webhookUrl, eventType, payload)) {
-                return true;
+    private record Delivery(String webhookUrl, String eventType, byte[] body, long queuedAt,
+                            CompletableFuture<Void> result) {
+    }
+
+    /**
+     * Bounded queue of deliveries to one endpoint, drained with limited
+     * concurrency.
+     */
+    private final class Lane {
+
+        private final String webhookUrl;
+        private final Sinks.Many<Delivery> queue;
+        private final Disposable subscription;
+
+        Lane(String webhookUrl) {
+            this.webhookUrl = webhookUrl;
+            this.queue = Sinks.many().unicast().onBackpressureBuffer(Queues.<Delivery>get(queueCapacity).get());
+            this.subscription = queue.asFlux()
+                    .flatMap(WebhookAdapter.this::deliver, maxConcurrencyPerEndpoint)
+                    .subscribe();
+        }
+
+        void offer(Delivery delivery) {
+            Sinks.EmitResult result;
+            // Serializes concurrent callers; the sink rejects parallel emissions
+            synchronized (this) {
+                result = queue.tryEmitNext(delivery);
             }
-            
-            if (attempt < maxRetries) {
-                try {
-                    // Exponential backoff: 1s, 2s, 4s, etc.
-                    Thread.sleep((long) Math.pow(2, attempt - 1) * 1000);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    return false;
-                }
+            if (result.isFailure()) {
+                log.warn("Dropping webhook {} to {}: {}", delivery.eventType(), webhookUrl, result);
+                droppedCounter.increment();
+                delivery.result().completeExceptionally(
+                        new RejectedExecutionException("Webhook queue full for " + webhookUrl));
             }
         }
-        
-        log.error("Webhook delivery failed after {} attempts to {}", maxRetries, webhookUrl);
-        return false;
+
+        void close() {
+            subscription.dispose();
+        }
     }
 }
@@ -0,0 +1,96 @@
+package com.fintech.wallet.infrastructure.adapter;
+
+import com.fintech.wallet.application.port.out.WebhookDeliveryPort;
+import com.fintech.wallet.domain.model.WebhookDelivery;
+import com.fintech.wallet.domain.model.WebhookDeliveryStatus;
+import com.fintech.wallet.infrastructure.persistence.entity.WebhookDeliveryStatusJpa;
+import com.fintech.wallet.infrastructure.persistence.mapper.WebhookDeliveryMapper;
+import com.fintech.wallet.infrastructure.persistence.repository.WebhookDeliveryJpaRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Persistence adapter for the webhook delivery queue.
+ */
+@Component
+public class WebhookDeliveryPersistenceAdapter implements WebhookDeliveryPort {
+
+    private final WebhookDeliveryJpaRepository repository;
+    private final WebhookDeliveryMapper mapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public WebhookDeliveryPersistenceAdapter(WebhookDeliveryJpaRepository repository,
+                                             WebhookDeliveryMapper mapper) {
+        this.repository = repository;
+        this.mapper = mapper;
+    }
+
+    @Override
+    @Transactional
+    public void enqueueAll(List<WebhookDelivery> deliveries) {
+        // New rows with assigned IDs: persist directly instead of merging
+        deliveries.forEach(delivery -> entityManager.persist(mapper.toEntity(delivery)));
+    }
+
+    @Override
+    @Transactional
+    public void saveAll(List<WebhookDelivery> deliveries) {
+        // Load the rows up front so the merges below need no per-row SELECT
+        repository.findAllById(deliveries.stream().map(WebhookDelivery::getId).toList());
+        repository.saveAll(deliveries.stream().map(mapper::toEntity).toList());
+    }
+
+    @Override
+    public Optional<WebhookDelivery> findById(UUID deliveryId) {
+        return repository.findById(deliveryId).map(mapper::toDomain);
+    }
+
+    @Override
+    public List<String> findDueEndpoints(Instant now) {
+        return repository.findDueEndpoints(now);
+    }
+
+    @Override
+    public List<WebhookDelivery> findDue(String webhookUrl, Instant now, int limit) {
+        return repository.findDue(webhookUrl, now, PageRequest.of(0, limit)).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<WebhookDelivery> findPending(String webhookUrl, int limit) {
+        return repository.findPending(webhookUrl, PageRequest.of(0, limit)).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<WebhookDelivery> findByStatus(WebhookDeliveryStatus status, int page, int size) {
+        return repository.findByStatusOrderByLastAttemptAtDesc(
+                        WebhookDeliveryStatusJpa.valueOf(status.name()), PageRequest.of(page, size)).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public int replayDeadLetters(String webhookUrl, Instant now) {
+        return repository.replayDeadLetters(webhookUrl, now);
+    }
+
+    @Override
+    @Transactional
+    public int deleteDeliveredBefore(Instant before) {
+        return repository.deleteDeliveredBefore(before);
+    }
+}
@@ -1,6 +1,10 @@
 package com.fintech.wallet.infrastructure.adapter;
 
-import com.fintech.wallet.application.port.out.WebhookPort;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.wallet.application.port.in.WebhookDeliveryUseCase;
+import com.fintech.wallet.application.port.in.WebhookSubscriptionUseCase;
+import com.fintech.wallet.domain.event.BalanceShortfallForecastEvent;
 import com.fintech.wallet.domain.event.DomainEvent;
 import com.fintech.wallet.domain.event.MoneyDepositedEvent;
 import com.fintech.wallet.domain.event.MoneyTransferredEvent;
@@ -10,38 +14,51 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Event listener for sending webhooks to registered third-party integrations.
+ * Endpoints are looked up in the in-memory subscription routes first, so an
+ * event nobody subscribed to costs nothing. A matched event is serialized
+ * once and queued for every endpoint in the persisted delivery queue, which
+ * survives restarts and retries failures.
+ * <p>
+ * Runs on the outbox relay thread, so an event counts as relayed only once
+ * its deliveries are queued; if queueing fails, the relay retries the event.
  */
 @Component
 public class WebhookEventListener {
 
     private static final Logger log = LoggerFactory.getLogger(WebhookEventListener.class);
 
-    private final WebhookPort webhookPort;
-    private final List<String> webhookUrls;
+    private final WebhookDeliveryUseCase webhookDeliveryUseCase;
+    private final WebhookSubscriptionUseCase webhookSubscriptionUseCase;
+    private final ObjectMapper objectMapper;
     private final boolean enabled;
 
     public WebhookEventListener(
-            WebhookPort webhookPort,
-            @Value("${webhook.urls:}") List<String> webhookUrls,
+            WebhookDeliveryUseCase webhookDeliveryUseCase,
+            WebhookSubscriptionUseCase webhookSubscriptionUseCase,
+            ObjectMapper objectMapper,
             @Value("${webhook.enabled:false}") boolean enabled) {
-        this.webhookPort = webhookPort;
-        this.webhookUrls = webhookUrls;
+        this.webhookDeliveryUseCase = webhookDeliveryUseCase;
+        this.webhookSubscriptionUseCase = webhookSubscriptionUseCase;
+        this.objectMapper = objectMapper;
         this.enabled = enabled;
     }
 
     @EventListener
-    @Async
     public void onMoneyDeposited(MoneyDepositedEvent event) {
-        if (!enabled || webhookUrls.isEmpty()) {
+        if (!enabled) {
+            return;
+        }
+        List<String> endpoints = webhookSubscriptionUseCase.route(event.getEventType(), List.of(event.getWalletId()));
+        if (endpoints.isEmpty()) {
             return;
         }
 
@@ -52,13 +69,16 @@ public class WebhookEventListener {
         payload.put("newBalance", event.getNewBalance().getAmount().toPlainString());
         payload.put("description", event.getDescription());
 
-        sendToAllWebhooks(event, payload);
+        sendToWebhooks(endpoints, event, payload);
     }
 
     @EventListener
-    @Async
     public void onMoneyWithdrawn(MoneyWithdrawnEvent event) {
-        if (!enabled || webhookUrls.isEmpty()) {
+        if (!enabled) {
+            return;
+        }
+        List<String> endpoints = webhookSubscriptionUseCase.route(event.getEventType(), List.of(event.getWalletId()));
+        if (endpoints.isEmpty()) {
             return;
         }
 
@@ -69,13 +89,17 @@ public class WebhookEventListener {
         payload.put("newBalance", event.getNewBalance().getAmount().toPlainString());
         payload.put("description", event.getDescription());
 
-        sendToAllWebhooks(event, payload);
+        sendToWebhooks(endpoints, event, payload);
     }
 
     @EventListener
-    @Async
     public void onMoneyTransferred(MoneyTransferredEvent event) {
-        if (!enabled || webhookUrls.isEmpty()) {
+        if (!enabled) {
+            return;
+        }
+        List<String> endpoints = webhookSubscriptionUseCase.route(event.getEventType(),
+                List.of(event.getSourceWalletId(), event.getDestinationWalletId()));
+        if (endpoints.isEmpty()) {
             return;
         }
 
@@ -93,13 +117,16 @@ public class WebhookEventListener {
             payload.put("targetCurrency", event.getConvertedAmount().getCurrency().getCode());
         }
 
-        sendToAllWebhooks(event, payload);
+        sendToWebhooks(endpoints, event, payload);
     }
 
     @EventListener
-    @Async
     public void onWalletCreated(WalletCreatedEvent event) {
-        if (!enabled || webhookUrls.isEmpty()) {
+        if (!enabled) {
+            return;
+        }
+        List<String> endpoints = webhookSubscriptionUseCase.route(event.getEventType(), List.of(event.getWalletId()));
+        if (endpoints.isEmpty()) {
             return;
         }
 
@@ -107,18 +134,45 @@ public class WebhookEventListener {
         payload.put("walletId", event.getWalletId().toString());
         payload.put("currency", event.getCurrency());
 
-        sendToAllWebhooks(event, payload);
+        sendToWebhooks(endpoints, event, payload);
     }
 
-    private void sendToAllWebhooks(DomainEvent event, Map<String, Object> payload) {
+    @EventListener
+    public void onBalanceShortfallForecast(BalanceShortfallForecastEvent event) {
+        if (!enabled) {
+            return;
+        }
+        List<String> endpoints = webhookSubscriptionUseCase.route(event.getEventType(), List.of(event.getWalletId()));
+        if (endpoints.isEmpty()) {
+            return;
+        }
+
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("walletId", event.getWalletId().toString());
+        payload.put("scheduledPaymentId", event.getScheduledPaymentId().toString());
+        payload.put("shortfallDate", event.getShortfallDate().toString());
+        payload.put("paymentAmount", event.getPaymentAmount().getAmount().toPlainString());
+        payload.put("projectedBalance", event.getProjectedBalance().getAmount().toPlainString());
+        payload.put("currency", event.getPaymentAmount().getCurrency().getCode());
+        payload.put("shortfallCount", event.getShortfallCount());
+
+        sendToWebhooks(endpoints, event, payload);
+    }
+
+    private void sendToWebhooks(List<String> endpoints, DomainEvent event, Map<String, Object> payload) {
         payload.put("eventId", event.getEventId().toString());
         payload.put("occurredAt", event.getOccurredAt().toString());
 
-        for (String webhookUrl : webhookUrls) {
-            if (!webhookUrl.isBlank()) {
-                log.debug("Sending webhook to {} for event {}", webhookUrl, event.getEventType());
-                webhookPort.sendWebhookWithRetry(webhookUrl, event.getEventType(), payload, 3);
-            }
+        payload.put("eventType", event.getEventType());
+        payload.put("timestamp", Instant.now().toString());
+
+        String body;
+        try {
+            body = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Webhook payload is not serializable: " + e.getMessage(), e);
         }
+        log.debug("Queueing webhook for event {} to {} endpoints", event.getEventType(), endpoints.size());
+        webhookDeliveryUseCase.enqueue(endpoints, event.getEventType(), event.getEventId(), body);
     }
 }
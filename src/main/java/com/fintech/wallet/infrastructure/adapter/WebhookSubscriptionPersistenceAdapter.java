@@ -0,0 +1,67 @@
+package com.fintech.wallet.infrastructure.adapter;
+
+import com.fintech.wallet.application.port.out.WebhookSubscriptionPort;
+import com.fintech.wallet.domain.model.WebhookSubscription;
+import com.fintech.wallet.infrastructure.persistence.entity.WebhookSubscriptionJpaEntity;
+import com.fintech.wallet.infrastructure.persistence.mapper.WebhookSubscriptionMapper;
+import com.fintech.wallet.infrastructure.persistence.repository.WebhookSubscriptionJpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Persistence adapter for webhook subscriptions.
+ */
+@Component
+public class WebhookSubscriptionPersistenceAdapter implements WebhookSubscriptionPort {
+
+    private final WebhookSubscriptionJpaRepository repository;
+    private final WebhookSubscriptionMapper mapper;
+
+    public WebhookSubscriptionPersistenceAdapter(WebhookSubscriptionJpaRepository repository,
+                                                 WebhookSubscriptionMapper mapper) {
+        this.repository = repository;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Saves a subscription. The stored row version is carried over, so the
+     * merge updates the existing row and raises its version.
+     */
+    @Override
+    @Transactional
+    public void save(WebhookSubscription subscription) {
+        WebhookSubscriptionJpaEntity entity = mapper.toEntity(subscription);
+        repository.findById(subscription.getId()).ifPresent(existing -> entity.setVersion(existing.getVersion()));
+        repository.save(entity);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<WebhookSubscription> findById(UUID subscriptionId) {
+        return repository.findById(subscriptionId).map(mapper::toDomain);
+    }
+
+    /**
+     * Loads all active subscriptions with two queries, one per collection,
+     * however many subscriptions there are.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<WebhookSubscription> findAllActive() {
+        List<WebhookSubscriptionJpaEntity> entities = repository.findAllActiveWithEventTypes();
+        if (!entities.isEmpty()) {
+            repository.fetchWalletIds(entities);
+        }
+        return entities.stream().map(mapper::toDomain).toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long currentVersion() {
+        return repository.sumVersions();
+    }
+}
@@ -0,0 +1,167 @@
+package com.fintech.wallet.infrastructure.archive;
+
+import com.fintech.wallet.domain.model.LedgerEntry;
+import com.fintech.wallet.domain.model.LedgerEntryType;
+import com.fintech.wallet.domain.valueobject.Currency;
+import com.fintech.wallet.domain.valueobject.LedgerEntryId;
+import com.fintech.wallet.domain.valueobject.Money;
+import com.fintech.wallet.domain.valueobject.TransactionId;
+import com.fintech.wallet.domain.valueobject.WalletId;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Read access to a segment written by {@link LedgerSegmentWriter}.
+ * The index is loaded once on open; each wallet lookup then reads and
+ * inflates only that wallet's block. Safe for concurrent use.
+ */
+public final class LedgerSegment implements AutoCloseable {
+
+    static final int MAGIC = 0x4C534547;
+    static final int VERSION = 1;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final Map<UUID, Block> index;
+
+    private LedgerSegment(Path path, FileChannel channel, Map<UUID, Block> index) {
+        this.path = path;
+        this.channel = channel;
+        this.index = index;
+    }
+
+    public static LedgerSegment open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ByteBuffer footer = ByteBuffer.allocate(12);
+            channel.read(footer, channel.size() - 12);
+            footer.flip();
+            long indexOffset = footer.getLong();
+            ByteBuffer header = ByteBuffer.allocate(8);
+            channel.read(header, 0);
+            header.flip();
+            if (footer.getInt() != MAGIC || header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new IOException("Not a ledger segment: " + path);
+            }
+
+            DataInputStream in = new DataInputStream(new BufferedInputStream(
+                    Channels.newInputStream(channel.position(indexOffset)), 1 << 16));
+            int wallets = in.readInt();
+            Map<UUID, Block> index = new HashMap<>(wallets * 4 / 3 + 1);
+            for (int i = 0; i < wallets; i++) {
+                UUID walletId = readUuid(in);
+                index.put(walletId, new Block(Currency.of(in.readUTF()), readDecimal(in),
+                        in.readLong(), in.readInt(), in.readInt()));
+            }
+            return new LedgerSegment(path, channel, index);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Checks the file against the CRC32 recorded when it was written.
+     */
+    public boolean verify(long expectedChecksum) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream in = new CheckedInputStream(
+                Channels.newInputStream(FileChannel.open(path, StandardOpenOption.READ)), crc)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return crc.getValue() == expectedChecksum;
+    }
+
+    public boolean contains(WalletId walletId) {
+        return index.containsKey(walletId.getValue());
+    }
+
+    /**
+     * The wallet's balance before this segment's period, or zero if the
+     * wallet had no ledger rows before the segment's end.
+     */
+    public BigDecimal openingBalance(WalletId walletId) {
+        Block block = index.get(walletId.getValue());
+        return block == null ? BigDecimal.ZERO : block.openingBalance;
+    }
+
+    /**
+     * The wallet's entries in this segment, oldest first.
+     */
+    public List<LedgerEntry> entries(WalletId walletId) {
+        Block block = index.get(walletId.getValue());
+        if (block == null || block.entryCount == 0) {
+            return List.of();
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(block.length);
+        try {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, block.offset + buffer.position()) < 0) {
+                    throw new IOException("Truncated segment: " + path);
+                }
+            }
+            DataInputStream in = new DataInputStream(
+                    new InflaterInputStream(new ByteArrayInputStream(buffer.array())));
+            List<LedgerEntry> entries = new ArrayList<>(block.entryCount);
+            for (int i = 0; i < block.entryCount; i++) {
+                entries.add(LedgerEntry.builder()
+                        .id(LedgerEntryId.of(readUuid(in)))
+                        .walletId(walletId)
+                        .transactionId(TransactionId.of(readUuid(in)))
+                        .type(in.readBoolean() ? LedgerEntryType.CREDIT : LedgerEntryType.DEBIT)
+                        .amount(Money.of(readDecimal(in), block.currency))
+                        .description(in.readUTF())
+                        .createdAt(Instant.ofEpochSecond(in.readLong(), in.readInt()))
+                        .build());
+            }
+            return entries;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + walletId + " from " + path, e);
+        }
+    }
+
+    public int walletCount() {
+        return index.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static UUID readUuid(DataInputStream in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+
+    private static BigDecimal readDecimal(DataInputStream in) throws IOException {
+        int scale = in.readInt();
+        byte[] unscaled = in.readNBytes(in.readUnsignedByte());
+        return new BigDecimal(new BigInteger(unscaled), scale);
+    }
+
+    private record Block(Currency currency, BigDecimal openingBalance, long offset, int length, int entryCount) {
+    }
+}
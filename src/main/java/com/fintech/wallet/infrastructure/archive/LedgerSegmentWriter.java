@@ -0,0 +1,172 @@
+package com.fintech.wallet.infrastructure.archive;
+
+import com.fintech.wallet.domain.model.LedgerEntry;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Writes one archive segment: a file of per-wallet deflated blocks followed
+ * by an index of every wallet's block and opening balance.
+ * <p>
+ * Wallets must be written one at a time, each with its entries in creation
+ * order. The file is built under a temporary name, synced and then renamed,
+ * so a segment is either complete or absent. Not thread-safe.
+ */
+public final class LedgerSegmentWriter implements AutoCloseable {
+
+    private final Path target;
+    private final Path temp;
+    private final FileChannel channel;
+    private final CRC32 checksum = new CRC32();
+    private final DataOutputStream out;
+    private final List<IndexEntry> index = new ArrayList<>();
+
+    private long position;
+    private IndexEntry current;
+    private ByteArrayOutputStream block;
+    private DataOutputStream blockOut;
+    private long entries;
+
+    public LedgerSegmentWriter(Path target) throws IOException {
+        this.target = target;
+        this.temp = target.resolveSibling(target.getFileName() + ".tmp");
+        this.channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        OutputStream file = new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16);
+        this.out = new DataOutputStream(new CheckedOutputStream(file, checksum));
+        out.writeInt(LedgerSegment.MAGIC);
+        out.writeInt(LedgerSegment.VERSION);
+        position = 8;
+    }
+
+    /**
+     * Starts the block of a wallet whose balance before the segment was {@code openingBalance}.
+     */
+    public void beginWallet(UUID walletId, String currency, BigDecimal openingBalance) throws IOException {
+        endWallet();
+        current = new IndexEntry(walletId, currency, openingBalance);
+        block = new ByteArrayOutputStream();
+        blockOut = new DataOutputStream(new DeflaterOutputStream(block, new Deflater(Deflater.BEST_COMPRESSION)));
+    }
+
+    public void append(LedgerEntry entry) throws IOException {
+        if (current == null) {
+            throw new IllegalStateException("No wallet started");
+        }
+        writeUuid(blockOut, entry.getId().getValue());
+        writeUuid(blockOut, entry.getTransactionId().getValue());
+        blockOut.writeBoolean(entry.isCredit());
+        writeDecimal(blockOut, entry.getAmount().getAmount());
+        // ledger_entries.description is nullable; "" reads back as the entry's default description
+        blockOut.writeUTF(entry.getDescription() == null ? "" : entry.getDescription());
+        blockOut.writeLong(entry.getCreatedAt().getEpochSecond());
+        blockOut.writeInt(entry.getCreatedAt().getNano());
+        current.entryCount++;
+        entries++;
+    }
+
+    public int walletCount() {
+        return index.size() + (current == null ? 0 : 1);
+    }
+
+    public long entryCount() {
+        return entries;
+    }
+
+    /**
+     * Writes the index, syncs the file and moves it into place.
+     *
+     * @return CRC32 of the complete file
+     */
+    public long finish() throws IOException {
+        endWallet();
+        long indexOffset = position;
+        out.writeInt(index.size());
+        for (IndexEntry entry : index) {
+            writeUuid(out, entry.walletId);
+            out.writeUTF(entry.currency);
+            writeDecimal(out, entry.openingBalance);
+            out.writeLong(entry.offset);
+            out.writeInt(entry.length);
+            out.writeInt(entry.entryCount);
+        }
+        out.writeLong(indexOffset);
+        out.writeInt(LedgerSegment.MAGIC);
+        out.flush();
+        channel.force(true);
+        out.close();
+
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        target.toFile().setReadOnly();
+        return checksum.getValue();
+    }
+
+    /**
+     * Discards an unfinished segment.
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel.isOpen()) {
+            out.close();
+        }
+        Files.deleteIfExists(temp);
+    }
+
+    private void endWallet() throws IOException {
+        if (current == null) {
+            return;
+        }
+        blockOut.close();
+        current.offset = position;
+        current.length = block.size();
+        block.writeTo(out);
+        position += block.size();
+        index.add(current);
+        current = null;
+    }
+
+    static void writeUuid(DataOutputStream out, UUID uuid) throws IOException {
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    static void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+        byte[] unscaled = value.unscaledValue().toByteArray();
+        out.writeInt(value.scale());
+        out.writeByte(unscaled.length);
+        out.write(unscaled);
+    }
+
+    private static final class IndexEntry {
+        private final UUID walletId;
+        private final String currency;
+        private final BigDecimal openingBalance;
+        private long offset;
+        private int length;
+        private int entryCount;
+
+        private IndexEntry(UUID walletId, String currency, BigDecimal openingBalance) {
+            this.walletId = walletId;
+            this.currency = currency;
+            this.openingBalance = openingBalance;
+        }
+    }
+}
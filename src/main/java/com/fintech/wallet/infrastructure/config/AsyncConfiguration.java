@@ -0,0 +1,113 @@
+package com.fintech.wallet.infrastructure.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Bounded executors for {@code @Async} listeners and adapters.
+ * <p>
+ * Only fire-and-forget work belongs here. The outbox relay counts an event as
+ * delivered once its listeners return, so a listener whose failure should
+ * make the relay retry, such as queueing webhooks, must not be {@code @Async}.
+ * <p>
+ * Every {@code @Async} method names its executor, so no work falls back to
+ * an untuned default. Active threads and queue depth are published by the
+ * actuator as {@code executor.active} and {@code executor.queued}; each pool
+ * also counts rejected tasks as {@code executor.rejected}, tagged with the
+ * bean name like the actuator's meters so they line up. In virtual-thread
+ * mode the pools keep their limits but run on virtual threads; see
+ * {@link ExecutorThreads}.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncConfiguration.class);
+
+    private final Environment environment;
+
+    public AsyncConfiguration(Environment environment) {
+        this.environment = environment;
+    }
+
+    /**
+     * Saves webhook delivery outcomes off the HTTP client threads. A full
+     * queue makes the completing thread save the outcome itself rather than
+     * lose it.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor webhookTaskExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${async.webhooks.threads:4}") int threads,
+            @Value("${async.webhooks.queue-capacity:2000}") int queueCapacity) {
+        return boundedExecutor("webhook-", threads, queueCapacity,
+                countingRejections(meterRegistry, "webhookTaskExecutor", new ThreadPoolExecutor.CallerRunsPolicy()));
+    }
+
+    /**
+     * SMTP sends. Notifications are best effort, so a full queue drops the
+     * email rather than making any caller wait on a slow mail server.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor emailTaskExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${async.email.threads:2}") int threads,
+            @Value("${async.email.queue-capacity:500}") int queueCapacity) {
+        RejectedExecutionHandler drop = (task, executor) ->
+                log.warn("Email executor saturated ({} queued), dropping notification", executor.getQueue().size());
+        ThreadPoolTaskExecutor executor = boundedExecutor("email-", threads, queueCapacity,
+                countingRejections(meterRegistry, "emailTaskExecutor", drop));
+        // Digests still pending at shutdown are flushed through this executor
+        executor.setAcceptTasksAfterContextClose(true);
+        return executor;
+    }
+
+    /**
+     * Writes queued events to Server-Sent Events connections. A rejected
+     * write closes that connection, and the client resumes where it stopped.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor streamTaskExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${async.streams.threads:8}") int threads,
+            @Value("${async.streams.queue-capacity:10000}") int queueCapacity) {
+        return boundedExecutor("stream-", threads, queueCapacity,
+                countingRejections(meterRegistry, "streamTaskExecutor", new ThreadPoolExecutor.AbortPolicy()));
+    }
+
+    private ThreadPoolTaskExecutor boundedExecutor(String threadNamePrefix, int threads, int queueCapacity,
+                                                   RejectedExecutionHandler rejectionHandler) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        ExecutorThreads.configure(executor, threadNamePrefix, environment);
+        executor.setRejectedExecutionHandler(rejectionHandler);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    private static RejectedExecutionHandler countingRejections(MeterRegistry meterRegistry, String beanName,
+                                                               RejectedExecutionHandler delegate) {
+        Counter rejected = Counter.builder("executor.rejected")
+                .description("Tasks rejected because the executor queue was full")
+                .tag("name", beanName)
+                .register(meterRegistry);
+        return (task, executor) -> {
+            rejected.increment();
+            delegate.rejectedExecution(task, executor);
+        };
+    }
+}
@@ -1,30 +1,59 @@
 package com.fintech.wallet.infrastructure.config;
 
+import com.fintech.wallet.application.port.in.CashFlowForecastUseCase;
 import com.fintech.wallet.application.port.in.CreateWalletUseCase;
 import com.fintech.wallet.application.port.in.CrossCurrencyTransferUseCase;
 import com.fintech.wallet.application.port.in.DepositMoneyUseCase;
 import com.fintech.wallet.application.port.in.ReportingUseCase;
 import com.fintech.wallet.application.port.in.ScheduledPaymentUseCase;
 import com.fintech.wallet.application.port.in.TransferMoneyUseCase;
+import com.fintech.wallet.application.port.in.TransferSearchUseCase;
+import com.fintech.wallet.application.port.in.WalletImportUseCase;
+import com.fintech.wallet.application.port.in.WebhookDeliveryUseCase;
+import com.fintech.wallet.application.port.in.WebhookSubscriptionUseCase;
 import com.fintech.wallet.application.port.in.WithdrawMoneyUseCase;
 import com.fintech.wallet.application.port.out.DomainEventPublisher;
 import com.fintech.wallet.application.port.out.ExchangeRatePort;
+import com.fintech.wallet.application.port.out.LedgerArchivePort;
+import com.fintech.wallet.application.port.out.LedgerEnginePort;
+import com.fintech.wallet.application.port.out.LedgerQueryPort;
 import com.fintech.wallet.application.port.out.LoadWalletPort;
 import com.fintech.wallet.application.port.out.ReportExportPort;
 import com.fintech.wallet.application.port.out.SaveTransactionPort;
 import com.fintech.wallet.application.port.out.SaveWalletPort;
 import com.fintech.wallet.application.port.out.ScheduledPaymentPort;
+import com.fintech.wallet.application.port.out.TransactionSearchPort;
+import com.fintech.wallet.application.port.out.WalletImportPort;
+import com.fintech.wallet.application.port.out.WebhookDeliveryPort;
+import com.fintech.wallet.application.port.out.WebhookPort;
+import com.fintech.wallet.application.port.out.WebhookSubscriptionPort;
+import com.fintech.wallet.application.usecase.CashFlowForecastUseCaseHandler;
 import com.fintech.wallet.application.usecase.CreateWalletUseCaseHandler;
 import com.fintech.wallet.application.usecase.CrossCurrencyTransferUseCaseHandler;
 import com.fintech.wallet.application.usecase.DepositMoneyUseCaseHandler;
+import com.fintech.wallet.application.usecase.LedgerEngineUseCaseHandler;
 import com.fintech.wallet.application.usecase.ReportingUseCaseHandler;
+import com.fintech.wallet.application.usecase.ScheduledPaymentExecutor;
 import com.fintech.wallet.application.usecase.ScheduledPaymentUseCaseHandler;
 import com.fintech.wallet.application.usecase.TransferMoneyUseCaseHandler;
+import com.fintech.wallet.application.usecase.TransferSearchUseCaseHandler;
+import com.fintech.wallet.application.usecase.WalletImportUseCaseHandler;
+import com.fintech.wallet.application.usecase.WebhookDeliveryUseCaseHandler;
+import com.fintech.wallet.application.usecase.WebhookSubscriptionUseCaseHandler;
 import com.fintech.wallet.application.usecase.WithdrawMoneyUseCaseHandler;
+import com.fintech.wallet.domain.service.CashFlowForecastService;
 import com.fintech.wallet.domain.service.CurrencyExchangeDomainService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
 /**
  * Spring configuration for wiring use cases with their dependencies.
  * Explicit bean definitions for clarity and testability.
@@ -33,25 +62,39 @@ import org.springframework.context.annotation.Configuration;
 public class BeanConfiguration {
 
     @Bean
-    public CreateWalletUseCase createWalletUseCase(SaveWalletPort saveWalletPort) {
-        return new CreateWalletUseCaseHandler(saveWalletPort);
+    public CreateWalletUseCase createWalletUseCase(SaveWalletPort saveWalletPort,
+            DomainEventPublisher eventPublisher) {
+        return new CreateWalletUseCaseHandler(saveWalletPort, eventPublisher);
     }
 
     @Bean
-    public DepositMoneyUseCase depositMoneyUseCase(LoadWalletPort loadWalletPort, SaveWalletPort saveWalletPort) {
-        return new DepositMoneyUseCaseHandler(loadWalletPort, saveWalletPort);
+    public DepositMoneyUseCase depositMoneyUseCase(LoadWalletPort loadWalletPort, SaveWalletPort saveWalletPort,
+            DomainEventPublisher eventPublisher, ObjectProvider<LedgerEnginePort> ledgerEngine) {
+        LedgerEnginePort engine = ledgerEngine.getIfAvailable();
+        return engine != null
+                ? new LedgerEngineUseCaseHandler(engine)
+                : new DepositMoneyUseCaseHandler(loadWalletPort, saveWalletPort, eventPublisher);
     }
 
     @Bean
-    public WithdrawMoneyUseCase withdrawMoneyUseCase(LoadWalletPort loadWalletPort, SaveWalletPort saveWalletPort) {
-        return new WithdrawMoneyUseCaseHandler(loadWalletPort, saveWalletPort);
+    public WithdrawMoneyUseCase withdrawMoneyUseCase(LoadWalletPort loadWalletPort, SaveWalletPort saveWalletPort,
+            DomainEventPublisher eventPublisher, ObjectProvider<LedgerEnginePort> ledgerEngine) {
+        LedgerEnginePort engine = ledgerEngine.getIfAvailable();
+        return engine != null
+                ? new LedgerEngineUseCaseHandler(engine)
+                : new WithdrawMoneyUseCaseHandler(loadWalletPort, saveWalletPort, eventPublisher);
     }
 
     @Bean
     public TransferMoneyUseCase transferMoneyUseCase(LoadWalletPort loadWalletPort,
             SaveWalletPort saveWalletPort,
-            SaveTransactionPort saveTransactionPort) {
-        return new TransferMoneyUseCaseHandler(loadWalletPort, saveWalletPort, saveTransactionPort);
+            SaveTransactionPort saveTransactionPort,
+            DomainEventPublisher eventPublisher,
+            ObjectProvider<LedgerEnginePort> ledgerEngine) {
+        LedgerEnginePort engine = ledgerEngine.getIfAvailable();
+        return engine != null
+                ? new LedgerEngineUseCaseHandler(engine)
+                : new TransferMoneyUseCaseHandler(loadWalletPort, saveWalletPort, saveTransactionPort, eventPublisher);
     }
 
     @Bean
@@ -59,30 +102,108 @@ public class BeanConfiguration {
         return new CurrencyExchangeDomainService();
     }
 
+    @Bean
+    public TransferSearchUseCase transferSearchUseCase(TransactionSearchPort transactionSearchPort) {
+        return new TransferSearchUseCaseHandler(transactionSearchPort);
+    }
+
     @Bean
     public CrossCurrencyTransferUseCase crossCurrencyTransferUseCase(
             LoadWalletPort loadWalletPort,
             SaveWalletPort saveWalletPort,
             SaveTransactionPort saveTransactionPort,
             ExchangeRatePort exchangeRatePort,
-            CurrencyExchangeDomainService currencyExchangeDomainService) {
+            CurrencyExchangeDomainService currencyExchangeDomainService,
+            DomainEventPublisher eventPublisher,
+            ObjectProvider<LedgerEnginePort> ledgerEngine) {
         return new CrossCurrencyTransferUseCaseHandler(
                 loadWalletPort, saveWalletPort, saveTransactionPort,
-                exchangeRatePort, currencyExchangeDomainService);
+                exchangeRatePort, currencyExchangeDomainService, eventPublisher, ledgerEngine.getIfAvailable());
     }
 
     @Bean
-    public ReportingUseCase reportingUseCase(LoadWalletPort loadWalletPort, ReportExportPort reportExportPort) {
-        return new ReportingUseCaseHandler(loadWalletPort, reportExportPort);
+    public ReportingUseCase reportingUseCase(LoadWalletPort loadWalletPort, LedgerQueryPort ledgerQueryPort,
+                                             LedgerArchivePort ledgerArchivePort, ReportExportPort reportExportPort) {
+        return new ReportingUseCaseHandler(loadWalletPort, ledgerQueryPort, ledgerArchivePort, reportExportPort);
     }
 
     @Bean
-    public ScheduledPaymentUseCase scheduledPaymentUseCase(
+    public ScheduledPaymentExecutor scheduledPaymentExecutor(
             ScheduledPaymentPort scheduledPaymentPort,
-            LoadWalletPort loadWalletPort,
             TransferMoneyUseCase transferMoneyUseCase,
+            LoadWalletPort loadWalletPort,
+            SaveWalletPort saveWalletPort,
+            SaveTransactionPort saveTransactionPort,
             DomainEventPublisher eventPublisher) {
+        return new ScheduledPaymentExecutor(scheduledPaymentPort, transferMoneyUseCase,
+                loadWalletPort, saveWalletPort, saveTransactionPort, eventPublisher);
+    }
+
+    @Bean
+    public ScheduledPaymentUseCase scheduledPaymentUseCase(
+            ScheduledPaymentPort scheduledPaymentPort,
+            LoadWalletPort loadWalletPort,
+            ScheduledPaymentExecutor scheduledPaymentExecutor,
+            @Qualifier("scheduledPaymentTaskExecutor") Executor scheduledPaymentTaskExecutor,
+            @Value("${scheduler.payments.execution-mode:PER_PAYMENT}") ScheduledPaymentUseCaseHandler.ExecutionMode executionMode,
+            @Value("${scheduler.payments.enabled:true}") boolean schedulerEnabled,
+            DomainEventPublisher eventPublisher,
+            ObjectProvider<LedgerEnginePort> ledgerEngine) {
+        if (schedulerEnabled && ledgerEngine.getIfAvailable() != null) {
+            // An engine posting is durable on its own, outside the transaction that
+            // updates the payment row, so a failed update would pay the payment twice
+            throw new IllegalStateException(
+                    "scheduler.payments.enabled cannot be used with ledger.engine.enabled");
+        }
         return new ScheduledPaymentUseCaseHandler(
-                scheduledPaymentPort, loadWalletPort, transferMoneyUseCase, eventPublisher);
+                scheduledPaymentPort, loadWalletPort, scheduledPaymentExecutor,
+                scheduledPaymentTaskExecutor, executionMode, eventPublisher);
+    }
+
+    @Bean
+    public CashFlowForecastService cashFlowForecastService() {
+        return new CashFlowForecastService();
+    }
+
+    @Bean
+    public CashFlowForecastUseCase cashFlowForecastUseCase(
+            ScheduledPaymentPort scheduledPaymentPort,
+            LoadWalletPort loadWalletPort,
+            CashFlowForecastService cashFlowForecastService,
+            @Qualifier("forecastTaskExecutor") Executor forecastTaskExecutor,
+            DomainEventPublisher eventPublisher,
+            @Value("${scheduler.forecast.wallets-per-task:200}") int walletsPerTask) {
+        return new CashFlowForecastUseCaseHandler(
+                scheduledPaymentPort, loadWalletPort, cashFlowForecastService,
+                forecastTaskExecutor, eventPublisher, walletsPerTask);
+    }
+
+    @Bean
+    public WebhookDeliveryUseCase webhookDeliveryUseCase(
+            WebhookDeliveryPort webhookDeliveryPort,
+            WebhookPort webhookPort,
+            @Value("${app.webhook.retry-schedule:PT10S,PT1M,PT5M,PT30M,PT2H,PT6H}") List<Duration> retrySchedule,
+            @Value("${app.webhook.max-per-endpoint-per-poll:20}") int maxPerEndpoint,
+            @Value("${app.webhook.batch.endpoints:}") Set<String> batchEndpoints,
+            @Value("${app.webhook.batch.max-items:100}") int batchMaxItems,
+            @Value("${app.webhook.batch.max-wait:PT1S}") Duration batchMaxWait,
+            @Value("${app.webhook.in-flight-timeout:PT5M}") Duration inFlightTimeout,
+            @Qualifier("webhookTaskExecutor") Executor webhookTaskExecutor) {
+        return new WebhookDeliveryUseCaseHandler(webhookDeliveryPort, webhookPort, retrySchedule, maxPerEndpoint,
+                batchEndpoints, batchMaxItems, batchMaxWait, inFlightTimeout, webhookTaskExecutor);
+    }
+
+    @Bean
+    public WebhookSubscriptionUseCase webhookSubscriptionUseCase(
+            WebhookSubscriptionPort webhookSubscriptionPort,
+            @Value("${webhook.urls:}") List<String> staticEndpoints) {
+        return new WebhookSubscriptionUseCaseHandler(webhookSubscriptionPort, staticEndpoints);
+    }
+
+    @Bean
+    public WalletImportUseCase walletImportUseCase(
+            WalletImportPort walletImportPort,
+            @Value("${wallet-import.chunk-size:10000}") int chunkSize) {
+        return new WalletImportUseCaseHandler(walletImportPort, chunkSize);
     }
 }
@@ -0,0 +1,29 @@
+package com.fintech.wallet.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Picks the threads behind the application's bounded executors.
+ * <p>
+ * With spring.threads.virtual.enabled on Java 21 or later - the condition
+ * under which Spring Boot also moves Tomcat and the task scheduler to
+ * virtual threads - each pool starts virtual threads instead of platform
+ * threads. Pool sizes, queues and rejection policies stay as configured, so
+ * a pool's thread count becomes a limit on concurrent tasks rather than a
+ * number of OS threads, and can be raised accordingly.
+ */
+final class ExecutorThreads {
+
+    private ExecutorThreads() {
+    }
+
+    static void configure(ThreadPoolTaskExecutor executor, String threadNamePrefix, Environment environment) {
+        executor.setThreadNamePrefix(threadNamePrefix);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            executor.setThreadFactory(new VirtualThreadTaskExecutor(threadNamePrefix).getVirtualThreadFactory());
+        }
+    }
+}
@@ -3,11 +3,15 @@ package com.fintech.wallet.infrastructure.config;
 import net.javacrumbs.shedlock.core.LockProvider;
 import net.javacrumbs.shedlock.provider.jdbctemplate.JdbcTemplateLockProvider;
 import net.javacrumbs.shedlock.spring.annotation.EnableSchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import javax.sql.DataSource;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * Configuration for scheduler and distributed locking.
@@ -27,4 +31,45 @@ public class SchedulerConfiguration {
                         .build()
         );
     }
+
+    /**
+     * Bounded worker pool for executing due scheduled payments.
+     * When the queue is full the scheduler thread runs the task itself,
+     * which throttles submission instead of dropping payments.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor scheduledPaymentTaskExecutor(
+            Environment environment,
+            @Value("${scheduler.payments.worker-threads:8}") int workerThreads,
+            @Value("${scheduler.payments.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workerThreads);
+        executor.setMaxPoolSize(workerThreads);
+        executor.setQueueCapacity(queueCapacity);
+        ExecutorThreads.configure(executor, "scheduled-payment-", environment);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+
+    /**
+     * Worker pool for the nightly cash-flow forecast. Kept apart from the
+     * payment workers so a long forecast never delays payment execution.
+     * Bounded like the payment pool: once the queue is full the forecast
+     * thread forecasts the next chunk itself instead of queueing every chunk.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor forecastTaskExecutor(
+            Environment environment,
+            @Value("${scheduler.forecast.worker-threads:4}") int workerThreads,
+            @Value("${scheduler.forecast.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workerThreads);
+        executor.setMaxPoolSize(workerThreads);
+        executor.setQueueCapacity(queueCapacity);
+        ExecutorThreads.configure(executor, "forecast-", environment);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
 }
@@ -0,0 +1,220 @@
+package com.fintech.wallet.infrastructure.diagnostics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads that pin their carrier thread, from the JDK's
+ * {@code jdk.VirtualThreadPinned} flight recorder event.
+ * <p>
+ * A virtual thread blocking inside a synchronized block or a native frame
+ * cannot unmount, so one of the few carrier threads is held for the whole
+ * wait. Each pinning longer than {@code threshold} is attributed to the
+ * PostgreSQL driver, the Hikari pool or other code by the innermost such
+ * frame on its stack, timed as {@code virtual-threads.pinned} and added to a
+ * per-call-site report at /actuator/pinning. The first pinning at each site
+ * is logged with its stack.
+ * <p>
+ * Only runs in virtual-thread mode; see spring.threads.virtual.enabled.
+ */
+@Component
+@Endpoint(id = "pinning")
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(name = "diagnostics.pinning.enabled", havingValue = "true", matchIfMissing = true)
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String OTHER_SITES = "(other sites)";
+    private static final int REPORTED_FRAMES = 12;
+
+    private final Duration threshold;
+    private final int maxSites;
+    private final Map<Source, Timer> timers = new EnumMap<>(Source.class);
+    private final Map<String, Site> sites = new ConcurrentHashMap<>();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${diagnostics.pinning.threshold:PT0.02S}") Duration threshold,
+            @Value("${diagnostics.pinning.max-sites:100}") int maxSites) {
+        this.threshold = threshold;
+        this.maxSites = maxSites;
+        for (Source source : Source.values()) {
+            timers.put(source, Timer.builder("virtual-threads.pinned")
+                    .description("Time virtual threads held their carrier thread while blocked")
+                    .tag("source", source.tag())
+                    .register(meterRegistry));
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::record);
+        stream.startAsync();
+        log.info("Reporting virtual thread pinning longer than {}", threshold);
+    }
+
+    @PreDestroy
+    public void stop() {
+        stream.close();
+        Report report = report();
+        if (report.events() > 0) {
+            log.warn("Virtual threads pinned their carrier {} times: {}", report.events(), report.eventsBySource());
+        }
+    }
+
+    @ReadOperation
+    public Report report() {
+        Map<String, Long> bySource = timers.entrySet().stream()
+                .collect(Collectors.toMap(entry -> entry.getKey().tag(), entry -> entry.getValue().count()));
+        List<SiteReport> reported = sites.values().stream()
+                .map(Site::report)
+                .sorted(Comparator.comparingDouble(SiteReport::totalMillis).reversed())
+                .toList();
+        return new Report(bySource.values().stream().mapToLong(Long::longValue).sum(), bySource, reported);
+    }
+
+    private void record(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<Frame> frames = stackTrace == null ? List.of() : stackTrace.getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(frame -> new Frame(frame.getMethod().getType().getName(), frame.getMethod().getName(),
+                        frame.getLineNumber()))
+                .toList();
+        Source source = Source.of(frames);
+        Duration duration = event.getDuration();
+        timers.get(source).record(duration);
+
+        String key = sites.size() < maxSites ? siteOf(frames, source) : OTHER_SITES;
+        sites.computeIfAbsent(key, site -> {
+            log.warn("Virtual thread pinned its carrier for {}ms in {}:\n\t{}", duration.toMillis(), site,
+                    frames.stream().limit(REPORTED_FRAMES).map(Frame::toString).collect(Collectors.joining("\n\t")));
+            return new Site(site, source, frames);
+        }).add(duration);
+    }
+
+    /**
+     * The frame a pinning is reported under: the innermost frame of the
+     * driver or pool it was attributed to, otherwise the innermost frame
+     * outside the JDK.
+     */
+    static String siteOf(List<Frame> frames, Source source) {
+        return frames.stream()
+                .filter(frame -> source == Source.OTHER ? !frame.inJdk() : source.owns(frame))
+                .findFirst()
+                .or(() -> frames.stream().findFirst())
+                .map(Frame::toString)
+                .orElse("(no stack)");
+    }
+
+    enum Source {
+        JDBC("org.postgresql."),
+        HIKARI("com.zaxxer.hikari."),
+        OTHER("");
+
+        private final String packagePrefix;
+
+        Source(String packagePrefix) {
+            this.packagePrefix = packagePrefix;
+        }
+
+        /**
+         * Attributes a pinned stack, innermost frame first, to the first
+         * driver or pool frame found on it.
+         */
+        static Source of(List<Frame> frames) {
+            for (Frame frame : frames) {
+                for (Source source : List.of(JDBC, HIKARI)) {
+                    if (source.owns(frame)) {
+                        return source;
+                    }
+                }
+            }
+            return OTHER;
+        }
+
+        boolean owns(Frame frame) {
+            return frame.className().startsWith(packagePrefix);
+        }
+
+        String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    record Frame(String className, String method, int line) {
+
+        boolean inJdk() {
+            return className.startsWith("java.") || className.startsWith("jdk.") || className.startsWith("sun.");
+        }
+
+        @Override
+        public String toString() {
+            return className + "." + method + ":" + line;
+        }
+    }
+
+    public record Report(long events, Map<String, Long> eventsBySource, List<SiteReport> sites) {
+    }
+
+    public record SiteReport(String site, String source, long events, double totalMillis, double maxMillis,
+                             List<String> stack) {
+    }
+
+    private static final class Site {
+
+        private final String site;
+        private final Source source;
+        private final List<String> stack;
+        private final LongAdder events = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        Site(String site, Source source, List<Frame> frames) {
+            this.site = site;
+            this.source = source;
+            this.stack = frames.stream().limit(REPORTED_FRAMES).map(Frame::toString).toList();
+        }
+
+        void add(Duration duration) {
+            events.increment();
+            totalNanos.add(duration.toNanos());
+            maxNanos.accumulate(duration.toNanos());
+        }
+
+        SiteReport report() {
+            return new SiteReport(site, source.tag(), events.sum(), totalNanos.sum() / 1e6, maxNanos.get() / 1e6,
+                    stack);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.fintech.wallet.infrastructure.engine;
+
+import com.fintech.wallet.domain.event.DomainEvent;
+import com.fintech.wallet.domain.model.LedgerEntry;
+import com.fintech.wallet.domain.model.Transaction;
+import com.fintech.wallet.infrastructure.adapter.DomainEventSerializer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Writes the engine's rows and their outbox events with batched inserts that
+ * skip rows and events already present, in one transaction.
+ * Requires PostgreSQL.
+ */
+final class JdbcLedgerSink implements LedgerWriteBehind.Sink {
+
+    private static final String INSERT_TRANSACTION = """
+            INSERT INTO transactions (id, source_wallet_id, destination_wallet_id, amount, currency,
+                                      description, status, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (id) DO NOTHING
+            """;
+
+    private static final String INSERT_ENTRY = """
+            INSERT INTO ledger_entries (id, wallet_id, transaction_id, entry_type, amount, currency,
+                                        description, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (id, created_at) DO NOTHING
+            """;
+
+    private static final String INSERT_EVENT = """
+            INSERT INTO outbox_events (event_id, event_type, aggregate_id, payload, occurred_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (event_id) DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DomainEventSerializer serializer;
+
+    JdbcLedgerSink(DataSource dataSource, PlatformTransactionManager transactionManager,
+                   DomainEventSerializer serializer) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.serializer = serializer;
+    }
+
+    @Override
+    public void write(List<LedgerEntry> entries, List<Transaction> transactions, List<DomainEvent> events) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_TRANSACTION, transactions, transactions.size(), (ps, transaction) -> {
+                ps.setObject(1, transaction.getId().getValue());
+                ps.setObject(2, transaction.getSourceWalletId().getValue());
+                ps.setObject(3, transaction.getDestinationWalletId().getValue());
+                ps.setBigDecimal(4, transaction.getAmount().getAmount());
+                ps.setString(5, transaction.getAmount().getCurrency().getCode());
+                ps.setString(6, transaction.getDescription());
+                ps.setString(7, transaction.getStatus().name());
+                ps.setTimestamp(8, Timestamp.from(transaction.getCreatedAt()));
+            });
+            jdbcTemplate.batchUpdate(INSERT_ENTRY, entries, entries.size(), (ps, entry) -> {
+                ps.setObject(1, entry.getId().getValue());
+                ps.setObject(2, entry.getWalletId().getValue());
+                ps.setObject(3, entry.getTransactionId().getValue());
+                ps.setString(4, entry.getType().name());
+                ps.setBigDecimal(5, entry.getAmount().getAmount());
+                ps.setString(6, entry.getAmount().getCurrency().getCode());
+                ps.setString(7, entry.getDescription());
+                ps.setTimestamp(8, Timestamp.from(entry.getCreatedAt()));
+            });
+            jdbcTemplate.batchUpdate(INSERT_EVENT, events, events.size(), (ps, event) -> {
+                ps.setObject(1, event.getEventId());
+                ps.setString(2, event.getEventType());
+                ps.setObject(3, serializer.aggregateId(event));
+                ps.setString(4, serializer.serialize(event));
+                ps.setTimestamp(5, Timestamp.from(event.getOccurredAt()));
+            });
+        });
+    }
+}
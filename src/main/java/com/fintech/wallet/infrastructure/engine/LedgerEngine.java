@@ -0,0 +1,313 @@
+package com.fintech.wallet.infrastructure.engine;
+
+import com.fintech.wallet.application.port.out.LedgerEnginePort;
+import com.fintech.wallet.application.port.out.LoadWalletPort;
+import com.fintech.wallet.domain.exception.InsufficientBalanceException;
+import com.fintech.wallet.domain.exception.InvalidCurrencyException;
+import com.fintech.wallet.domain.model.LedgerEntry;
+import com.fintech.wallet.domain.valueobject.Currency;
+import com.fintech.wallet.domain.valueobject.Money;
+import com.fintech.wallet.domain.valueobject.WalletId;
+import com.fintech.wallet.infrastructure.adapter.DomainEventSerializer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory ledger engine: wallets are partitioned across shards by ID, and
+ * each shard applies postings to its wallets' balances on a single thread.
+ * <p>
+ * A posting is acknowledged once its rows and event are in the shard's
+ * journal on disk; they reach ledger_entries, transactions and the outbox
+ * shortly after, via the write-behind persister. On startup every journal
+ * left by a previous run is written to the database, events included,
+ * before any posting is accepted.
+ * <p>
+ * A transfer between shards is committed by the debited wallet's shard,
+ * which journals both entries. The credited wallet is checked on its own
+ * shard first and its balance updated there after the commit, so a
+ * credit is never lost and a debit never overdraws.
+ * <p>
+ * Wallets listed under ledger.engine.striping take their credits on
+ * several shards at once; see {@link ShardMap}. A debit the home stripe
+ * cannot cover first sweeps the other stripes into it, and a scheduled
+ * sweep keeps most of the balance on the home stripe.
+ * <p>
+ * Balances are only correct while this is the single node writing the
+ * ledger; see ledger.engine in application.yml.
+ */
+@Component
+@ConditionalOnProperty(name = "ledger.engine.enabled", havingValue = "true")
+public class LedgerEngine implements LedgerEnginePort {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerEngine.class);
+
+    private final LoadWalletPort loadWalletPort;
+    private final LedgerWriteBehind.Sink sink;
+    private final DomainEventSerializer eventSerializer;
+    private final ShardMap shardMap;
+    private final Path journalDirectory;
+    private final int ringSize;
+    private final int batchSize;
+    private final long segmentBytes;
+    private final int writeBehindQueue;
+    private final int writeBehindRows;
+    private final Duration commandTimeout;
+    private final Set<UUID> homeStripesLoaded = ConcurrentHashMap.newKeySet();
+
+    private LedgerJournal[] journals;
+    private LedgerShard[] shards;
+    private LedgerWriteBehind writeBehind;
+
+    public LedgerEngine(
+            LoadWalletPort loadWalletPort,
+            DomainEventSerializer eventSerializer,
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            @Value("${ledger.engine.journal-directory:./ledger-journal}") String journalDirectory,
+            @Value("${ledger.engine.shards:8}") int shardCount,
+            @Value("${ledger.engine.ring-size:65536}") int ringSize,
+            @Value("${ledger.engine.batch-size:512}") int batchSize,
+            @Value("${ledger.engine.segment-bytes:67108864}") long segmentBytes,
+            @Value("${ledger.engine.write-behind.queue-capacity:4096}") int writeBehindQueue,
+            @Value("${ledger.engine.write-behind.max-rows:5000}") int writeBehindRows,
+            @Value("${ledger.engine.command-timeout:PT5S}") Duration commandTimeout,
+            @Value("${ledger.engine.striping.wallets:}") Set<String> stripedWallets,
+            @Value("${ledger.engine.striping.stripes:4}") int stripes) {
+        this(loadWalletPort, new JdbcLedgerSink(dataSource, transactionManager, eventSerializer), eventSerializer,
+                Paths.get(journalDirectory),
+                new ShardMap(shardCount, stripedWallets.stream().map(WalletId::of).collect(Collectors.toSet()), stripes),
+                ringSize, batchSize, segmentBytes, writeBehindQueue, writeBehindRows, commandTimeout);
+    }
+
+    LedgerEngine(LoadWalletPort loadWalletPort, LedgerWriteBehind.Sink sink, DomainEventSerializer eventSerializer,
+                 Path journalDirectory, ShardMap shardMap, int ringSize, int batchSize, long segmentBytes, int writeBehindQueue,
+                 int writeBehindRows, Duration commandTimeout) {
+        this.loadWalletPort = loadWalletPort;
+        this.sink = sink;
+        this.eventSerializer = eventSerializer;
+        this.journalDirectory = journalDirectory;
+        this.shardMap = shardMap;
+        this.ringSize = ringSize;
+        this.batchSize = batchSize;
+        this.segmentBytes = segmentBytes;
+        this.writeBehindQueue = writeBehindQueue;
+        this.writeBehindRows = writeBehindRows;
+        this.commandTimeout = commandTimeout;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        recover();
+
+        int shardCount = shardMap.shardCount();
+        journals = new LedgerJournal[shardCount];
+        shards = new LedgerShard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            journals[i] = new LedgerJournal(journalDirectory, i, segmentBytes, eventSerializer);
+        }
+        writeBehind = new LedgerWriteBehind(sink, journals, writeBehindQueue, writeBehindRows);
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new LedgerShard(i, ringSize, batchSize, journals[i], writeBehind, loadWalletPort,
+                    shardMap, shards);
+        }
+        writeBehind.start();
+        for (LedgerShard shard : shards) {
+            shard.start();
+        }
+        log.info("Ledger engine started with {} shards and {} striped wallets, journal in {}",
+                shardCount, shardMap.stripedWallets().size(), journalDirectory);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException, IOException {
+        long timeout = commandTimeout.toMillis() * 2;
+        for (LedgerShard shard : shards) {
+            shard.stop(timeout);
+        }
+        boolean persisted = writeBehind.stop(timeout * 5);
+        for (LedgerJournal journal : journals) {
+            journal.close();
+        }
+        if (persisted) {
+            for (Path segment : LedgerJournal.allSegments(journalDirectory)) {
+                Files.deleteIfExists(segment);
+            }
+            log.info("Ledger engine stopped, all rows persisted");
+        } else {
+            log.warn("Ledger engine stopped with rows still in the journal; they are written on the next start");
+        }
+    }
+
+    @Override
+    public Map<WalletId, Money> post(Posting posting) {
+        LedgerEntry homeEntry = posting.homeEntry();
+        int home = shardMap.shardOf(homeEntry);
+        List<LedgerEntry> local = new ArrayList<>();
+        List<LedgerEntry> foreign = new ArrayList<>();
+        for (LedgerEntry entry : posting.entries()) {
+            (shardMap.shardOf(entry) == home ? local : foreign).add(entry);
+        }
+
+        loadHomeStripes(posting.entries());
+        if (!foreign.isEmpty()) {
+            resolve(foreign);
+        }
+        try {
+            return submit(home, new LedgerShard.Post(posting, local, foreign));
+        } catch (InsufficientBalanceException e) {
+            if (!shardMap.isStriped(homeEntry.getWalletId()) || !homeEntry.isDebit()) {
+                throw e;
+            }
+            // The home stripe alone is short; borrow what the other stripes hold and try once more
+            consolidate(homeEntry.getWalletId());
+            return submit(home, new LedgerShard.Post(posting, local, foreign));
+        }
+    }
+
+    /**
+     * Moves the balance of every striped wallet onto its home stripe, so
+     * debits seldom have to borrow from the other stripes.
+     */
+    @Scheduled(fixedDelayString = "${ledger.engine.striping.consolidation-interval:PT1S}")
+    public void consolidateStripes() {
+        for (WalletId walletId : shardMap.stripedWallets()) {
+            try {
+                consolidate(walletId);
+            } catch (RuntimeException e) {
+                log.warn("Could not consolidate striped wallet {}: {}", walletId, e.getMessage());
+            }
+        }
+    }
+
+    void consolidate(WalletId walletId) {
+        int home = shardMap.homeShard(walletId);
+        long deadline = System.nanoTime() + commandTimeout.toNanos();
+        List<CompletableFuture<BigDecimal>> sweeps = new ArrayList<>();
+        for (int shard : shardMap.otherStripes(walletId)) {
+            LedgerShard.Sweep sweep = new LedgerShard.Sweep(walletId, home);
+            offer(shard, sweep, deadline);
+            sweeps.add(sweep.future);
+        }
+        for (CompletableFuture<BigDecimal> sweep : sweeps) {
+            await(sweep, deadline);
+        }
+    }
+
+    /**
+     * Makes the home shard of each striped wallet load it before any other
+     * stripe does. The home stripe starts from the stored balance, so it
+     * must read it before credits applied on other stripes reach the database.
+     */
+    private void loadHomeStripes(List<LedgerEntry> entries) {
+        for (LedgerEntry entry : entries) {
+            WalletId walletId = entry.getWalletId();
+            if (shardMap.isStriped(walletId) && !homeStripesLoaded.contains(walletId.getValue())
+                    && shardMap.shardOf(entry) != shardMap.homeShard(walletId)) {
+                submit(shardMap.homeShard(walletId), new LedgerShard.Resolve(Set.of(walletId)));
+                homeStripesLoaded.add(walletId.getValue());
+            }
+        }
+    }
+
+    /**
+     * Checks credits for other shards' wallets against those shards, which
+     * also keeps the wallets loaded there until the credit arrives.
+     */
+    private void resolve(List<LedgerEntry> foreign) {
+        Map<Integer, Set<WalletId>> byShard = new HashMap<>();
+        for (LedgerEntry entry : foreign) {
+            byShard.computeIfAbsent(shardMap.shardOf(entry), shard -> new HashSet<>()).add(entry.getWalletId());
+        }
+        Map<WalletId, Currency> currencies = new HashMap<>();
+        byShard.forEach((shard, walletIds) -> currencies.putAll(submit(shard, new LedgerShard.Resolve(walletIds))));
+
+        for (LedgerEntry entry : foreign) {
+            Currency currency = currencies.get(entry.getWalletId());
+            if (!entry.getAmount().getCurrency().isSameAs(currency)) {
+                throw new InvalidCurrencyException(String.format("Wallet currency %s does not match amount currency %s",
+                        currency, entry.getAmount().getCurrency()));
+            }
+        }
+    }
+
+    private <T> T submit(int shard, LedgerShard.Command<T> command) {
+        long deadline = System.nanoTime() + commandTimeout.toNanos();
+        offer(shard, command, deadline);
+        return await(command.future, deadline);
+    }
+
+    private void offer(int shard, LedgerShard.Command<?> command, long deadline) {
+        while (!shards[shard].offer(command)) {
+            if (System.nanoTime() - deadline > 0) {
+                throw new IllegalStateException("Ledger shard " + shard + " is saturated");
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> future, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            // The posting may still be applied; the caller cannot tell
+            throw new IllegalStateException("Ledger engine did not answer in time", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for the ledger engine", e);
+        }
+    }
+
+    /**
+     * Writes every journal left by the previous run, whatever its shard
+     * count, with the events it recorded, then deletes them. Rows and events
+     * already written before the crash are skipped by the sink.
+     */
+    private void recover() throws IOException {
+        List<Path> segments = LedgerJournal.allSegments(journalDirectory);
+        if (segments.isEmpty()) {
+            return;
+        }
+        int blocks = 0;
+        for (Path segment : segments) {
+            blocks += LedgerJournal.replay(segment, eventSerializer,
+                    batch -> sink.write(batch.entries(), batch.transactions(), batch.events()));
+        }
+        for (Path segment : segments) {
+            Files.delete(segment);
+        }
+        log.info("Recovered {} journal blocks from {} segments", blocks, segments.size());
+    }
+}
@@ -0,0 +1,322 @@
+package com.fintech.wallet.infrastructure.engine;
+
+import com.fintech.wallet.domain.event.DomainEvent;
+import com.fintech.wallet.domain.model.LedgerEntry;
+import com.fintech.wallet.domain.model.LedgerEntryType;
+import com.fintech.wallet.domain.model.Transaction;
+import com.fintech.wallet.domain.model.TransactionStatus;
+import com.fintech.wallet.domain.valueobject.Currency;
+import com.fintech.wallet.domain.valueobject.LedgerEntryId;
+import com.fintech.wallet.domain.valueobject.Money;
+import com.fintech.wallet.domain.valueobject.TransactionId;
+import com.fintech.wallet.domain.valueobject.WalletId;
+import com.fintech.wallet.infrastructure.adapter.DomainEventSerializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of one shard's ledger rows and the events they raised,
+ * written before a command is acknowledged and deleted once the rows are in
+ * the database.
+ * <p>
+ * The journal is a sequence of segment files of checksummed blocks, one
+ * block per group of commands. A block cut short by a crash fails its
+ * checksum and is ignored on replay; it was never acknowledged.
+ * Written by the shard thread only.
+ */
+final class LedgerJournal implements AutoCloseable {
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("shard-(\\d+)-(\\d+)\\.journal");
+    private static final int HEADER_BYTES = 8;
+
+    private final Path directory;
+    private final int shard;
+    private final long segmentBytes;
+    private final DomainEventSerializer serializer;
+    private final ByteArrayOutputStream block = new ByteArrayOutputStream(1 << 16);
+    private final DataOutputStream blockOut = new DataOutputStream(block);
+
+    private FileChannel channel;
+    private long segment;
+
+    LedgerJournal(Path directory, int shard, long segmentBytes, DomainEventSerializer serializer)
+            throws IOException {
+        this.directory = directory;
+        this.shard = shard;
+        this.segmentBytes = segmentBytes;
+        this.serializer = serializer;
+        Files.createDirectories(directory);
+        List<Path> existing = segments(directory, shard);
+        this.segment = existing.isEmpty() ? 0 : sequence(existing.get(existing.size() - 1)) + 1;
+        this.channel = open(segment);
+    }
+
+    /**
+     * Appends one block without syncing it.
+     *
+     * @return the segment the block was written to
+     */
+    long append(List<LedgerEntry> entries, List<Transaction> transactions, List<DomainEvent> events)
+            throws IOException {
+        if (channel.position() >= segmentBytes) {
+            channel.force(false);
+            channel.close();
+            channel = open(++segment);
+        }
+
+        block.reset();
+        blockOut.writeInt(entries.size());
+        for (LedgerEntry entry : entries) {
+            writeEntry(blockOut, entry);
+        }
+        blockOut.writeInt(transactions.size());
+        for (Transaction transaction : transactions) {
+            writeTransaction(blockOut, transaction);
+        }
+        blockOut.writeInt(events.size());
+        for (DomainEvent event : events) {
+            writeEvent(blockOut, event, serializer);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(block.toByteArray(), 0, block.size());
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + block.size());
+        buffer.putInt(block.size()).putInt((int) crc.getValue()).put(block.toByteArray(), 0, block.size()).flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        return segment;
+    }
+
+    /**
+     * Makes every appended block durable.
+     */
+    void sync() throws IOException {
+        channel.force(false);
+    }
+
+    /**
+     * Deletes this shard's segments before {@code segment}; their rows are persisted.
+     */
+    void deleteBefore(long before) throws IOException {
+        for (Path path : segments(directory, shard)) {
+            if (sequence(path) < before) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * A shard's segment files, oldest first.
+     */
+    static List<Path> segments(Path directory, int shard) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        Matcher matcher = SEGMENT_NAME.matcher(path.getFileName().toString());
+                        return matcher.matches() && Integer.parseInt(matcher.group(1)) == shard;
+                    })
+                    .sorted((a, b) -> Long.compare(sequence(a), sequence(b)))
+                    .toList();
+        }
+    }
+
+    /**
+     * Every segment in the directory, whatever shard count wrote it.
+     */
+    static List<Path> allSegments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> SEGMENT_NAME.matcher(path.getFileName().toString()).matches())
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * Reads a segment's complete blocks in order.
+     *
+     * @return the number of blocks read
+     */
+    static int replay(Path segment, DomainEventSerializer serializer, Consumer<Batch> consumer) throws IOException {
+        byte[] bytes = Files.readAllBytes(segment);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int blocks = 0;
+        while (buffer.remaining() >= HEADER_BYTES) {
+            int length = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (length < 0 || length > buffer.remaining()) {
+                break;
+            }
+            CRC32 crc = new CRC32();
+            crc.update(bytes, buffer.position(), length);
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, buffer.position(), length));
+            int entryCount = in.readInt();
+            List<LedgerEntry> entries = new ArrayList<>(entryCount);
+            for (int i = 0; i < entryCount; i++) {
+                entries.add(readEntry(in));
+            }
+            int transactionCount = in.readInt();
+            List<Transaction> transactions = new ArrayList<>(transactionCount);
+            for (int i = 0; i < transactionCount; i++) {
+                transactions.add(readTransaction(in));
+            }
+            // Blocks journaled before events were recorded end here
+            int eventCount = in.available() > 0 ? in.readInt() : 0;
+            List<DomainEvent> events = new ArrayList<>(eventCount);
+            for (int i = 0; i < eventCount; i++) {
+                events.add(readEvent(in, serializer));
+            }
+            consumer.accept(new Batch(entries, transactions, events));
+            buffer.position(buffer.position() + length);
+            blocks++;
+        }
+        return blocks;
+    }
+
+    private FileChannel open(long sequence) throws IOException {
+        Path path = directory.resolve(String.format("shard-%d-%016d.journal", shard, sequence));
+        return FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+    }
+
+    private static long sequence(Path path) {
+        Matcher matcher = SEGMENT_NAME.matcher(path.getFileName().toString());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Not a journal segment: " + path);
+        }
+        return Long.parseLong(matcher.group(2));
+    }
+
+    private static void writeEntry(DataOutputStream out, LedgerEntry entry) throws IOException {
+        writeUuid(out, entry.getId().getValue());
+        writeUuid(out, entry.getWalletId().getValue());
+        writeUuid(out, entry.getTransactionId().getValue());
+        out.writeBoolean(entry.isCredit());
+        writeMoney(out, entry.getAmount());
+        out.writeUTF(entry.getDescription());
+        writeInstant(out, entry.getCreatedAt());
+    }
+
+    private static LedgerEntry readEntry(DataInputStream in) throws IOException {
+        return LedgerEntry.builder()
+                .id(LedgerEntryId.of(readUuid(in)))
+                .walletId(WalletId.of(readUuid(in)))
+                .transactionId(TransactionId.of(readUuid(in)))
+                .type(in.readBoolean() ? LedgerEntryType.CREDIT : LedgerEntryType.DEBIT)
+                .amount(readMoney(in))
+                .description(in.readUTF())
+                .createdAt(readInstant(in))
+                .build();
+    }
+
+    private static void writeTransaction(DataOutputStream out, Transaction transaction) throws IOException {
+        writeUuid(out, transaction.getId().getValue());
+        writeUuid(out, transaction.getSourceWalletId().getValue());
+        writeUuid(out, transaction.getDestinationWalletId().getValue());
+        writeMoney(out, transaction.getAmount());
+        out.writeUTF(transaction.getDescription());
+        out.writeUTF(transaction.getStatus().name());
+        writeInstant(out, transaction.getCreatedAt());
+    }
+
+    private static Transaction readTransaction(DataInputStream in) throws IOException {
+        return Transaction.builder()
+                .id(TransactionId.of(readUuid(in)))
+                .sourceWalletId(WalletId.of(readUuid(in)))
+                .destinationWalletId(WalletId.of(readUuid(in)))
+                .amount(readMoney(in))
+                .description(in.readUTF())
+                .status(TransactionStatus.valueOf(in.readUTF()))
+                .createdAt(readInstant(in))
+                .build();
+    }
+
+    private static void writeEvent(DataOutputStream out, DomainEvent event, DomainEventSerializer serializer)
+            throws IOException {
+        writeUuid(out, event.getEventId());
+        out.writeUTF(event.getEventType());
+        writeInstant(out, event.getOccurredAt());
+        byte[] payload = serializer.serialize(event).getBytes(StandardCharsets.UTF_8);
+        out.writeInt(payload.length);
+        out.write(payload);
+    }
+
+    private static DomainEvent readEvent(DataInputStream in, DomainEventSerializer serializer) throws IOException {
+        UUID eventId = readUuid(in);
+        String eventType = in.readUTF();
+        Instant occurredAt = readInstant(in);
+        String payload = new String(in.readNBytes(in.readInt()), StandardCharsets.UTF_8);
+        return serializer.deserialize(eventId, eventType, occurredAt, payload);
+    }
+
+    private static void writeUuid(DataOutputStream out, UUID uuid) throws IOException {
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID readUuid(DataInputStream in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+
+    private static void writeMoney(DataOutputStream out, Money money) throws IOException {
+        byte[] unscaled = money.getAmount().unscaledValue().toByteArray();
+        out.writeInt(money.getAmount().scale());
+        out.writeByte(unscaled.length);
+        out.write(unscaled);
+        out.writeUTF(money.getCurrency().getCode());
+    }
+
+    private static Money readMoney(DataInputStream in) throws IOException {
+        int scale = in.readInt();
+        BigDecimal amount = new BigDecimal(new BigInteger(in.readNBytes(in.readUnsignedByte())), scale);
+        return Money.of(amount, Currency.of(in.readUTF()));
+    }
+
+    private static void writeInstant(DataOutputStream out, Instant instant) throws IOException {
+        out.writeLong(instant.getEpochSecond());
+        out.writeInt(instant.getNano());
+    }
+
+    private static Instant readInstant(DataInputStream in) throws IOException {
+        return Instant.ofEpochSecond(in.readLong(), in.readInt());
+    }
+
+    /**
+     * The rows and events of one block.
+     */
+    record Batch(List<LedgerEntry> entries, List<Transaction> transactions, List<DomainEvent> events) {
+    }
+}
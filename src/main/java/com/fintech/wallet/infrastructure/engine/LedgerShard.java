@@ -0,0 +1,437 @@
+package com.fintech.wallet.infrastructure.engine;
+
+import com.fintech.wallet.application.port.out.LedgerEnginePort.Posting;
+import com.fintech.wallet.application.port.out.LoadWalletPort;
+import com.fintech.wallet.domain.event.DomainEvent;
+import com.fintech.wallet.domain.exception.InsufficientBalanceException;
+import com.fintech.wallet.domain.exception.InvalidCurrencyException;
+import com.fintech.wallet.domain.exception.WalletNotFoundException;
+import com.fintech.wallet.domain.model.LedgerEntry;
+import com.fintech.wallet.domain.model.Transaction;
+import com.fintech.wallet.domain.valueobject.Currency;
+import com.fintech.wallet.domain.valueobject.Money;
+import com.fintech.wallet.domain.valueobject.WalletId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Owns the balances of one partition of the wallets and applies every
+ * command against them on a single thread, so no locks are taken.
+ * <p>
+ * Commands are drained from a ring buffer in batches. A batch's rows are
+ * appended to the journal and synced once, then every command in it is
+ * acknowledged and the rows handed to the write-behind persister. Credits
+ * posted by another shard, and balance moved here from another stripe of a
+ * striped wallet, arrive on a separate unbounded queue; they are already
+ * durable and only update the balance held here.
+ */
+final class LedgerShard implements Runnable {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerShard.class);
+
+    private static final int SPINS_BEFORE_PARK = 100;
+    private static final long PARK_NANOS = 1_000_000L;
+
+    private final int index;
+    private final MpscRingBuffer<Command<?>> commands;
+    private final Queue<Credit> credits = new ConcurrentLinkedQueue<>();
+    private final LedgerJournal journal;
+    private final LedgerWriteBehind writeBehind;
+    private final LoadWalletPort loadWalletPort;
+    private final ShardMap shardMap;
+    private final LedgerShard[] peers;
+    private final int batchSize;
+
+    private final Map<UUID, WalletState> wallets = new HashMap<>();
+    private final List<Command<?>> batch = new ArrayList<>();
+    private final List<Runnable> acknowledgements = new ArrayList<>();
+    private final List<LedgerEntry> entries = new ArrayList<>();
+    private final List<Transaction> transactions = new ArrayList<>();
+    private final List<DomainEvent> events = new ArrayList<>();
+    private final List<Credit> outgoing = new ArrayList<>();
+    private RuntimeException loadFailure;
+
+    private volatile boolean running = true;
+    private volatile boolean parked;
+    private volatile RuntimeException failure;
+    private Thread thread;
+
+    /**
+     * @param peers every shard of the engine, this one included; may still be filling up
+     */
+    LedgerShard(int index, int ringSize, int batchSize, LedgerJournal journal, LedgerWriteBehind writeBehind,
+                LoadWalletPort loadWalletPort, ShardMap shardMap, LedgerShard[] peers) {
+        this.index = index;
+        this.commands = new MpscRingBuffer<>(ringSize);
+        this.batchSize = batchSize;
+        this.journal = journal;
+        this.writeBehind = writeBehind;
+        this.loadWalletPort = loadWalletPort;
+        this.shardMap = shardMap;
+        this.peers = peers;
+    }
+
+    void start() {
+        thread = new Thread(this, "ledger-shard-" + index);
+        thread.start();
+    }
+
+    /**
+     * Stops accepting work once the commands already queued are applied.
+     */
+    void stop(long timeoutMillis) throws InterruptedException {
+        running = false;
+        LockSupport.unpark(thread);
+        thread.join(timeoutMillis);
+    }
+
+    /**
+     * Queues a command, or returns false if the ring buffer is full.
+     *
+     * @throws IllegalStateException if the shard has stopped
+     */
+    boolean offer(Command<?> command) {
+        if (failure != null) {
+            throw new IllegalStateException("Ledger shard " + index + " has failed", failure);
+        }
+        if (!running) {
+            throw new IllegalStateException("Ledger shard " + index + " is stopped");
+        }
+        if (!commands.offer(command)) {
+            return false;
+        }
+        wake();
+        return true;
+    }
+
+    /**
+     * Adds durable balance from another shard to a wallet held here.
+     */
+    void credit(Credit credit) {
+        credits.add(credit);
+        wake();
+    }
+
+    private void wake() {
+        if (parked) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    @Override
+    public void run() {
+        int idle = 0;
+        try {
+            while (running || commands.size() > 0 || !credits.isEmpty()) {
+                if (process()) {
+                    idle = 0;
+                } else if (++idle < SPINS_BEFORE_PARK) {
+                    Thread.onSpinWait();
+                } else {
+                    parked = true;
+                    if (running && commands.size() == 0 && credits.isEmpty()) {
+                        LockSupport.parkNanos(this, PARK_NANOS);
+                    }
+                    parked = false;
+                }
+            }
+        } catch (RuntimeException e) {
+            failure = e;
+            log.error("Ledger shard {} stopped: {}", index, e.getMessage(), e);
+            // Fail whatever is still queued rather than leaving callers to time out
+            commands.drain(command -> command.future.completeExceptionally(e), Integer.MAX_VALUE);
+        }
+    }
+
+    private boolean process() {
+        commands.drain(batch::add, batchSize);
+        // After draining, so a command sees every credit sent before it was queued
+        boolean credited = applyCredits();
+        if (batch.isEmpty()) {
+            return credited;
+        }
+
+        try {
+            preload();
+            for (Command<?> command : batch) {
+                try {
+                    command.execute(this);
+                } catch (RuntimeException e) {
+                    command.future.completeExceptionally(e);
+                }
+            }
+            if (!entries.isEmpty()) {
+                commit();
+            }
+            outgoing.forEach(credit -> peers[credit.shard()].credit(credit));
+            acknowledgements.forEach(Runnable::run);
+        } finally {
+            batch.clear();
+            acknowledgements.clear();
+            entries.clear();
+            transactions.clear();
+            events.clear();
+            outgoing.clear();
+            loadFailure = null;
+        }
+        return true;
+    }
+
+    private void commit() {
+        try {
+            long segment = journal.append(entries, transactions, events);
+            journal.sync();
+            writeBehind.submit(new LedgerWriteBehind.Batch(index, segment,
+                    List.copyOf(entries), List.copyOf(transactions), List.copyOf(events)));
+        } catch (IOException e) {
+            // Balances here now include rows that are not durable; the shard cannot go on
+            IllegalStateException error = new IllegalStateException("Ledger journal write failed", e);
+            batch.forEach(command -> command.future.completeExceptionally(error));
+            acknowledgements.clear();
+            outgoing.clear();
+            throw error;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted handing rows to the persister", e);
+        }
+    }
+
+    private boolean applyCredits() {
+        boolean applied = false;
+        Credit credit;
+        while ((credit = credits.poll()) != null) {
+            WalletState state = wallets.get(credit.walletId().getValue());
+            if (state == null) {
+                // Cannot happen: the wallet was resolved here before anything was sent to it
+                log.error("Credit of {} for wallet {} not held by shard {}", credit.amount(), credit.walletId(), index);
+            } else {
+                state.balance = state.balance.add(credit.amount());
+            }
+            applied = true;
+        }
+        return applied;
+    }
+
+    /**
+     * Loads every wallet the batch needs and this shard has not seen, in one query.
+     */
+    private void preload() {
+        Set<WalletId> missing = new HashSet<>();
+        for (Command<?> command : batch) {
+            for (WalletId walletId : command.wallets()) {
+                if (!wallets.containsKey(walletId.getValue())) {
+                    missing.add(walletId);
+                }
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+        try {
+            loadWalletPort.loadBalances(missing).forEach((walletId, balance) -> {
+                boolean opening = shardMap.holdsOpeningBalance(walletId, index);
+                wallets.put(walletId.getValue(),
+                        new WalletState(balance.getCurrency(), opening ? balance.getAmount() : BigDecimal.ZERO));
+                if (opening && shardMap.isStriped(walletId)) {
+                    shardMap.addToTotal(walletId, balance.getAmount());
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("Ledger shard {} could not load {} wallets: {}", index, missing.size(), e.getMessage());
+            loadFailure = e;
+        }
+    }
+
+    private WalletState wallet(WalletId walletId) {
+        WalletState state = wallets.get(walletId.getValue());
+        if (state == null) {
+            if (loadFailure != null) {
+                throw new IllegalStateException("Could not load wallet " + walletId, loadFailure);
+            }
+            throw new WalletNotFoundException(walletId.toString());
+        }
+        return state;
+    }
+
+    private static final class WalletState {
+        private final Currency currency;
+        private BigDecimal balance;
+
+        private WalletState(Currency currency, BigDecimal balance) {
+            this.currency = currency;
+            this.balance = balance;
+        }
+    }
+
+    /**
+     * A unit of work for a shard, completed on the shard thread.
+     */
+    abstract static class Command<T> {
+
+        final CompletableFuture<T> future = new CompletableFuture<>();
+
+        abstract Set<WalletId> wallets();
+
+        abstract void execute(LedgerShard shard);
+    }
+
+    /**
+     * Checks that wallets exist and returns their currencies, keeping them
+     * loaded so later credits from other shards can be applied.
+     */
+    static final class Resolve extends Command<Map<WalletId, Currency>> {
+
+        private final Set<WalletId> walletIds;
+
+        Resolve(Set<WalletId> walletIds) {
+            this.walletIds = walletIds;
+        }
+
+        @Override
+        Set<WalletId> wallets() {
+            return walletIds;
+        }
+
+        @Override
+        void execute(LedgerShard shard) {
+            Map<WalletId, Currency> currencies = new HashMap<>();
+            for (WalletId walletId : walletIds) {
+                currencies.put(walletId, shard.wallet(walletId).currency);
+            }
+            future.complete(currencies);
+        }
+    }
+
+    /**
+     * Applies a posting's entries for wallets on this shard and journals all
+     * of its rows. Entries for other shards' wallets are forwarded to them
+     * once the journal is synced.
+     */
+    static final class Post extends Command<Map<WalletId, Money>> {
+
+        private final Posting posting;
+        private final List<LedgerEntry> local;
+        private final List<LedgerEntry> foreign;
+        private final Set<WalletId> walletIds = new HashSet<>();
+
+        Post(Posting posting, List<LedgerEntry> local, List<LedgerEntry> foreign) {
+            this.posting = posting;
+            this.local = local;
+            this.foreign = foreign;
+            local.forEach(entry -> walletIds.add(entry.getWalletId()));
+        }
+
+        @Override
+        Set<WalletId> wallets() {
+            return walletIds;
+        }
+
+        @Override
+        void execute(LedgerShard shard) {
+            for (LedgerEntry entry : local) {
+                WalletState state = shard.wallet(entry.getWalletId());
+                Money amount = entry.getAmount();
+                if (!amount.getCurrency().isSameAs(state.currency)) {
+                    throw new InvalidCurrencyException(String.format(
+                            "Wallet currency %s does not match amount currency %s", state.currency, amount.getCurrency()));
+                }
+                if (entry.isDebit() && state.balance.compareTo(amount.getAmount()) < 0) {
+                    throw new InsufficientBalanceException(entry.getWalletId().toString(), amount.toString(),
+                            Money.of(state.balance, state.currency).toString());
+                }
+            }
+
+            // Work out the new balances and the event before changing any state
+            Map<WalletId, Money> held = new HashMap<>();
+            for (LedgerEntry entry : local) {
+                WalletState state = shard.wallet(entry.getWalletId());
+                Money current = held.getOrDefault(entry.getWalletId(), Money.of(state.balance, state.currency));
+                held.put(entry.getWalletId(),
+                        entry.isDebit() ? current.subtract(entry.getAmount()) : current.add(entry.getAmount()));
+            }
+            Map<WalletId, BigDecimal> stripedChanges = new HashMap<>();
+            for (LedgerEntry entry : posting.entries()) {
+                if (shard.shardMap.isStriped(entry.getWalletId())) {
+                    BigDecimal amount = entry.getAmount().getAmount();
+                    stripedChanges.merge(entry.getWalletId(), entry.isDebit() ? amount.negate() : amount,
+                            BigDecimal::add);
+                }
+            }
+            // A striped wallet reports its total over all stripes, not this stripe's share
+            Map<WalletId, Money> balances = new HashMap<>(held);
+            stripedChanges.forEach((walletId, change) -> balances.computeIfPresent(walletId, (id, balance) -> {
+                BigDecimal total = shard.shardMap.total(id, balance.getCurrency()).getAmount().add(change);
+                return Money.of(total.max(BigDecimal.ZERO), balance.getCurrency());
+            }));
+            DomainEvent event = posting.event() == null ? null : posting.event().apply(balances);
+
+            held.forEach((walletId, balance) -> shard.wallet(walletId).balance = balance.getAmount());
+            stripedChanges.forEach(shard.shardMap::addToTotal);
+            shard.entries.addAll(posting.entries());
+            if (posting.transaction() != null) {
+                shard.transactions.add(posting.transaction());
+            }
+            if (event != null) {
+                shard.events.add(event);
+            }
+            for (LedgerEntry entry : foreign) {
+                shard.outgoing.add(new Credit(shard.shardMap.shardOf(entry), entry.getWalletId(),
+                        entry.getAmount().getAmount()));
+            }
+            shard.acknowledgements.add(() -> future.complete(balances));
+        }
+    }
+
+    /**
+     * Moves everything one stripe of a striped wallet holds to its home
+     * stripe. Sent after the batch is synced, so the home stripe never
+     * spends a credit that is not yet durable.
+     */
+    static final class Sweep extends Command<BigDecimal> {
+
+        private final WalletId walletId;
+        private final int homeShard;
+
+        Sweep(WalletId walletId, int homeShard) {
+            this.walletId = walletId;
+            this.homeShard = homeShard;
+        }
+
+        @Override
+        Set<WalletId> wallets() {
+            // Nothing to load: a stripe never used here holds nothing
+            return Set.of();
+        }
+
+        @Override
+        void execute(LedgerShard shard) {
+            WalletState state = shard.wallets.get(walletId.getValue());
+            BigDecimal amount = state == null ? BigDecimal.ZERO : state.balance;
+            if (amount.signum() > 0) {
+                state.balance = BigDecimal.ZERO;
+                shard.outgoing.add(new Credit(homeShard, walletId, amount));
+            }
+            shard.acknowledgements.add(() -> future.complete(amount));
+        }
+    }
+
+    /**
+     * Balance added to a wallet held by another shard.
+     */
+    record Credit(int shard, WalletId walletId, BigDecimal amount) {
+    }
+}
@@ -0,0 +1,159 @@
+package com.fintech.wallet.infrastructure.engine;
+
+import com.fintech.wallet.domain.event.DomainEvent;
+import com.fintech.wallet.domain.model.LedgerEntry;
+import com.fintech.wallet.domain.model.Transaction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Copies journaled rows into the database on one background thread.
+ * <p>
+ * Batches from all shards are grouped up to a row limit and written in one
+ * database transaction together with their events. Once a group commits,
+ * the journal segments it completes are deleted. A failed write is retried
+ * with backoff until it succeeds or the engine shuts down, in which case the
+ * journals are kept and replayed on the next start.
+ */
+final class LedgerWriteBehind implements Runnable {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerWriteBehind.class);
+
+    private static final long INITIAL_BACKOFF_MILLIS = 100;
+    private static final long MAX_BACKOFF_MILLIS = 30_000;
+
+    private final Sink sink;
+    private final LedgerJournal[] journals;
+    private final BlockingQueue<Batch> queue;
+    private final int maxRows;
+
+    private volatile boolean running = true;
+    private volatile boolean abandoned;
+    private Thread thread;
+
+    LedgerWriteBehind(Sink sink, LedgerJournal[] journals, int queueCapacity, int maxRows) {
+        this.sink = sink;
+        this.journals = journals;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxRows = maxRows;
+    }
+
+    void start() {
+        thread = new Thread(this, "ledger-write-behind");
+        thread.start();
+    }
+
+    /**
+     * Queues a shard's batch, blocking while the persister is behind.
+     */
+    void submit(Batch batch) throws InterruptedException {
+        queue.put(batch);
+    }
+
+    /**
+     * Writes what is queued and stops.
+     *
+     * @return true if every submitted row reached the database
+     */
+    boolean stop(long timeoutMillis) throws InterruptedException {
+        running = false;
+        thread.join(timeoutMillis);
+        return !thread.isAlive() && !abandoned && queue.isEmpty();
+    }
+
+    @Override
+    public void run() {
+        List<Batch> group = new ArrayList<>();
+        try {
+            while (running || !queue.isEmpty()) {
+                Batch first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                group.add(first);
+                int rows = first.size();
+                Batch next;
+                while (rows < maxRows && (next = queue.poll()) != null) {
+                    group.add(next);
+                    rows += next.size();
+                }
+                if (!persist(group)) {
+                    return;
+                }
+                group.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean persist(List<Batch> group) throws InterruptedException {
+        List<LedgerEntry> entries = new ArrayList<>();
+        List<Transaction> transactions = new ArrayList<>();
+        List<DomainEvent> events = new ArrayList<>();
+        Map<Integer, Long> segments = new HashMap<>();
+        for (Batch batch : group) {
+            entries.addAll(batch.entries());
+            transactions.addAll(batch.transactions());
+            events.addAll(batch.events());
+            segments.merge(batch.shard(), batch.segment(), Math::max);
+        }
+
+        long backoff = INITIAL_BACKOFF_MILLIS;
+        while (true) {
+            try {
+                sink.write(entries, transactions, events);
+                break;
+            } catch (RuntimeException e) {
+                if (!running) {
+                    abandoned = true;
+                    log.error("Giving up on {} ledger rows at shutdown; they stay in the journal: {}",
+                            entries.size(), e.getMessage());
+                    return false;
+                }
+                log.error("Ledger write-behind failed, retrying in {} ms: {}", backoff, e.getMessage(), e);
+                Thread.sleep(backoff);
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+            }
+        }
+
+        // Earlier segments of each shard are now fully in the database
+        segments.forEach((shard, segment) -> {
+            try {
+                journals[shard].deleteBefore(segment);
+            } catch (IOException e) {
+                log.warn("Could not delete journal segments of shard {}: {}", shard, e.getMessage());
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Writes rows and their events in one database transaction. Rows that
+     * are already present must be skipped, since a batch can be written
+     * again after a crash.
+     */
+    interface Sink {
+        void write(List<LedgerEntry> entries, List<Transaction> transactions, List<DomainEvent> events);
+    }
+
+    /**
+     * One journal block's rows.
+     */
+    record Batch(int shard, long segment, List<LedgerEntry> entries, List<Transaction> transactions,
+                 List<DomainEvent> events) {
+
+        int size() {
+            return entries.size() + transactions.size();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.fintech.wallet.infrastructure.engine;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free queue for many producers and one consumer.
+ * <p>
+ * Producers claim a sequence with a CAS and then publish their element into
+ * the slot; the consumer takes elements in sequence order and stops at the
+ * first slot not yet published. Capacity is rounded up to a power of two.
+ */
+final class MpscRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong();
+    private volatile long consumed;
+
+    MpscRingBuffer(int capacity) {
+        if (capacity < 2 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 2 and 2^30");
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Adds an element, or returns false if the buffer is full.
+     */
+    boolean offer(E element) {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed >= slots.length()) {
+                return false;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+        slots.lazySet((int) sequence & mask, element);
+        return true;
+    }
+
+    /**
+     * Passes up to {@code max} elements to {@code consumer} in order.
+     * Only one thread may drain.
+     *
+     * @return the number of elements drained
+     */
+    int drain(Consumer<? super E> consumer, int max) {
+        long sequence = consumed;
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) sequence & mask;
+            E element = slots.get(index);
+            if (element == null) {
+                break;
+            }
+            slots.lazySet(index, null);
+            consumer.accept(element);
+            sequence++;
+            drained++;
+        }
+        if (drained > 0) {
+            // Frees the slots for producers only after they were cleared
+            consumed = sequence;
+        }
+        return drained;
+    }
+
+    int size() {
+        return (int) (claimed.get() - consumed);
+    }
+
+    int capacity() {
+        return slots.length();
+    }
+}
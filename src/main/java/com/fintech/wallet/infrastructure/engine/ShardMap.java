@@ -0,0 +1,116 @@
+package com.fintech.wallet.infrastructure.engine;
+
+import com.fintech.wallet.domain.model.LedgerEntry;
+import com.fintech.wallet.domain.valueobject.Currency;
+import com.fintech.wallet.domain.valueobject.Money;
+import com.fintech.wallet.domain.valueobject.WalletId;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Decides which shard holds a wallet, or part of it.
+ * <p>
+ * A wallet lives on its home shard. A striped wallet is also held on the
+ * next {@code stripes - 1} shards, each holding part of its balance in
+ * memory; its credits are spread over those stripes by entry ID, so they
+ * are applied in parallel. Debits stay on the home stripe, which borrows
+ * from the others when it runs short. The database still has one ledger
+ * per wallet, so after a restart the whole balance is back on the home
+ * shard.
+ */
+final class ShardMap {
+
+    // Money keeps two decimals, so totals are summed in minor units
+    private static final int SCALE = 2;
+
+    private final int shardCount;
+    private final int stripes;
+    private final Set<UUID> striped;
+    private final Map<UUID, LongAdder> totals = new ConcurrentHashMap<>();
+
+    ShardMap(int shardCount, Set<WalletId> stripedWallets, int stripes) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("ledger.engine.shards must be at least 1");
+        }
+        if (!stripedWallets.isEmpty() && (stripes < 2 || stripes > shardCount)) {
+            throw new IllegalArgumentException("ledger.engine.striping.stripes must be between 2 and the shard count");
+        }
+        this.shardCount = shardCount;
+        this.stripes = stripes;
+        this.striped = stripedWallets.stream().map(WalletId::getValue).collect(Collectors.toUnmodifiableSet());
+    }
+
+    int shardCount() {
+        return shardCount;
+    }
+
+    int homeShard(WalletId walletId) {
+        return Math.floorMod(walletId.getValue().hashCode(), shardCount);
+    }
+
+    /**
+     * The shard that applies an entry: a credit to a striped wallet goes to
+     * one of its stripes, everything else to the wallet's home shard.
+     */
+    int shardOf(LedgerEntry entry) {
+        int home = homeShard(entry.getWalletId());
+        if (entry.isDebit() || !isStriped(entry.getWalletId())) {
+            return home;
+        }
+        return (home + Math.floorMod(entry.getId().getValue().hashCode(), stripes)) % shardCount;
+    }
+
+    boolean isStriped(WalletId walletId) {
+        return striped.contains(walletId.getValue());
+    }
+
+    Set<WalletId> stripedWallets() {
+        return striped.stream().map(WalletId::of).collect(Collectors.toSet());
+    }
+
+    /**
+     * The shards holding a striped wallet's stripes other than the home one.
+     */
+    List<Integer> otherStripes(WalletId walletId) {
+        int home = homeShard(walletId);
+        List<Integer> shards = new ArrayList<>(stripes - 1);
+        for (int stripe = 1; stripe < stripes; stripe++) {
+            shards.add((home + stripe) % shardCount);
+        }
+        return shards;
+    }
+
+    /**
+     * Whether a shard starts a wallet at its stored balance, or at zero
+     * because it holds one of the wallet's other stripes.
+     */
+    boolean holdsOpeningBalance(WalletId walletId, int shard) {
+        return !isStriped(walletId) || shard == homeShard(walletId);
+    }
+
+    /**
+     * Adds to a striped wallet's total across stripes.
+     */
+    void addToTotal(WalletId walletId, BigDecimal amount) {
+        totals.computeIfAbsent(walletId.getValue(), id -> new LongAdder())
+                .add(amount.setScale(SCALE).unscaledValue().longValueExact());
+    }
+
+    /**
+     * A striped wallet's balance summed over its stripes. Not a snapshot:
+     * credits being applied on other stripes may or may not be included.
+     */
+    Money total(WalletId walletId, Currency currency) {
+        LongAdder total = totals.get(walletId.getValue());
+        long minor = total == null ? 0 : total.sum();
+        return Money.of(BigDecimal.valueOf(Math.max(minor, 0), SCALE), currency);
+    }
+}
@@ -6,6 +6,7 @@ import lombok.*;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.UUID;
 
 /**
@@ -52,6 +53,9 @@ public class ScheduledPaymentJpaEntity {
     @Column(name = "next_execution_date")
     private LocalDate nextExecutionDate;
 
+    @Column(name = "execution_time")
+    private LocalTime executionTime;
+
     @Column(name = "execution_count", nullable = false)
     private int executionCount;
 
@@ -67,4 +71,10 @@ public class ScheduledPaymentJpaEntity {
 
     @Column(name = "last_modified_at", nullable = false)
     private Instant lastModifiedAt;
+
+    @Column(name = "lease_owner", length = 255)
+    private String leaseOwner;
+
+    @Column(name = "lease_expires_at")
+    private Instant leaseExpiresAt;
 }
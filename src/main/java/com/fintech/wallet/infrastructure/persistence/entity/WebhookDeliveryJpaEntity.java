@@ -0,0 +1,55 @@
+package com.fintech.wallet.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * JPA entity for queued webhook deliveries.
+ */
+@Entity
+@Table(name = "webhook_deliveries")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WebhookDeliveryJpaEntity {
+
+    @Id
+    @Column(name = "id", nullable = false, updatable = false)
+    private UUID id;
+
+    @Column(name = "webhook_url", nullable = false, updatable = false, length = 2048)
+    private String webhookUrl;
+
+    @Column(name = "event_type", nullable = false, updatable = false, length = 64)
+    private String eventType;
+
+    @Column(name = "event_id", updatable = false)
+    private UUID eventId;
+
+    @Column(name = "payload", nullable = false, updatable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private WebhookDeliveryStatusJpa status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at")
+    private Instant nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "last_attempt_at")
+    private Instant lastAttemptAt;
+}
@@ -0,0 +1,10 @@
+package com.fintech.wallet.infrastructure.persistence.entity;
+
+/**
+ * JPA enumeration for webhook delivery status.
+ */
+public enum WebhookDeliveryStatusJpa {
+    PENDING,
+    DELIVERED,
+    DEAD
+}
@@ -0,0 +1,56 @@
+package com.fintech.wallet.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * JPA entity for webhook subscriptions.
+ */
+@Entity
+@Table(name = "webhook_subscriptions")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WebhookSubscriptionJpaEntity {
+
+    @Id
+    @Column(name = "id", nullable = false, updatable = false)
+    private UUID id;
+
+    @Column(name = "webhook_url", nullable = false, length = 2048)
+    private String webhookUrl;
+
+    @ElementCollection
+    @CollectionTable(name = "webhook_subscription_event_types",
+            joinColumns = @JoinColumn(name = "subscription_id"))
+    @Column(name = "event_type", nullable = false, length = 64)
+    @Builder.Default
+    private Set<String> eventTypes = new HashSet<>();
+
+    @ElementCollection
+    @CollectionTable(name = "webhook_subscription_wallets",
+            joinColumns = @JoinColumn(name = "subscription_id"))
+    @Column(name = "wallet_id", nullable = false)
+    @Builder.Default
+    private Set<UUID> walletIds = new HashSet<>();
+
+    @Column(name = "active", nullable = false)
+    private boolean active;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+}
@@ -30,6 +30,7 @@ public class ScheduledPaymentMapper {
                 .startDate(payment.getStartDate())
                 .endDate(payment.getEndDate())
                 .nextExecutionDate(payment.getNextExecutionDate())
+                .executionTime(payment.getExecutionTime())
                 .executionCount(payment.getExecutionCount())
                 .maxExecutions(payment.getMaxExecutions())
                 .status(ScheduledPaymentStatusJpa.valueOf(payment.getStatus().name()))
@@ -49,6 +50,7 @@ public class ScheduledPaymentMapper {
                 .startDate(entity.getStartDate())
                 .endDate(entity.getEndDate())
                 .nextExecutionDate(entity.getNextExecutionDate())
+                .executionTime(entity.getExecutionTime())
                 .executionCount(entity.getExecutionCount())
                 .maxExecutions(entity.getMaxExecutions())
                 .status(ScheduledPaymentStatus.valueOf(entity.getStatus().name()))
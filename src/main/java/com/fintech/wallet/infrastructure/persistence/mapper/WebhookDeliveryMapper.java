@@ -0,0 +1,46 @@
+package com.fintech.wallet.infrastructure.persistence.mapper;
+
+import com.fintech.wallet.domain.model.WebhookDelivery;
+import com.fintech.wallet.domain.model.WebhookDeliveryStatus;
+import com.fintech.wallet.infrastructure.persistence.entity.WebhookDeliveryJpaEntity;
+import com.fintech.wallet.infrastructure.persistence.entity.WebhookDeliveryStatusJpa;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapper between WebhookDelivery domain model and JPA entity.
+ */
+@Component
+public class WebhookDeliveryMapper {
+
+    public WebhookDeliveryJpaEntity toEntity(WebhookDelivery delivery) {
+        return WebhookDeliveryJpaEntity.builder()
+                .id(delivery.getId())
+                .webhookUrl(delivery.getWebhookUrl())
+                .eventType(delivery.getEventType())
+                .eventId(delivery.getEventId())
+                .payload(delivery.getPayload())
+                .status(WebhookDeliveryStatusJpa.valueOf(delivery.getStatus().name()))
+                .attempts(delivery.getAttempts())
+                .nextAttemptAt(delivery.getNextAttemptAt())
+                .lastError(delivery.getLastError())
+                .createdAt(delivery.getCreatedAt())
+                .lastAttemptAt(delivery.getLastAttemptAt())
+                .build();
+    }
+
+    public WebhookDelivery toDomain(WebhookDeliveryJpaEntity entity) {
+        return WebhookDelivery.builder()
+                .id(entity.getId())
+                .webhookUrl(entity.getWebhookUrl())
+                .eventType(entity.getEventType())
+                .eventId(entity.getEventId())
+                .payload(entity.getPayload())
+                .status(WebhookDeliveryStatus.valueOf(entity.getStatus().name()))
+                .attempts(entity.getAttempts())
+                .nextAttemptAt(entity.getNextAttemptAt())
+                .lastError(entity.getLastError())
+                .createdAt(entity.getCreatedAt())
+                .lastAttemptAt(entity.getLastAttemptAt())
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.fintech.wallet.infrastructure.persistence.mapper;
+
+import com.fintech.wallet.domain.model.WebhookSubscription;
+import com.fintech.wallet.domain.valueobject.WalletId;
+import com.fintech.wallet.infrastructure.persistence.entity.WebhookSubscriptionJpaEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.stream.Collectors;
+
+/**
+ * Mapper between WebhookSubscription domain model and JPA entity.
+ */
+@Component
+public class WebhookSubscriptionMapper {
+
+    public WebhookSubscriptionJpaEntity toEntity(WebhookSubscription subscription) {
+        return WebhookSubscriptionJpaEntity.builder()
+                .id(subscription.getId())
+                .webhookUrl(subscription.getWebhookUrl())
+                .eventTypes(new HashSet<>(subscription.getEventTypes()))
+                .walletIds(subscription.getWalletIds().stream()
+                        .map(WalletId::getValue)
+                        .collect(Collectors.toCollection(HashSet::new)))
+                .active(subscription.isActive())
+                .createdAt(subscription.getCreatedAt())
+                .updatedAt(subscription.getUpdatedAt())
+                .build();
+    }
+
+    public WebhookSubscription toDomain(WebhookSubscriptionJpaEntity entity) {
+        return WebhookSubscription.builder()
+                .id(entity.getId())
+                .webhookUrl(entity.getWebhookUrl())
+                .eventTypes(entity.getEventTypes())
+                .walletIds(entity.getWalletIds().stream()
+                        .map(WalletId::of)
+                        .collect(Collectors.toSet()))
+                .active(entity.isActive())
+                .createdAt(entity.getCreatedAt())
+                .updatedAt(entity.getUpdatedAt())
+                .build();
+    }
+}
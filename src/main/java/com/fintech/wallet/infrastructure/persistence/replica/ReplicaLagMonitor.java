@@ -0,0 +1,68 @@
+package com.fintech.wallet.infrastructure.persistence.replica;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Measures how far each replica is behind the primary and feeds the result
+ * to the {@link ReplicaRoutingDataSource}. Runs on every node, not under
+ * ShedLock: each node routes its own reads.
+ * <p>
+ * A replica that has replayed everything it received reports no lag, so an
+ * idle primary does not make its replicas look stale.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+            END""";
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final Map<String, JdbcTemplate> replicas = new LinkedHashMap<>();
+    private final Map<String, Double> lagSeconds = new ConcurrentHashMap<>();
+
+    public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource, MeterRegistry meterRegistry) {
+        this.routingDataSource = routingDataSource;
+        routingDataSource.getReplicas().forEach((name, dataSource) -> {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.setQueryTimeout(2);
+            this.replicas.put(name, jdbcTemplate);
+            lagSeconds.put(name, Double.NaN);
+            Gauge.builder("datasource.replica.lag", lagSeconds, lags -> lags.get(name))
+                    .description("Replication lag in seconds, NaN when the replica is unreachable")
+                    .baseUnit("seconds")
+                    .tag("replica", name)
+                    .register(meterRegistry);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replicas.lag-check-interval:PT1S}")
+    public void checkLag() {
+        replicas.forEach((name, jdbcTemplate) -> {
+            try {
+                Number millis = jdbcTemplate.queryForObject(LAG_QUERY, Number.class);
+                Duration lag = Duration.ofMillis(millis == null ? 0 : millis.longValue());
+                routingDataSource.updateLag(name, lag);
+                lagSeconds.put(name, lag.toMillis() / 1000.0);
+            } catch (Exception e) {
+                if (!Double.isNaN(lagSeconds.put(name, Double.NaN))) {
+                    log.warn("Replica {} unreachable, routing its reads to the primary: {}", name, e.getMessage());
+                }
+                routingDataSource.updateLag(name, null);
+            }
+        });
+    }
+}
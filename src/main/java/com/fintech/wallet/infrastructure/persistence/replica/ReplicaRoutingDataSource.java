@@ -0,0 +1,95 @@
+package com.fintech.wallet.infrastructure.persistence.replica;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a replica and everything else to the primary.
+ * Replicas are used round-robin, skipping any whose last measured lag is
+ * unknown or above the threshold; with none left, reads go to the primary.
+ * <p>
+ * Must sit behind a {@code LazyConnectionDataSourceProxy}: the read-only
+ * flag of a transaction is only set after it has begun, so the physical
+ * connection has to be fetched on the first statement.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final Map<String, DataSource> replicaDataSources;
+    private final List<String> replicas;
+    private final Duration maxLag;
+    private final Map<String, Duration> lags = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter fallbacks;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Duration maxLag,
+                                    MeterRegistry meterRegistry) {
+        this.replicaDataSources = Map.copyOf(replicas);
+        this.replicas = List.copyOf(replicas.keySet());
+        this.maxLag = maxLag;
+        this.fallbacks = Counter.builder("datasource.replica.fallbacks")
+                .description("Read-only transactions sent to the primary because no replica was usable")
+                .register(meterRegistry);
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    public Map<String, DataSource> getReplicas() {
+        return replicaDataSources;
+    }
+
+    /**
+     * Records the replication lag of a replica, or {@code null} when it could not be measured.
+     */
+    public void updateLag(String replica, Duration lag) {
+        if (lag == null) {
+            lags.remove(replica);
+        } else {
+            lags.put(replica, lag);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicas.isEmpty() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            String replica = replicas.get((start + i) % size);
+            Duration lag = lags.get(replica);
+            if (lag != null && lag.compareTo(maxLag) <= 0) {
+                return replica;
+            }
+        }
+        fallbacks.increment();
+        return PRIMARY;
+    }
+
+    /**
+     * Closes the replica pools; the primary is a bean of its own.
+     */
+    public void close() throws Exception {
+        for (DataSource replica : replicaDataSources.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -2,8 +2,12 @@ package com.fintech.wallet.infrastructure.persistence.repository;
 
 import com.fintech.wallet.infrastructure.persistence.entity.LedgerEntryJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -22,4 +26,46 @@ public interface LedgerEntryJpaRepository extends JpaRepository<LedgerEntryJpaEn
      * Finds all ledger entries for a specific transaction.
      */
     List<LedgerEntryJpaEntity> findByTransactionId(UUID transactionId);
+
+    /**
+     * Finds a wallet's entries created in {@code [from, to)}. The bounds on
+     * created_at let PostgreSQL skip partitions outside the period.
+     */
+    @Query("""
+            SELECT e FROM LedgerEntryJpaEntity e
+            WHERE e.wallet.id = :walletId AND e.createdAt >= :from AND e.createdAt < :to
+            ORDER BY e.createdAt
+            """)
+    List<LedgerEntryJpaEntity> findByWalletIdAndPeriod(@Param("walletId") UUID walletId,
+                                                       @Param("from") Instant from,
+                                                       @Param("to") Instant to);
+
+    /**
+     * Sums a wallet's credits minus debits created before an instant; only
+     * partitions before it are read.
+     */
+    @Query("""
+            SELECT COALESCE(SUM(CASE WHEN e.entryType = 'CREDIT' THEN e.amount ELSE -e.amount END), 0)
+            FROM LedgerEntryJpaEntity e
+            WHERE e.wallet.id = :walletId AND e.createdAt < :before
+            """)
+    BigDecimal sumByWalletIdBefore(@Param("walletId") UUID walletId, @Param("before") Instant before);
+
+    /**
+     * Full-text search of a wallet's descriptions, newest first. Served by the
+     * GIN index on (wallet_id, description_search), so the cost depends on the
+     * number of matches rather than the length of the wallet's history.
+     *
+     * @param query a to_tsquery expression over the 'simple' configuration
+     */
+    @Query(value = """
+            SELECT id, wallet_id, transaction_id, entry_type, amount, currency, description, created_at
+            FROM ledger_entries
+            WHERE wallet_id = :walletId AND description_search @@ to_tsquery('simple', :query)
+            ORDER BY created_at DESC, id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<LedgerEntryJpaEntity> searchDescriptions(@Param("walletId") UUID walletId,
+                                                  @Param("query") String query,
+                                                  @Param("limit") int limit);
 }
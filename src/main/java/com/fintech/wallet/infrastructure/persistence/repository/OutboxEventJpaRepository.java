@@ -0,0 +1,51 @@
+package com.fintech.wallet.infrastructure.persistence.repository;
+
+import com.fintech.wallet.infrastructure.persistence.entity.OutboxEventJpaEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * JPA repository for the domain event outbox.
+ */
+@Repository
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventJpaEntity, Long> {
+
+    /**
+     * Returns the oldest unpublished events in the order they were written,
+     * skipping events that have failed too often to be retried.
+     */
+    @Query("SELECT e FROM OutboxEventJpaEntity e WHERE e.publishedAt IS NULL AND e.attempts < :maxAttempts ORDER BY e.id")
+    List<OutboxEventJpaEntity> findUnpublished(@Param("maxAttempts") int maxAttempts, Pageable page);
+
+    /**
+     * Returns when the oldest event still to be relayed occurred, leaving out
+     * the skipped events {@link #findUnpublished} no longer returns.
+     */
+    @Query("SELECT MIN(e.occurredAt) FROM OutboxEventJpaEntity e WHERE e.publishedAt IS NULL AND e.attempts < :maxAttempts")
+    Instant findOldestUnpublishedOccurredAt(@Param("maxAttempts") int maxAttempts);
+
+    /**
+     * Counts the unpublished events skipped after failing too often.
+     */
+    @Query("SELECT COUNT(e) FROM OutboxEventJpaEntity e WHERE e.publishedAt IS NULL AND e.attempts >= :maxAttempts")
+    long countSkipped(@Param("maxAttempts") int maxAttempts);
+
+    @Modifying
+    @Query("UPDATE OutboxEventJpaEntity e SET e.publishedAt = :publishedAt WHERE e.id IN :ids")
+    int markPublished(@Param("ids") List<Long> ids, @Param("publishedAt") Instant publishedAt);
+
+    @Modifying
+    @Query("UPDATE OutboxEventJpaEntity e SET e.attempts = e.attempts + 1, e.lastError = :error WHERE e.id = :id")
+    int recordFailure(@Param("id") Long id, @Param("error") String error);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEventJpaEntity e WHERE e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") Instant before);
+}
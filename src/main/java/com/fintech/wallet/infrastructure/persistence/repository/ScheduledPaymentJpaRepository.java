@@ -3,11 +3,14 @@ package com.fintech.wallet.infrastructure.persistence.repository;
 import com.fintech.wallet.infrastructure.persistence.entity.ScheduledPaymentJpaEntity;
 import com.fintech.wallet.infrastructure.persistence.entity.ScheduledPaymentStatusJpa;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -21,9 +24,93 @@ public interface ScheduledPaymentJpaRepository extends JpaRepository<ScheduledPa
 
     List<ScheduledPaymentJpaEntity> findByStatus(ScheduledPaymentStatusJpa status);
 
-    @Query("SELECT p FROM ScheduledPaymentJpaEntity p WHERE p.status = 'ACTIVE' AND p.nextExecutionDate <= :date")
-    List<ScheduledPaymentJpaEntity> findDuePayments(@Param("date") LocalDate date);
+    @Query("SELECT p FROM ScheduledPaymentJpaEntity p WHERE p.status = 'ACTIVE' AND (p.sourceWalletId = :walletId OR p.destinationWalletId = :walletId)")
+    List<ScheduledPaymentJpaEntity> findActiveByWalletId(@Param("walletId") UUID walletId);
+
+    @Query("SELECT p FROM ScheduledPaymentJpaEntity p WHERE p.status = 'ACTIVE' AND p.nextExecutionDate = :date AND p.executionTime BETWEEN :fromTime AND :toTime ORDER BY p.executionTime")
+    List<ScheduledPaymentJpaEntity> findTimedPayments(@Param("date") LocalDate date,
+                                                      @Param("fromTime") LocalTime fromTime,
+                                                      @Param("toTime") LocalTime toTime);
 
     @Query("SELECT p FROM ScheduledPaymentJpaEntity p WHERE p.status = 'ACTIVE' AND p.nextExecutionDate <= :futureDate AND p.nextExecutionDate > :today")
     List<ScheduledPaymentJpaEntity> findUpcomingPayments(@Param("today") LocalDate today, @Param("futureDate") LocalDate futureDate);
+
+    /**
+     * Locks a batch of due, unleased payments for the calling node.
+     * Rows locked by another node's claim are skipped rather than waited on,
+     * and wallets with a live lease held by another node are left alone so
+     * that one wallet's payments are never executed by two nodes at once.
+     */
+    @Query(value = """
+            SELECT p.id FROM scheduled_payments p
+            WHERE p.status = 'ACTIVE'
+              AND (p.next_execution_date < :date
+                   OR (p.next_execution_date = :date
+                       AND (p.execution_time IS NULL OR p.execution_time <= :time)))
+              AND p.last_modified_at < :modifiedBefore
+              AND (p.lease_expires_at IS NULL OR p.lease_expires_at < CURRENT_TIMESTAMP)
+              AND NOT EXISTS (
+                  SELECT 1 FROM scheduled_payments o
+                  WHERE o.source_wallet_id = p.source_wallet_id
+                    AND o.lease_owner <> :owner
+                    AND o.lease_expires_at >= CURRENT_TIMESTAMP)
+            ORDER BY p.source_wallet_id, p.next_execution_date, p.created_at
+            LIMIT :batchSize
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<UUID> lockDuePaymentIds(@Param("date") LocalDate date,
+                                 @Param("time") LocalTime time,
+                                 @Param("modifiedBefore") Instant modifiedBefore,
+                                 @Param("owner") String owner,
+                                 @Param("batchSize") int batchSize);
+
+    /**
+     * Locks one payment for the calling node if it is due and neither it nor
+     * another payment of its source wallet is leased by another node.
+     */
+    @Query(value = """
+            SELECT p.id FROM scheduled_payments p
+            WHERE p.id = :id
+              AND p.status = 'ACTIVE'
+              AND (p.next_execution_date < :date
+                   OR (p.next_execution_date = :date
+                       AND (p.execution_time IS NULL OR p.execution_time <= :time)))
+              AND (p.lease_expires_at IS NULL OR p.lease_expires_at < CURRENT_TIMESTAMP)
+              AND NOT EXISTS (
+                  SELECT 1 FROM scheduled_payments o
+                  WHERE o.source_wallet_id = p.source_wallet_id
+                    AND o.lease_owner <> :owner
+                    AND o.lease_expires_at >= CURRENT_TIMESTAMP)
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<UUID> lockDuePaymentId(@Param("id") UUID id,
+                                @Param("date") LocalDate date,
+                                @Param("time") LocalTime time,
+                                @Param("owner") String owner);
+
+    @Modifying
+    @Query(value = """
+            UPDATE scheduled_payments
+            SET lease_owner = :owner,
+                lease_expires_at = CURRENT_TIMESTAMP + make_interval(secs => :leaseSeconds)
+            WHERE id IN (:ids)
+            """, nativeQuery = true)
+    int leasePayments(@Param("ids") List<UUID> ids,
+                      @Param("owner") String owner,
+                      @Param("leaseSeconds") long leaseSeconds);
+
+    /**
+     * Releases the given payments' leases if they are still held by the owner.
+     */
+    @Modifying
+    @Query("UPDATE ScheduledPaymentJpaEntity p SET p.leaseOwner = NULL, p.leaseExpiresAt = NULL WHERE p.id IN :ids AND p.leaseOwner = :owner")
+    int releaseLeases(@Param("ids") List<UUID> ids, @Param("owner") String owner);
+
+    /**
+     * Releases the leases held under the given node prefix by any owner other
+     * than the current one, that is by earlier processes of the same node.
+     */
+    @Modifying
+    @Query("UPDATE ScheduledPaymentJpaEntity p SET p.leaseOwner = NULL, p.leaseExpiresAt = NULL WHERE LOCATE(:nodePrefix, p.leaseOwner) = 1 AND p.leaseOwner <> :owner")
+    int releaseLeftoverLeases(@Param("nodePrefix") String nodePrefix, @Param("owner") String owner);
 }
@@ -6,6 +6,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -20,4 +23,25 @@ public interface WalletJpaRepository extends JpaRepository<WalletJpaEntity, UUID
      */
     @Query("SELECT w FROM WalletJpaEntity w LEFT JOIN FETCH w.ledgerEntries WHERE w.id = :id")
     Optional<WalletJpaEntity> findByIdWithLedgerEntries(@Param("id") UUID id);
+
+    /**
+     * Computes wallet balances from their ledger entries in the database.
+     */
+    @Query("""
+            SELECT w.id AS walletId, w.currency AS currency,
+                   COALESCE(SUM(CASE WHEN e.entryType = 'CREDIT' THEN e.amount ELSE -e.amount END), 0) AS balance
+            FROM WalletJpaEntity w LEFT JOIN w.ledgerEntries e
+            WHERE w.id IN :ids
+            GROUP BY w.id, w.currency
+            """)
+    List<WalletBalanceView> findBalances(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Projection of a wallet's computed balance.
+     */
+    interface WalletBalanceView {
+        UUID getWalletId();
+        String getCurrency();
+        BigDecimal getBalance();
+    }
 }
@@ -0,0 +1,49 @@
+package com.fintech.wallet.infrastructure.persistence.repository;
+
+import com.fintech.wallet.infrastructure.persistence.entity.WebhookDeliveryJpaEntity;
+import com.fintech.wallet.infrastructure.persistence.entity.WebhookDeliveryStatusJpa;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JPA repository for the webhook delivery queue.
+ */
+@Repository
+public interface WebhookDeliveryJpaRepository extends JpaRepository<WebhookDeliveryJpaEntity, UUID> {
+
+    @Query("SELECT DISTINCT d.webhookUrl FROM WebhookDeliveryJpaEntity d " +
+           "WHERE d.status = 'PENDING' AND d.nextAttemptAt <= :now")
+    List<String> findDueEndpoints(@Param("now") Instant now);
+
+    @Query("SELECT d FROM WebhookDeliveryJpaEntity d " +
+           "WHERE d.webhookUrl = :webhookUrl AND d.status = 'PENDING' AND d.nextAttemptAt <= :now " +
+           "ORDER BY d.nextAttemptAt")
+    List<WebhookDeliveryJpaEntity> findDue(@Param("webhookUrl") String webhookUrl,
+                                           @Param("now") Instant now,
+                                           Pageable page);
+
+    @Query("SELECT d FROM WebhookDeliveryJpaEntity d " +
+           "WHERE d.webhookUrl = :webhookUrl AND d.status = 'PENDING' " +
+           "ORDER BY d.createdAt, d.id")
+    List<WebhookDeliveryJpaEntity> findPending(@Param("webhookUrl") String webhookUrl, Pageable page);
+
+    List<WebhookDeliveryJpaEntity> findByStatusOrderByLastAttemptAtDesc(WebhookDeliveryStatusJpa status,
+                                                                        Pageable page);
+
+    @Modifying
+    @Query("UPDATE WebhookDeliveryJpaEntity d SET d.status = 'PENDING', d.attempts = 0, d.nextAttemptAt = :now " +
+           "WHERE d.status = 'DEAD' AND (:webhookUrl IS NULL OR d.webhookUrl = :webhookUrl)")
+    int replayDeadLetters(@Param("webhookUrl") String webhookUrl, @Param("now") Instant now);
+
+    @Modifying
+    @Query("DELETE FROM WebhookDeliveryJpaEntity d WHERE d.status = 'DELIVERED' AND d.lastAttemptAt < :before")
+    int deleteDeliveredBefore(@Param("before") Instant before);
+}
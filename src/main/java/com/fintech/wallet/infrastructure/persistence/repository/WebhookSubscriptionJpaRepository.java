@@ -0,0 +1,39 @@
+package com.fintech.wallet.infrastructure.persistence.repository;
+
+import com.fintech.wallet.infrastructure.persistence.entity.WebhookSubscriptionJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JPA repository for webhook subscriptions.
+ */
+@Repository
+public interface WebhookSubscriptionJpaRepository extends JpaRepository<WebhookSubscriptionJpaEntity, UUID> {
+
+    /**
+     * Loads active subscriptions with their event types in one query.
+     */
+    @Query("SELECT DISTINCT s FROM WebhookSubscriptionJpaEntity s LEFT JOIN FETCH s.eventTypes WHERE s.active = true")
+    List<WebhookSubscriptionJpaEntity> findAllActiveWithEventTypes();
+
+    /**
+     * Loads the wallet filters of the given subscriptions in one query; the
+     * entities are already in the persistence context, so this only fills
+     * their collections.
+     */
+    @Query("SELECT DISTINCT s FROM WebhookSubscriptionJpaEntity s LEFT JOIN FETCH s.walletIds WHERE s IN :subscriptions")
+    List<WebhookSubscriptionJpaEntity> fetchWalletIds(@Param("subscriptions") Collection<WebhookSubscriptionJpaEntity> subscriptions);
+
+    /**
+     * Sums the number of subscriptions and their row versions. Rows are never
+     * deleted, and every insert or update raises the sum, so it only grows.
+     */
+    @Query("SELECT COUNT(s) + COALESCE(SUM(s.version), 0) FROM WebhookSubscriptionJpaEntity s")
+    long sumVersions();
+}
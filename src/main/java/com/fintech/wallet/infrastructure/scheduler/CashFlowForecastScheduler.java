@@ -0,0 +1,74 @@
+package com.fintech.wallet.infrastructure.scheduler;
+
+import com.fintech.wallet.application.port.in.CashFlowForecastUseCase;
+import com.fintech.wallet.domain.valueobject.CashFlowForecast;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Nightly job flagging wallets whose balance will not cover their upcoming
+ * scheduled payments. Uses ShedLock so the forecast runs once per cluster.
+ */
+@Component
+public class CashFlowForecastScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(CashFlowForecastScheduler.class);
+
+    private final CashFlowForecastUseCase cashFlowForecastUseCase;
+    private final boolean enabled;
+    private final int days;
+    private final Timer runTimer;
+    private final AtomicInteger walletsWithShortfall = new AtomicInteger();
+
+    public CashFlowForecastScheduler(
+            CashFlowForecastUseCase cashFlowForecastUseCase,
+            MeterRegistry meterRegistry,
+            @Value("${scheduler.forecast.enabled:true}") boolean enabled,
+            @Value("${scheduler.forecast.days:90}") int days) {
+        this.cashFlowForecastUseCase = cashFlowForecastUseCase;
+        this.enabled = enabled;
+        this.days = days;
+        this.runTimer = Timer.builder("cashflow.forecast.run")
+                .description("Duration of the nightly cash-flow forecast")
+                .register(meterRegistry);
+        meterRegistry.gauge("cashflow.forecast.shortfalls", walletsWithShortfall);
+    }
+
+    /**
+     * Forecasts every paying wallet at 2:30 AM.
+     */
+    @Scheduled(cron = "${scheduler.forecast.cron:0 30 2 * * *}")
+    @SchedulerLock(name = "forecastCashFlow", lockAtLeastFor = "PT5M", lockAtMostFor = "PT1H")
+    public void forecastCashFlow() {
+        if (!enabled) {
+            log.debug("Cash-flow forecast disabled");
+            return;
+        }
+
+        MDC.put("correlationId", UUID.randomUUID().toString());
+        MDC.put("job", "forecastCashFlow");
+
+        log.info("Starting cash-flow forecast job");
+        try {
+            List<CashFlowForecast> shortfalls = runTimer.recordCallable(
+                    () -> cashFlowForecastUseCase.forecastAllWallets(days));
+            walletsWithShortfall.set(shortfalls.size());
+            log.info("Completed cash-flow forecast job");
+        } catch (Exception e) {
+            log.error("Error in cash-flow forecast job: {}", e.getMessage(), e);
+        } finally {
+            MDC.clear();
+        }
+    }
+}
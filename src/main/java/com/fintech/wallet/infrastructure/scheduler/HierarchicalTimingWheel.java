@@ -0,0 +1,158 @@
+package com.fintech.wallet.infrastructure.scheduler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel holding tasks until their deadline.
+ * <p>
+ * The lowest level has one bucket per tick; each higher level has buckets
+ * spanning a whole rotation of the level below and is only created once a
+ * deadline falls beyond the levels that exist. When the clock reaches a
+ * higher-level bucket its tasks cascade down to finer buckets, so adding a
+ * task and firing it are O(1) regardless of how many tasks are pending.
+ * <p>
+ * Tasks fire at the first tick at or after their deadline, never before it.
+ * The wheel does not run a clock of its own: the caller advances it and
+ * executes the tasks returned. All methods are thread-safe.
+ *
+ * @param <T> the task type
+ */
+public final class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<Level<T>> levels = new ArrayList<>();
+    private long currentTime;
+    private int size;
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 1) {
+            throw new IllegalArgumentException("Tick must be positive and wheel size greater than one");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.currentTime = startMillis - Math.floorMod(startMillis, tickMillis);
+        this.levels.add(new Level<>(tickMillis, wheelSize));
+    }
+
+    /**
+     * Adds a task to fire at the given deadline.
+     *
+     * @return false if the deadline has already been reached, in which case
+     *         the task is not added and should be run by the caller directly
+     */
+    public synchronized boolean add(long deadlineMillis, T task) {
+        if (!place(new Entry<>(deadlineMillis, task))) {
+            return false;
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * Advances the clock to the given time and returns the tasks whose
+     * deadline has been reached.
+     */
+    public synchronized List<T> advanceTo(long nowMillis) {
+        List<T> expired = new ArrayList<>();
+        while (currentTime + tickMillis <= nowMillis) {
+            currentTime += tickMillis;
+            // Coarser levels first, so cascaded tasks land in buckets drained below
+            for (int i = levels.size() - 1; i > 0; i--) {
+                Level<T> level = levels.get(i);
+                if (currentTime % level.tickMillis == 0) {
+                    for (Entry<T> entry : level.drain(currentTime)) {
+                        if (!place(entry)) {
+                            expired.add(entry.task);
+                            size--;
+                        }
+                    }
+                }
+            }
+            for (Entry<T> entry : levels.get(0).drain(currentTime)) {
+                expired.add(entry.task);
+                size--;
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * Returns the number of pending tasks.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    private boolean place(Entry<T> entry) {
+        // Lowest level: round the deadline up so the task never fires early
+        long slot = ceilTo(entry.deadline, tickMillis);
+        if (slot <= currentTime) {
+            return false;
+        }
+        Level<T> lowest = levels.get(0);
+        if (slot <= currentTime + lowest.intervalMillis) {
+            lowest.put(slot, entry);
+            return true;
+        }
+
+        // Higher levels: the bucket is drained when the clock reaches its start
+        for (int i = 1; ; i++) {
+            if (i == levels.size()) {
+                levels.add(new Level<>(levels.get(i - 1).intervalMillis, wheelSize));
+            }
+            Level<T> level = levels.get(i);
+            long bucketStart = entry.deadline - Math.floorMod(entry.deadline, level.tickMillis);
+            long levelStart = currentTime - Math.floorMod(currentTime, level.tickMillis);
+            if (bucketStart < levelStart + level.intervalMillis) {
+                level.put(bucketStart, entry);
+                return true;
+            }
+        }
+    }
+
+    private static long ceilTo(long value, long unit) {
+        long remainder = Math.floorMod(value, unit);
+        return remainder == 0 ? value : value - remainder + unit;
+    }
+
+    private record Entry<T>(long deadline, T task) {
+    }
+
+    private static final class Level<T> {
+        private final long tickMillis;
+        private final long intervalMillis;
+        private final ArrayDeque<Entry<T>>[] buckets;
+
+        @SuppressWarnings("unchecked")
+        Level(long tickMillis, int wheelSize) {
+            this.tickMillis = tickMillis;
+            this.intervalMillis = Math.multiplyExact(tickMillis, (long) wheelSize);
+            this.buckets = new ArrayDeque[wheelSize];
+        }
+
+        void put(long slotTime, Entry<T> entry) {
+            int index = index(slotTime);
+            if (buckets[index] == null) {
+                buckets[index] = new ArrayDeque<>();
+            }
+            buckets[index].add(entry);
+        }
+
+        List<Entry<T>> drain(long slotTime) {
+            int index = index(slotTime);
+            ArrayDeque<Entry<T>> bucket = buckets[index];
+            if (bucket == null || bucket.isEmpty()) {
+                return List.of();
+            }
+            buckets[index] = null;
+            return new ArrayList<>(bucket);
+        }
+
+        private int index(long slotTime) {
+            return (int) Math.floorMod(slotTime / tickMillis, (long) buckets.length);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.fintech.wallet.infrastructure.scheduler;
+
+import com.fintech.wallet.infrastructure.adapter.LedgerArchiveAdapter;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+/**
+ * Nightly job moving closed months older than the hot window out of
+ * ledger_entries into archive segments, one month per transaction.
+ * Uses ShedLock so months are archived once, in order.
+ */
+@Component
+public class LedgerArchiveScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerArchiveScheduler.class);
+
+    private final LedgerArchiveAdapter ledgerArchiveAdapter;
+    private final boolean enabled;
+    private final int hotMonths;
+
+    public LedgerArchiveScheduler(
+            LedgerArchiveAdapter ledgerArchiveAdapter,
+            @Value("${ledger.archive.enabled:false}") boolean enabled,
+            @Value("${ledger.archive.hot-months:24}") int hotMonths) {
+        this.ledgerArchiveAdapter = ledgerArchiveAdapter;
+        this.enabled = enabled;
+        this.hotMonths = hotMonths;
+    }
+
+    /**
+     * Archives every eligible month at 1:45 AM.
+     */
+    @Scheduled(cron = "${ledger.archive.cron:0 45 1 * * *}")
+    @SchedulerLock(name = "archiveLedger", lockAtLeastFor = "PT5M", lockAtMostFor = "PT6H")
+    public void archiveClosedMonths() {
+        if (!enabled) {
+            log.debug("Ledger archival disabled");
+            return;
+        }
+
+        YearMonth keepFrom = YearMonth.now(ZoneOffset.UTC).minusMonths(hotMonths);
+        try {
+            Optional<YearMonth> month;
+            while ((month = ledgerArchiveAdapter.nextArchivableMonth(keepFrom)).isPresent()) {
+                ledgerArchiveAdapter.archive(month.get());
+            }
+        } catch (Exception e) {
+            log.error("Ledger archival failed: {}", e.getMessage(), e);
+        }
+    }
+}
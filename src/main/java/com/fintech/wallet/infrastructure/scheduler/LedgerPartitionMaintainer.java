@@ -0,0 +1,98 @@
+package com.fintech.wallet.infrastructure.scheduler;
+
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.time.LocalDate;
+
+/**
+ * Creates the monthly ledger_entries partitions ahead of time, so new
+ * entries never land in the default partition. Uses ShedLock so only one
+ * node issues the DDL; creating a partition that exists is a no-op.
+ * <p>
+ * The application never applies schema.sql, so the first run checks that
+ * ledger_entries is partitioned and ensure_ledger_partitions exists; if not,
+ * the job logs one warning and stays off until the next restart.
+ */
+@Component
+public class LedgerPartitionMaintainer {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerPartitionMaintainer.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int monthsAhead;
+    private volatile Boolean schemaReady;
+
+    public LedgerPartitionMaintainer(
+            DataSource dataSource,
+            @Value("${ledger.partitions.enabled:true}") boolean enabled,
+            @Value("${ledger.partitions.months-ahead:3}") int monthsAhead) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        ensurePartitions();
+    }
+
+    /**
+     * Tops up the partitions at 1:15 AM.
+     */
+    @Scheduled(cron = "${ledger.partitions.cron:0 15 1 * * *}")
+    @SchedulerLock(name = "ensureLedgerPartitions", lockAtLeastFor = "PT1M", lockAtMostFor = "PT10M")
+    public void ensurePartitions() {
+        if (!enabled) {
+            log.debug("Ledger partition maintenance disabled");
+            return;
+        }
+
+        try {
+            if (!isSchemaReady()) {
+                return;
+            }
+
+            Integer created = jdbcTemplate.queryForObject("SELECT ensure_ledger_partitions(?, ?)",
+                    Integer.class, Date.valueOf(LocalDate.now()), monthsAhead);
+            if (created != null && created > 0) {
+                log.info("Created {} ledger partitions", created);
+            }
+
+            Boolean defaultUsed = jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM ledger_entries_default)", Boolean.class);
+            if (Boolean.TRUE.equals(defaultUsed)) {
+                log.warn("ledger_entries_default holds rows; queries on their period are not pruned");
+            }
+        } catch (Exception e) {
+            log.error("Failed to maintain ledger partitions: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Checks the schema on the first run that reaches the database.
+     */
+    private boolean isSchemaReady() {
+        if (schemaReady == null) {
+            schemaReady = jdbcTemplate.queryForObject("""
+                    SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('ledger_entries'))
+                       AND to_regprocedure('ensure_ledger_partitions(date, integer)') IS NOT NULL
+                    """, Boolean.class);
+            if (!schemaReady) {
+                log.warn("Ledger partition maintenance disabled: ledger_entries is not partitioned or "
+                        + "ensure_ledger_partitions is missing; see schema.sql and db/partition-ledger-entries.sql");
+            }
+        }
+        return schemaReady;
+    }
+}
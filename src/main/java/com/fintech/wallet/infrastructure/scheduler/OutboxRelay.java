@@ -0,0 +1,174 @@
+package com.fintech.wallet.infrastructure.scheduler;
+
+import com.fintech.wallet.domain.event.DomainEvent;
+import com.fintech.wallet.infrastructure.adapter.DomainEventSerializer;
+import com.fintech.wallet.infrastructure.adapter.SpringEventPublisherAdapter;
+import com.fintech.wallet.infrastructure.persistence.entity.OutboxEventJpaEntity;
+import com.fintech.wallet.infrastructure.persistence.repository.OutboxEventJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Relays committed domain events from the outbox to the Spring listeners.
+ * <p>
+ * Each poll drains the outbox in batches: a batch is read in ID order,
+ * dispatched outside any transaction and then marked published with a single
+ * update. Delivery is at least once; a node that dies between dispatch and
+ * the update re-sends the batch. Listeners that must not lose events - such
+ * as queueing webhooks - run synchronously on this thread, so an event is
+ * marked published only after they have returned. Only fire-and-forget side
+ * effects, such as SMTP sends and live streams, are handed to {@code @Async}
+ * executors, and those are at most once. ShedLock keeps a single relay running across
+ * the cluster so events are delivered in the order they were written.
+ * <p>
+ * When a listener throws, the batch stops at the failing event so later
+ * events are not delivered ahead of it. The event is retried on the next
+ * poll and skipped once it has failed {@code max-attempts} times; it then
+ * stays in the outbox with its last error for manual inspection and is
+ * counted by the {@code outbox.events.skipped} gauge.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxEventJpaRepository outboxRepository;
+    private final DomainEventSerializer serializer;
+    private final SpringEventPublisherAdapter dispatcher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retention;
+    private final Counter relayedCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final AtomicLong skippedEvents = new AtomicLong();
+
+    public OutboxRelay(
+            OutboxEventJpaRepository outboxRepository,
+            DomainEventSerializer serializer,
+            SpringEventPublisherAdapter dispatcher,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${outbox.relay.enabled:true}") boolean enabled,
+            @Value("${outbox.relay.batch-size:200}") int batchSize,
+            @Value("${outbox.relay.max-attempts:10}") int maxAttempts,
+            @Value("${outbox.relay.retention:P7D}") Duration retention) {
+        this.outboxRepository = outboxRepository;
+        this.serializer = serializer;
+        this.dispatcher = dispatcher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retention = retention;
+        this.relayedCounter = Counter.builder("outbox.events.relayed")
+                .tag("outcome", "success")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("outbox.events.relayed")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.relay.batch")
+                .description("Time to dispatch and mark one outbox batch")
+                .register(meterRegistry);
+        Gauge.builder("outbox.relay.lag", lagSeconds, AtomicLong::get)
+                .description("Age of the oldest unpublished outbox event")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("outbox.events.skipped", skippedEvents, AtomicLong::get)
+                .description("Unpublished outbox events skipped after max-attempts failures")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Drains the outbox until a batch comes back short or fails.
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval:PT0.5S}")
+    @SchedulerLock(name = "relayOutbox", lockAtMostFor = "PT5M")
+    public void relay() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int relayed;
+            do {
+                relayed = batchTimer.record(this::relayBatch);
+            } while (relayed == batchSize);
+            // Skipped events would otherwise hold the lag up until they are cleaned up by hand
+            Instant oldest = outboxRepository.findOldestUnpublishedOccurredAt(maxAttempts);
+            lagSeconds.set(oldest == null ? 0 : Duration.between(oldest, Instant.now()).toSeconds());
+            skippedEvents.set(outboxRepository.countSkipped(maxAttempts));
+        } catch (Exception e) {
+            log.error("Outbox relay failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Deletes published events older than the retention period.
+     */
+    @Scheduled(cron = "${outbox.relay.cleanup-cron:0 15 3 * * *}")
+    @SchedulerLock(name = "cleanupOutbox", lockAtLeastFor = "PT1M", lockAtMostFor = "PT30M")
+    public void cleanup() {
+        if (!enabled) {
+            return;
+        }
+        Integer deleted = transactionTemplate.execute(
+                status -> outboxRepository.deletePublishedBefore(Instant.now().minus(retention)));
+        log.info("Deleted {} published outbox events", deleted);
+    }
+
+    /**
+     * Dispatches one batch and returns the number of events delivered.
+     */
+    private int relayBatch() {
+        List<OutboxEventJpaEntity> batch = outboxRepository.findUnpublished(maxAttempts, PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> delivered = new ArrayList<>(batch.size());
+        for (OutboxEventJpaEntity entity : batch) {
+            try {
+                DomainEvent event = serializer.deserialize(entity.getEventId(), entity.getEventType(),
+                        entity.getOccurredAt(), entity.getPayload());
+                dispatcher.publish(event);
+                delivered.add(entity.getId());
+            } catch (Exception e) {
+                log.warn("Failed to relay outbox event {} (attempt {}): {}",
+                        entity.getEventId(), entity.getAttempts() + 1, e.getMessage());
+                failedCounter.increment();
+                String error = String.valueOf(e.getMessage());
+                transactionTemplate.executeWithoutResult(status -> outboxRepository.recordFailure(
+                        entity.getId(), error.substring(0, Math.min(error.length(), MAX_ERROR_LENGTH))));
+                break;
+            }
+        }
+
+        if (!delivered.isEmpty()) {
+            Instant now = Instant.now();
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.markPublished(delivered, now));
+            relayedCounter.increment(delivered.size());
+        }
+        return delivered.size() == batch.size() ? delivered.size() : -1;
+    }
+}
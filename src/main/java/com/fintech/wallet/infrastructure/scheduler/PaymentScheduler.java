@@ -1,6 +1,11 @@
 package com.fintech.wallet.infrastructure.scheduler;
 
 import com.fintech.wallet.application.port.in.ScheduledPaymentUseCase;
+import com.fintech.wallet.domain.valueobject.PaymentRunSummary;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,10 +15,12 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Scheduler for executing scheduled payments and sending reminders.
- * Uses ShedLock for distributed locking in clustered environments.
+ * Payment execution runs on every node, each claiming its own leased batches;
+ * reminders use ShedLock so they are sent once per cluster.
  */
 @Component
 public class PaymentScheduler {
@@ -22,20 +29,37 @@ public class PaymentScheduler {
 
     private final ScheduledPaymentUseCase scheduledPaymentUseCase;
     private final boolean enabled;
+    private final Timer runTimer;
+    private final Counter succeededCounter;
+    private final Counter failedCounter;
+    private final AtomicReference<Double> lastThroughput = new AtomicReference<>(0.0);
 
     public PaymentScheduler(
             ScheduledPaymentUseCase scheduledPaymentUseCase,
+            MeterRegistry meterRegistry,
             @Value("${scheduler.payments.enabled:true}") boolean enabled) {
         this.scheduledPaymentUseCase = scheduledPaymentUseCase;
         this.enabled = enabled;
+        this.runTimer = Timer.builder("scheduled.payments.run")
+                .description("Duration of scheduled payment execution runs")
+                .register(meterRegistry);
+        this.succeededCounter = Counter.builder("scheduled.payments.executed")
+                .tag("outcome", "success")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("scheduled.payments.executed")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+        Gauge.builder("scheduled.payments.throughput", lastThroughput, AtomicReference::get)
+                .description("Payments per second achieved by the last run")
+                .baseUnit("payments/s")
+                .register(meterRegistry);
     }
 
     /**
      * Executes due scheduled payments every hour.
-     * Uses ShedLock to prevent concurrent execution in clustered environments.
+     * Not guarded by ShedLock: nodes share the work through row-level leases.
      */
     @Scheduled(cron = "${scheduler.payments.cron:0 0 * * * *}")
-    @SchedulerLock(name = "executeDuePayments", lockAtLeastFor = "PT5M", lockAtMostFor = "PT30M")
     public void executeDuePayments() {
         if (!enabled) {
             log.debug("Payment scheduler disabled");
@@ -48,7 +72,8 @@ public class PaymentScheduler {
 
         log.info("Starting scheduled payment execution job");
         try {
-            scheduledPaymentUseCase.executeDuePayments();
+            PaymentRunSummary summary = scheduledPaymentUseCase.executeDuePayments();
+            recordRun(summary);
             log.info("Completed scheduled payment execution job");
         } catch (Exception e) {
             log.error("Error in scheduled payment execution: {}", e.getMessage(), e);
@@ -83,4 +108,11 @@ public class PaymentScheduler {
             MDC.clear();
         }
     }
+
+    private void recordRun(PaymentRunSummary summary) {
+        runTimer.record(summary.elapsed());
+        succeededCounter.increment(summary.succeeded());
+        failedCounter.increment(summary.failed());
+        lastThroughput.set(summary.throughputPerSecond());
+    }
 }
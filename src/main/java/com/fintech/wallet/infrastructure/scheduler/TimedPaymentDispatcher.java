@@ -0,0 +1,142 @@
+package com.fintech.wallet.infrastructure.scheduler;
+
+import com.fintech.wallet.application.port.in.ScheduledPaymentUseCase;
+import com.fintech.wallet.domain.model.ScheduledPayment;
+import com.fintech.wallet.domain.valueobject.ScheduledPaymentId;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fires scheduled payments with an execution time at that exact time.
+ * <p>
+ * Payments due within the next window are loaded from the database into an
+ * in-memory {@link HierarchicalTimingWheel}, which a dedicated thread advances
+ * every tick. Fired payments are claimed and executed on the scheduled payment
+ * worker pool, so a node that loses the claim to another node does nothing.
+ * The hourly {@link PaymentScheduler} run remains the safety net for payments
+ * the wheel missed, for example because the node restarted.
+ */
+@Component
+public class TimedPaymentDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(TimedPaymentDispatcher.class);
+
+    private final ScheduledPaymentUseCase scheduledPaymentUseCase;
+    private final Executor paymentExecutor;
+    private final boolean enabled;
+    private final Duration window;
+    private final Duration tick;
+    private final ZoneId zone = ZoneId.systemDefault();
+    private final HierarchicalTimingWheel<ScheduledPaymentId> wheel;
+    private final Set<ScheduledPaymentId> pending = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService ticker;
+
+    public TimedPaymentDispatcher(
+            ScheduledPaymentUseCase scheduledPaymentUseCase,
+            @Qualifier("scheduledPaymentTaskExecutor") Executor paymentExecutor,
+            @Value("${scheduler.payments.enabled:true}") boolean schedulerEnabled,
+            @Value("${scheduler.payments.timing-wheel.enabled:true}") boolean enabled,
+            @Value("${scheduler.payments.timing-wheel.window:PT1H}") Duration window,
+            @Value("${scheduler.payments.timing-wheel.tick:PT1S}") Duration tick) {
+        this.scheduledPaymentUseCase = scheduledPaymentUseCase;
+        this.paymentExecutor = paymentExecutor;
+        this.enabled = schedulerEnabled && enabled;
+        this.window = window;
+        this.tick = tick;
+        // 60 buckets per level: seconds, then minutes, then hours with a 1s tick
+        this.wheel = new HierarchicalTimingWheel<>(tick.toMillis(), 60, System.currentTimeMillis());
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "timed-payment-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.debug("Timed payment dispatcher disabled");
+            return;
+        }
+        ticker.scheduleAtFixedRate(this::advance, tick.toMillis(), tick.toMillis(), TimeUnit.MILLISECONDS);
+        loadWindow();
+    }
+
+    @PreDestroy
+    public void stop() {
+        ticker.shutdownNow();
+    }
+
+    /**
+     * Loads payments due within the next window into the wheel. Runs more
+     * often than the window is long, so consecutive windows overlap; payments
+     * already in the wheel are not added twice.
+     */
+    @Scheduled(fixedDelayString = "${scheduler.payments.timing-wheel.load-interval:PT10M}",
+            initialDelayString = "${scheduler.payments.timing-wheel.load-interval:PT10M}")
+    public void loadWindow() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now(zone);
+            List<ScheduledPayment> payments =
+                    scheduledPaymentUseCase.getTimedPaymentsBetween(now, now.plus(window));
+            int added = 0;
+            for (ScheduledPayment payment : payments) {
+                ScheduledPaymentId id = payment.getId();
+                if (!pending.add(id)) {
+                    continue;
+                }
+                long deadline = payment.getNextExecutionDateTime().atZone(zone).toInstant().toEpochMilli();
+                if (wheel.add(deadline, id)) {
+                    added++;
+                } else {
+                    dispatch(id);
+                }
+            }
+            log.debug("Loaded {} timed payments into the wheel, {} pending", added, wheel.size());
+        } catch (Exception e) {
+            log.error("Failed to load timed payments: {}", e.getMessage(), e);
+        }
+    }
+
+    private void advance() {
+        try {
+            for (ScheduledPaymentId id : wheel.advanceTo(System.currentTimeMillis())) {
+                dispatch(id);
+            }
+        } catch (Exception e) {
+            // Never let an exception cancel the periodic tick
+            log.error("Timing wheel tick failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void dispatch(ScheduledPaymentId id) {
+        paymentExecutor.execute(() -> {
+            try {
+                scheduledPaymentUseCase.executeScheduledPayment(id.toString());
+            } finally {
+                pending.remove(id);
+            }
+        });
+    }
+}
@@ -0,0 +1,67 @@
+package com.fintech.wallet.infrastructure.scheduler;
+
+import com.fintech.wallet.application.port.in.WebhookDeliveryUseCase;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Drains the persisted webhook delivery queue. Uses ShedLock so each due
+ * delivery is attempted by one node only.
+ */
+@Component
+public class WebhookDeliveryScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(WebhookDeliveryScheduler.class);
+
+    private final WebhookDeliveryUseCase webhookDeliveryUseCase;
+    private final boolean enabled;
+    private final Duration retention;
+
+    public WebhookDeliveryScheduler(
+            WebhookDeliveryUseCase webhookDeliveryUseCase,
+            @Value("${webhook.enabled:false}") boolean enabled,
+            @Value("${app.webhook.retention:P7D}") Duration retention) {
+        this.webhookDeliveryUseCase = webhookDeliveryUseCase;
+        this.enabled = enabled;
+        this.retention = retention;
+    }
+
+    /**
+     * Attempts one batch of due deliveries per poll; at most
+     * {@code max-per-endpoint-per-poll} of them go to the same endpoint.
+     */
+    @Scheduled(fixedDelayString = "${app.webhook.poll-interval:PT1S}")
+    @SchedulerLock(name = "deliverWebhooks", lockAtMostFor = "PT5M")
+    public void deliverWebhooks() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int attempted = webhookDeliveryUseCase.deliverDue();
+            if (attempted > 0) {
+                log.debug("Attempted {} webhook deliveries", attempted);
+            }
+        } catch (Exception e) {
+            log.error("Webhook delivery run failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Deletes delivered entries past the retention period.
+     */
+    @Scheduled(cron = "${app.webhook.cleanup-cron:0 45 3 * * *}")
+    @SchedulerLock(name = "cleanupWebhookDeliveries", lockAtLeastFor = "PT1M", lockAtMostFor = "PT30M")
+    public void cleanup() {
+        if (!enabled) {
+            return;
+        }
+        int deleted = webhookDeliveryUseCase.purgeDelivered(retention);
+        log.info("Deleted {} delivered webhook entries", deleted);
+    }
+}
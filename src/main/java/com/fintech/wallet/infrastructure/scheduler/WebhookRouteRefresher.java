@@ -0,0 +1,43 @@
+package com.fintech.wallet.infrastructure.scheduler;
+
+import com.fintech.wallet.application.port.in.WebhookSubscriptionUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps this node's webhook routes in step with the subscription registry.
+ * Runs on every node, not under ShedLock: each node holds its own routes.
+ * A refresh costs one small query unless subscriptions actually changed.
+ */
+@Component
+public class WebhookRouteRefresher {
+
+    private static final Logger log = LoggerFactory.getLogger(WebhookRouteRefresher.class);
+
+    private final WebhookSubscriptionUseCase webhookSubscriptionUseCase;
+
+    public WebhookRouteRefresher(WebhookSubscriptionUseCase webhookSubscriptionUseCase) {
+        this.webhookSubscriptionUseCase = webhookSubscriptionUseCase;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRoutes() {
+        refreshRoutes();
+    }
+
+    @Scheduled(fixedDelayString = "${app.webhook.subscriptions.refresh-interval:PT30S}",
+            initialDelayString = "${app.webhook.subscriptions.refresh-interval:PT30S}")
+    public void refreshRoutes() {
+        try {
+            if (webhookSubscriptionUseCase.refreshRoutes()) {
+                log.debug("Webhook routes refreshed");
+            }
+        } catch (Exception e) {
+            log.error("Failed to refresh webhook routes: {}", e.getMessage(), e);
+        }
+    }
+}
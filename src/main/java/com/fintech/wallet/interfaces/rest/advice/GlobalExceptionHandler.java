@@ -4,6 +4,8 @@ import com.fintech.wallet.domain.exception.InsufficientBalanceException;
 import com.fintech.wallet.domain.exception.InvalidCurrencyException;
 import com.fintech.wallet.domain.exception.ScheduledPaymentNotFoundException;
 import com.fintech.wallet.domain.exception.WalletNotFoundException;
+import com.fintech.wallet.domain.exception.WebhookDeliveryNotFoundException;
+import com.fintech.wallet.domain.exception.WebhookSubscriptionNotFoundException;
 import com.fintech.wallet.interfaces.rest.dto.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpStatus;
@@ -116,6 +118,34 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
 
+    @ExceptionHandler(WebhookDeliveryNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleWebhookDeliveryNotFound(WebhookDeliveryNotFoundException ex,
+            HttpServletRequest request) {
+        ErrorResponse error = ErrorResponse.builder()
+                .status(HttpStatus.NOT_FOUND.value())
+                .error("Webhook Delivery Not Found")
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .timestamp(Instant.now())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+
+    @ExceptionHandler(WebhookSubscriptionNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleWebhookSubscriptionNotFound(WebhookSubscriptionNotFoundException ex,
+            HttpServletRequest request) {
+        ErrorResponse error = ErrorResponse.builder()
+                .status(HttpStatus.NOT_FOUND.value())
+                .error("Webhook Subscription Not Found")
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .timestamp(Instant.now())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(Exception ex,
             HttpServletRequest request) {
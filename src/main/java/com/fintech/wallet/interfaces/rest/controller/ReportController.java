@@ -1,9 +1,12 @@
 package com.fintech.wallet.interfaces.rest.controller;
 
+import com.fintech.wallet.application.port.in.CashFlowForecastUseCase;
 import com.fintech.wallet.application.port.in.ReportingUseCase;
 import com.fintech.wallet.domain.valueobject.AccountStatement;
+import com.fintech.wallet.domain.valueobject.CashFlowForecast;
 import com.fintech.wallet.domain.valueobject.MonthlySummary;
 import com.fintech.wallet.interfaces.rest.dto.AccountStatementResponse;
+import com.fintech.wallet.interfaces.rest.dto.CashFlowForecastResponse;
 import com.fintech.wallet.interfaces.rest.dto.MonthlySummaryResponse;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
@@ -23,9 +26,11 @@ import java.util.stream.Collectors;
 public class ReportController {
 
     private final ReportingUseCase reportingUseCase;
+    private final CashFlowForecastUseCase cashFlowForecastUseCase;
 
-    public ReportController(ReportingUseCase reportingUseCase) {
+    public ReportController(ReportingUseCase reportingUseCase, CashFlowForecastUseCase cashFlowForecastUseCase) {
         this.reportingUseCase = reportingUseCase;
+        this.cashFlowForecastUseCase = cashFlowForecastUseCase;
     }
 
     /**
@@ -95,6 +100,18 @@ public class ReportController {
                 .body(csv);
     }
 
+    /**
+     * Project a wallet's balance across its scheduled payments.
+     */
+    @GetMapping("/wallets/{walletId}/forecast")
+    public ResponseEntity<CashFlowForecastResponse> getCashFlowForecast(
+            @PathVariable String walletId,
+            @RequestParam(defaultValue = "90") int days) {
+
+        CashFlowForecast forecast = cashFlowForecastUseCase.forecastWallet(walletId, days);
+        return ResponseEntity.ok(toResponse(forecast));
+    }
+
     private AccountStatementResponse toResponse(AccountStatement statement) {
         return AccountStatementResponse.builder()
                 .walletId(statement.walletId().toString())
@@ -118,6 +135,29 @@ public class ReportController {
                 .build();
     }
 
+    private CashFlowForecastResponse toResponse(CashFlowForecast forecast) {
+        return CashFlowForecastResponse.builder()
+                .walletId(forecast.walletId().toString())
+                .currency(forecast.currency().getCode())
+                .startDate(forecast.startDate())
+                .endDate(forecast.endDate())
+                .openingBalance(forecast.openingBalance().getAmount())
+                .closingBalance(forecast.closingBalance().getAmount())
+                .lowestBalance(forecast.lowestBalance().getAmount())
+                .shortfallCount(forecast.shortfalls().size())
+                .payments(forecast.payments().stream()
+                        .map(p -> new CashFlowForecastResponse.ProjectedPaymentDto(
+                                p.date(),
+                                p.scheduledPaymentId().toString(),
+                                p.direction().name(),
+                                p.amount().getAmount(),
+                                p.projectedBalance().getAmount(),
+                                p.covered()
+                        ))
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
     private MonthlySummaryResponse toResponse(MonthlySummary summary) {
         return MonthlySummaryResponse.builder()
                 .walletId(summary.walletId().toString())
@@ -43,6 +43,7 @@ public class ScheduledPaymentController {
                 request.getRecurrencePattern(),
                 request.getStartDate(),
                 request.getEndDate(),
+                request.getExecutionTime(),
                 request.getMaxExecutions()
         );
 
@@ -113,6 +114,7 @@ public class ScheduledPaymentController {
                 .startDate(payment.getStartDate())
                 .endDate(payment.getEndDate())
                 .nextExecutionDate(payment.getNextExecutionDate())
+                .executionTime(payment.getExecutionTime())
                 .executionCount(payment.getExecutionCount())
                 .maxExecutions(payment.getMaxExecutions())
                 .status(payment.getStatus().name())
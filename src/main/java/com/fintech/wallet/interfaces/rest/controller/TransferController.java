@@ -2,18 +2,27 @@ package com.fintech.wallet.interfaces.rest.controller;
 
 import com.fintech.wallet.application.command.TransferMoneyCommand;
 import com.fintech.wallet.application.port.in.TransferMoneyUseCase;
+import com.fintech.wallet.application.port.in.TransferSearchUseCase;
+import com.fintech.wallet.application.port.in.TransferSearchUseCase.TransferPage;
+import com.fintech.wallet.application.port.in.TransferSearchUseCase.TransferSearch;
+import com.fintech.wallet.domain.model.Transaction;
 import com.fintech.wallet.domain.valueobject.TransactionId;
 import com.fintech.wallet.interfaces.rest.dto.TransferMoneyRequest;
 import com.fintech.wallet.interfaces.rest.dto.TransferResponse;
+import com.fintech.wallet.interfaces.rest.dto.TransferSearchResponse;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.math.BigDecimal;
 import java.time.Instant;
 
 /**
@@ -25,9 +34,12 @@ import java.time.Instant;
 public class TransferController {
 
     private final TransferMoneyUseCase transferMoneyUseCase;
+    private final TransferSearchUseCase transferSearchUseCase;
 
-    public TransferController(TransferMoneyUseCase transferMoneyUseCase) {
+    public TransferController(TransferMoneyUseCase transferMoneyUseCase,
+            TransferSearchUseCase transferSearchUseCase) {
         this.transferMoneyUseCase = transferMoneyUseCase;
+        this.transferSearchUseCase = transferSearchUseCase;
     }
 
     @PostMapping
@@ -48,10 +60,50 @@ public class TransferController {
                 .destinationWalletId(request.getDestinationWalletId())
                 .amount(request.getAmount())
                 .currency(request.getCurrency())
+                .description(request.getDescription())
                 .status("COMPLETED")
                 .timestamp(Instant.now())
                 .build();
 
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
+
+    /**
+     * Search the transfers a wallet sent or received, newest first.
+     * Pass the returned nextCursor to get the following page.
+     */
+    @GetMapping
+    public ResponseEntity<TransferSearchResponse> search(
+            @RequestParam String walletId,
+            @RequestParam(required = false) String counterpartyWalletId,
+            @RequestParam(required = false) BigDecimal minAmount,
+            @RequestParam(required = false) BigDecimal maxAmount,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String currency,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+
+        TransferPage page = transferSearchUseCase.search(new TransferSearch(walletId, counterpartyWalletId,
+                minAmount, maxAmount, from, to, status, currency, cursor, limit));
+
+        return ResponseEntity.ok(TransferSearchResponse.builder()
+                .transfers(page.transfers().stream().map(this::toResponse).toList())
+                .nextCursor(page.nextCursor())
+                .build());
+    }
+
+    private TransferResponse toResponse(Transaction transaction) {
+        return TransferResponse.builder()
+                .transactionId(transaction.getId().toString())
+                .sourceWalletId(transaction.getSourceWalletId().toString())
+                .destinationWalletId(transaction.getDestinationWalletId().toString())
+                .amount(transaction.getAmount().getAmount())
+                .currency(transaction.getAmount().getCurrency().getCode())
+                .description(transaction.getDescription())
+                .status(transaction.getStatus().name())
+                .timestamp(transaction.getCreatedAt())
+                .build();
+    }
 }
@@ -5,6 +5,7 @@ import com.fintech.wallet.application.command.DepositMoneyCommand;
 import com.fintech.wallet.application.command.WithdrawMoneyCommand;
 import com.fintech.wallet.application.port.in.CreateWalletUseCase;
 import com.fintech.wallet.application.port.in.DepositMoneyUseCase;
+import com.fintech.wallet.application.port.in.ReportingUseCase;
 import com.fintech.wallet.application.port.in.WithdrawMoneyUseCase;
 import com.fintech.wallet.application.port.out.LoadWalletPort;
 import com.fintech.wallet.domain.exception.WalletNotFoundException;
@@ -29,6 +30,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.Instant;
@@ -46,16 +48,19 @@ public class WalletController {
     private final CreateWalletUseCase createWalletUseCase;
     private final DepositMoneyUseCase depositMoneyUseCase;
     private final WithdrawMoneyUseCase withdrawMoneyUseCase;
+    private final ReportingUseCase reportingUseCase;
     private final LoadWalletPort loadWalletPort;
 
     public WalletController(
             CreateWalletUseCase createWalletUseCase,
             DepositMoneyUseCase depositMoneyUseCase,
             WithdrawMoneyUseCase withdrawMoneyUseCase,
+            ReportingUseCase reportingUseCase,
             LoadWalletPort loadWalletPort) {
         this.createWalletUseCase = createWalletUseCase;
         this.depositMoneyUseCase = depositMoneyUseCase;
         this.withdrawMoneyUseCase = withdrawMoneyUseCase;
+        this.reportingUseCase = reportingUseCase;
         this.loadWalletPort = loadWalletPort;
     }
 
@@ -72,6 +77,7 @@ public class WalletController {
     }
 
     @GetMapping("/{walletId}")
+    @Transactional(readOnly = true)
     public ResponseEntity<WalletResponse> getWallet(@PathVariable String walletId) {
         WalletId id = WalletId.of(walletId);
 
@@ -149,6 +155,7 @@ public class WalletController {
      * Entries are sorted by creation time in descending order (newest first).
      */
     @GetMapping("/{walletId}/transactions")
+    @Transactional(readOnly = true)
     public ResponseEntity<TransactionHistoryResponse> getTransactionHistory(@PathVariable String walletId) {
         WalletId id = WalletId.of(walletId);
 
@@ -171,6 +178,21 @@ public class WalletController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Search a wallet's transaction descriptions, e.g. ?q=rent.
+     * Entries are sorted by creation time in descending order (newest first).
+     */
+    @GetMapping("/{walletId}/transactions/search")
+    public ResponseEntity<List<LedgerEntryResponse>> searchTransactions(
+            @PathVariable String walletId,
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "50") int limit) {
+        List<LedgerEntryResponse> entries = reportingUseCase.searchEntries(walletId, query, limit).stream()
+                .map(this::toLedgerEntryResponse)
+                .toList();
+        return ResponseEntity.ok(entries);
+    }
+
     private LedgerEntryResponse toLedgerEntryResponse(LedgerEntry entry) {
         return LedgerEntryResponse.builder()
                 .id(entry.getId().toString())
@@ -0,0 +1,76 @@
+package com.fintech.wallet.interfaces.rest.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.wallet.application.port.out.LoadWalletPort;
+import com.fintech.wallet.domain.exception.WalletNotFoundException;
+import com.fintech.wallet.domain.valueobject.Money;
+import com.fintech.wallet.domain.valueobject.WalletId;
+import com.fintech.wallet.interfaces.rest.sse.WalletEventStreamRegistry;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST controller for live wallet activity over Server-Sent Events.
+ */
+@RestController
+@RequestMapping("/api/wallets")
+public class WalletEventStreamController {
+
+    private final WalletEventStreamRegistry registry;
+    private final LoadWalletPort loadWalletPort;
+    private final ObjectMapper objectMapper;
+
+    public WalletEventStreamController(
+            WalletEventStreamRegistry registry,
+            LoadWalletPort loadWalletPort,
+            ObjectMapper objectMapper) {
+        this.registry = registry;
+        this.loadWalletPort = loadWalletPort;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Stream balance changes of a wallet as they happen.
+     * Starts with a snapshot of the balance, or with the missed events when
+     * resuming with {@code Last-Event-ID}.
+     */
+    @GetMapping(value = "/{walletId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(
+            @PathVariable String walletId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        WalletId id = WalletId.of(walletId);
+        SseEmitter emitter = registry.newEmitter();
+        // The registry watches the wallet before reading the snapshot, so no event falls in between
+        registry.subscribe(id, lastEventId, () -> snapshot(id), emitter);
+        return emitter;
+    }
+
+    private String snapshot(WalletId walletId) {
+        Money balance = loadWalletPort.loadBalances(List.of(walletId)).get(walletId);
+        if (balance == null) {
+            throw new WalletNotFoundException(walletId.toString());
+        }
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("walletId", walletId.toString());
+        snapshot.put("balance", balance.getAmount().toPlainString());
+        snapshot.put("currency", balance.getCurrency().getCode());
+        snapshot.put("asOf", Instant.now().toString());
+        try {
+            return objectMapper.writeValueAsString(snapshot);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Wallet snapshot is not serializable: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.fintech.wallet.interfaces.rest.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.wallet.application.port.in.WalletImportUseCase;
+import com.fintech.wallet.application.port.in.WalletImportUseCase.ImportResult;
+import com.fintech.wallet.application.port.in.WalletImportUseCase.ImportRow;
+import com.fintech.wallet.interfaces.rest.dto.WalletImportResponse;
+import com.fintech.wallet.interfaces.rest.importer.RejectFile;
+import com.fintech.wallet.interfaces.rest.importer.WalletImportReader;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+
+/**
+ * REST controller for onboarding wallets in bulk.
+ */
+@RestController
+@RequestMapping("/api/admin/wallets")
+public class WalletImportController {
+
+    static final String NDJSON = "application/x-ndjson";
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    private final WalletImportUseCase walletImportUseCase;
+    private final ObjectMapper objectMapper;
+    private final Path rejectDirectory;
+
+    public WalletImportController(
+            WalletImportUseCase walletImportUseCase,
+            ObjectMapper objectMapper,
+            @Value("${wallet-import.reject-directory:./import-rejects}") String rejectDirectory) {
+        this.walletImportUseCase = walletImportUseCase;
+        this.objectMapper = objectMapper;
+        this.rejectDirectory = Paths.get(rejectDirectory);
+    }
+
+    /**
+     * Import wallets and opening balances from a CSV or NDJSON body.
+     * The body is streamed, not buffered, so files of any size can be sent.
+     * Skipped rows are written to a reject file whose path is returned.
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", NDJSON})
+    public ResponseEntity<WalletImportResponse> importWallets(HttpServletRequest request) throws IOException {
+        BufferedReader body = new BufferedReader(
+                new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8), 1 << 16);
+        Iterator<ImportRow> rows = request.getContentType().startsWith(NDJSON)
+                ? WalletImportReader.ndjson(body, objectMapper)
+                : WalletImportReader.csv(body);
+
+        Path rejectPath = rejectDirectory.resolve(
+                "wallet-import-" + LocalDateTime.now().format(FILE_TIMESTAMP) + "-rejects.csv");
+        ImportResult result;
+        RejectFile rejects = new RejectFile(rejectPath);
+        try (rejects) {
+            result = walletImportUseCase.importWallets(rows, rejects);
+        }
+
+        return ResponseEntity.ok(WalletImportResponse.builder()
+                .imported(result.imported())
+                .rejected(result.rejected())
+                .rejectFile(rejects.path() == null ? null : rejects.path().toString())
+                .durationMs(result.duration().toMillis())
+                .build());
+    }
+}
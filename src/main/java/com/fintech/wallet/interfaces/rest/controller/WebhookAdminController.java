@@ -0,0 +1,76 @@
+package com.fintech.wallet.interfaces.rest.controller;
+
+import com.fintech.wallet.application.port.in.WebhookDeliveryUseCase;
+import com.fintech.wallet.domain.model.WebhookDelivery;
+import com.fintech.wallet.interfaces.rest.dto.WebhookDeliveryResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST controller for operating the webhook delivery queue.
+ */
+@RestController
+@RequestMapping("/api/admin/webhooks")
+public class WebhookAdminController {
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final WebhookDeliveryUseCase webhookDeliveryUseCase;
+
+    public WebhookAdminController(WebhookDeliveryUseCase webhookDeliveryUseCase) {
+        this.webhookDeliveryUseCase = webhookDeliveryUseCase;
+    }
+
+    /**
+     * List dead-lettered deliveries, most recently failed first.
+     */
+    @GetMapping("/dead-letters")
+    public ResponseEntity<List<WebhookDeliveryResponse>> getDeadLetters(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page must be non-negative and size between 1 and " + MAX_PAGE_SIZE);
+        }
+        List<WebhookDeliveryResponse> responses = webhookDeliveryUseCase.getDeadLetters(page, size).stream()
+                .map(this::toResponse)
+                .toList();
+        return ResponseEntity.ok(responses);
+    }
+
+    /**
+     * Replay all dead-lettered deliveries, optionally only those for one endpoint.
+     * They are drained at the normal per-endpoint rate.
+     */
+    @PostMapping("/dead-letters/replay")
+    public ResponseEntity<Map<String, Integer>> replayDeadLetters(
+            @RequestParam(required = false) String webhookUrl) {
+        int replayed = webhookDeliveryUseCase.replayDeadLetters(webhookUrl);
+        return ResponseEntity.ok(Map.of("replayed", replayed));
+    }
+
+    /**
+     * Replay a single dead-lettered delivery.
+     */
+    @PostMapping("/deliveries/{deliveryId}/replay")
+    public ResponseEntity<WebhookDeliveryResponse> replayDelivery(@PathVariable String deliveryId) {
+        return ResponseEntity.ok(toResponse(webhookDeliveryUseCase.replay(deliveryId)));
+    }
+
+    private WebhookDeliveryResponse toResponse(WebhookDelivery delivery) {
+        return WebhookDeliveryResponse.builder()
+                .id(delivery.getId().toString())
+                .webhookUrl(delivery.getWebhookUrl())
+                .eventType(delivery.getEventType())
+                .eventId(delivery.getEventId() != null ? delivery.getEventId().toString() : null)
+                .status(delivery.getStatus().name())
+                .attempts(delivery.getAttempts())
+                .nextAttemptAt(delivery.getNextAttemptAt())
+                .lastError(delivery.getLastError())
+                .createdAt(delivery.getCreatedAt())
+                .lastAttemptAt(delivery.getLastAttemptAt())
+                .build();
+    }
+}
@@ -0,0 +1,80 @@
+package com.fintech.wallet.interfaces.rest.controller;
+
+import com.fintech.wallet.application.command.CreateWebhookSubscriptionCommand;
+import com.fintech.wallet.application.port.in.WebhookSubscriptionUseCase;
+import com.fintech.wallet.domain.model.WebhookSubscription;
+import com.fintech.wallet.domain.valueobject.WalletId;
+import com.fintech.wallet.interfaces.rest.dto.CreateWebhookSubscriptionRequest;
+import com.fintech.wallet.interfaces.rest.dto.WebhookSubscriptionResponse;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for the webhook subscription registry.
+ */
+@RestController
+@RequestMapping("/api/admin/webhooks/subscriptions")
+public class WebhookSubscriptionController {
+
+    private final WebhookSubscriptionUseCase webhookSubscriptionUseCase;
+
+    public WebhookSubscriptionController(WebhookSubscriptionUseCase webhookSubscriptionUseCase) {
+        this.webhookSubscriptionUseCase = webhookSubscriptionUseCase;
+    }
+
+    /**
+     * Subscribe an endpoint to webhook events.
+     */
+    @PostMapping
+    public ResponseEntity<WebhookSubscriptionResponse> subscribe(
+            @Valid @RequestBody CreateWebhookSubscriptionRequest request) {
+        CreateWebhookSubscriptionCommand command = new CreateWebhookSubscriptionCommand(
+                request.getWebhookUrl(), request.getEventTypes(), request.getWalletIds());
+        WebhookSubscription subscription = webhookSubscriptionUseCase.subscribe(command);
+        return ResponseEntity.status(HttpStatus.CREATED).body(toResponse(subscription));
+    }
+
+    /**
+     * List active subscriptions.
+     */
+    @GetMapping
+    public ResponseEntity<List<WebhookSubscriptionResponse>> getSubscriptions() {
+        List<WebhookSubscriptionResponse> responses = webhookSubscriptionUseCase.getActiveSubscriptions().stream()
+                .map(this::toResponse)
+                .toList();
+        return ResponseEntity.ok(responses);
+    }
+
+    /**
+     * Get a subscription by ID.
+     */
+    @GetMapping("/{subscriptionId}")
+    public ResponseEntity<WebhookSubscriptionResponse> getSubscription(@PathVariable String subscriptionId) {
+        return ResponseEntity.ok(toResponse(webhookSubscriptionUseCase.getSubscription(subscriptionId)));
+    }
+
+    /**
+     * Unsubscribe an endpoint.
+     */
+    @DeleteMapping("/{subscriptionId}")
+    public ResponseEntity<Void> unsubscribe(@PathVariable String subscriptionId) {
+        webhookSubscriptionUseCase.unsubscribe(subscriptionId);
+        return ResponseEntity.noContent().build();
+    }
+
+    private WebhookSubscriptionResponse toResponse(WebhookSubscription subscription) {
+        return WebhookSubscriptionResponse.builder()
+                .id(subscription.getId().toString())
+                .webhookUrl(subscription.getWebhookUrl())
+                .eventTypes(subscription.getEventTypes().stream().sorted().toList())
+                .walletIds(subscription.getWalletIds().stream().map(WalletId::toString).sorted().toList())
+                .active(subscription.isActive())
+                .createdAt(subscription.getCreatedAt())
+                .updatedAt(subscription.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+package com.fintech.wallet.interfaces.rest.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Response DTO for a cash-flow forecast.
+ */
+public class CashFlowForecastResponse {
+
+    private String walletId;
+    private String currency;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private BigDecimal openingBalance;
+    private BigDecimal closingBalance;
+    private BigDecimal lowestBalance;
+    private int shortfallCount;
+    private List<ProjectedPaymentDto> payments;
+
+    private CashFlowForecastResponse() {}
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public String getWalletId() {
+        return walletId;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public BigDecimal getOpeningBalance() {
+        return openingBalance;
+    }
+
+    public BigDecimal getClosingBalance() {
+        return closingBalance;
+    }
+
+    public BigDecimal getLowestBalance() {
+        return lowestBalance;
+    }
+
+    public int getShortfallCount() {
+        return shortfallCount;
+    }
+
+    public List<ProjectedPaymentDto> getPayments() {
+        return payments;
+    }
+
+    public record ProjectedPaymentDto(
+        LocalDate date,
+        String scheduledPaymentId,
+        String direction,
+        BigDecimal amount,
+        BigDecimal projectedBalance,
+        boolean covered
+    ) {}
+
+    public static class Builder {
+        private final CashFlowForecastResponse response = new CashFlowForecastResponse();
+
+        public Builder walletId(String walletId) {
+            response.walletId = walletId;
+            return this;
+        }
+
+        public Builder currency(String currency) {
+            response.currency = currency;
+            return this;
+        }
+
+        public Builder startDate(LocalDate startDate) {
+            response.startDate = startDate;
+            return this;
+        }
+
+        public Builder endDate(LocalDate endDate) {
+            response.endDate = endDate;
+            return this;
+        }
+
+        public Builder openingBalance(BigDecimal openingBalance) {
+            response.openingBalance = openingBalance;
+            return this;
+        }
+
+        public Builder closingBalance(BigDecimal closingBalance) {
+            response.closingBalance = closingBalance;
+            return this;
+        }
+
+        public Builder lowestBalance(BigDecimal lowestBalance) {
+            response.lowestBalance = lowestBalance;
+            return this;
+        }
+
+        public Builder shortfallCount(int shortfallCount) {
+            response.shortfallCount = shortfallCount;
+            return this;
+        }
+
+        public Builder payments(List<ProjectedPaymentDto> payments) {
+            response.payments = payments;
+            return this;
+        }
+
+        public CashFlowForecastResponse build() {
+            return response;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import jakarta.validation.constraints.Size;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalTime;
 
 /**
  * Request DTO for creating a scheduled payment.
@@ -39,6 +40,8 @@ public class CreateScheduledPaymentRequest {
 
     private LocalDate endDate;
 
+    private LocalTime executionTime;
+
     private int maxExecutions;
 
     // Getters and Setters
@@ -66,6 +69,9 @@ public class CreateScheduledPaymentRequest {
     public LocalDate getEndDate() { return endDate; }
     public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
 
+    public LocalTime getExecutionTime() { return executionTime; }
+    public void setExecutionTime(LocalTime executionTime) { this.executionTime = executionTime; }
+
     public int getMaxExecutions() { return maxExecutions; }
     public void setMaxExecutions(int maxExecutions) { this.maxExecutions = maxExecutions; }
 }
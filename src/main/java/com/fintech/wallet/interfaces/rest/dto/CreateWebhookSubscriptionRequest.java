@@ -0,0 +1,36 @@
+package com.fintech.wallet.interfaces.rest.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Request DTO for subscribing an endpoint to webhook events.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CreateWebhookSubscriptionRequest {
+
+    @NotBlank(message = "Webhook URL is required")
+    @Size(max = 2048, message = "Webhook URL must be at most 2048 characters")
+    private String webhookUrl;
+
+    /**
+     * Event types to receive; omit for all event types.
+     */
+    private List<String> eventTypes;
+
+    /**
+     * Wallets to receive events for; omit for all wallets.
+     */
+    private List<String> walletIds;
+}
@@ -3,6 +3,7 @@ package com.fintech.wallet.interfaces.rest.dto;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalTime;
 
 /**
  * Response DTO for scheduled payment.
@@ -19,6 +20,7 @@ public class ScheduledPaymentResponse {
     private LocalDate startDate;
     private LocalDate endDate;
     private LocalDate nextExecutionDate;
+    private LocalTime executionTime;
     private int executionCount;
     private int maxExecutions;
     private String status;
@@ -42,6 +44,7 @@ public class ScheduledPaymentResponse {
     public LocalDate getStartDate() { return startDate; }
     public LocalDate getEndDate() { return endDate; }
     public LocalDate getNextExecutionDate() { return nextExecutionDate; }
+    public LocalTime getExecutionTime() { return executionTime; }
     public int getExecutionCount() { return executionCount; }
     public int getMaxExecutions() { return maxExecutions; }
     public String getStatus() { return status; }
@@ -61,6 +64,7 @@ public class ScheduledPaymentResponse {
         public Builder startDate(LocalDate startDate) { response.startDate = startDate; return this; }
         public Builder endDate(LocalDate endDate) { response.endDate = endDate; return this; }
         public Builder nextExecutionDate(LocalDate nextExecutionDate) { response.nextExecutionDate = nextExecutionDate; return this; }
+        public Builder executionTime(LocalTime executionTime) { response.executionTime = executionTime; return this; }
         public Builder executionCount(int executionCount) { response.executionCount = executionCount; return this; }
         public Builder maxExecutions(int maxExecutions) { response.maxExecutions = maxExecutions; return this; }
         public Builder status(String status) { response.status = status; return this; }
@@ -24,6 +24,7 @@ public class TransferResponse {
     private String destinationWalletId;
     private BigDecimal amount;
     private String currency;
+    private String description;
     private String status;
     private Instant timestamp;
 }
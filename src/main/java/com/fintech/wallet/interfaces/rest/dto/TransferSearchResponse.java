@@ -0,0 +1,16 @@
+package com.fintech.wallet.interfaces.rest.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Response DTO for one page of transfer search results.
+ */
+@Value
+@Builder
+public class TransferSearchResponse {
+    List<TransferResponse> transfers;
+    String nextCursor;
+}
@@ -0,0 +1,23 @@
+package com.fintech.wallet.interfaces.rest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Response DTO for a bulk wallet import.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WalletImportResponse {
+
+    private long imported;
+    private long rejected;
+    private String rejectFile;
+    private long durationMs;
+}
@@ -0,0 +1,57 @@
+package com.fintech.wallet.interfaces.rest.dto;
+
+import java.time.Instant;
+
+/**
+ * Response DTO for a queued webhook delivery.
+ */
+public class WebhookDeliveryResponse {
+
+    private String id;
+    private String webhookUrl;
+    private String eventType;
+    private String eventId;
+    private String status;
+    private int attempts;
+    private Instant nextAttemptAt;
+    private String lastError;
+    private Instant createdAt;
+    private Instant lastAttemptAt;
+
+    private WebhookDeliveryResponse() {}
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // Getters
+    public String getId() { return id; }
+    public String getWebhookUrl() { return webhookUrl; }
+    public String getEventType() { return eventType; }
+    public String getEventId() { return eventId; }
+    public String getStatus() { return status; }
+    public int getAttempts() { return attempts; }
+    public Instant getNextAttemptAt() { return nextAttemptAt; }
+    public String getLastError() { return lastError; }
+    public Instant getCreatedAt() { return createdAt; }
+    public Instant getLastAttemptAt() { return lastAttemptAt; }
+
+    public static class Builder {
+        private final WebhookDeliveryResponse response = new WebhookDeliveryResponse();
+
+        public Builder id(String id) { response.id = id; return this; }
+        public Builder webhookUrl(String webhookUrl) { response.webhookUrl = webhookUrl; return this; }
+        public Builder eventType(String eventType) { response.eventType = eventType; return this; }
+        public Builder eventId(String eventId) { response.eventId = eventId; return this; }
+        public Builder status(String status) { response.status = status; return this; }
+        public Builder attempts(int attempts) { response.attempts = attempts; return this; }
+        public Builder nextAttemptAt(Instant nextAttemptAt) { response.nextAttemptAt = nextAttemptAt; return this; }
+        public Builder lastError(String lastError) { response.lastError = lastError; return this; }
+        public Builder createdAt(Instant createdAt) { response.createdAt = createdAt; return this; }
+        public Builder lastAttemptAt(Instant lastAttemptAt) { response.lastAttemptAt = lastAttemptAt; return this; }
+
+        public WebhookDeliveryResponse build() {
+            return response;
+        }
+    }
+}
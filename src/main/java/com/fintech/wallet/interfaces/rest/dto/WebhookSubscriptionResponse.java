@@ -0,0 +1,49 @@
+package com.fintech.wallet.interfaces.rest.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Response DTO for a webhook subscription.
+ */
+public class WebhookSubscriptionResponse {
+
+    private String id;
+    private String webhookUrl;
+    private List<String> eventTypes;
+    private List<String> walletIds;
+    private boolean active;
+    private Instant createdAt;
+    private Instant updatedAt;
+
+    private WebhookSubscriptionResponse() {}
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // Getters
+    public String getId() { return id; }
+    public String getWebhookUrl() { return webhookUrl; }
+    public List<String> getEventTypes() { return eventTypes; }
+    public List<String> getWalletIds() { return walletIds; }
+    public boolean isActive() { return active; }
+    public Instant getCreatedAt() { return createdAt; }
+    public Instant getUpdatedAt() { return updatedAt; }
+
+    public static class Builder {
+        private final WebhookSubscriptionResponse response = new WebhookSubscriptionResponse();
+
+        public Builder id(String id) { response.id = id; return this; }
+        public Builder webhookUrl(String webhookUrl) { response.webhookUrl = webhookUrl; return this; }
+        public Builder eventTypes(List<String> eventTypes) { response.eventTypes = eventTypes; return this; }
+        public Builder walletIds(List<String> walletIds) { response.walletIds = walletIds; return this; }
+        public Builder active(boolean active) { response.active = active; return this; }
+        public Builder createdAt(Instant createdAt) { response.createdAt = createdAt; return this; }
+        public Builder updatedAt(Instant updatedAt) { response.updatedAt = updatedAt; return this; }
+
+        public WebhookSubscriptionResponse build() {
+            return response;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.fintech.wallet.interfaces.rest.importer;
+
+import com.fintech.wallet.application.port.in.WalletImportUseCase.Rejection;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * CSV file listing the rows an import skipped, with the reason for each.
+ * The file is only created once the first row is rejected.
+ */
+public final class RejectFile implements Consumer<Rejection>, AutoCloseable {
+
+    private static final CSVFormat FORMAT = CSVFormat.DEFAULT.builder()
+            .setHeader("record", "reason", "raw")
+            .build();
+
+    private final Path path;
+    private CSVPrinter printer;
+
+    public RejectFile(Path path) {
+        this.path = path;
+    }
+
+    @Override
+    public void accept(Rejection rejection) {
+        try {
+            if (printer == null) {
+                Files.createDirectories(path.getParent());
+                printer = FORMAT.print(Files.newBufferedWriter(path, StandardCharsets.UTF_8));
+            }
+            printer.printRecord(rejection.record(), rejection.reason(), rejection.raw());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write reject file " + path, e);
+        }
+    }
+
+    /**
+     * The file written, or null if nothing was rejected.
+     */
+    public Path path() {
+        return printer == null ? null : path;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (printer != null) {
+            printer.close(true);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.fintech.wallet.interfaces.rest.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fintech.wallet.application.port.in.WalletImportUseCase.ImportRow;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads wallet import rows lazily from CSV or NDJSON.
+ * <p>
+ * CSV needs a header row naming the columns walletId, currency and
+ * openingBalance (case-insensitive; walletId and openingBalance may be
+ * omitted). NDJSON holds one object per line with the same field names.
+ * Records that cannot be read are returned as malformed rows so they end up
+ * in the reject file instead of aborting the import.
+ */
+public final class WalletImportReader {
+
+    static final String WALLET_ID = "walletId";
+    static final String CURRENCY = "currency";
+    static final String OPENING_BALANCE = "openingBalance";
+
+    private static final CSVFormat CSV_FORMAT = CSVFormat.DEFAULT.builder()
+            .setHeader()
+            .setSkipHeaderRecord(true)
+            .setIgnoreHeaderCase(true)
+            .setIgnoreEmptyLines(true)
+            .setTrim(true)
+            .build();
+
+    private WalletImportReader() {
+    }
+
+    public static Iterator<ImportRow> csv(Reader reader) {
+        CSVParser parser;
+        try {
+            parser = CSV_FORMAT.parse(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read CSV header", e);
+        }
+        if (parser.getHeaderNames().stream().noneMatch(CURRENCY::equalsIgnoreCase)) {
+            throw new IllegalArgumentException("CSV header must contain a " + CURRENCY + " column");
+        }
+
+        Iterator<CSVRecord> records = parser.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return records.hasNext();
+            }
+
+            @Override
+            public ImportRow next() {
+                CSVRecord record = records.next();
+                String raw = String.join(",", record.values());
+                if (!record.isConsistent()) {
+                    return ImportRow.malformed(record.getRecordNumber(), raw,
+                            "Expected " + parser.getHeaderNames().size() + " columns but found " + record.size());
+                }
+                return new ImportRow(record.getRecordNumber(), column(record, WALLET_ID), column(record, CURRENCY),
+                        column(record, OPENING_BALANCE), raw);
+            }
+        };
+    }
+
+    public static Iterator<ImportRow> ndjson(BufferedReader reader, ObjectMapper objectMapper) {
+        ObjectReader json = objectMapper.reader().with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        return new Iterator<>() {
+            private long lineNumber;
+            private String line = advance();
+
+            @Override
+            public boolean hasNext() {
+                return line != null;
+            }
+
+            @Override
+            public ImportRow next() {
+                if (line == null) {
+                    throw new NoSuchElementException();
+                }
+                String current = line;
+                long record = lineNumber;
+                line = advance();
+
+                JsonNode node;
+                try {
+                    node = json.readTree(current);
+                } catch (JsonProcessingException e) {
+                    return ImportRow.malformed(record, current, "Invalid JSON: " + e.getOriginalMessage());
+                }
+                if (!node.isObject()) {
+                    return ImportRow.malformed(record, current, "Expected a JSON object");
+                }
+                return new ImportRow(record, field(node, WALLET_ID), field(node, CURRENCY),
+                        field(node, OPENING_BALANCE), current);
+            }
+
+            private String advance() {
+                try {
+                    String next;
+                    do {
+                        next = reader.readLine();
+                        lineNumber++;
+                    } while (next != null && next.isBlank());
+                    return next;
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to read NDJSON", e);
+                }
+            }
+        };
+    }
+
+    private static String column(CSVRecord record, String name) {
+        return record.isMapped(name) ? record.get(name) : null;
+    }
+
+    private static String field(JsonNode node, String name) {
+        JsonNode value = node.get(name);
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        return value.isNumber() ? value.decimalValue().toPlainString() : value.asText();
+    }
+}
@@ -0,0 +1,128 @@
+package com.fintech.wallet.interfaces.rest.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.wallet.application.port.out.LoadWalletPort;
+import com.fintech.wallet.domain.event.DomainEvent;
+import com.fintech.wallet.domain.event.MoneyDepositedEvent;
+import com.fintech.wallet.domain.event.MoneyTransferredEvent;
+import com.fintech.wallet.domain.event.MoneyWithdrawnEvent;
+import com.fintech.wallet.domain.model.LedgerEntryType;
+import com.fintech.wallet.domain.valueobject.Money;
+import com.fintech.wallet.domain.valueobject.WalletId;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pushes balance changes to the live streams of the wallets involved.
+ * <p>
+ * Runs on the outbox relay thread, so each wallet's stream receives its
+ * events in the order they were committed; the registry never blocks.
+ * Events for wallets nobody is watching are skipped before any work is
+ * done. Balances are the ones carried by the event. A transfer that does not
+ * carry one, such as a wallet on another ledger engine shard, falls back to
+ * the stored balance.
+ */
+@Component
+public class WalletActivityStreamListener {
+
+    private final WalletEventStreamRegistry registry;
+    private final LoadWalletPort loadWalletPort;
+    private final ObjectMapper objectMapper;
+
+    public WalletActivityStreamListener(
+            WalletEventStreamRegistry registry,
+            LoadWalletPort loadWalletPort,
+            ObjectMapper objectMapper) {
+        this.registry = registry;
+        this.loadWalletPort = loadWalletPort;
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener
+    public void onMoneyDeposited(MoneyDepositedEvent event) {
+        if (registry.isWatched(event.getWalletId())) {
+            publish(event, event.getWalletId(), LedgerEntryType.CREDIT, event.getAmount(), event.getNewBalance(),
+                    event.getDescription(), null, null);
+        }
+    }
+
+    @EventListener
+    public void onMoneyWithdrawn(MoneyWithdrawnEvent event) {
+        if (registry.isWatched(event.getWalletId())) {
+            publish(event, event.getWalletId(), LedgerEntryType.DEBIT, event.getAmount(), event.getNewBalance(),
+                    event.getDescription(), null, null);
+        }
+    }
+
+    @EventListener
+    public void onMoneyTransferred(MoneyTransferredEvent event) {
+        WalletId source = event.getSourceWalletId();
+        WalletId destination = event.getDestinationWalletId();
+        List<WalletId> watched = new ArrayList<>(2);
+        if (registry.isWatched(source)) {
+            watched.add(source);
+        }
+        if (registry.isWatched(destination)) {
+            watched.add(destination);
+        }
+        if (watched.isEmpty()) {
+            return;
+        }
+
+        Map<WalletId, Money> balances = new HashMap<>();
+        putIfKnown(balances, source, event.getSourceBalance());
+        putIfKnown(balances, destination, event.getDestinationBalance());
+        List<WalletId> unknown = watched.stream().filter(walletId -> !balances.containsKey(walletId)).toList();
+        if (!unknown.isEmpty()) {
+            balances.putAll(loadWalletPort.loadBalances(unknown));
+        }
+        String transactionId = event.getTransactionId().toString();
+        if (watched.contains(source)) {
+            publish(event, source, LedgerEntryType.DEBIT, event.getAmount(), balances.get(source),
+                    event.getDescription(), transactionId, destination);
+        }
+        if (watched.contains(destination)) {
+            Money credited = event.isCrossCurrency() ? event.getConvertedAmount() : event.getAmount();
+            publish(event, destination, LedgerEntryType.CREDIT, credited, balances.get(destination),
+                    event.getDescription(), transactionId, source);
+        }
+    }
+
+    private static void putIfKnown(Map<WalletId, Money> balances, WalletId walletId, Money balance) {
+        if (balance != null) {
+            balances.put(walletId, balance);
+        }
+    }
+
+    private void publish(DomainEvent event, WalletId walletId, LedgerEntryType entryType, Money amount,
+                         Money balance, String description, String transactionId, WalletId counterparty) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("eventId", event.getEventId().toString());
+        payload.put("walletId", walletId.toString());
+        payload.put("entryType", entryType.name());
+        payload.put("amount", amount.getAmount().toPlainString());
+        payload.put("currency", amount.getCurrency().getCode());
+        if (balance != null) {
+            payload.put("balance", balance.getAmount().toPlainString());
+        }
+        payload.put("description", description);
+        if (transactionId != null) {
+            payload.put("transactionId", transactionId);
+            payload.put("counterpartyWalletId", counterparty.toString());
+        }
+        payload.put("occurredAt", event.getOccurredAt().toString());
+
+        try {
+            registry.publish(walletId, event.getEventType(), objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Stream payload is not serializable: " + e.getMessage(), e);
+        }
+    }
+}
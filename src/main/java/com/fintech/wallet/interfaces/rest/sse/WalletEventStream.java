@@ -0,0 +1,112 @@
+package com.fintech.wallet.interfaces.rest.sse;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One SSE connection with its own bounded send queue.
+ * <p>
+ * Events are queued without blocking and written by at most one pool task
+ * at a time, so a slow client only backs up its own queue. When the queue
+ * overflows the connection is closed; the client reconnects with
+ * {@code Last-Event-ID} and resumes from the replay buffer.
+ */
+final class WalletEventStream {
+
+    private final SseEmitter emitter;
+    private final Executor executor;
+    private final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean completed = new AtomicBoolean();
+    private volatile boolean closed;
+
+    WalletEventStream(SseEmitter emitter, Executor executor, int queueCapacity) {
+        this.emitter = emitter;
+        this.executor = executor;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    /**
+     * Queues an event; never blocks. Returns false if the stream is closed
+     * or has just overflowed and is being closed.
+     */
+    boolean offer(SseEmitter.SseEventBuilder event) {
+        if (closed) {
+            return false;
+        }
+        if (!queue.offer(event)) {
+            closed = true;
+        }
+        scheduleDrain();
+        return !closed;
+    }
+
+    /**
+     * Queues a heartbeat comment unless events are already waiting to go out.
+     */
+    void heartbeat() {
+        if (!closed && queue.isEmpty()) {
+            offer(SseEmitter.event().comment("heartbeat"));
+        }
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Completes the response. Safe to call more than once.
+     */
+    void close() {
+        closed = true;
+        queue.clear();
+        if (completed.compareAndSet(false, true)) {
+            emitter.complete();
+        }
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // Nothing left to write with; the registry sweep completes the response
+                closed = true;
+                draining.set(false);
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!closed && (event = queue.poll()) != null) {
+                emitter.send(event);
+            }
+            if (closed) {
+                close();
+            }
+        } catch (IOException | IllegalStateException e) {
+            closed = true;
+            queue.clear();
+            if (completed.compareAndSet(false, true)) {
+                emitter.completeWithError(e);
+            }
+        } finally {
+            draining.set(false);
+        }
+        if (!closed && !queue.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+}
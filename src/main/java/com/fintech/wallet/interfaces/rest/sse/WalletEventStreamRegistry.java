@@ -0,0 +1,238 @@
+package com.fintech.wallet.interfaces.rest.sse;
+
+import com.fintech.wallet.domain.valueobject.WalletId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Live wallet activity streams, keyed by wallet.
+ * <p>
+ * Each wallet with a subscriber has a channel holding its open streams and
+ * a replay buffer of its last {@code replay-size} events. Publishing and
+ * subscribing to a wallet go through the channel map's per-key lock, so a
+ * new subscriber receives its replay and then every live event exactly once
+ * and in order. A wallet is watched before its snapshot is read, so events
+ * published meanwhile are buffered and follow the snapshot. A channel without subscribers is kept for
+ * {@code replay-retention} so a reconnecting client can resume.
+ * <p>
+ * Event IDs are {@code <node>-<sequence>}, unique to this node and run. A
+ * client resuming with an ID from another node, from before a restart or
+ * older than the replay buffer gets a fresh snapshot instead of a replay.
+ */
+@Component
+public class WalletEventStreamRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(WalletEventStreamRegistry.class);
+
+    static final String SNAPSHOT = "SNAPSHOT";
+
+    private final Executor executor;
+    private final Duration timeout;
+    private final int queueCapacity;
+    private final int replaySize;
+    private final Duration replayRetention;
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentHashMap<WalletId, Channel> channels = new ConcurrentHashMap<>();
+
+    public WalletEventStreamRegistry(
+            @Qualifier("streamTaskExecutor") Executor executor,
+            @Value("${sse.timeout:PT30M}") Duration timeout,
+            @Value("${sse.queue-capacity:256}") int queueCapacity,
+            @Value("${sse.replay-size:100}") int replaySize,
+            @Value("${sse.replay-retention:PT5M}") Duration replayRetention) {
+        this.executor = executor;
+        this.timeout = timeout;
+        this.queueCapacity = queueCapacity;
+        this.replaySize = replaySize;
+        this.replayRetention = replayRetention;
+    }
+
+    /**
+     * Creates an emitter for a new connection.
+     */
+    public SseEmitter newEmitter() {
+        return new SseEmitter(timeout.toMillis());
+    }
+
+    /**
+     * Opens a stream for a wallet. A resumable {@code lastEventId} replays
+     * the events the client missed. Otherwise the wallet is watched first,
+     * then {@code snapshot} is read, and the stream starts with a
+     * {@code SNAPSHOT} event followed by any event published while the
+     * snapshot was being read, so nothing falls between the two. Such an
+     * event may already be reflected in the snapshot.
+     *
+     * @param snapshot reads the snapshot JSON; called outside any lock, and
+     *                 its exceptions propagate to the caller
+     */
+    public void subscribe(WalletId walletId, String lastEventId, Supplier<String> snapshot, SseEmitter emitter) {
+        WalletEventStream stream = new WalletEventStream(emitter, executor, queueCapacity);
+        Runnable unsubscribe = () -> unsubscribe(walletId, stream);
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(error -> unsubscribe.run());
+
+        long resumeAfter = parseSequence(lastEventId);
+        long[] snapshotAfter = {-1};
+        channels.compute(walletId, (id, channel) -> {
+            Channel target = channel != null ? channel : new Channel(sequence.get());
+            if (resumeAfter >= 0 && resumeAfter >= target.completeAfter) {
+                for (Event event : target.history) {
+                    if (event.sequence() > resumeAfter) {
+                        stream.offer(toSse(event));
+                    }
+                }
+                target.streams.add(stream);
+            } else {
+                snapshotAfter[0] = sequence.get();
+            }
+            target.lastActive = System.nanoTime();
+            return target;
+        });
+        if (snapshotAfter[0] < 0) {
+            return;
+        }
+
+        String snapshotJson;
+        try {
+            snapshotJson = snapshot.get();
+        } catch (RuntimeException e) {
+            // Stop watching a wallet that nobody else is interested in, such as an unknown one
+            channels.computeIfPresent(walletId, (id, channel) ->
+                    channel.streams.isEmpty() && channel.history.isEmpty() ? null : channel);
+            throw e;
+        }
+        channels.compute(walletId, (id, channel) -> {
+            Channel target = channel != null ? channel : new Channel(snapshotAfter[0]);
+            stream.offer(toSse(new Event(snapshotAfter[0], SNAPSHOT, snapshotJson)));
+            for (Event event : target.history) {
+                if (event.sequence() > snapshotAfter[0]) {
+                    stream.offer(toSse(event));
+                }
+            }
+            target.streams.add(stream);
+            target.lastActive = System.nanoTime();
+            return target;
+        });
+    }
+
+    /**
+     * Whether anyone is, or recently was, listening to a wallet.
+     */
+    public boolean isWatched(WalletId walletId) {
+        return channels.containsKey(walletId);
+    }
+
+    /**
+     * Records an event for a wallet and queues it on each of its streams.
+     * Does nothing for wallets nobody is watching.
+     */
+    public void publish(WalletId walletId, String name, String json) {
+        channels.computeIfPresent(walletId, (id, channel) -> {
+            Event event = new Event(sequence.incrementAndGet(), name, json);
+            channel.history.addLast(event);
+            if (channel.history.size() > replaySize) {
+                channel.completeAfter = channel.history.removeFirst().sequence();
+            }
+            for (WalletEventStream stream : channel.streams) {
+                stream.offer(toSse(event));
+            }
+            return channel;
+        });
+    }
+
+    /**
+     * Sends heartbeats, closes broken streams and drops channels that have
+     * had no subscriber for longer than the replay retention.
+     */
+    @Scheduled(fixedDelayString = "${sse.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        List<WalletEventStream> broken = new ArrayList<>();
+        long idleBefore = System.nanoTime() - replayRetention.toNanos();
+        for (WalletId walletId : channels.keySet()) {
+            channels.computeIfPresent(walletId, (id, channel) -> {
+                for (WalletEventStream stream : channel.streams) {
+                    if (stream.isClosed()) {
+                        channel.streams.remove(stream);
+                        broken.add(stream);
+                    } else {
+                        stream.heartbeat();
+                    }
+                }
+                if (!channel.streams.isEmpty()) {
+                    channel.lastActive = System.nanoTime();
+                    return channel;
+                }
+                return channel.lastActive - idleBefore < 0 ? null : channel;
+            });
+        }
+        broken.forEach(WalletEventStream::close);
+        if (!broken.isEmpty()) {
+            log.debug("Closed {} broken wallet event streams", broken.size());
+        }
+    }
+
+    private void unsubscribe(WalletId walletId, WalletEventStream stream) {
+        channels.computeIfPresent(walletId, (id, channel) -> {
+            if (channel.streams.remove(stream) && channel.streams.isEmpty()) {
+                channel.lastActive = System.nanoTime();
+            }
+            return channel;
+        });
+    }
+
+    private SseEmitter.SseEventBuilder toSse(Event event) {
+        return SseEmitter.event()
+                .id(nodeId + "-" + event.sequence())
+                .name(event.name())
+                .data(event.json());
+    }
+
+    /**
+     * Returns the sequence of an event ID issued by this node and run, or -1.
+     */
+    private long parseSequence(String lastEventId) {
+        if (lastEventId == null || !lastEventId.startsWith(nodeId + "-")) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(nodeId.length() + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private record Event(long sequence, String name, String json) {
+    }
+
+    private static final class Channel {
+        private final Deque<Event> history = new ArrayDeque<>();
+        private final Set<WalletEventStream> streams = new CopyOnWriteArraySet<>();
+        /** Every event after this sequence is still in the history. */
+        private long completeAfter;
+        private long lastActive = System.nanoTime();
+
+        private Channel(long completeAfter) {
+            this.completeAfter = completeAfter;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+-- Adds full-text search over ledger descriptions to an existing database.
+-- PostgreSQL 12+. Adding a stored generated column rewrites every partition of
+-- ledger_entries, so run it in a maintenance window.
+
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+ALTER TABLE ledger_entries
+    ADD COLUMN IF NOT EXISTS description_search TSVECTOR
+        GENERATED ALWAYS AS (to_tsvector('simple', COALESCE(description, ''))) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_ledger_wallet_description_search
+    ON ledger_entries USING GIN (wallet_id, description_search);
+
+ANALYZE ledger_entries;
@@ -0,0 +1,52 @@
+-- Converts an existing ledger_entries table to the monthly partitioned layout of schema.sql.
+-- PostgreSQL 12+. Run once, in a maintenance window: writes to the ledger are blocked
+-- while the rows are copied.
+
+BEGIN;
+
+LOCK TABLE ledger_entries IN ACCESS EXCLUSIVE MODE;
+
+ALTER TABLE ledger_entries RENAME TO ledger_entries_unpartitioned;
+ALTER TABLE ledger_entries_unpartitioned RENAME CONSTRAINT ledger_entries_pkey TO pk_ledger_entries_unpartitioned;
+ALTER INDEX idx_ledger_wallet_id RENAME TO idx_ledger_unpartitioned_wallet_id;
+ALTER INDEX idx_ledger_transaction_id RENAME TO idx_ledger_unpartitioned_transaction_id;
+ALTER INDEX idx_ledger_created_at RENAME TO idx_ledger_unpartitioned_created_at;
+
+CREATE TABLE ledger_entries (
+    id UUID NOT NULL,
+    wallet_id UUID NOT NULL,
+    transaction_id UUID NOT NULL,
+    entry_type VARCHAR(10) NOT NULL,
+    amount NUMERIC(19, 2) NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    description VARCHAR(255),
+    created_at TIMESTAMP NOT NULL,
+    CONSTRAINT pk_ledger_entries PRIMARY KEY (id, created_at),
+    CONSTRAINT fk_ledger_wallet_partitioned FOREIGN KEY (wallet_id) REFERENCES wallets(id),
+    CONSTRAINT chk_entry_type_partitioned CHECK (entry_type IN ('CREDIT', 'DEBIT')),
+    CONSTRAINT chk_amount_positive_partitioned CHECK (amount >= 0),
+    CONSTRAINT chk_currency_format_partitioned CHECK (currency ~ '^[A-Z]{3}$')
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE ledger_entries_default PARTITION OF ledger_entries DEFAULT;
+
+CREATE INDEX idx_ledger_wallet_created_at ON ledger_entries(wallet_id, created_at);
+CREATE INDEX idx_ledger_transaction_id ON ledger_entries(transaction_id);
+
+-- ensure_ledger_partitions is defined in schema.sql; create it from there first if missing.
+-- One partition per month from the oldest entry up to three months from now
+SELECT ensure_ledger_partitions(oldest,
+        ((EXTRACT(YEAR FROM CURRENT_DATE) - EXTRACT(YEAR FROM oldest)) * 12
+            + EXTRACT(MONTH FROM CURRENT_DATE) - EXTRACT(MONTH FROM oldest))::int + 3)
+FROM (SELECT COALESCE(MIN(created_at)::date, CURRENT_DATE) AS oldest FROM ledger_entries_unpartitioned) t;
+
+INSERT INTO ledger_entries (id, wallet_id, transaction_id, entry_type, amount, currency, description, created_at)
+SELECT id, wallet_id, transaction_id, entry_type, amount, currency, description, created_at
+FROM ledger_entries_unpartitioned;
+
+COMMIT;
+
+ANALYZE ledger_entries;
+
+-- After verifying the row counts match:
+-- DROP TABLE ledger_entries_unpartitioned;
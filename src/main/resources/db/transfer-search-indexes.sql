@@ -0,0 +1,16 @@
+-- Replaces the single-column wallet indexes on transactions with the composite
+-- indexes transfer search paginates over. PostgreSQL; runs without blocking
+-- writes, so it cannot be wrapped in a transaction.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_transactions_source_created
+    ON transactions(source_wallet_id, created_at DESC, id DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_transactions_destination_created
+    ON transactions(destination_wallet_id, created_at DESC, id DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_transactions_pair_created
+    ON transactions(source_wallet_id, destination_wallet_id, created_at DESC, id DESC);
+
+-- The new indexes lead with the same columns
+DROP INDEX CONCURRENTLY IF EXISTS idx_transactions_source;
+DROP INDEX CONCURRENTLY IF EXISTS idx_transactions_destination;
+
+ANALYZE transactions;
@@ -1,6 +1,9 @@
 -- Database schema for FinTech Wallet Application
 -- PostgreSQL compatible
 
+-- Lets a GIN index combine wallet_id with the description search vector
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
 -- Wallets table
 CREATE TABLE wallets (
     id UUID PRIMARY KEY,
@@ -13,7 +16,7 @@ CREATE INDEX idx_wallets_created_at ON wallets(created_at);
 
 -- Ledger entries table
 CREATE TABLE ledger_entries (
-    id UUID PRIMARY KEY,
+    id UUID NOT NULL,
     wallet_id UUID NOT NULL,
     transaction_id UUID NOT NULL,
     entry_type VARCHAR(10) NOT NULL,
@@ -21,15 +24,62 @@ CREATE TABLE ledger_entries (
     currency VARCHAR(3) NOT NULL,
     description VARCHAR(255),
     created_at TIMESTAMP NOT NULL,
+    -- Kept in step with description on every insert; 'simple' so any language matches word for word
+    description_search TSVECTOR GENERATED ALWAYS AS (to_tsvector('simple', COALESCE(description, ''))) STORED,
+    -- The partition key must be part of the primary key
+    CONSTRAINT pk_ledger_entries PRIMARY KEY (id, created_at),
     CONSTRAINT fk_ledger_wallet FOREIGN KEY (wallet_id) REFERENCES wallets(id),
     CONSTRAINT chk_entry_type CHECK (entry_type IN ('CREDIT', 'DEBIT')),
     CONSTRAINT chk_amount_positive CHECK (amount >= 0),
     CONSTRAINT chk_currency_format CHECK (currency ~ '^[A-Z]{3}$')
-);
+) PARTITION BY RANGE (created_at);
+
+-- Catches rows outside the maintained monthly partitions; should stay empty
+CREATE TABLE ledger_entries_default PARTITION OF ledger_entries DEFAULT;
 
-CREATE INDEX idx_ledger_wallet_id ON ledger_entries(wallet_id);
+-- Created on every partition; date-bounded wallet queries read one index range per month
+CREATE INDEX idx_ledger_wallet_created_at ON ledger_entries(wallet_id, created_at);
 CREATE INDEX idx_ledger_transaction_id ON ledger_entries(transaction_id);
-CREATE INDEX idx_ledger_created_at ON ledger_entries(created_at);
+-- Full-text search within one wallet's history
+CREATE INDEX idx_ledger_wallet_description_search ON ledger_entries USING GIN (wallet_id, description_search);
+
+-- Creates the monthly partitions ledger_entries_yYYYYmMM from from_month up to
+-- months_ahead months later, skipping those that already exist.
+-- Called by LedgerPartitionMaintainer on startup and daily.
+CREATE OR REPLACE FUNCTION ensure_ledger_partitions(from_month DATE, months_ahead INT)
+RETURNS INT AS $$
+DECLARE
+    month_start DATE := date_trunc('month', from_month)::date;
+    partition_name TEXT;
+    created INT := 0;
+BEGIN
+    FOR i IN 0..months_ahead LOOP
+        partition_name := format('ledger_entries_y%sm%s',
+                to_char(month_start, 'YYYY'), to_char(month_start, 'MM'));
+        IF to_regclass(partition_name) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I PARTITION OF ledger_entries FOR VALUES FROM (%L) TO (%L)',
+                    partition_name, month_start, (month_start + INTERVAL '1 month')::date);
+            created := created + 1;
+        END IF;
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT ensure_ledger_partitions(CURRENT_DATE, 3);
+
+-- Closed months moved out of ledger_entries into segment files under ledger.archive.directory.
+-- Each archived month leaves one 'Balance carried forward' row per wallet in ledger_entries.
+CREATE TABLE ledger_archive_segments (
+    period_start TIMESTAMP PRIMARY KEY,
+    period_end TIMESTAMP NOT NULL UNIQUE,
+    file_name VARCHAR(255) NOT NULL,
+    wallet_count INT NOT NULL,
+    entry_count BIGINT NOT NULL,
+    checksum BIGINT NOT NULL,
+    archived_at TIMESTAMP NOT NULL
+);
 
 -- Transactions table
 CREATE TABLE transactions (
@@ -49,8 +99,12 @@ CREATE TABLE transactions (
     CONSTRAINT chk_transaction_currency CHECK (currency ~ '^[A-Z]{3}$')
 );
 
-CREATE INDEX idx_transactions_source ON transactions(source_wallet_id);
-CREATE INDEX idx_transactions_destination ON transactions(destination_wallet_id);
+-- Transfer search reads each direction newest first and resumes from a (created_at, id) cursor
+CREATE INDEX idx_transactions_source_created ON transactions(source_wallet_id, created_at DESC, id DESC);
+CREATE INDEX idx_transactions_destination_created ON transactions(destination_wallet_id, created_at DESC, id DESC);
+-- Searches with a counterparty, in either direction
+CREATE INDEX idx_transactions_pair_created
+    ON transactions(source_wallet_id, destination_wallet_id, created_at DESC, id DESC);
 CREATE INDEX idx_transactions_created_at ON transactions(created_at);
 CREATE INDEX idx_transactions_status ON transactions(status);
 
@@ -75,11 +129,14 @@ CREATE TABLE scheduled_payments (
     start_date DATE NOT NULL,
     end_date DATE,
     next_execution_date DATE,
+    execution_time TIME,
     execution_count INTEGER NOT NULL DEFAULT 0,
     max_executions INTEGER NOT NULL DEFAULT 0,
     status VARCHAR(20) NOT NULL,
     created_at TIMESTAMP NOT NULL,
     last_modified_at TIMESTAMP NOT NULL,
+    lease_owner VARCHAR(255),
+    lease_expires_at TIMESTAMP,
     CONSTRAINT fk_scheduled_source FOREIGN KEY (source_wallet_id) REFERENCES wallets(id),
     CONSTRAINT fk_scheduled_destination FOREIGN KEY (destination_wallet_id) REFERENCES wallets(id),
     CONSTRAINT chk_scheduled_amount_positive CHECK (amount > 0),
@@ -92,10 +149,85 @@ CREATE INDEX idx_scheduled_source ON scheduled_payments(source_wallet_id);
 CREATE INDEX idx_scheduled_destination ON scheduled_payments(destination_wallet_id);
 CREATE INDEX idx_scheduled_next_execution ON scheduled_payments(next_execution_date);
 CREATE INDEX idx_scheduled_status ON scheduled_payments(status);
+CREATE INDEX idx_scheduled_due ON scheduled_payments(status, next_execution_date, source_wallet_id);
+CREATE INDEX idx_scheduled_lease ON scheduled_payments(source_wallet_id, lease_expires_at);
 
 COMMENT ON TABLE scheduled_payments IS 'Scheduled and recurring payment configurations';
 COMMENT ON COLUMN scheduled_payments.recurrence_pattern IS 'ONCE for one-time, DAILY, WEEKLY, BIWEEKLY, MONTHLY, QUARTERLY, or YEARLY';
 COMMENT ON COLUMN scheduled_payments.max_executions IS '0 for unlimited recurring payments';
+COMMENT ON COLUMN scheduled_payments.execution_time IS 'Time of day to execute on the execution date, NULL for the first scheduler pass of the day';
+COMMENT ON COLUMN scheduled_payments.lease_owner IS 'Scheduler node currently executing this payment, NULL when unclaimed';
+COMMENT ON COLUMN scheduled_payments.lease_expires_at IS 'Claim expiry; expired leases are reclaimed by any node';
+
+-- Transactional outbox for domain events
+CREATE TABLE outbox_events (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_id UUID NOT NULL UNIQUE,
+    event_type VARCHAR(64) NOT NULL,
+    aggregate_id UUID,
+    payload TEXT NOT NULL,
+    occurred_at TIMESTAMP NOT NULL,
+    published_at TIMESTAMP,
+    attempts INT NOT NULL DEFAULT 0,
+    last_error VARCHAR(500)
+);
+
+CREATE INDEX idx_outbox_unpublished ON outbox_events(published_at, id);
+
+COMMENT ON TABLE outbox_events IS 'Domain events written in the same transaction as the change that raised them, relayed to listeners in ID order';
+COMMENT ON COLUMN outbox_events.published_at IS 'NULL until the relay has delivered the event';
+COMMENT ON COLUMN outbox_events.attempts IS 'Failed delivery attempts; the relay skips the event once max-attempts is reached';
+
+-- Persisted webhook delivery queue
+CREATE TABLE webhook_deliveries (
+    id UUID PRIMARY KEY,
+    webhook_url VARCHAR(2048) NOT NULL,
+    event_type VARCHAR(64) NOT NULL,
+    event_id UUID,
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP NOT NULL,
+    last_attempt_at TIMESTAMP,
+    CONSTRAINT chk_webhook_status CHECK (status IN ('PENDING', 'DELIVERED', 'DEAD'))
+);
+
+CREATE INDEX idx_webhook_due ON webhook_deliveries(status, webhook_url, next_attempt_at);
+CREATE INDEX idx_webhook_event ON webhook_deliveries(event_id);
+
+COMMENT ON TABLE webhook_deliveries IS 'One row per event and endpoint; retried on a backoff schedule and dead-lettered when it is exhausted';
+COMMENT ON COLUMN webhook_deliveries.attempts IS 'Failed attempts so far; reset to 0 when a dead letter is replayed';
+
+-- Webhook subscription registry
+CREATE TABLE webhook_subscriptions (
+    id UUID PRIMARY KEY,
+    webhook_url VARCHAR(2048) NOT NULL,
+    active BOOLEAN NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE TABLE webhook_subscription_event_types (
+    subscription_id UUID NOT NULL REFERENCES webhook_subscriptions(id),
+    event_type VARCHAR(64) NOT NULL,
+    PRIMARY KEY (subscription_id, event_type)
+);
+
+CREATE TABLE webhook_subscription_wallets (
+    subscription_id UUID NOT NULL REFERENCES webhook_subscriptions(id),
+    wallet_id UUID NOT NULL,
+    PRIMARY KEY (subscription_id, wallet_id)
+);
+
+CREATE INDEX idx_webhook_subscriptions_active ON webhook_subscriptions(active);
+
+COMMENT ON TABLE webhook_subscriptions IS 'Endpoints subscribed to webhook events; deactivated rather than deleted so every node sees the change';
+COMMENT ON COLUMN webhook_subscriptions.version IS 'Raised on every update; nodes compare COUNT + SUM(version) to detect changes'
+COMMENT ON TABLE webhook_subscription_event_types IS 'Event types a subscription receives; none means all event types';
+COMMENT ON TABLE webhook_subscription_wallets IS 'Wallets a subscription receives events for; none means all wallets';
 
 -- ShedLock table for distributed locking
 CREATE TABLE shedlock (
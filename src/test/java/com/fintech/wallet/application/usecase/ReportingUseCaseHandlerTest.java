@@ -0,0 +1,35 @@
+package com.fintech.wallet.application.usecase;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the search query handling of ReportingUseCaseHandler.
+ * No Spring context - the query is split before it reaches the database.
+ */
+@DisplayName("Reporting Use Case Tests")
+class ReportingUseCaseHandlerTest {
+
+    @Test
+    @DisplayName("Should split a query into lower-case words without search operators")
+    void shouldSplitQueryIntoTerms() {
+        assertThat(ReportingUseCaseHandler.searchTerms("Rent")).containsExactly("rent");
+        assertThat(ReportingUseCaseHandler.searchTerms("  ATM-withdrawal  Zürich ")).containsExactly("atm", "withdrawal", "zürich");
+        assertThat(ReportingUseCaseHandler.searchTerms("rent & !jan | (rent):*")).containsExactly("rent", "jan");
+        assertThat(ReportingUseCaseHandler.searchTerms("invoice 2024'")).containsExactly("invoice", "2024");
+    }
+
+    @Test
+    @DisplayName("Should reject queries without words or with too many")
+    void shouldRejectUnusableQueries() {
+        assertThatThrownBy(() -> ReportingUseCaseHandler.searchTerms("&|!:*"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ReportingUseCaseHandler.searchTerms(null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ReportingUseCaseHandler.searchTerms("a b c d e f g h i"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,214 @@
+package com.fintech.wallet.application.usecase;
+
+import com.fintech.wallet.application.port.out.LoadWalletPort;
+import com.fintech.wallet.application.port.out.SaveTransactionPort;
+import com.fintech.wallet.application.port.out.SaveWalletPort;
+import com.fintech.wallet.application.port.out.ScheduledPaymentPort;
+import com.fintech.wallet.domain.event.DomainEvent;
+import com.fintech.wallet.domain.event.MoneyTransferredEvent;
+import com.fintech.wallet.domain.model.LedgerEntry;
+import com.fintech.wallet.domain.model.RecurrencePattern;
+import com.fintech.wallet.domain.model.ScheduledPayment;
+import com.fintech.wallet.domain.model.ScheduledPaymentStatus;
+import com.fintech.wallet.domain.model.Transaction;
+import com.fintech.wallet.domain.model.Wallet;
+import com.fintech.wallet.domain.valueobject.Currency;
+import com.fintech.wallet.domain.valueobject.Money;
+import com.fintech.wallet.domain.valueobject.ScheduledPaymentId;
+import com.fintech.wallet.domain.valueobject.TransactionId;
+import com.fintech.wallet.domain.valueobject.WalletId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ScheduledPaymentExecutor's per-source-wallet execution.
+ * No Spring context - in-memory wallets and recording ports.
+ */
+@DisplayName("Scheduled Payment Executor Tests")
+class ScheduledPaymentExecutorTest {
+
+    private static final Currency USD = Currency.of("USD");
+
+    private final Wallet source = Wallet.create(USD);
+    private final Wallet destination = Wallet.create(USD);
+    private final InMemoryWallets wallets = new InMemoryWallets(source, destination);
+    private final RecordingScheduledPayments payments = new RecordingScheduledPayments();
+    private final List<DomainEvent> events = new ArrayList<>();
+    private final ScheduledPaymentExecutor executor = new ScheduledPaymentExecutor(
+            payments, command -> { throw new UnsupportedOperationException(); },
+            wallets, wallets, wallets, events::add);
+
+    @Test
+    @DisplayName("Should fail the payments that overdraw the running balance and execute the rest")
+    void shouldSkipOverdrawingPayments() {
+        source.credit(money("100.00"), TransactionId.generate(), "Deposit");
+        ScheduledPayment rent = payment("60.00", "Rent");
+        ScheduledPayment gym = payment("50.00", "Gym");
+        ScheduledPayment phone = payment("30.00", "Phone");
+
+        int executed = executor.executeForSourceWallet(List.of(rent, gym, phone));
+
+        assertThat(executed).isEqualTo(2);
+        assertThat(wallets.appended).hasSize(4)
+                .filteredOn(entry -> entry.getWalletId().equals(source.getId()))
+                .extracting(LedgerEntry::getAmount)
+                .containsExactly(money("60.00"), money("30.00"));
+        assertThat(wallets.transactions).extracting(Transaction::getDescription)
+                .containsExactly("Scheduled: Rent", "Scheduled: Phone");
+        assertThat(payments.saved).extracting(ScheduledPayment::getId)
+                .containsExactly(rent.getId(), phone.getId());
+        assertThat(payments.saved).allMatch(saved -> saved.getExecutionCount() == 1);
+        assertThat(events).hasSize(2).last().satisfies(event ->
+                assertThat(((MoneyTransferredEvent) event).getSourceBalance()).isEqualTo(money("10.00")));
+    }
+
+    @Test
+    @DisplayName("Should write nothing when no payment can be made")
+    void shouldWriteNothingWhenAllOverdraw() {
+        source.credit(money("20.00"), TransactionId.generate(), "Deposit");
+
+        int executed = executor.executeForSourceWallet(List.of(payment("60.00", "Rent"), payment("50.00", "Gym")));
+
+        assertThat(executed).isZero();
+        assertThat(wallets.appended).isEmpty();
+        assertThat(wallets.transactions).isEmpty();
+        assertThat(payments.saved).isEmpty();
+        assertThat(events).isEmpty();
+    }
+
+    private ScheduledPayment payment(String amount, String description) {
+        return ScheduledPayment.createRecurring(source.getId(), destination.getId(), money(amount),
+                description, RecurrencePattern.MONTHLY, LocalDate.now(), null, null, 0);
+    }
+
+    private static Money money(String amount) {
+        return Money.of(new BigDecimal(amount), USD);
+    }
+
+    private static final class InMemoryWallets implements LoadWalletPort, SaveWalletPort, SaveTransactionPort {
+
+        private final Map<WalletId, Wallet> byId;
+        final List<LedgerEntry> appended = new ArrayList<>();
+        final List<Transaction> transactions = new ArrayList<>();
+
+        InMemoryWallets(Wallet... wallets) {
+            byId = new HashMap<>();
+            for (Wallet wallet : wallets) {
+                byId.put(wallet.getId(), wallet);
+            }
+        }
+
+        @Override
+        public Optional<Wallet> loadById(WalletId walletId) {
+            return Optional.ofNullable(byId.get(walletId));
+        }
+
+        @Override
+        public Map<WalletId, Money> loadBalances(Collection<WalletId> walletIds) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void save(Wallet wallet) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void appendLedgerEntries(List<LedgerEntry> entries) {
+            appended.addAll(entries);
+        }
+
+        @Override
+        public void save(Transaction transaction) {
+            transactions.add(transaction);
+        }
+
+        @Override
+        public void saveAll(List<Transaction> transactions) {
+            this.transactions.addAll(transactions);
+        }
+    }
+
+    private static final class RecordingScheduledPayments implements ScheduledPaymentPort {
+
+        final List<ScheduledPayment> saved = new ArrayList<>();
+
+        @Override
+        public void saveClaimed(ScheduledPayment payment) {
+            saved.add(payment);
+        }
+
+        @Override
+        public void saveAllClaimed(List<ScheduledPayment> payments) {
+            saved.addAll(payments);
+        }
+
+        @Override
+        public void save(ScheduledPayment payment) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<ScheduledPayment> findById(ScheduledPaymentId id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<ScheduledPayment> findBySourceWalletId(WalletId walletId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<ScheduledPayment> findActiveByWalletId(WalletId walletId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<ScheduledPayment> findTimedPayments(LocalDateTime from, LocalDateTime to) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<ScheduledPayment> claimDuePayments(LocalDateTime dueAt, Instant modifiedBefore) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<ScheduledPayment> claimDuePayment(ScheduledPaymentId id, LocalDateTime dueAt) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int releaseClaims() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<ScheduledPayment> findByStatus(ScheduledPaymentStatus status) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<ScheduledPayment> findUpcomingPayments(int daysAhead) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void delete(ScheduledPaymentId id) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package com.fintech.wallet.application.usecase;
+
+import com.fintech.wallet.application.command.TransferMoneyCommand;
+import com.fintech.wallet.application.port.in.TransferMoneyUseCase;
+import com.fintech.wallet.application.port.out.LoadWalletPort;
+import com.fintech.wallet.application.port.out.SaveTransactionPort;
+import com.fintech.wallet.application.port.out.SaveWalletPort;
+import com.fintech.wallet.application.port.out.ScheduledPaymentPort;
+import com.fintech.wallet.domain.model.LedgerEntry;
+import com.fintech.wallet.domain.model.RecurrencePattern;
+import com.fintech.wallet.domain.model.ScheduledPayment;
+import com.fintech.wallet.domain.model.ScheduledPaymentStatus;
+import com.fintech.wallet.domain.model.Transaction;
+import com.fintech.wallet.domain.model.Wallet;
+import com.fintech.wallet.domain.valueobject.Currency;
+import com.fintech.wallet.domain.valueobject.Money;
+import com.fintech.wallet.domain.valueobject.PaymentRunSummary;
+import com.fintech.wallet.domain.valueobject.ScheduledPaymentId;
+import com.fintech.wallet.domain.valueobject.TransactionId;
+import com.fintech.wallet.domain.valueobject.WalletId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ScheduledPaymentUseCaseHandler's payment runs.
+ * No Spring context - an in-memory payment queue, a recording transfer use
+ * case and a real thread pool executing the source wallets in parallel.
+ */
+@DisplayName("Scheduled Payment Use Case Tests")
+class ScheduledPaymentUseCaseHandlerTest {
+
+    private static final Currency USD = Currency.of("USD");
+
+    private final WalletId alice = WalletId.generate();
+    private final WalletId bob = WalletId.generate();
+    private final WalletId carol = WalletId.generate();
+
+    private final InMemoryScheduledPayments payments = new InMemoryScheduledPayments();
+    private final RecordingTransfers transfers = new RecordingTransfers();
+    private final ExecutorService paymentExecutor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void shutdown() {
+        paymentExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should execute the payments of each source wallet in schedule order")
+    void shouldPreservePerWalletOrder() {
+        for (int i = 1; i <= 5; i++) {
+            payments.add(payment(alice, carol, "alice-" + i));
+            payments.add(payment(bob, carol, "bob-" + i));
+        }
+
+        handler().executeDuePayments();
+
+        assertThat(transfers.descriptions(alice)).containsExactly(
+                "Scheduled: alice-1", "Scheduled: alice-2", "Scheduled: alice-3",
+                "Scheduled: alice-4", "Scheduled: alice-5");
+        assertThat(transfers.descriptions(bob)).containsExactly(
+                "Scheduled: bob-1", "Scheduled: bob-2", "Scheduled: bob-3",
+                "Scheduled: bob-4", "Scheduled: bob-5");
+    }
+
+    @Test
+    @DisplayName("Should keep executing the remaining payments when one fails")
+    void shouldIsolateFailedPayment() {
+        payments.add(payment(alice, carol, "alice-1"));
+        ScheduledPayment failing = payments.add(payment(alice, carol, "alice-2"));
+        payments.add(payment(alice, carol, "alice-3"));
+        payments.add(payment(bob, carol, "bob-1"));
+        transfers.failing = "Scheduled: alice-2";
+
+        handler().executeDuePayments();
+
+        assertThat(transfers.descriptions(alice)).containsExactly(
+                "Scheduled: alice-1", "Scheduled: alice-2", "Scheduled: alice-3");
+        assertThat(payments.saved).hasSize(3)
+                .noneMatch(saved -> saved.getId().equals(failing.getId()))
+                .allMatch(saved -> saved.getExecutionCount() == 1);
+    }
+
+    @Test
+    @DisplayName("Should report claimed, succeeded and failed payments across batches")
+    void shouldSummarizeRun() {
+        for (int i = 1; i <= 7; i++) {
+            payments.add(payment(i % 2 == 0 ? alice : bob, carol, "payment-" + i));
+        }
+        transfers.failing = "Scheduled: payment-4";
+
+        PaymentRunSummary summary = handler().executeDuePayments();
+
+        assertThat(summary.duePayments()).isEqualTo(7);
+        assertThat(summary.succeeded()).isEqualTo(6);
+        assertThat(summary.failed()).isEqualTo(1);
+        assertThat(payments.claims).isEqualTo(5);
+        assertThat(payments.released).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should claim the next batch while the current one executes and execute every claimed payment")
+    void shouldClaimNextBatchWhileExecuting() {
+        payments.add(payment(alice, carol, "first-1"));
+        payments.add(payment(bob, carol, "first-2"));
+        for (int i = 1; i <= 4; i++) {
+            payments.add(payment(i % 2 == 0 ? alice : bob, carol, "later-" + i));
+        }
+
+        // The first batch's transfers only finish once the second batch is claimed
+        CountDownLatch secondClaim = new CountDownLatch(1);
+        List<Boolean> overlapped = new CopyOnWriteArrayList<>();
+        payments.onClaim = claim -> {
+            if (claim == 2) {
+                secondClaim.countDown();
+            }
+        };
+        transfers.beforeTransfer = description -> {
+            if (description.startsWith("Scheduled: first")) {
+                overlapped.add(await(secondClaim));
+            }
+        };
+
+        PaymentRunSummary summary = handler().executeDuePayments();
+
+        assertThat(overlapped).containsExactly(true, true);
+        assertThat(summary.duePayments()).isEqualTo(6);
+        assertThat(summary.succeeded()).isEqualTo(6);
+        assertThat(payments.saved).hasSize(6);
+    }
+
+    private ScheduledPaymentUseCaseHandler handler() {
+        UnusedWalletPorts wallets = new UnusedWalletPorts();
+        ScheduledPaymentExecutor executor = new ScheduledPaymentExecutor(
+                payments, transfers, wallets, wallets, wallets, event -> { });
+        return new ScheduledPaymentUseCaseHandler(payments, wallets, executor, paymentExecutor,
+                ScheduledPaymentUseCaseHandler.ExecutionMode.PER_PAYMENT, event -> { });
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static ScheduledPayment payment(WalletId source, WalletId destination, String description) {
+        return ScheduledPayment.createRecurring(source, destination, Money.of(new BigDecimal("10.00"), USD),
+                description, RecurrencePattern.DAILY, LocalDate.now(), null, null, 0);
+    }
+
+    /**
+     * Hands out due payments in batches of two, in the order they were added.
+     */
+    private static final class InMemoryScheduledPayments implements ScheduledPaymentPort {
+
+        private final Deque<ScheduledPayment> due = new ArrayDeque<>();
+        final List<ScheduledPayment> saved = new CopyOnWriteArrayList<>();
+        volatile int claims;
+        volatile int released;
+        IntConsumer onClaim = claim -> { };
+
+        ScheduledPayment add(ScheduledPayment payment) {
+            due.add(payment);
+            return payment;
+        }
+
+        @Override
+        public synchronized List<ScheduledPayment> claimDuePayments(LocalDateTime dueAt, Instant modifiedBefore) {
+            onClaim.accept(++claims);
+            List<ScheduledPayment> batch = new ArrayList<>();
+            while (batch.size() < 2 && !due.isEmpty()) {
+                batch.add(due.poll());
+            }
+            return batch;
+        }
+
+        @Override
+        public int releaseClaims() {
+            released++;
+            return 0;
+        }
+
+        @Override
+        public void saveClaimed(ScheduledPayment payment) {
+            saved.add(payment);
+        }
+
+        @Override
+        public void saveAllClaimed(List<ScheduledPayment> payments) {
+            saved.addAll(payments);
+        }
+
+        @Override
+        public void save(ScheduledPayment payment) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<ScheduledPayment> findById(ScheduledPaymentId id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<ScheduledPayment> findBySourceWalletId(WalletId walletId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<ScheduledPayment> findActiveByWalletId(WalletId walletId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<ScheduledPayment> findTimedPayments(LocalDateTime from, LocalDateTime to) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<ScheduledPayment> claimDuePayment(ScheduledPaymentId id, LocalDateTime dueAt) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<ScheduledPayment> findByStatus(ScheduledPaymentStatus status) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<ScheduledPayment> findUpcomingPayments(int daysAhead) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void delete(ScheduledPaymentId id) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Records the transfers made from each source wallet, failing the one
+     * with the given description.
+     */
+    private static final class RecordingTransfers implements TransferMoneyUseCase {
+
+        private final Map<String, List<String>> bySource = new ConcurrentHashMap<>();
+        volatile String failing;
+        Consumer<String> beforeTransfer = description -> { };
+
+        @Override
+        public TransactionId execute(TransferMoneyCommand command) {
+            beforeTransfer.accept(command.getDescription());
+            bySource.computeIfAbsent(command.getSourceWalletId(), id -> new CopyOnWriteArrayList<>())
+                    .add(command.getDescription());
+            if (command.getDescription().equals(failing)) {
+                throw new IllegalStateException("Transfer rejected");
+            }
+            return TransactionId.generate();
+        }
+
+        List<String> descriptions(WalletId source) {
+            return bySource.getOrDefault(source.toString(), List.of());
+        }
+    }
+
+    private static final class UnusedWalletPorts implements LoadWalletPort, SaveWalletPort, SaveTransactionPort {
+
+        @Override
+        public Optional<Wallet> loadById(WalletId walletId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Map<WalletId, Money> loadBalances(Collection<WalletId> walletIds) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void save(Wallet wallet) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void appendLedgerEntries(List<LedgerEntry> entries) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void save(Transaction transaction) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void saveAll(List<Transaction> transactions) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
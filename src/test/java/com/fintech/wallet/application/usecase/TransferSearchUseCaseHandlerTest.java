@@ -0,0 +1,142 @@
+package com.fintech.wallet.application.usecase;
+
+import com.fintech.wallet.application.port.in.TransferSearchUseCase.TransferPage;
+import com.fintech.wallet.application.port.in.TransferSearchUseCase.TransferSearch;
+import com.fintech.wallet.application.port.out.TransactionSearchPort;
+import com.fintech.wallet.domain.model.Transaction;
+import com.fintech.wallet.domain.model.TransactionStatus;
+import com.fintech.wallet.domain.valueobject.Money;
+import com.fintech.wallet.domain.valueobject.TransactionId;
+import com.fintech.wallet.domain.valueobject.WalletId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for TransferSearchUseCaseHandler.
+ * No Spring context - an in-memory port applies the wallet and cursor filters.
+ */
+@DisplayName("Transfer Search Use Case Tests")
+class TransferSearchUseCaseHandlerTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-29T12:00:00Z");
+
+    private final WalletId wallet = WalletId.generate();
+    private final WalletId other = WalletId.generate();
+    private final InMemoryTransactions transactions = new InMemoryTransactions();
+    private final TransferSearchUseCaseHandler handler = new TransferSearchUseCaseHandler(transactions);
+
+    @Test
+    @DisplayName("Should page through both directions newest first without gaps or repeats")
+    void shouldPageThroughMergedStreams() {
+        List<Transaction> expected = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            // Two transfers share each timestamp, one per direction, so ties are broken by ID
+            Instant createdAt = NOW.minusSeconds(i / 2);
+            boolean outgoing = i % 2 == 0;
+            expected.add(transactions.add(outgoing ? wallet : other, outgoing ? other : wallet, createdAt,
+                    // IDs whose order differs between signed and unsigned comparison
+                    new UUID(i % 3 == 0 ? -1L - i : i, i)));
+        }
+        transactions.add(other, WalletId.generate(), NOW, UUID.randomUUID());
+        expected.sort(TransferSearchUseCaseHandler.NEWEST_FIRST);
+
+        List<Transaction> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            TransferPage page = handler.search(search(cursor, 3));
+            seen.addAll(page.transfers());
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(seen).containsExactlyElementsOf(expected);
+        assertThat(pages).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should return no cursor when the page holds the last transfer")
+    void shouldEndWithoutCursor() {
+        transactions.add(wallet, other, NOW, UUID.randomUUID());
+        transactions.add(other, wallet, NOW.minusSeconds(1), UUID.randomUUID());
+
+        TransferPage page = handler.search(search(null, 2));
+
+        assertThat(page.transfers()).hasSize(2);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject invalid cursors, limits and ranges")
+    void shouldRejectInvalidSearches() {
+        assertThatThrownBy(() -> handler.search(search("bm90LWEtY3Vyc29y", 10)))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("Invalid cursor");
+        assertThatThrownBy(() -> handler.search(search(null, 201)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> handler.search(new TransferSearch(wallet.toString(), null, null, null,
+                NOW, NOW.minusSeconds(1), null, null, null, 10)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> handler.search(new TransferSearch(wallet.toString(), null, null, null,
+                null, null, "SETTLED", null, null, 10)))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("Unknown status: SETTLED");
+    }
+
+    private TransferSearch search(String cursor, int limit) {
+        return new TransferSearch(wallet.toString(), null, null, null, null, null, null, null, cursor, limit);
+    }
+
+    private static final class InMemoryTransactions implements TransactionSearchPort {
+        private final List<Transaction> rows = new ArrayList<>();
+
+        Transaction add(WalletId source, WalletId destination, Instant createdAt, UUID id) {
+            Transaction transaction = Transaction.builder()
+                    .id(TransactionId.of(id))
+                    .sourceWalletId(source)
+                    .destinationWalletId(destination)
+                    .amount(Money.of("10.00", "USD"))
+                    .description("Transfer")
+                    .status(TransactionStatus.COMPLETED)
+                    .createdAt(createdAt)
+                    .build();
+            rows.add(transaction);
+            return transaction;
+        }
+
+        @Override
+        public List<Transaction> findOutgoing(TransactionFilter filter, int limit) {
+            return find(filter, Transaction::getSourceWalletId, limit);
+        }
+
+        @Override
+        public List<Transaction> findIncoming(TransactionFilter filter, int limit) {
+            return find(filter, Transaction::getDestinationWalletId, limit);
+        }
+
+        private List<Transaction> find(TransactionFilter filter, Function<Transaction, WalletId> side, int limit) {
+            // Only the ID and timestamp of the cursor take part in the ordering
+            Transaction cursor = filter.cursorId() == null ? null : Transaction.builder()
+                    .id(filter.cursorId())
+                    .sourceWalletId(WalletId.generate())
+                    .destinationWalletId(WalletId.generate())
+                    .amount(Money.of("1.00", "USD"))
+                    .status(TransactionStatus.COMPLETED)
+                    .createdAt(filter.cursorCreatedAt())
+                    .build();
+            return rows.stream()
+                    .filter(t -> side.apply(t).equals(filter.walletId()))
+                    .filter(t -> cursor == null || TransferSearchUseCaseHandler.NEWEST_FIRST.compare(t, cursor) > 0)
+                    .sorted(TransferSearchUseCaseHandler.NEWEST_FIRST)
+                    .limit(limit)
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.fintech.wallet.application.usecase;
+
+import com.fintech.wallet.application.port.in.WalletImportUseCase.ImportResult;
+import com.fintech.wallet.application.port.in.WalletImportUseCase.ImportRow;
+import com.fintech.wallet.application.port.in.WalletImportUseCase.Rejection;
+import com.fintech.wallet.application.port.out.WalletImportPort;
+import com.fintech.wallet.domain.model.Wallet;
+import com.fintech.wallet.domain.valueobject.WalletId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for WalletImportUseCaseHandler.
+ * No Spring context - an in-memory import port stands in for COPY.
+ */
+@DisplayName("Wallet Import Use Case Tests")
+class WalletImportUseCaseHandlerTest {
+
+    private final InMemoryImport store = new InMemoryImport();
+    private final WalletImportUseCaseHandler handler = new WalletImportUseCaseHandler(store, 2);
+    private final List<Rejection> rejects = new ArrayList<>();
+
+    @Test
+    @DisplayName("Should import valid rows in chunks with their opening balances")
+    void shouldImportInChunks() {
+        String id = UUID.randomUUID().toString();
+        List<ImportRow> rows = List.of(
+                new ImportRow(1, id, "usd", "1500.00", "raw1"),
+                new ImportRow(2, "", "EUR", "", "raw2"),
+                new ImportRow(3, null, "GBP", "0.5", "raw3"));
+
+        ImportResult result = handler.importWallets(rows.iterator(), rejects::add);
+
+        assertThat(result.imported()).isEqualTo(3);
+        assertThat(result.rejected()).isZero();
+        assertThat(store.chunkSizes).containsExactly(2, 1);
+
+        Wallet first = store.wallets.get(WalletId.of(id));
+        assertThat(first.getCurrency().getCode()).isEqualTo("USD");
+        assertThat(first.calculateBalance().getAmount()).isEqualByComparingTo("1500.00");
+        assertThat(first.getLedgerEntries()).singleElement()
+                .satisfies(entry -> assertThat(entry.getDescription()).isEqualTo("Opening balance"));
+        assertThat(store.wallets.values()).filteredOn(w -> w.getCurrency().getCode().equals("EUR"))
+                .singleElement().satisfies(w -> assertThat(w.getLedgerEntries()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid, duplicate and existing rows with a reason")
+    void shouldRejectInvalidRows() {
+        String existing = UUID.randomUUID().toString();
+        String duplicate = UUID.randomUUID().toString();
+        store.wallets.put(WalletId.of(existing), null);
+        List<ImportRow> rows = List.of(
+                new ImportRow(1, null, "XXX", "10", "r1"),
+                new ImportRow(2, null, "USD", "-1", "r2"),
+                new ImportRow(3, null, "USD", "1.005", "r3"),
+                new ImportRow(4, "not-a-uuid", "USD", "1", "r4"),
+                new ImportRow(5, duplicate, "USD", "1", "r5"),
+                new ImportRow(6, duplicate, "USD", "2", "r6"),
+                new ImportRow(7, existing, "USD", "3", "r7"),
+                ImportRow.malformed(8, "{oops", "Invalid JSON"));
+
+        ImportResult result = handler.importWallets(rows.iterator(), rejects::add);
+
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(result.rejected()).isEqualTo(7);
+        assertThat(rejects).extracting(Rejection::record).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 6L, 7L, 8L);
+        assertThat(rejects).filteredOn(r -> r.record() == 1).singleElement()
+                .satisfies(r -> assertThat(r.reason()).isEqualTo("Unsupported currency: XXX"));
+        assertThat(rejects).filteredOn(r -> r.record() == 7).singleElement()
+                .satisfies(r -> assertThat(r.reason()).startsWith("Wallet already exists"));
+        assertThat(rejects).filteredOn(r -> r.record() == 8).singleElement()
+                .satisfies(r -> assertThat(r.raw()).isEqualTo("{oops"));
+    }
+
+    @Test
+    @DisplayName("Should reject opening balances too large for the ledger's amount column")
+    void shouldRejectOversizedBalances() {
+        List<ImportRow> rows = List.of(
+                new ImportRow(1, null, "USD", "99999999999999999.99", "r1"),
+                new ImportRow(2, null, "USD", "100000000000000000", "r2"),
+                new ImportRow(3, null, "USD", "1E+20", "r3"));
+
+        ImportResult result = handler.importWallets(rows.iterator(), rejects::add);
+
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(rejects).extracting(Rejection::record).containsExactly(2L, 3L);
+        assertThat(rejects).extracting(Rejection::reason)
+                .containsExactly("Opening balance has more than 17 integer digits: 100000000000000000",
+                        "Opening balance has more than 17 integer digits: 1E+20");
+    }
+
+    private static final class InMemoryImport implements WalletImportPort {
+        private final Map<WalletId, Wallet> wallets = new LinkedHashMap<>();
+        private final List<Integer> chunkSizes = new ArrayList<>();
+
+        @Override
+        public Set<WalletId> insertNew(List<Wallet> chunk) {
+            chunkSizes.add(chunk.size());
+            Set<WalletId> skipped = new HashSet<>();
+            for (Wallet wallet : chunk) {
+                if (wallets.containsKey(wallet.getId())) {
+                    skipped.add(wallet.getId());
+                } else {
+                    wallets.put(wallet.getId(), wallet);
+                }
+            }
+            return skipped;
+        }
+    }
+}
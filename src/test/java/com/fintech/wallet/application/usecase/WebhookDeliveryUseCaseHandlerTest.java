@@ -0,0 +1,220 @@
+package com.fintech.wallet.application.usecase;
+
+import com.fintech.wallet.application.port.out.WebhookDeliveryPort;
+import com.fintech.wallet.application.port.out.WebhookPort;
+import com.fintech.wallet.domain.model.WebhookDelivery;
+import com.fintech.wallet.domain.model.WebhookDeliveryStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for WebhookDeliveryUseCaseHandler.
+ * No Spring context - in-memory queue and a recording receiver.
+ */
+@DisplayName("Webhook Delivery Use Case Tests")
+class WebhookDeliveryUseCaseHandlerTest {
+
+    private static final String BATCH_URL = "https://batch.example.com/hook";
+    private static final String SINGLE_URL = "https://single.example.com/hook";
+
+    private final InMemoryQueue queue = new InMemoryQueue();
+    private final RecordingReceiver receiver = new RecordingReceiver();
+    private final WebhookDeliveryUseCaseHandler handler = new WebhookDeliveryUseCaseHandler(
+            queue, receiver, List.of(Duration.ofMinutes(1)), 20, Set.of(BATCH_URL), 3, Duration.ZERO,
+            Duration.ofMinutes(5), Runnable::run);
+
+    @Test
+    @DisplayName("Should coalesce deliveries to a batch endpoint into one array in queue order")
+    void shouldCoalesceBatchEndpoint() {
+        for (int i = 1; i <= 4; i++) {
+            handler.enqueue(List.of(BATCH_URL, SINGLE_URL), "MONEY_DEPOSITED", UUID.randomUUID(), "{\"n\":" + i + "}");
+        }
+
+        handler.deliverDue();
+
+        assertThat(receiver.bodies(BATCH_URL)).containsExactly("[{\"n\":1},{\"n\":2},{\"n\":3}]");
+        assertThat(receiver.bodies(SINGLE_URL)).containsExactlyInAnyOrder("{\"n\":1}", "{\"n\":2}", "{\"n\":3}", "{\"n\":4}");
+
+        handler.deliverDue();
+
+        assertThat(receiver.bodies(BATCH_URL)).containsExactly("[{\"n\":1},{\"n\":2},{\"n\":3}]", "[{\"n\":4}]");
+    }
+
+    @Test
+    @DisplayName("Should hold newer deliveries while a failed batch is backing off")
+    void shouldPreserveOrderAcrossRetries() {
+        handler.enqueue(List.of(BATCH_URL), "MONEY_DEPOSITED", UUID.randomUUID(), "{\"n\":1}");
+        receiver.failing = true;
+        handler.deliverDue();
+
+        receiver.failing = false;
+        handler.enqueue(List.of(BATCH_URL), "MONEY_DEPOSITED", UUID.randomUUID(), "{\"n\":2}");
+        handler.deliverDue();
+
+        assertThat(receiver.bodies(BATCH_URL)).containsExactly("[{\"n\":1}]");
+        assertThat(queue.rows.values()).allMatch(d -> d.getStatus() == WebhookDeliveryStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("Should not resend deliveries in flight and save each outcome when its attempt completes")
+    void shouldHoldDeliveriesInFlight() {
+        handler.enqueue(List.of(SINGLE_URL), "MONEY_DEPOSITED", UUID.randomUUID(), "{\"n\":1}");
+        handler.enqueue(List.of(BATCH_URL), "MONEY_DEPOSITED", UUID.randomUUID(), "{\"n\":2}");
+        receiver.pending = new CompletableFuture<>();
+
+        assertThat(handler.deliverDue()).isEqualTo(2);
+        assertThat(handler.deliverDue()).isZero();
+        assertThat(receiver.requests).hasSize(2);
+        assertThat(queue.rows.values()).allMatch(d -> d.getStatus() == WebhookDeliveryStatus.PENDING
+                && d.getNextAttemptAt().isAfter(Instant.now()));
+
+        receiver.pending.complete(null);
+
+        assertThat(queue.rows.values()).allMatch(d -> d.getStatus() == WebhookDeliveryStatus.DELIVERED);
+    }
+
+    @Test
+    @DisplayName("Should pick only as many deliveries as an endpoint has room for in flight")
+    void shouldCapDeliveriesInFlightPerEndpoint() {
+        for (int i = 1; i <= 25; i++) {
+            handler.enqueue(List.of(SINGLE_URL), "MONEY_DEPOSITED", UUID.randomUUID(), "{\"n\":" + i + "}");
+        }
+        receiver.pending = new CompletableFuture<>();
+
+        assertThat(handler.deliverDue()).isEqualTo(20);
+        assertThat(handler.deliverDue()).isZero();
+
+        receiver.pending.complete(null);
+        receiver.pending = null;
+
+        assertThat(handler.deliverDue()).isEqualTo(5);
+        assertThat(receiver.requests).hasSize(25);
+    }
+
+    @Test
+    @DisplayName("Should release a delivery the sender had no room for without counting an attempt")
+    void shouldReleaseRejectedDeliveries() {
+        handler.enqueue(List.of(SINGLE_URL), "MONEY_DEPOSITED", UUID.randomUUID(), "{\"n\":1}");
+        receiver.rejecting = true;
+
+        handler.deliverDue();
+
+        assertThat(queue.rows.values()).singleElement().satisfies(d -> {
+            assertThat(d.getStatus()).isEqualTo(WebhookDeliveryStatus.PENDING);
+            assertThat(d.getAttempts()).isZero();
+            assertThat(d.getNextAttemptAt()).isBeforeOrEqualTo(Instant.now());
+        });
+
+        receiver.rejecting = false;
+        handler.deliverDue();
+
+        assertThat(queue.rows.values()).allMatch(d -> d.getStatus() == WebhookDeliveryStatus.DELIVERED
+                && d.getAttempts() == 1);
+    }
+
+    private static final class RecordingReceiver implements WebhookPort {
+        private final List<String[]> requests = new ArrayList<>();
+        private boolean failing;
+        private boolean rejecting;
+        private CompletableFuture<Void> pending;
+
+        @Override
+        public CompletableFuture<Void> send(String webhookUrl, String eventType, String payload) {
+            if (rejecting) {
+                return CompletableFuture.failedFuture(new RejectedExecutionException("Webhook queue full"));
+            }
+            requests.add(new String[] {webhookUrl, payload});
+            if (pending != null) {
+                return pending;
+            }
+            return failing
+                    ? CompletableFuture.failedFuture(new IllegalStateException("503"))
+                    : CompletableFuture.completedFuture(null);
+        }
+
+        List<String> bodies(String webhookUrl) {
+            return requests.stream().filter(r -> r[0].equals(webhookUrl)).map(r -> r[1]).toList();
+        }
+    }
+
+    private static final class InMemoryQueue implements WebhookDeliveryPort {
+        private final Map<UUID, WebhookDelivery> rows = new LinkedHashMap<>();
+        private long sequence;
+
+        @Override
+        public void enqueueAll(List<WebhookDelivery> deliveries) {
+            // Distinct creation times keep the queue order deterministic
+            deliveries.forEach(d -> rows.put(d.getId(), WebhookDelivery.builder()
+                    .id(d.getId()).webhookUrl(d.getWebhookUrl()).eventType(d.getEventType())
+                    .eventId(d.getEventId()).payload(d.getPayload()).status(d.getStatus())
+                    .nextAttemptAt(d.getNextAttemptAt()).createdAt(Instant.EPOCH.plusMillis(sequence++))
+                    .build()));
+        }
+
+        @Override
+        public void saveAll(List<WebhookDelivery> deliveries) {
+            deliveries.forEach(d -> rows.put(d.getId(), d));
+        }
+
+        @Override
+        public Optional<WebhookDelivery> findById(UUID deliveryId) {
+            return Optional.ofNullable(rows.get(deliveryId));
+        }
+
+        @Override
+        public List<String> findDueEndpoints(Instant now) {
+            return due(now).map(WebhookDelivery::getWebhookUrl).distinct().toList();
+        }
+
+        @Override
+        public List<WebhookDelivery> findDue(String webhookUrl, Instant now, int limit) {
+            return due(now).filter(d -> d.getWebhookUrl().equals(webhookUrl)).limit(limit).toList();
+        }
+
+        @Override
+        public List<WebhookDelivery> findPending(String webhookUrl, int limit) {
+            return rows.values().stream()
+                    .filter(d -> d.getStatus() == WebhookDeliveryStatus.PENDING && d.getWebhookUrl().equals(webhookUrl))
+                    .sorted(Comparator.comparing(WebhookDelivery::getCreatedAt))
+                    .limit(limit)
+                    .toList();
+        }
+
+        @Override
+        public List<WebhookDelivery> findByStatus(WebhookDeliveryStatus status, int page, int size) {
+            return rows.values().stream().filter(d -> d.getStatus() == status).toList();
+        }
+
+        @Override
+        public int replayDeadLetters(String webhookUrl, Instant now) {
+            return 0;
+        }
+
+        @Override
+        public int deleteDeliveredBefore(Instant before) {
+            return 0;
+        }
+
+        private Stream<WebhookDelivery> due(Instant now) {
+            return rows.values().stream()
+                    .filter(d -> d.getStatus() == WebhookDeliveryStatus.PENDING && !d.getNextAttemptAt().isAfter(now))
+                    .sorted(Comparator.comparing(WebhookDelivery::getCreatedAt));
+        }
+    }
+}
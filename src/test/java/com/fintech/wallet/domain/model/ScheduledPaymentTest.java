@@ -0,0 +1,72 @@
+package com.fintech.wallet.domain.model;
+
+import com.fintech.wallet.domain.valueobject.Money;
+import com.fintech.wallet.domain.valueobject.WalletId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ScheduledPayment entity.
+ * No Spring context - pure domain tests.
+ */
+@DisplayName("Scheduled Payment Entity Tests")
+class ScheduledPaymentTest {
+
+    private final LocalDate executionDate = LocalDate.now().plusDays(1);
+
+    @Test
+    @DisplayName("Should become due on its execution date only once the execution time is reached")
+    void shouldRespectExecutionTime() {
+        ScheduledPayment payment = oneTimePayment(LocalTime.of(9, 30));
+
+        assertThat(payment.isDueAt(executionDate.atTime(9, 29, 59))).isFalse();
+        assertThat(payment.isDueAt(executionDate.atTime(9, 30))).isTrue();
+        assertThat(payment.isDueAt(executionDate.plusDays(1).atTime(0, 0))).isTrue();
+        assertThat(payment.getNextExecutionDateTime()).isEqualTo(executionDate.atTime(9, 30));
+    }
+
+    @Test
+    @DisplayName("Should be due all day on its execution date without an execution time")
+    void shouldBeDueAllDayWithoutExecutionTime() {
+        ScheduledPayment payment = oneTimePayment(null);
+
+        assertThat(payment.isDueAt(executionDate.minusDays(1).atTime(23, 59))).isFalse();
+        assertThat(payment.isDueAt(executionDate.atStartOfDay())).isTrue();
+        assertThat(payment.getNextExecutionDateTime()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should keep the execution time across recurring executions")
+    void shouldKeepExecutionTimeAcrossExecutions() {
+        ScheduledPayment payment = ScheduledPayment.createRecurring(
+                WalletId.generate(),
+                WalletId.generate(),
+                Money.of("25.00", "USD"),
+                "Daily top-up",
+                RecurrencePattern.DAILY,
+                executionDate,
+                null,
+                LocalTime.of(18, 0),
+                0);
+
+        ScheduledPayment executed = payment.withExecution();
+
+        assertThat(executed.getExecutionTime()).isEqualTo(LocalTime.of(18, 0));
+        assertThat(executed.getNextExecutionDateTime()).isEqualTo(executionDate.plusDays(1).atTime(18, 0));
+    }
+
+    private ScheduledPayment oneTimePayment(LocalTime executionTime) {
+        return ScheduledPayment.createOneTime(
+                WalletId.generate(),
+                WalletId.generate(),
+                Money.of("100.00", "USD"),
+                "Rent",
+                executionDate,
+                executionTime);
+    }
+}
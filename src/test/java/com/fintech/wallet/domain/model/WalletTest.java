@@ -117,6 +117,20 @@ class WalletTest {
         assertThat(wallet.getLedgerEntries()).hasSize(5);
     }
 
+    @Test
+    @DisplayName("Should reject a debit once earlier debits have used up the balance")
+    void shouldRejectDebitAfterEarlierDebitsUseUpBalance() {
+        wallet.credit(Money.of("100.00", "USD"), transactionId, "Deposit");
+        wallet.debit(Money.of("60.00", "USD"), transactionId, "Payment 1");
+
+        assertThatThrownBy(() -> wallet.debit(Money.of("50.00", "USD"), transactionId, "Payment 2"))
+                .isInstanceOf(InsufficientBalanceException.class);
+
+        wallet.debit(Money.of("40.00", "USD"), transactionId, "Payment 3");
+        assertThat(wallet.calculateBalance().isZero()).isTrue();
+        assertThat(wallet.getLedgerEntries()).hasSize(3);
+    }
+
     @Test
     @DisplayName("Should check if wallet can debit amount")
     void shouldCheckIfWalletCanDebitAmount() {
@@ -0,0 +1,66 @@
+package com.fintech.wallet.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for WebhookDelivery.
+ * No Spring context - pure domain tests.
+ */
+@DisplayName("Webhook Delivery Tests")
+class WebhookDeliveryTest {
+
+    private static final Instant NOW = Instant.parse("2024-03-01T10:00:00Z");
+    private static final List<Duration> SCHEDULE = List.of(Duration.ofSeconds(10), Duration.ofMinutes(5));
+
+    private WebhookDelivery queued() {
+        return WebhookDelivery.queue("https://example.com/hook", "MONEY_DEPOSITED", UUID.randomUUID(), "{}", NOW);
+    }
+
+    @Test
+    @DisplayName("Should follow the retry schedule after each failure")
+    void shouldFollowRetrySchedule() {
+        WebhookDelivery first = queued().recordFailure("503", SCHEDULE, NOW);
+        WebhookDelivery second = first.recordFailure("503", SCHEDULE, NOW);
+
+        assertThat(first.getStatus()).isEqualTo(WebhookDeliveryStatus.PENDING);
+        assertThat(first.getNextAttemptAt()).isEqualTo(NOW.plusSeconds(10));
+        assertThat(second.getAttempts()).isEqualTo(2);
+        assertThat(second.getNextAttemptAt()).isEqualTo(NOW.plus(Duration.ofMinutes(5)));
+    }
+
+    @Test
+    @DisplayName("Should dead-letter once the schedule is exhausted and allow replay")
+    void shouldDeadLetterAndReplay() {
+        WebhookDelivery dead = queued()
+                .recordFailure("503", SCHEDULE, NOW)
+                .recordFailure("503", SCHEDULE, NOW)
+                .recordFailure("timeout", SCHEDULE, NOW);
+
+        assertThat(dead.getStatus()).isEqualTo(WebhookDeliveryStatus.DEAD);
+        assertThat(dead.getAttempts()).isEqualTo(3);
+        assertThat(dead.getNextAttemptAt()).isNull();
+        assertThat(dead.getLastError()).isEqualTo("timeout");
+
+        Instant later = NOW.plus(Duration.ofHours(1));
+        WebhookDelivery replayed = dead.replay(later);
+        assertThat(replayed.getStatus()).isEqualTo(WebhookDeliveryStatus.PENDING);
+        assertThat(replayed.getAttempts()).isZero();
+        assertThat(replayed.getNextAttemptAt()).isEqualTo(later);
+    }
+
+    @Test
+    @DisplayName("Should only replay dead-lettered deliveries")
+    void shouldRejectReplayOfPendingDelivery() {
+        assertThatThrownBy(() -> queued().replay(NOW))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
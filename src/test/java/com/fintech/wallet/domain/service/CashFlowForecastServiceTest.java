@@ -0,0 +1,110 @@
+package com.fintech.wallet.domain.service;
+
+import com.fintech.wallet.domain.model.RecurrencePattern;
+import com.fintech.wallet.domain.model.ScheduledPayment;
+import com.fintech.wallet.domain.valueobject.CashFlowForecast;
+import com.fintech.wallet.domain.valueobject.CashFlowForecast.Direction;
+import com.fintech.wallet.domain.valueobject.CashFlowForecast.ProjectedPayment;
+import com.fintech.wallet.domain.valueobject.Money;
+import com.fintech.wallet.domain.valueobject.WalletId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for CashFlowForecastService.
+ * No Spring context - pure domain tests.
+ */
+@DisplayName("Cash-Flow Forecast Service Tests")
+class CashFlowForecastServiceTest {
+
+    private CashFlowForecastService forecastService;
+    private WalletId walletId;
+    private WalletId otherWalletId;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        forecastService = new CashFlowForecastService();
+        walletId = WalletId.generate();
+        otherWalletId = WalletId.generate();
+        today = LocalDate.now();
+    }
+
+    @Test
+    @DisplayName("Should merge incoming and outgoing recurrences in date order")
+    void shouldMergeSchedulesInDateOrder() {
+        ScheduledPayment rent = ScheduledPayment.createRecurring(
+                walletId, otherWalletId, Money.of("100.00", "USD"), "Rent",
+                RecurrencePattern.WEEKLY, today.plusDays(1), null, null, 0);
+        ScheduledPayment salary = ScheduledPayment.createRecurring(
+                otherWalletId, walletId, Money.of("40.00", "USD"), "Allowance",
+                RecurrencePattern.WEEKLY, today.plusDays(3), null, null, 0);
+
+        CashFlowForecast forecast = forecastService.forecast(
+                walletId, Money.of("500.00", "USD"), List.of(salary, rent), today, today.plusDays(13));
+
+        assertThat(forecast.payments())
+                .extracting(ProjectedPayment::date)
+                .containsExactly(today.plusDays(1), today.plusDays(3), today.plusDays(8), today.plusDays(10));
+        assertThat(forecast.payments())
+                .extracting(ProjectedPayment::direction)
+                .containsExactly(Direction.OUTGOING, Direction.INCOMING, Direction.OUTGOING, Direction.INCOMING);
+        assertThat(forecast.closingBalance()).isEqualTo(Money.of("380.00", "USD"));
+        assertThat(forecast.lowestBalance()).isEqualTo(Money.of("340.00", "USD"));
+        assertThat(forecast.hasShortfall()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should flag payments the projected balance cannot cover without applying them")
+    void shouldFlagShortfalls() {
+        ScheduledPayment subscription = ScheduledPayment.createRecurring(
+                walletId, otherWalletId, Money.of("60.00", "USD"), "Subscription",
+                RecurrencePattern.DAILY, today, null, null, 0);
+
+        CashFlowForecast forecast = forecastService.forecast(
+                walletId, Money.of("100.00", "USD"), List.of(subscription), today, today.plusDays(2));
+
+        assertThat(forecast.payments())
+                .extracting(ProjectedPayment::covered)
+                .containsExactly(true, false, false);
+        assertThat(forecast.shortfalls()).hasSize(2);
+        assertThat(forecast.shortfalls().get(0).date()).isEqualTo(today.plusDays(1));
+        assertThat(forecast.closingBalance()).isEqualTo(Money.of("40.00", "USD"));
+    }
+
+    @Test
+    @DisplayName("Should stop at the end date and the maximum number of executions")
+    void shouldRespectEndConditions() {
+        ScheduledPayment limited = ScheduledPayment.createRecurring(
+                walletId, otherWalletId, Money.of("10.00", "USD"), "Three instalments",
+                RecurrencePattern.DAILY, today, null, null, 3);
+        ScheduledPayment ending = ScheduledPayment.createRecurring(
+                walletId, otherWalletId, Money.of("1.00", "USD"), "Two days",
+                RecurrencePattern.DAILY, today, today.plusDays(1), null, 0);
+
+        CashFlowForecast forecast = forecastService.forecast(
+                walletId, Money.of("1000.00", "USD"), List.of(limited, ending), today, today.plusDays(30));
+
+        assertThat(forecast.payments()).hasSize(5);
+        assertThat(forecast.closingBalance()).isEqualTo(Money.of("968.00", "USD"));
+    }
+
+    @Test
+    @DisplayName("Should ignore payments in another currency")
+    void shouldIgnoreOtherCurrencies() {
+        ScheduledPayment euroPayment = ScheduledPayment.createOneTime(
+                walletId, otherWalletId, Money.of("10.00", "EUR"), "Euro payment", today.plusDays(1), null);
+
+        CashFlowForecast forecast = forecastService.forecast(
+                walletId, Money.of("5.00", "USD"), List.of(euroPayment), today, today.plusDays(30));
+
+        assertThat(forecast.payments()).isEmpty();
+        assertThat(forecast.closingBalance()).isEqualTo(Money.of("5.00", "USD"));
+    }
+}
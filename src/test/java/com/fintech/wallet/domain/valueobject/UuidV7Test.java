@@ -0,0 +1,91 @@
+package com.fintech.wallet.domain.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for UuidV7.
+ * No Spring context - pure domain tests.
+ */
+@DisplayName("UUIDv7 Tests")
+class UuidV7Test {
+
+    @Test
+    @DisplayName("Should produce version 7, IETF variant UUIDs carrying the current time")
+    void shouldCarryVersionAndTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.generate();
+        long after = System.currentTimeMillis();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        // More than 4096 ids in one millisecond run the timestamp ahead of the clock
+        assertThat(UuidV7.timestamp(uuid)).isBetween(before, after + 1000);
+    }
+
+    @Test
+    @DisplayName("Should be strictly increasing in string and UUID order")
+    void shouldBeMonotonic() {
+        UUID previous = UuidV7.generate();
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = UuidV7.generate();
+            assertThat(next).isGreaterThan(previous);
+            assertThat(next.toString()).isGreaterThan(previous.toString());
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("Should stay unique across concurrent generators")
+    void shouldBeUniqueAcrossThreads() throws Exception {
+        int threads = 8;
+        int perThread = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<UUID>>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    List<UUID> ids = new ArrayList<>(perThread);
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(UuidV7.generate());
+                    }
+                    return ids;
+                }));
+            }
+
+            Set<UUID> all = new HashSet<>();
+            for (Future<List<UUID>> future : futures) {
+                List<UUID> ids = future.get();
+                // Each thread sees its own ids in order
+                assertThat(ids).isSorted();
+                all.addAll(ids);
+            }
+            assertThat(all).hasSize(threads * perThread);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep accepting random ids created before the switch")
+    void shouldAcceptRandomIds() {
+        UUID legacy = UUID.randomUUID();
+
+        assertThat(WalletId.of(legacy.toString()).getValue()).isEqualTo(legacy);
+        assertThat(WalletId.generate().getValue().version()).isEqualTo(7);
+        assertThatThrownBy(() -> UuidV7.timestamp(legacy))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
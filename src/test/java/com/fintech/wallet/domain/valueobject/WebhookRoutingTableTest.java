@@ -0,0 +1,63 @@
+package com.fintech.wallet.domain.valueobject;
+
+import com.fintech.wallet.domain.model.WebhookSubscription;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for WebhookRoutingTable.
+ * No Spring context - pure domain tests.
+ */
+@DisplayName("Webhook Routing Table Tests")
+class WebhookRoutingTableTest {
+
+    private final WalletId alice = WalletId.generate();
+    private final WalletId bob = WalletId.generate();
+
+    @Test
+    @DisplayName("Should route by event type and wallet, including wildcard subscriptions")
+    void shouldRouteMatchingSubscriptions() {
+        WebhookRoutingTable table = WebhookRoutingTable.of(List.of(
+                WebhookSubscription.create("https://all.example.com", Set.of(), Set.of()),
+                WebhookSubscription.create("https://deposits.example.com", Set.of("MONEY_DEPOSITED"), Set.of()),
+                WebhookSubscription.create("https://alice.example.com", Set.of(), Set.of(alice)),
+                WebhookSubscription.create("https://bob-transfers.example.com", Set.of("MONEY_TRANSFERRED"), Set.of(bob))));
+
+        assertThat(table.route("MONEY_DEPOSITED", List.of(alice)))
+                .containsExactlyInAnyOrder("https://all.example.com", "https://deposits.example.com",
+                        "https://alice.example.com");
+        assertThat(table.route("MONEY_DEPOSITED", List.of(bob)))
+                .containsExactlyInAnyOrder("https://all.example.com", "https://deposits.example.com");
+        assertThat(table.route("MONEY_TRANSFERRED", List.of(alice, bob)))
+                .containsExactlyInAnyOrder("https://all.example.com", "https://alice.example.com",
+                        "https://bob-transfers.example.com");
+    }
+
+    @Test
+    @DisplayName("Should list an endpoint once and ignore inactive subscriptions")
+    void shouldDeduplicateAndSkipInactive() {
+        WebhookSubscription cancelled = WebhookSubscription.create("https://gone.example.com", Set.of(), Set.of())
+                .deactivate();
+        WebhookRoutingTable table = WebhookRoutingTable.of(List.of(
+                WebhookSubscription.create("https://dup.example.com", Set.of("WALLET_CREATED"), Set.of(alice)),
+                WebhookSubscription.create("https://dup.example.com", Set.of(), Set.of()),
+                cancelled));
+
+        assertThat(table.route("WALLET_CREATED", List.of(alice))).containsExactly("https://dup.example.com");
+    }
+
+    @Test
+    @DisplayName("Should reject unknown event types and non-http URLs")
+    void shouldValidateSubscriptions() {
+        assertThatThrownBy(() -> WebhookSubscription.create("https://x.example.com", Set.of("NOPE"), Set.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> WebhookSubscription.create("ftp://x.example.com", Set.of(), Set.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
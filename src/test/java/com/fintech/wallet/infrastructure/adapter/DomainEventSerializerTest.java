@@ -0,0 +1,64 @@
+package com.fintech.wallet.infrastructure.adapter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.wallet.domain.event.DomainEvent;
+import com.fintech.wallet.domain.event.MoneyDepositedEvent;
+import com.fintech.wallet.domain.event.MoneyTransferredEvent;
+import com.fintech.wallet.domain.valueobject.Money;
+import com.fintech.wallet.domain.valueobject.TransactionId;
+import com.fintech.wallet.domain.valueobject.WalletId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for DomainEventSerializer.
+ * No Spring context - round-trips events through the outbox format.
+ */
+@DisplayName("Domain Event Serializer Tests")
+class DomainEventSerializerTest {
+
+    private final DomainEventSerializer serializer = new DomainEventSerializer(new ObjectMapper());
+
+    @Test
+    @DisplayName("Should restore a deposit event with its identity and amounts")
+    void shouldRoundTripDeposit() {
+        MoneyDepositedEvent event = new MoneyDepositedEvent(WalletId.generate(),
+                Money.of("100.50", "USD"), Money.of("1100.50", "USD"), "Salary");
+
+        DomainEvent restored = roundTrip(event);
+
+        assertThat(restored).isInstanceOf(MoneyDepositedEvent.class);
+        MoneyDepositedEvent deposit = (MoneyDepositedEvent) restored;
+        assertThat(deposit.getEventId()).isEqualTo(event.getEventId());
+        assertThat(deposit.getOccurredAt()).isEqualTo(event.getOccurredAt());
+        assertThat(deposit.getWalletId()).isEqualTo(event.getWalletId());
+        assertThat(deposit.getAmount()).isEqualTo(event.getAmount());
+        assertThat(deposit.getNewBalance()).isEqualTo(event.getNewBalance());
+        assertThat(deposit.getDescription()).isEqualTo("Salary");
+    }
+
+    @Test
+    @DisplayName("Should keep the converted amount of a cross-currency transfer")
+    void shouldRoundTripCrossCurrencyTransfer() {
+        MoneyTransferredEvent event = new MoneyTransferredEvent(TransactionId.generate(),
+                WalletId.generate(), WalletId.generate(), Money.of("100.00", "USD"), "FX",
+                true, Money.of("92.00", "EUR"), Money.of("400.00", "USD"), null);
+
+        MoneyTransferredEvent restored = (MoneyTransferredEvent) roundTrip(event);
+
+        assertThat(restored.getEventType()).isEqualTo("CROSS_CURRENCY_TRANSFER");
+        assertThat(restored.getTransactionId()).isEqualTo(event.getTransactionId());
+        assertThat(restored.getAmount()).isEqualTo(event.getAmount());
+        assertThat(restored.getConvertedAmount()).isEqualTo(event.getConvertedAmount());
+        assertThat(restored.getSourceBalance()).isEqualTo(event.getSourceBalance());
+        assertThat(restored.getDestinationBalance()).isNull();
+        assertThat(serializer.aggregateId(event)).isEqualTo(event.getTransactionId().getValue());
+    }
+
+    private DomainEvent roundTrip(DomainEvent event) {
+        return serializer.deserialize(event.getEventId(), event.getEventType(),
+                event.getOccurredAt(), serializer.serialize(event));
+    }
+}
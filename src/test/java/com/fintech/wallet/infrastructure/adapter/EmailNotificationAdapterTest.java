@@ -0,0 +1,117 @@
+package com.fintech.wallet.infrastructure.adapter;
+
+import com.fintech.wallet.application.port.out.EmailNotificationPort.Email;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.NoSuchProviderException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for EmailNotificationAdapter and EmailDigestBuffer against an
+ * in-process GreenMail SMTP server. No Spring context, so @Async is inert
+ * and every send completes before the call returns.
+ */
+@DisplayName("Email Notification Adapter Tests")
+class EmailNotificationAdapterTest {
+
+    private static final int BATCH_SIZE = 50;
+
+    private GreenMail greenMail;
+    private final AtomicInteger connections = new AtomicInteger();
+
+    @BeforeEach
+    void startSmtp() {
+        greenMail = new GreenMail(ServerSetupTest.SMTP.dynamicPort());
+        greenMail.start();
+    }
+
+    @AfterEach
+    void stopSmtp() {
+        greenMail.stop();
+    }
+
+    @Test
+    @DisplayName("Should send a batch over one SMTP connection per chunk instead of one per email")
+    void shouldReuseConnectionAcrossBatch() throws Exception {
+        EmailNotificationAdapter adapter = adapter();
+        int emails = 200;
+
+        for (int i = 0; i < emails; i++) {
+            adapter.sendEmail("ops@example.com", "Single " + i, "<p>" + i + "</p>");
+        }
+        int singleConnections = connections.getAndSet(0);
+
+        List<Email> batch = new ArrayList<>();
+        for (int i = 0; i < emails; i++) {
+            batch.add(new Email("ops@example.com", "Batched " + i, "<p>" + i + "</p>"));
+        }
+        adapter.sendEmails(batch);
+
+        assertThat(greenMail.waitForIncomingEmail(10_000, emails * 2)).isTrue();
+        assertThat(singleConnections).isEqualTo(emails);
+        assertThat(connections.get()).isEqualTo(emails / BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should send one digest per recipient for all buffered notifications")
+    void shouldSendOneDigestPerRecipient() throws Exception {
+        EmailDigestBuffer buffer = new EmailDigestBuffer(adapter(), 1000);
+        for (int i = 0; i < 100; i++) {
+            buffer.add("ops@example.com", "<h2>Deposit " + i + "</h2>\n");
+        }
+        buffer.add("audit@example.com", "<h2>Wallet created</h2>\n");
+
+        buffer.flush();
+
+        assertThat(greenMail.waitForIncomingEmail(10_000, 2)).isTrue();
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(2);
+        assertThat(received).extracting(MimeMessage::getSubject).containsExactlyInAnyOrder(
+                "Wallet Activity Digest - 100 notifications",
+                "Wallet Activity Digest - 1 notification");
+        assertThat(connections.get()).isEqualTo(1);
+
+        buffer.flush();
+        assertThat(greenMail.getReceivedMessages()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should send a recipient's digest early once it reaches the item limit")
+    void shouldSendFullDigestEarly() {
+        EmailDigestBuffer buffer = new EmailDigestBuffer(adapter(), 10);
+        for (int i = 0; i < 25; i++) {
+            buffer.add("ops@example.com", "<h2>Deposit " + i + "</h2>\n");
+        }
+
+        assertThat(greenMail.waitForIncomingEmail(10_000, 2)).isTrue();
+        buffer.flush();
+        assertThat(greenMail.waitForIncomingEmail(10_000, 3)).isTrue();
+        assertThat(greenMail.getReceivedMessages()).hasSize(3);
+    }
+
+    private EmailNotificationAdapter adapter() {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl() {
+            @Override
+            protected Transport getTransport(Session session) throws NoSuchProviderException {
+                connections.incrementAndGet();
+                return super.getTransport(session);
+            }
+        };
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+        return new EmailNotificationAdapter(mailSender, "noreply@example.com", true, BATCH_SIZE);
+    }
+}
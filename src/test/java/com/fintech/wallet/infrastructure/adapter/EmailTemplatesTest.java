@@ -0,0 +1,123 @@
+package com.fintech.wallet.infrastructure.adapter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for EmailTemplates, compiled from the bundled templates.
+ * No Spring context - templates are loaded from the classpath directly. The
+ * comparison with String.format is opt-in with
+ * {@code mvn test -Dtest=EmailTemplatesTest -Dbenchmark.email-templates=true}.
+ */
+@DisplayName("Email Templates Tests")
+class EmailTemplatesTest {
+
+    private static final String LOCATION = "classpath*:templates/email/";
+
+    private final EmailTemplates templates = new EmailTemplates(LOCATION);
+    private final Object[] deposit = {
+            UUID.fromString("9b2f7c1e-4c1a-4d0e-9a57-3f1b2c4d5e6f"),
+            new BigDecimal("125.50"), "EUR",
+            new BigDecimal("1000.00"), "EUR",
+            "Rent <June> & \"utilities\"",
+            Instant.parse("2026-06-01T10:15:30Z")};
+
+    @Test
+    @DisplayName("Should render subject as text and body with escaped values")
+    void shouldRenderAndEscape() {
+        String subject = templates.subject(EmailTemplateType.DEPOSIT, Locale.ENGLISH, deposit);
+        String body = templates.body(EmailTemplateType.DEPOSIT, Locale.ENGLISH, deposit);
+
+        assertThat(subject).isEqualTo("Deposit Confirmation - 125.50 EUR");
+        assertThat(body)
+                .contains("<td>9b2f7c1e-4c1a-4d0e-9a57-3f1b2c4d5e6f</td>")
+                .contains("<td>Rent &lt;June&gt; &amp; &quot;utilities&quot;</td>")
+                .contains("<td>2026-06-01T10:15:30Z</td>");
+    }
+
+    @Test
+    @DisplayName("Should insert raw parameters unescaped and render null as empty")
+    void shouldInsertRawParameter() {
+        String conversion = templates.body(EmailTemplateType.TRANSFER_CONVERSION, Locale.ENGLISH,
+                new BigDecimal("110.00"), "USD");
+        String body = templates.body(EmailTemplateType.TRANSFER, Locale.ENGLISH,
+                "tx-1", "w-1", "w-2", new BigDecimal("100.00"), "EUR", conversion, null, Instant.EPOCH);
+
+        assertThat(body)
+                .contains("<tr><td><strong>Converted Amount:</strong></td><td>110.00 USD</td></tr>")
+                .contains("<td><strong>Description:</strong></td><td></td>");
+    }
+
+    @Test
+    @DisplayName("Should fall back from country to language to the default template")
+    void shouldResolveLocale() {
+        assertThat(templates.subject(EmailTemplateType.DEPOSIT, Locale.CANADA_FRENCH, deposit))
+                .isEqualTo("Confirmation de dépôt - 125.50 EUR");
+        assertThat(templates.subject(EmailTemplateType.DEPOSIT, Locale.GERMAN, deposit))
+                .isEqualTo("Deposit Confirmation - 125.50 EUR");
+    }
+
+    @Test
+    @DisplayName("Should reject unknown and unclosed placeholders when compiling")
+    void shouldRejectInvalidTemplates() {
+        assertThatThrownBy(() -> EmailTemplate.compile("Hello {{nme}}", List.of("name"), true))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("nme");
+        assertThatThrownBy(() -> EmailTemplate.compile("Hello {{name", List.of("name"), true))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark.email-templates", matches = "true")
+    @DisplayName("Should render faster than String.format over the same text block")
+    void shouldRenderFasterThanStringFormat() {
+        int iterations = 200_000;
+        for (int i = 0; i < iterations; i++) {
+            templates.body(EmailTemplateType.DEPOSIT, Locale.ENGLISH, deposit);
+            formatDeposit();
+        }
+
+        long started = System.nanoTime();
+        int length = 0;
+        for (int i = 0; i < iterations; i++) {
+            length += templates.body(EmailTemplateType.DEPOSIT, Locale.ENGLISH, deposit).length();
+        }
+        long templateNanos = System.nanoTime() - started;
+
+        started = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            length += formatDeposit().length();
+        }
+        long formatNanos = System.nanoTime() - started;
+
+        System.out.printf("Rendered %d deposit emails: template %dms (%d ns/op), String.format %dms (%d ns/op) [%d]%n",
+                iterations, TimeUnit.NANOSECONDS.toMillis(templateNanos), templateNanos / iterations,
+                TimeUnit.NANOSECONDS.toMillis(formatNanos), formatNanos / iterations, length);
+        assertThat(templateNanos).isLessThan(formatNanos);
+    }
+
+    private String formatDeposit() {
+        return String.format("""
+            <h2>Deposit Confirmation</h2>
+            <p>A deposit has been made to your wallet.</p>
+            <table>
+                <tr><td><strong>Wallet ID:</strong></td><td>%s</td></tr>
+                <tr><td><strong>Amount:</strong></td><td>%s %s</td></tr>
+                <tr><td><strong>New Balance:</strong></td><td>%s %s</td></tr>
+                <tr><td><strong>Description:</strong></td><td>%s</td></tr>
+                <tr><td><strong>Date:</strong></td><td>%s</td></tr>
+            </table>
+            """, deposit);
+    }
+}
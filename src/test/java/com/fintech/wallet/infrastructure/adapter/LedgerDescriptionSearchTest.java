@@ -0,0 +1,141 @@
+package com.fintech.wallet.infrastructure.adapter;
+
+import com.fintech.wallet.infrastructure.persistence.repository.LedgerEntryJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.jpa.repository.Query;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the ledger description search - the repository's native query with the
+ * adapter's tsquery - against PostgreSQL, which H2 cannot stand in for.
+ * No Spring context - plain JDBC, loading schema.sql into a scratch schema that
+ * is dropped afterwards; opt-in with
+ * {@code mvn test -Dtest=LedgerDescriptionSearchTest -Dtest.postgres.url=jdbc:postgresql://localhost:5432/wallet_test
+ * -Dtest.postgres.user=... -Dtest.postgres.password=...}.
+ */
+@DisplayName("Ledger Description Search Tests")
+@EnabledIfSystemProperty(named = "test.postgres.url", matches = ".+")
+class LedgerDescriptionSearchTest {
+
+    private final String schema = "search_test_" + UUID.randomUUID().toString().replace("-", "");
+    private final UUID walletId = UUID.randomUUID();
+    private final Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    private Connection connection;
+
+    @BeforeEach
+    void createSchema() throws Exception {
+        connection = DriverManager.getConnection(
+                System.getProperty("test.postgres.url"),
+                System.getProperty("test.postgres.user", "postgres"),
+                System.getProperty("test.postgres.password", ""));
+        try (Statement statement = connection.createStatement();
+             InputStream script = getClass().getResourceAsStream("/schema.sql")) {
+            statement.execute("CREATE SCHEMA " + schema);
+            statement.execute("SET search_path TO " + schema + ", public");
+            // The simple query protocol runs the whole script, dollar-quoted function bodies included
+            statement.execute(new String(script.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        insertWallet(walletId);
+    }
+
+    @AfterEach
+    void dropSchema() throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA " + schema + " CASCADE");
+        } finally {
+            connection.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should match every term as a word prefix, case-insensitively")
+    void shouldMatchAllTermsAsPrefixes() throws Exception {
+        UUID january = insertEntry(walletId, "Rent January", now.minusSeconds(30));
+        insertEntry(walletId, "Rent February", now.minusSeconds(20));
+        insertEntry(walletId, "Groceries", now.minusSeconds(10));
+
+        assertThat(search(walletId, List.of("rent", "jan"), 10)).containsExactly(january);
+        assertThat(search(walletId, List.of("rented"), 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return only the wallet's own entries, newest first and up to the limit")
+    void shouldScopeToWalletNewestFirst() throws Exception {
+        UUID otherWallet = UUID.randomUUID();
+        insertWallet(otherWallet);
+        UUID oldest = insertEntry(walletId, "Transfer to savings", now.minusSeconds(30));
+        UUID middle = insertEntry(walletId, "Transfer from payroll", now.minusSeconds(20));
+        UUID newest = insertEntry(walletId, "Transfer to broker", now.minusSeconds(10));
+        insertEntry(otherWallet, "Transfer to savings", now);
+
+        assertThat(search(walletId, List.of("transfer"), 10)).containsExactly(newest, middle, oldest);
+        assertThat(search(walletId, List.of("transfer"), 2)).containsExactly(newest, middle);
+    }
+
+    private List<UUID> search(UUID wallet, List<String> terms, int limit) throws Exception {
+        String sql = LedgerEntryJpaRepository.class
+                .getMethod("searchDescriptions", UUID.class, String.class, int.class)
+                .getAnnotation(Query.class)
+                .value()
+                .replace(":walletId", "?")
+                .replace(":query", "?")
+                .replace(":limit", "?");
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setObject(1, wallet);
+            statement.setString(2, WalletPersistenceAdapter.prefixQuery(terms));
+            statement.setInt(3, limit);
+            List<UUID> ids = new ArrayList<>();
+            try (ResultSet rows = statement.executeQuery()) {
+                while (rows.next()) {
+                    ids.add(rows.getObject("id", UUID.class));
+                }
+            }
+            return ids;
+        }
+    }
+
+    private void insertWallet(UUID id) throws Exception {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO wallets (id, currency, created_at) VALUES (?, 'USD', ?)")) {
+            statement.setObject(1, id);
+            statement.setTimestamp(2, Timestamp.from(now));
+            statement.executeUpdate();
+        }
+    }
+
+    private UUID insertEntry(UUID wallet, String description, Instant createdAt) throws Exception {
+        UUID id = UUID.randomUUID();
+        try (PreparedStatement statement = connection.prepareStatement("""
+                INSERT INTO ledger_entries (id, wallet_id, transaction_id, entry_type, amount, currency,
+                                            description, created_at)
+                VALUES (?, ?, ?, 'CREDIT', 10.00, 'USD', ?, ?)
+                """)) {
+            statement.setObject(1, id);
+            statement.setObject(2, wallet);
+            statement.setObject(3, UUID.randomUUID());
+            statement.setString(4, description);
+            statement.setTimestamp(5, Timestamp.from(createdAt));
+            statement.executeUpdate();
+        }
+        return id;
+    }
+}
@@ -0,0 +1,137 @@
+package com.fintech.wallet.infrastructure.adapter;
+
+import com.fintech.wallet.domain.model.RecurrencePattern;
+import com.fintech.wallet.domain.model.ScheduledPayment;
+import com.fintech.wallet.domain.valueobject.Currency;
+import com.fintech.wallet.domain.valueobject.Money;
+import com.fintech.wallet.domain.valueobject.WalletId;
+import com.fintech.wallet.infrastructure.persistence.entity.ScheduledPaymentJpaEntity;
+import com.fintech.wallet.infrastructure.persistence.mapper.ScheduledPaymentMapper;
+import com.fintech.wallet.infrastructure.persistence.repository.ScheduledPaymentJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the lease fencing of ScheduledPaymentPersistenceAdapter.
+ * Runs the repository's lease updates against H2; leases are written onto the
+ * rows directly, since claiming uses PostgreSQL-only native queries.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(ScheduledPaymentMapper.class)
+@DisplayName("Scheduled Payment Persistence Adapter Tests")
+class ScheduledPaymentPersistenceAdapterTest {
+
+    private static final Currency USD = Currency.of("USD");
+
+    @Autowired
+    private ScheduledPaymentJpaRepository repository;
+
+    @Autowired
+    private ScheduledPaymentMapper mapper;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private ScheduledPaymentPersistenceAdapter previousProcess;
+    private ScheduledPaymentPersistenceAdapter adapter;
+    private ScheduledPaymentPersistenceAdapter otherNode;
+
+    @BeforeEach
+    void createAdapters() {
+        previousProcess = new ScheduledPaymentPersistenceAdapter(repository, mapper, "node-a", 10, Duration.ofMinutes(10));
+        adapter = new ScheduledPaymentPersistenceAdapter(repository, mapper, "node-a", 10, Duration.ofMinutes(10));
+        otherNode = new ScheduledPaymentPersistenceAdapter(repository, mapper, "node-b", 10, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("Should save a claimed payment and release its lease while the lease is held")
+    void shouldSaveWhileLeaseHeld() {
+        ScheduledPayment payment = leased(adapter);
+
+        adapter.saveClaimed(payment.withExecution());
+
+        ScheduledPaymentJpaEntity row = reload(payment);
+        assertThat(row.getExecutionCount()).isEqualTo(1);
+        assertThat(row.getLeaseOwner()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should refuse to save a payment whose lease was taken over by another node")
+    void shouldRejectSaveAfterLeaseLost() {
+        ScheduledPayment payment = leased(otherNode);
+
+        assertThatThrownBy(() -> adapter.saveClaimed(payment.withExecution()))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+
+        ScheduledPaymentJpaEntity row = reload(payment);
+        assertThat(row.getExecutionCount()).isZero();
+        assertThat(row.getLeaseOwner()).isEqualTo(leaseOwner(otherNode));
+    }
+
+    @Test
+    @DisplayName("Should refuse a whole batch when one lease in it was lost")
+    void shouldRejectBatchAfterLeaseLost() {
+        ScheduledPayment held = leased(adapter);
+        ScheduledPayment lost = leased(otherNode);
+
+        assertThatThrownBy(() -> adapter.saveAllClaimed(List.of(held.withExecution(), lost.withExecution())))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+
+        assertThat(reload(lost).getExecutionCount()).isZero();
+        assertThat(reload(held).getExecutionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should release only the leases left by a previous process on this node")
+    void shouldReleasePreviousProcessLeases() {
+        ScheduledPayment leftover = leased(previousProcess);
+        ScheduledPayment running = leased(adapter);
+        ScheduledPayment elsewhere = leased(otherNode);
+
+        assertThat(adapter.releaseClaims()).isEqualTo(1);
+
+        assertThat(reload(leftover).getLeaseOwner()).isNull();
+        assertThat(reload(running).getLeaseOwner()).isEqualTo(leaseOwner(adapter));
+        assertThat(reload(elsewhere).getLeaseOwner()).isEqualTo(leaseOwner(otherNode));
+    }
+
+    private ScheduledPayment leased(ScheduledPaymentPersistenceAdapter owner) {
+        ScheduledPayment payment = ScheduledPayment.createRecurring(WalletId.generate(), WalletId.generate(),
+                Money.of(new BigDecimal("10.00"), USD), "Rent", RecurrencePattern.MONTHLY,
+                LocalDate.now(), null, null, 0);
+        ScheduledPaymentJpaEntity row = mapper.toEntity(payment);
+        row.setLeaseOwner(leaseOwner(owner));
+        row.setLeaseExpiresAt(Instant.now().plus(Duration.ofMinutes(10)));
+        entityManager.persistAndFlush(row);
+        entityManager.clear();
+        return payment;
+    }
+
+    private ScheduledPaymentJpaEntity reload(ScheduledPayment payment) {
+        entityManager.flush();
+        entityManager.clear();
+        return entityManager.find(ScheduledPaymentJpaEntity.class, payment.getId().getValue());
+    }
+
+    private static String leaseOwner(ScheduledPaymentPersistenceAdapter adapter) {
+        return (String) ReflectionTestUtils.getField(adapter, "leaseOwner");
+    }
+}
@@ -0,0 +1,110 @@
+package com.fintech.wallet.infrastructure.adapter;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for WebhookAdapter against a local stub receiver that injects latency.
+ * No Spring context - the stub is a plain JDK HTTP server.
+ */
+@DisplayName("Webhook Adapter Tests")
+class WebhookAdapterTest {
+
+    private static final int CONCURRENCY = 8;
+
+    private HttpServer server;
+    private ExecutorService serverThreads;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private volatile long latencyMillis;
+    private volatile int failFirst;
+
+    @BeforeEach
+    void startReceiver() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverThreads = Executors.newCachedThreadPool();
+        server.setExecutor(serverThreads);
+        server.createContext("/hook", exchange -> {
+            int current = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+            try {
+                exchange.getRequestBody().readAllBytes();
+                Thread.sleep(latencyMillis);
+                int status = requests.incrementAndGet() <= failFirst ? 500 : 200;
+                exchange.sendResponseHeaders(status, -1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+                exchange.close();
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopReceiver() {
+        server.stop(0);
+        serverThreads.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should deliver to a slow receiver concurrently within the endpoint limit")
+    void shouldDeliverToSlowReceiverConcurrently() throws Exception {
+        latencyMillis = 200;
+        WebhookAdapter adapter = adapter();
+        int events = 40;
+
+        List<CompletableFuture<Void>> results = new ArrayList<>();
+        for (int i = 0; i < events; i++) {
+            results.add(adapter.send(url(), "MONEY_DEPOSITED", "{\"walletId\":\"w-" + i + "\"}"));
+        }
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+        assertThat(results).allSatisfy(result -> assertThat(result).isCompleted());
+        assertThat(requests.get()).isEqualTo(events);
+        assertThat(maxInFlight.get()).isGreaterThan(1).isLessThanOrEqualTo(CONCURRENCY);
+        adapter.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should fail the attempt when the receiver rejects the webhook")
+    void shouldFailRejectedDelivery() {
+        failFirst = 1;
+        WebhookAdapter adapter = adapter();
+
+        CompletableFuture<Void> first = adapter.send(url(), "WALLET_CREATED", "{}");
+        assertThat(first).failsWithin(10, TimeUnit.SECONDS);
+
+        CompletableFuture<Void> second = adapter.send(url(), "WALLET_CREATED", "{}");
+        assertThat(second).succeedsWithin(10, TimeUnit.SECONDS);
+        assertThat(requests.get()).isEqualTo(2);
+        adapter.shutdown();
+    }
+
+    private WebhookAdapter adapter() {
+        return new WebhookAdapter(WebClient.builder(), new SimpleMeterRegistry(),
+                5, CONCURRENCY, 1000);
+    }
+
+    private String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/hook";
+    }
+}
@@ -0,0 +1,156 @@
+package com.fintech.wallet.infrastructure.archive;
+
+import com.fintech.wallet.domain.model.LedgerEntry;
+import com.fintech.wallet.domain.model.LedgerEntryType;
+import com.fintech.wallet.domain.valueobject.Currency;
+import com.fintech.wallet.domain.valueobject.LedgerEntryId;
+import com.fintech.wallet.domain.valueobject.Money;
+import com.fintech.wallet.domain.valueobject.TransactionId;
+import com.fintech.wallet.domain.valueobject.WalletId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Round-trip tests for the archive segment file format.
+ * No Spring context - segments are written to a temporary directory.
+ */
+@DisplayName("Ledger Segment Tests")
+class LedgerSegmentTest {
+
+    private static final Currency USD = Currency.of("USD");
+    private static final Instant MONTH = Instant.parse("2023-03-01T00:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    private final WalletId alice = WalletId.generate();
+    private final WalletId bob = WalletId.generate();
+    private final WalletId dormant = WalletId.generate();
+
+    @Test
+    @DisplayName("Should read back each wallet's entries and opening balance")
+    void shouldRoundTripEntries() throws IOException {
+        List<LedgerEntry> aliceEntries = List.of(
+                entry(alice, LedgerEntryType.CREDIT, "100.00", 1, "Salary"),
+                entry(alice, LedgerEntryType.DEBIT, "25.50", 2, "Shop purchase"));
+        Path path = directory.resolve("ledger-2023-03.seg");
+
+        long checksum;
+        try (LedgerSegmentWriter writer = new LedgerSegmentWriter(path)) {
+            writer.beginWallet(alice.getValue(), "USD", new BigDecimal("10.00"));
+            for (LedgerEntry entry : aliceEntries) {
+                writer.append(entry);
+            }
+            writer.beginWallet(bob.getValue(), "USD", BigDecimal.ZERO);
+            writer.append(entry(bob, LedgerEntryType.CREDIT, "7.00", 3, "Transfer from Alice"));
+            writer.beginWallet(dormant.getValue(), "USD", new BigDecimal("42.00"));
+            checksum = writer.finish();
+        }
+
+        try (LedgerSegment segment = LedgerSegment.open(path)) {
+            assertThat(segment.verify(checksum)).isTrue();
+            assertThat(segment.walletCount()).isEqualTo(3);
+            assertThat(segment.entries(alice)).containsExactlyElementsOf(aliceEntries);
+            assertThat(segment.entries(alice).get(1).getDescription()).isEqualTo("Shop purchase");
+            assertThat(segment.entries(alice).get(1).getCreatedAt()).isEqualTo(aliceEntries.get(1).getCreatedAt());
+            assertThat(segment.openingBalance(alice)).isEqualByComparingTo("10.00");
+            assertThat(segment.entries(bob)).hasSize(1);
+            assertThat(segment.entries(dormant)).isEmpty();
+            assertThat(segment.openingBalance(dormant)).isEqualByComparingTo("42.00");
+            assertThat(segment.contains(WalletId.generate())).isFalse();
+            assertThat(segment.openingBalance(WalletId.generate())).isZero();
+        }
+        assertThat(Files.exists(directory.resolve("ledger-2023-03.seg.tmp"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should archive an entry without a description")
+    void shouldRoundTripMissingDescription() throws IOException {
+        LedgerEntry deposit = entry(alice, LedgerEntryType.CREDIT, "5.00", 1, null);
+        Path path = directory.resolve("ledger-2023-03.seg");
+        try (LedgerSegmentWriter writer = new LedgerSegmentWriter(path)) {
+            writer.beginWallet(alice.getValue(), "USD", BigDecimal.ZERO);
+            writer.append(deposit);
+            writer.append(entry(alice, LedgerEntryType.DEBIT, "2.00", 2, "Card payment"));
+            writer.finish();
+        }
+
+        try (LedgerSegment segment = LedgerSegment.open(path)) {
+            assertThat(segment.entries(alice)).extracting(LedgerEntry::getDescription)
+                    .containsExactly(deposit.getDescription(), "Card payment");
+        }
+    }
+
+    @Test
+    @DisplayName("Should detect a modified segment and leave nothing behind for an unfinished one")
+    void shouldDetectCorruption() throws IOException {
+        Path path = directory.resolve("ledger-2023-03.seg");
+        long checksum;
+        try (LedgerSegmentWriter writer = new LedgerSegmentWriter(path)) {
+            writer.beginWallet(alice.getValue(), "USD", BigDecimal.ZERO);
+            writer.append(entry(alice, LedgerEntryType.CREDIT, "1.00", 1, "Deposit"));
+            checksum = writer.finish();
+        }
+        path.toFile().setWritable(true);
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(10);
+            file.write(file.read() ^ 0xFF);
+        }
+        try (LedgerSegment segment = LedgerSegment.open(path)) {
+            assertThat(segment.verify(checksum)).isFalse();
+        }
+
+        Path unfinished = directory.resolve("ledger-2023-04.seg");
+        try (LedgerSegmentWriter writer = new LedgerSegmentWriter(unfinished)) {
+            writer.beginWallet(alice.getValue(), "USD", BigDecimal.ZERO);
+        }
+        assertThat(Files.list(directory)).containsExactly(path);
+    }
+
+    @Test
+    @DisplayName("Should compress a month of entries well below their raw size")
+    void shouldCompressEntries() throws IOException {
+        Path path = directory.resolve("ledger-2023-03.seg");
+        int wallets = 1_000;
+        int perWallet = 100;
+        try (LedgerSegmentWriter writer = new LedgerSegmentWriter(path)) {
+            for (int w = 0; w < wallets; w++) {
+                WalletId wallet = WalletId.generate();
+                writer.beginWallet(wallet.getValue(), "USD", BigDecimal.ZERO);
+                for (int i = 0; i < perWallet; i++) {
+                    writer.append(entry(wallet, i % 3 == 0 ? LedgerEntryType.DEBIT : LedgerEntryType.CREDIT,
+                            (i % 50) + ".00", i * 1000, i % 3 == 0 ? "Card payment" : "Transfer from savings"));
+                }
+            }
+            writer.finish();
+        }
+
+        // id, transaction id, type, amount, description and timestamp as stored in a row
+        long rawBytes = (long) wallets * perWallet * (16 + 16 + 6 + 8 + 20 + 8);
+        assertThat(Files.size(path)).isLessThan(rawBytes);
+    }
+
+    private static LedgerEntry entry(WalletId wallet, LedgerEntryType type, String amount, long offsetSeconds,
+                                     String description) {
+        return LedgerEntry.builder()
+                .id(LedgerEntryId.generate())
+                .walletId(wallet)
+                .transactionId(TransactionId.generate())
+                .type(type)
+                .amount(Money.of(new BigDecimal(amount), USD))
+                .description(description)
+                .createdAt(MONTH.plusSeconds(offsetSeconds).plusNanos(123_000))
+                .build();
+    }
+}
@@ -0,0 +1,133 @@
+package com.fintech.wallet.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the {@code @Async} executors.
+ * No Spring context - the executors are built directly with one thread and a
+ * one-task queue, and the classpath is scanned for {@code @Async} methods.
+ */
+@DisplayName("Async Configuration Tests")
+class AsyncConfigurationTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AsyncConfiguration configuration = new AsyncConfiguration(new MockEnvironment());
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<ThreadPoolTaskExecutor> executors = new ArrayList<>();
+
+    @AfterEach
+    void shutdown() {
+        release.countDown();
+        executors.forEach(ThreadPoolTaskExecutor::shutdown);
+    }
+
+    @Test
+    @DisplayName("Should route every @Async method to an executor declared here")
+    void shouldRouteAsyncMethodsToDeclaredExecutors() throws Exception {
+        Set<String> executorBeans = Arrays.stream(AsyncConfiguration.class.getDeclaredMethods())
+                .filter(method -> method.isAnnotationPresent(Bean.class))
+                .map(Method::getName)
+                .collect(Collectors.toSet());
+
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter((reader, factory) -> true);
+        List<String> routes = new ArrayList<>();
+        for (BeanDefinition candidate : scanner.findCandidateComponents("com.fintech.wallet")) {
+            Class<?> type = ClassUtils.forName(candidate.getBeanClassName(), getClass().getClassLoader());
+            assertThat(AnnotatedElementUtils.hasAnnotation(type, Async.class))
+                    .as("@Async on %s", type.getSimpleName()).isFalse();
+            for (Method method : type.getDeclaredMethods()) {
+                Async async = AnnotatedElementUtils.findMergedAnnotation(method, Async.class);
+                if (async != null) {
+                    routes.add(type.getSimpleName() + "." + method.getName() + " -> " + async.value());
+                    assertThat(async.value()).as("executor of %s.%s", type.getSimpleName(), method.getName())
+                            .isIn(executorBeans);
+                }
+            }
+        }
+
+        assertThat(routes).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("Should run a rejected webhook task on the submitting thread")
+    void shouldRunRejectedWebhookTaskOnCaller() {
+        ThreadPoolTaskExecutor executor = saturated(configuration.webhookTaskExecutor(meterRegistry, 1, 1));
+
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+        executor.execute(() -> ranOn.set(Thread.currentThread()));
+
+        assertThat(ranOn.get()).isSameAs(Thread.currentThread());
+        assertThat(rejected("webhookTaskExecutor")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop a rejected email without blocking or failing the caller")
+    void shouldDropRejectedEmail() {
+        ThreadPoolTaskExecutor executor = saturated(configuration.emailTaskExecutor(meterRegistry, 1, 1));
+
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+        executor.execute(() -> ranOn.set(Thread.currentThread()));
+
+        assertThat(ranOn.get()).isNull();
+        assertThat(rejected("emailTaskExecutor")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should fail a rejected stream write so the connection is closed")
+    void shouldAbortRejectedStreamWrite() {
+        ThreadPoolTaskExecutor executor = saturated(configuration.streamTaskExecutor(meterRegistry, 1, 1));
+
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+                .isInstanceOf(TaskRejectedException.class);
+        assertThat(rejected("streamTaskExecutor")).isEqualTo(1);
+    }
+
+    /**
+     * Occupies the executor's only thread and queue slot.
+     */
+    private ThreadPoolTaskExecutor saturated(ThreadPoolTaskExecutor executor) {
+        executor.initialize();
+        executors.add(executor);
+        executor.execute(this::awaitRelease);
+        executor.execute(() -> { });
+        return executor;
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double rejected(String beanName) {
+        return meterRegistry.get("executor.rejected").tag("name", beanName).counter().count();
+    }
+}
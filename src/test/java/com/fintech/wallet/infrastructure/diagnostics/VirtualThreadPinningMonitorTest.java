@@ -0,0 +1,56 @@
+package com.fintech.wallet.infrastructure.diagnostics;
+
+import com.fintech.wallet.infrastructure.diagnostics.VirtualThreadPinningMonitor.Frame;
+import com.fintech.wallet.infrastructure.diagnostics.VirtualThreadPinningMonitor.Source;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for attributing pinned stacks.
+ * No Spring context - stacks are built by hand, innermost frame first.
+ */
+@DisplayName("Virtual Thread Pinning Monitor Tests")
+class VirtualThreadPinningMonitorTest {
+
+    private static final Frame PARK = new Frame("java.lang.VirtualThread", "parkOnCarrierThread", 677);
+    private static final Frame SOCKET_READ = new Frame("org.postgresql.core.PGStream", "receiveChar", 467);
+    private static final Frame QUERY = new Frame("org.postgresql.jdbc.PgPreparedStatement", "executeQuery", 134);
+    private static final Frame HIKARI_PROXY = new Frame("com.zaxxer.hikari.pool.HikariProxyPreparedStatement",
+            "executeQuery", -1);
+    private static final Frame HIKARI_BORROW = new Frame("com.zaxxer.hikari.util.ConcurrentBag", "borrow", 161);
+    private static final Frame ADAPTER = new Frame("com.fintech.wallet.infrastructure.adapter.WalletPersistenceAdapter",
+            "loadById", 52);
+
+    @Test
+    @DisplayName("Should attribute a stack to the driver when it is the innermost library frame")
+    void shouldAttributeToDriver() {
+        List<Frame> stack = List.of(PARK, SOCKET_READ, QUERY, HIKARI_PROXY, ADAPTER);
+
+        assertThat(Source.of(stack)).isEqualTo(Source.JDBC);
+        assertThat(VirtualThreadPinningMonitor.siteOf(stack, Source.JDBC)).isEqualTo(SOCKET_READ.toString());
+    }
+
+    @Test
+    @DisplayName("Should attribute a stack to the pool when no driver frame is on it")
+    void shouldAttributeToPool() {
+        List<Frame> stack = List.of(PARK, HIKARI_BORROW, ADAPTER);
+
+        assertThat(Source.of(stack)).isEqualTo(Source.HIKARI);
+        assertThat(VirtualThreadPinningMonitor.siteOf(stack, Source.HIKARI)).isEqualTo(HIKARI_BORROW.toString());
+    }
+
+    @Test
+    @DisplayName("Should report other pinning under the innermost frame outside the JDK")
+    void shouldReportOtherPinningOutsideJdk() {
+        List<Frame> stack = List.of(PARK, new Frame("java.lang.Thread", "sleep", 507), ADAPTER);
+
+        assertThat(Source.of(stack)).isEqualTo(Source.OTHER);
+        assertThat(VirtualThreadPinningMonitor.siteOf(stack, Source.OTHER)).isEqualTo(ADAPTER.toString());
+        assertThat(VirtualThreadPinningMonitor.siteOf(List.of(PARK), Source.OTHER)).isEqualTo(PARK.toString());
+        assertThat(VirtualThreadPinningMonitor.siteOf(List.of(), Source.OTHER)).isEqualTo("(no stack)");
+    }
+}
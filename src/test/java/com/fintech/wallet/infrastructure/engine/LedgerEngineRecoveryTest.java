@@ -0,0 +1,92 @@
+package com.fintech.wallet.infrastructure.engine;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.wallet.application.port.out.LoadWalletPort;
+import com.fintech.wallet.domain.event.DomainEvent;
+import com.fintech.wallet.domain.event.MoneyDepositedEvent;
+import com.fintech.wallet.domain.model.LedgerEntry;
+import com.fintech.wallet.domain.model.Wallet;
+import com.fintech.wallet.domain.valueobject.Currency;
+import com.fintech.wallet.domain.valueobject.Money;
+import com.fintech.wallet.domain.valueobject.TransactionId;
+import com.fintech.wallet.domain.valueobject.WalletId;
+import com.fintech.wallet.infrastructure.adapter.DomainEventSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for writing a journal left by a previous run on startup.
+ * No Spring context - the journal is written directly, as a crashed engine
+ * would have left it, and the engine starts against a recording sink.
+ */
+@DisplayName("Ledger Engine Recovery Tests")
+class LedgerEngineRecoveryTest {
+
+    private static final Currency USD = Currency.of("USD");
+
+    @TempDir
+    Path journalDirectory;
+
+    private final DomainEventSerializer serializer = new DomainEventSerializer(new ObjectMapper());
+    private final WalletId wallet = WalletId.generate();
+
+    @Test
+    @DisplayName("Should write a leftover journal's rows together with their events before starting")
+    void shouldRecoverRowsWithEvents() throws Exception {
+        LedgerEntry deposit = LedgerEntry.createCredit(wallet, TransactionId.generate(), money("25.00"), "Deposit");
+        MoneyDepositedEvent deposited = new MoneyDepositedEvent(wallet, money("25.00"), money("25.00"), "Deposit");
+        try (LedgerJournal journal = new LedgerJournal(journalDirectory, 3, 1 << 20, serializer)) {
+            journal.append(List.of(deposit), List.of(), List.of(deposited));
+            journal.sync();
+        }
+
+        List<LedgerEntry> entries = new ArrayList<>();
+        List<DomainEvent> events = new ArrayList<>();
+        LedgerEngine engine = new LedgerEngine(new NoWallets(),
+                (written, transactions, raised) -> {
+                    entries.addAll(written);
+                    events.addAll(raised);
+                },
+                serializer, journalDirectory, new ShardMap(2, Set.of(), 1),
+                1 << 10, 64, 1 << 20, 16, 100, Duration.ofSeconds(5));
+        engine.start();
+        engine.stop();
+
+        assertThat(entries).containsExactly(deposit);
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.getEventId()).isEqualTo(deposited.getEventId());
+            assertThat(event.getEventType()).isEqualTo("MONEY_DEPOSITED");
+        });
+        assertThat(LedgerJournal.allSegments(journalDirectory)).isEmpty();
+    }
+
+    private static Money money(String amount) {
+        return Money.of(new BigDecimal(amount), USD);
+    }
+
+    private static final class NoWallets implements LoadWalletPort {
+
+        @Override
+        public Optional<Wallet> loadById(WalletId walletId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Map<WalletId, Money> loadBalances(Collection<WalletId> walletIds) {
+            return Map.of();
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.fintech.wallet.infrastructure.engine;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.wallet.application.port.out.LedgerEnginePort.Posting;
+import com.fintech.wallet.application.port.out.LoadWalletPort;
+import com.fintech.wallet.domain.exception.InsufficientBalanceException;
+import com.fintech.wallet.domain.model.LedgerEntry;
+import com.fintech.wallet.domain.model.Wallet;
+import com.fintech.wallet.domain.valueobject.Currency;
+import com.fintech.wallet.domain.valueobject.Money;
+import com.fintech.wallet.domain.valueobject.TransactionId;
+import com.fintech.wallet.domain.valueobject.WalletId;
+import com.fintech.wallet.infrastructure.adapter.DomainEventSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for striped wallets in the ledger engine.
+ * No Spring context - the engine runs against an in-memory wallet store and
+ * a sink that discards rows. The benchmark prints credits per second to one
+ * hot wallet for 1, 2, 4, ... stripes; it is opt-in with
+ * {@code mvn test -Dtest=LedgerEngineStripingTest -Dbenchmark.ledger-engine=true}.
+ */
+@DisplayName("Ledger Engine Striping Tests")
+class LedgerEngineStripingTest {
+
+    private static final Currency USD = Currency.of("USD");
+
+    @TempDir
+    Path journalDirectory;
+
+    private final WalletId merchant = WalletId.generate();
+    private LedgerEngine engine;
+
+    @AfterEach
+    void stopEngine() throws Exception {
+        if (engine != null) {
+            engine.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should spread a striped wallet's credits over its stripes and report its total")
+    void shouldSpreadCredits() throws IOException {
+        ShardMap shardMap = new ShardMap(4, Set.of(merchant), 4);
+        engine = start(shardMap, "0.00");
+
+        Set<Integer> shards = new HashSet<>();
+        Map<WalletId, Money> balances = Map.of();
+        for (int i = 0; i < 100; i++) {
+            LedgerEntry credit = credit(merchant, "1.00");
+            shards.add(shardMap.shardOf(credit));
+            balances = engine.post(new Posting(null, List.of(credit), null));
+        }
+
+        assertThat(shards).hasSize(4);
+        assertThat(balances.get(merchant).getAmount()).isEqualByComparingTo("100.00");
+    }
+
+    @Test
+    @DisplayName("Should borrow from the other stripes for a debit the home stripe cannot cover")
+    void shouldBorrowAcrossStripes() throws IOException {
+        engine = start(new ShardMap(4, Set.of(merchant), 4), "0.00");
+        for (int i = 0; i < 100; i++) {
+            engine.post(new Posting(null, List.of(credit(merchant, "1.00")), null));
+        }
+
+        Map<WalletId, Money> balances = engine.post(new Posting(null, List.of(debit(merchant, "90.00")), null));
+
+        assertThat(balances.get(merchant).getAmount()).isEqualByComparingTo("10.00");
+        assertThatThrownBy(() -> engine.post(new Posting(null, List.of(debit(merchant, "10.01")), null)))
+                .isInstanceOf(InsufficientBalanceException.class);
+        engine.consolidateStripes();
+        engine.post(new Posting(null, List.of(debit(merchant, "10.00")), null));
+    }
+
+    @Test
+    @DisplayName("Should start the home stripe from the stored balance and the others from zero")
+    void shouldKeepStoredBalanceOnHomeStripe() throws IOException {
+        engine = start(new ShardMap(4, Set.of(merchant), 4), "50.00");
+
+        for (int i = 0; i < 20; i++) {
+            engine.post(new Posting(null, List.of(credit(merchant, "1.00")), null));
+        }
+
+        assertThatThrownBy(() -> engine.post(new Posting(null, List.of(debit(merchant, "70.01")), null)))
+                .isInstanceOf(InsufficientBalanceException.class);
+        Map<WalletId, Money> balances = engine.post(new Posting(null, List.of(debit(merchant, "70.00")), null));
+        assertThat(balances.get(merchant).isZero()).isTrue();
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark.ledger-engine", matches = "true")
+    @DisplayName("Should keep a hot wallet exact while its stripes take credits concurrently")
+    void shouldBenchmarkCreditsPerStripeCount() throws Exception {
+        int shardCount = Integer.getInteger("benchmark.ledger-engine.shards", 8);
+        int producers = Integer.getInteger("benchmark.ledger-engine.producers", 64);
+        long seconds = Long.getLong("benchmark.ledger-engine.seconds", 5);
+
+        for (int stripes = 1; stripes <= shardCount; stripes *= 2) {
+            ShardMap shardMap = new ShardMap(shardCount, stripes == 1 ? Set.of() : Set.of(merchant), stripes);
+            engine = start(shardMap, "0.00");
+            long start = System.nanoTime();
+            long credits = run(producers, seconds);
+            System.out.printf("stripes=%d: %.0f credits/s%n", stripes, credits / ((System.nanoTime() - start) / 1e9));
+
+            // Scaling depends on cores and sync latency; the balance must come out exact regardless
+            engine.consolidate(merchant);
+            engine.post(new Posting(null, List.of(debit(merchant, credits + ".00")), null));
+            assertThatThrownBy(() -> engine.post(new Posting(null, List.of(debit(merchant, "0.01")), null)))
+                    .isInstanceOf(InsufficientBalanceException.class);
+            engine.stop();
+            engine = null;
+        }
+    }
+
+    private long run(int producers, long seconds) throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong credits = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        for (int p = 0; p < producers; p++) {
+            executor.execute(() -> {
+                while (running.get()) {
+                    engine.post(new Posting(null, List.of(credit(merchant, "1.00")), null));
+                    credits.incrementAndGet();
+                }
+            });
+        }
+        Thread.sleep(TimeUnit.SECONDS.toMillis(seconds));
+        running.set(false);
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+        return credits.get();
+    }
+
+    private LedgerEngine start(ShardMap shardMap, String storedBalance) throws IOException {
+        LedgerEngine started = new LedgerEngine(new InMemoryWallets(Map.of(merchant, money(storedBalance))),
+                (entries, transactions, events) -> { }, new DomainEventSerializer(new ObjectMapper()),
+                journalDirectory, shardMap,
+                1 << 16, 512, 64 << 20, 4096, 5000, Duration.ofSeconds(5));
+        started.start();
+        return started;
+    }
+
+    private static LedgerEntry credit(WalletId walletId, String amount) {
+        return LedgerEntry.createCredit(walletId, TransactionId.generate(), money(amount), "Deposit");
+    }
+
+    private static LedgerEntry debit(WalletId walletId, String amount) {
+        return LedgerEntry.createDebit(walletId, TransactionId.generate(), money(amount), "Payout");
+    }
+
+    private static Money money(String amount) {
+        return Money.of(new BigDecimal(amount), USD);
+    }
+
+    private record InMemoryWallets(Map<WalletId, Money> balances) implements LoadWalletPort {
+
+        @Override
+        public Optional<Wallet> loadById(WalletId walletId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Map<WalletId, Money> loadBalances(Collection<WalletId> walletIds) {
+            return walletIds.stream()
+                    .filter(balances::containsKey)
+                    .collect(Collectors.toMap(walletId -> walletId, balances::get));
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.fintech.wallet.infrastructure.engine;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.wallet.domain.event.MoneyDepositedEvent;
+import com.fintech.wallet.domain.model.LedgerEntry;
+import com.fintech.wallet.domain.model.Transaction;
+import com.fintech.wallet.domain.valueobject.Currency;
+import com.fintech.wallet.domain.valueobject.Money;
+import com.fintech.wallet.domain.valueobject.TransactionId;
+import com.fintech.wallet.domain.valueobject.WalletId;
+import com.fintech.wallet.infrastructure.adapter.DomainEventSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Round-trip tests for the ledger engine journal.
+ * No Spring context - segments are written to a temporary directory.
+ */
+@DisplayName("Ledger Journal Tests")
+class LedgerJournalTest {
+
+    private static final Currency USD = Currency.of("USD");
+
+    @TempDir
+    Path directory;
+
+    private final DomainEventSerializer serializer = new DomainEventSerializer(new ObjectMapper());
+    private final WalletId alice = WalletId.generate();
+    private final WalletId bob = WalletId.generate();
+
+    @Test
+    @DisplayName("Should replay every block with its entries, transfer and events")
+    void shouldRoundTripBlocks() throws IOException {
+        Transaction transfer = Transaction.createTransfer(alice, bob, money("12.34"), "Rent share");
+        LedgerEntry debit = LedgerEntry.createDebit(alice, transfer.getId(), money("12.34"), "Transfer to " + bob);
+        LedgerEntry credit = LedgerEntry.createCredit(bob, transfer.getId(), money("12.34"), "Transfer from " + alice);
+        LedgerEntry deposit = LedgerEntry.createCredit(alice, transfer.getId(), money("100.00"), "Salary");
+        MoneyDepositedEvent deposited = new MoneyDepositedEvent(alice, money("100.00"), money("187.66"), "Salary");
+
+        try (LedgerJournal journal = new LedgerJournal(directory, 0, 1 << 20, serializer)) {
+            journal.append(List.of(debit, credit), List.of(transfer), List.of());
+            journal.append(List.of(deposit), List.of(), List.of(deposited));
+            journal.sync();
+        }
+
+        List<LedgerJournal.Batch> batches = replayAll(0);
+        assertThat(batches).hasSize(2);
+        assertThat(batches.get(0).entries()).containsExactly(debit, credit);
+        assertThat(batches.get(0).entries().get(0).getAmount()).isEqualTo(money("12.34"));
+        assertThat(batches.get(0).entries().get(0).getCreatedAt()).isEqualTo(debit.getCreatedAt());
+        assertThat(batches.get(0).transactions()).singleElement().satisfies(replayed -> {
+            assertThat(replayed.getId()).isEqualTo(transfer.getId());
+            assertThat(replayed.getDestinationWalletId()).isEqualTo(bob);
+            assertThat(replayed.getDescription()).isEqualTo("Rent share");
+            assertThat(replayed.getStatus()).isEqualTo(transfer.getStatus());
+        });
+        assertThat(batches.get(1).entries()).containsExactly(deposit);
+        assertThat(batches.get(1).transactions()).isEmpty();
+        assertThat(batches.get(0).events()).isEmpty();
+        assertThat(batches.get(1).events()).singleElement().isInstanceOfSatisfying(MoneyDepositedEvent.class, event -> {
+            assertThat(event.getEventId()).isEqualTo(deposited.getEventId());
+            assertThat(event.getOccurredAt()).isEqualTo(deposited.getOccurredAt());
+            assertThat(event.getNewBalance()).isEqualTo(money("187.66"));
+        });
+    }
+
+    @Test
+    @DisplayName("Should stop replaying at a block cut short by a crash")
+    void shouldIgnoreTornBlock() throws IOException {
+        LedgerEntry first = LedgerEntry.createCredit(alice, transactionId(), money("1.00"), "First");
+        LedgerEntry second = LedgerEntry.createCredit(alice, transactionId(), money("2.00"), "Second");
+        try (LedgerJournal journal = new LedgerJournal(directory, 0, 1 << 20, serializer)) {
+            journal.append(List.of(first), List.of(), List.of());
+            journal.append(List.of(second), List.of(), List.of());
+            journal.sync();
+        }
+
+        Path segment = LedgerJournal.segments(directory, 0).get(0);
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.setLength(file.length() - 3);
+        }
+
+        assertThat(replayAll(0)).singleElement()
+                .satisfies(batch -> assertThat(batch.entries()).containsExactly(first));
+    }
+
+    @Test
+    @DisplayName("Should roll segments, continue numbering after a restart and delete persisted ones")
+    void shouldRollAndDeleteSegments() throws IOException {
+        long last;
+        try (LedgerJournal journal = new LedgerJournal(directory, 1, 64, serializer)) {
+            journal.append(List.of(LedgerEntry.createCredit(alice, transactionId(), money("1.00"), "One")), List.of(), List.of());
+            last = journal.append(List.of(LedgerEntry.createCredit(alice, transactionId(), money("2.00"), "Two")), List.of(), List.of());
+        }
+        assertThat(last).isEqualTo(1);
+
+        try (LedgerJournal journal = new LedgerJournal(directory, 1, 64, serializer)) {
+            assertThat(journal.append(List.of(LedgerEntry.createCredit(bob, transactionId(), money("3.00"), "Three")),
+                    List.of(), List.of())).isEqualTo(2);
+            assertThat(LedgerJournal.segments(directory, 1)).hasSize(3);
+            assertThat(LedgerJournal.segments(directory, 0)).isEmpty();
+
+            journal.deleteBefore(2);
+        }
+        assertThat(LedgerJournal.allSegments(directory)).hasSize(1);
+        assertThat(replayAll(1)).singleElement()
+                .satisfies(batch -> assertThat(batch.entries().get(0).getDescription()).isEqualTo("Three"));
+    }
+
+    private List<LedgerJournal.Batch> replayAll(int shard) throws IOException {
+        List<LedgerJournal.Batch> batches = new ArrayList<>();
+        for (Path segment : LedgerJournal.segments(directory, shard)) {
+            LedgerJournal.replay(segment, serializer, batches::add);
+        }
+        return batches;
+    }
+
+    private static Money money(String amount) {
+        return Money.of(new BigDecimal(amount), USD);
+    }
+
+    private static TransactionId transactionId() {
+        return TransactionId.generate();
+    }
+}
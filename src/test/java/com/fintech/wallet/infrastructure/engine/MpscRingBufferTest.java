@@ -0,0 +1,86 @@
+package com.fintech.wallet.infrastructure.engine;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the ring buffer feeding each ledger shard.
+ * No Spring context - producers are plain threads.
+ */
+@DisplayName("MPSC Ring Buffer Tests")
+class MpscRingBufferTest {
+
+    @Test
+    @DisplayName("Should reject offers when full and accept them again once drained")
+    void shouldRespectCapacity() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(3);
+        assertThat(buffer.capacity()).isEqualTo(4);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+        assertThat(buffer.offer(4)).isFalse();
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drain(drained::add, 2)).isEqualTo(2);
+        assertThat(drained).containsExactly(0, 1);
+        assertThat(buffer.offer(4)).isTrue();
+        assertThat(buffer.offer(5)).isTrue();
+        assertThat(buffer.offer(6)).isFalse();
+
+        buffer.drain(drained::add, Integer.MAX_VALUE);
+        assertThat(drained).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should deliver every element of concurrent producers in each producer's order")
+    void shouldDeliverConcurrentOffers() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 100_000;
+        MpscRingBuffer<long[]> buffer = new MpscRingBuffer<>(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int p = 0; p < producers; p++) {
+            long producer = p;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (long i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(new long[]{producer, i})) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+        }
+
+        long[] next = new long[producers];
+        int[] received = {0};
+        start.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (received[0] < producers * perProducer && System.nanoTime() < deadline) {
+            buffer.drain(element -> {
+                assertThat(element[1]).isEqualTo(next[(int) element[0]]);
+                next[(int) element[0]]++;
+                received[0]++;
+            }, 256);
+        }
+        executor.shutdown();
+
+        assertThat(received[0]).isEqualTo(producers * perProducer);
+        assertThat(next).containsOnly(perProducer);
+    }
+}
@@ -0,0 +1,102 @@
+package com.fintech.wallet.infrastructure.persistence;
+
+import com.fintech.wallet.domain.valueobject.UuidV7;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Insert throughput of random versus time-ordered primary keys on a ledger-shaped table.
+ * No Spring context - plain JDBC against a local PostgreSQL, opt-in with:
+ * {@code mvn test -Dtest=UuidInsertBenchmarkTest -Dbenchmark.postgres.url=jdbc:postgresql://localhost:5432/wallet_bench
+ * -Dbenchmark.postgres.user=... -Dbenchmark.postgres.password=...}.
+ * The gap widens once the primary key index outgrows shared_buffers, so raise
+ * {@code benchmark.postgres.rows} on a large database.
+ */
+@DisplayName("UUID Insert Benchmark Tests")
+@EnabledIfSystemProperty(named = "benchmark.postgres.url", matches = ".+")
+class UuidInsertBenchmarkTest {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final int rows = Integer.getInteger("benchmark.postgres.rows", 2_000_000);
+
+    @Test
+    @DisplayName("Should insert time-ordered ids at least as fast as random ids")
+    void shouldCompareInsertThroughput() throws Exception {
+        try (Connection connection = DriverManager.getConnection(
+                System.getProperty("benchmark.postgres.url"),
+                System.getProperty("benchmark.postgres.user", "postgres"),
+                System.getProperty("benchmark.postgres.password", ""))) {
+            connection.setAutoCommit(false);
+
+            Result random = insert(connection, "bench_ids_random", UUID::randomUUID);
+            Result ordered = insert(connection, "bench_ids_v7", UuidV7::generate);
+
+            System.out.printf("Inserted %d rows: random %dms (%.0f/s, index %d MB), v7 %dms (%.0f/s, index %d MB)%n",
+                    rows, random.millis, random.perSecond(rows), random.indexBytes >> 20,
+                    ordered.millis, ordered.perSecond(rows), ordered.indexBytes >> 20);
+            assertThat(ordered.indexBytes).isLessThanOrEqualTo(random.indexBytes);
+        }
+    }
+
+    private Result insert(Connection connection, String table, Supplier<UUID> ids) throws Exception {
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE IF EXISTS " + table);
+            ddl.execute("CREATE TABLE " + table + " (id UUID PRIMARY KEY, wallet_id UUID NOT NULL, "
+                    + "amount NUMERIC(19, 2) NOT NULL, created_at TIMESTAMP NOT NULL)");
+        }
+        connection.commit();
+
+        UUID walletId = UUID.randomUUID();
+        long start = System.nanoTime();
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + table + " (id, wallet_id, amount, created_at) VALUES (?, ?, ?, ?)")) {
+            for (int i = 1; i <= rows; i++) {
+                insert.setObject(1, ids.get());
+                insert.setObject(2, walletId);
+                insert.setBigDecimal(3, BigDecimal.TEN);
+                insert.setTimestamp(4, Timestamp.from(Instant.now()));
+                insert.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        long indexBytes;
+        try (Statement query = connection.createStatement();
+             ResultSet rs = query.executeQuery("SELECT pg_relation_size('" + table + "_pkey')")) {
+            rs.next();
+            indexBytes = rs.getLong(1);
+        }
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE " + table);
+        }
+        connection.commit();
+        return new Result(millis, indexBytes);
+    }
+
+    private record Result(long millis, long indexBytes) {
+        double perSecond(int rows) {
+            return rows * 1000.0 / Math.max(millis, 1);
+        }
+    }
+}
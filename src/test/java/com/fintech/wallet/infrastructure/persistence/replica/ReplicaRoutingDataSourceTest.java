@@ -0,0 +1,76 @@
+package com.fintech.wallet.infrastructure.persistence.replica;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for ReplicaRoutingDataSource lookup decisions.
+ * No Spring context - the read-only flag is set on the current thread directly.
+ */
+@DisplayName("Replica Routing Data Source Tests")
+class ReplicaRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReplicaRoutingDataSource routing = routing("replica-0", "replica-1");
+
+    @AfterEach
+    void clearReadOnly() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("Should send read-write work to the primary")
+    void shouldRouteWritesToPrimary() {
+        routing.updateLag("replica-0", Duration.ZERO);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("Should spread read-only work across replicas within the lag threshold")
+    void shouldRoundRobinHealthyReplicas() {
+        routing.updateLag("replica-0", Duration.ZERO);
+        routing.updateLag("replica-1", Duration.ofMillis(500));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(IntStream.range(0, 4).mapToObj(i -> routing.determineCurrentLookupKey()))
+                .containsExactlyInAnyOrder("replica-0", "replica-1", "replica-0", "replica-1");
+    }
+
+    @Test
+    @DisplayName("Should skip lagging or unreachable replicas and fall back to the primary")
+    void shouldFallBackToPrimary() {
+        routing.updateLag("replica-0", Duration.ofSeconds(5));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // replica-1 has never been measured
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+
+        routing.updateLag("replica-1", Duration.ZERO);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-1");
+
+        routing.updateLag("replica-1", null);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(meterRegistry.counter("datasource.replica.fallbacks").count()).isEqualTo(2);
+    }
+
+    private ReplicaRoutingDataSource routing(String... replicaNames) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String name : replicaNames) {
+            replicas.put(name, mock(DataSource.class));
+        }
+        return new ReplicaRoutingDataSource(mock(DataSource.class), replicas, Duration.ofSeconds(2), meterRegistry);
+    }
+}
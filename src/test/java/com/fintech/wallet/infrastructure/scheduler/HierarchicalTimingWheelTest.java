@@ -0,0 +1,64 @@
+package com.fintech.wallet.infrastructure.scheduler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for HierarchicalTimingWheel.
+ * No Spring context - the caller drives the clock.
+ */
+@DisplayName("Hierarchical Timing Wheel Tests")
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    @DisplayName("Should fire a task at its deadline and not before")
+    void shouldFireTaskAtDeadline() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 60, START);
+
+        wheel.add(START + 5_500, "payment");
+
+        assertThat(wheel.advanceTo(START + 5_000)).isEmpty();
+        assertThat(wheel.advanceTo(START + 6_000)).containsExactly("payment");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should cascade tasks beyond the lowest level down to their exact tick")
+    void shouldCascadeDistantTasks() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 60, START);
+        long inTwoMinutes = START + 125_000;
+        long inThreeHours = START + 3 * 3_600_000 + 7_000;
+
+        wheel.add(inTwoMinutes, "minutes");
+        wheel.add(inThreeHours, "hours");
+
+        assertThat(wheel.advanceTo(inTwoMinutes - 1_000)).isEmpty();
+        assertThat(wheel.advanceTo(inTwoMinutes)).containsExactly("minutes");
+        assertThat(wheel.advanceTo(inThreeHours - 1_000)).isEmpty();
+        assertThat(wheel.advanceTo(inThreeHours)).containsExactly("hours");
+    }
+
+    @Test
+    @DisplayName("Should reject tasks whose deadline has already passed")
+    void shouldRejectExpiredTask() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 60, START);
+
+        assertThat(wheel.add(START - 10_000, "late")).isFalse();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should fire every task sharing a tick")
+    void shouldFireAllTasksInSameTick() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 60, START);
+
+        wheel.add(START + 90_000, "first");
+        wheel.add(START + 90_000, "second");
+
+        assertThat(wheel.advanceTo(START + 90_000)).containsExactlyInAnyOrder("first", "second");
+    }
+}
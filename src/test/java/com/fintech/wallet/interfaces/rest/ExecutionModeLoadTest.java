@@ -0,0 +1,149 @@
+package com.fintech.wallet.interfaces.rest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Throughput and latency of the same endpoint served by platform-thread and
+ * virtual-thread instances.
+ * No Spring context - start two instances against the same database, one with
+ * {@code VIRTUAL_THREADS_ENABLED=true} on Java 21, then run
+ * {@code mvn test -Dtest=ExecutionModeLoadTest
+ * -Dloadtest.platform.url=http://localhost:8088/api/wallets/{walletId}
+ * -Dloadtest.virtual.url=http://localhost:8089/api/wallets/{walletId}}.
+ * Each instance is driven by {@code loadtest.concurrency} clients that send
+ * their next request as soon as the previous one completes.
+ */
+@DisplayName("Execution Mode Load Tests")
+@EnabledIfSystemProperty(named = "loadtest.platform.url", matches = ".+")
+@EnabledIfSystemProperty(named = "loadtest.virtual.url", matches = ".+")
+class ExecutionModeLoadTest {
+
+    private static final int MAX_SAMPLES = 5_000_000;
+
+    private final int concurrency = Integer.getInteger("loadtest.concurrency", 2000);
+    private final long seconds = Long.getLong("loadtest.seconds", 30);
+    private final long warmupSeconds = Long.getLong("loadtest.warmup-seconds", 5);
+
+    @Test
+    @DisplayName("Should report throughput and p99 latency for both execution modes")
+    void shouldCompareExecutionModes() throws Exception {
+        Result platform = drive(System.getProperty("loadtest.platform.url"));
+        Result virtual = drive(System.getProperty("loadtest.virtual.url"));
+
+        System.out.printf("%d clients for %ds%n", concurrency, seconds);
+        System.out.printf("%-9s %12s %9s %9s %8s%n", "mode", "requests/s", "p50 ms", "p99 ms", "errors");
+        platform.print("platform");
+        virtual.print("virtual");
+        assertThat(platform.completed()).isPositive();
+        assertThat(virtual.completed()).isPositive();
+    }
+
+    private Result drive(String url) throws InterruptedException {
+        ExecutorService responses = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .executor(responses)
+                    .build();
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+            run(client, request, responses, warmupSeconds);
+            return run(client, request, responses, seconds);
+        } finally {
+            responses.shutdownNow();
+        }
+    }
+
+    private Result run(HttpClient client, HttpRequest request, Executor responses, long runSeconds)
+            throws InterruptedException {
+        Recorder recorder = new Recorder(client, request, responses, new CountDownLatch(concurrency));
+        long start = System.nanoTime();
+        for (int i = 0; i < concurrency; i++) {
+            recorder.send();
+        }
+        Thread.sleep(TimeUnit.SECONDS.toMillis(runSeconds));
+        recorder.running.set(false);
+        long elapsed = System.nanoTime() - start;
+        recorder.stopped.await(60, TimeUnit.SECONDS);
+        return recorder.result(elapsed);
+    }
+
+    private static final class Recorder {
+
+        private final HttpClient client;
+        private final HttpRequest request;
+        private final Executor responses;
+        private final CountDownLatch stopped;
+        private final AtomicBoolean running = new AtomicBoolean(true);
+        private final long[] latencies = new long[MAX_SAMPLES];
+        private final AtomicInteger samples = new AtomicInteger();
+        private final LongAdder errors = new LongAdder();
+
+        Recorder(HttpClient client, HttpRequest request, Executor responses, CountDownLatch stopped) {
+            this.client = client;
+            this.request = request;
+            this.responses = responses;
+            this.stopped = stopped;
+        }
+
+        void send() {
+            long start = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenCompleteAsync((response, failure) -> {
+                if (!running.get()) {
+                    stopped.countDown();
+                    return;
+                }
+                if (failure != null || response.statusCode() >= 500) {
+                    errors.increment();
+                } else {
+                    int sample = samples.getAndIncrement();
+                    if (sample < MAX_SAMPLES) {
+                        latencies[sample] = System.nanoTime() - start;
+                    }
+                }
+                send();
+            }, responses);
+        }
+
+        Result result(long elapsedNanos) {
+            long[] sorted = Arrays.copyOf(latencies, Math.min(samples.get(), MAX_SAMPLES));
+            Arrays.sort(sorted);
+            return new Result(samples.get(), errors.sum(), elapsedNanos, percentile(sorted, 0.50),
+                    percentile(sorted, 0.99));
+        }
+
+        private static long percentile(long[] sorted, double percentile) {
+            return sorted.length == 0 ? 0 : sorted[(int) Math.ceil(percentile * sorted.length) - 1];
+        }
+    }
+
+    private record Result(long completed, long errors, long elapsedNanos, long p50Nanos, long p99Nanos) {
+
+        void print(String mode) {
+            System.out.printf("%-9s %12.0f %9.1f %9.1f %8d%n", mode, completed / (elapsedNanos / 1e9),
+                    p50Nanos / 1e6, p99Nanos / 1e6, errors);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.fintech.wallet.interfaces.rest.sse;
+
+import com.fintech.wallet.domain.valueobject.WalletId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for WalletEventStreamRegistry with emitters that record what they send.
+ * No Spring context - writes run on the calling thread unless a test queues them.
+ */
+@DisplayName("Wallet Event Stream Registry Tests")
+class WalletEventStreamRegistryTest {
+
+    private final WalletId wallet = WalletId.generate();
+
+    @Test
+    @DisplayName("Should start with a snapshot and then push live events for the wallet only")
+    void shouldPushLiveEvents() {
+        WalletEventStreamRegistry registry = registry(Runnable::run, 10);
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        registry.subscribe(wallet, null, () -> "{\"balance\":\"10\"}", emitter);
+        registry.publish(wallet, "MONEY_DEPOSITED", "{\"amount\":\"5\"}");
+        registry.publish(WalletId.generate(), "MONEY_DEPOSITED", "{\"amount\":\"7\"}");
+
+        assertThat(emitter.names()).containsExactly("SNAPSHOT", "MONEY_DEPOSITED");
+        assertThat(emitter.sent.get(1)).contains("{\"amount\":\"5\"}");
+    }
+
+    @Test
+    @DisplayName("Should follow the snapshot with events published while it was read")
+    void shouldReplayEventsPublishedDuringSnapshot() {
+        WalletEventStreamRegistry registry = registry(Runnable::run, 10);
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        registry.subscribe(wallet, null, () -> {
+            registry.publish(wallet, "MONEY_DEPOSITED", "{\"n\":1}");
+            return "{\"balance\":\"10\"}";
+        }, emitter);
+        registry.publish(wallet, "MONEY_WITHDRAWN", "{\"n\":2}");
+
+        assertThat(emitter.names()).containsExactly("SNAPSHOT", "MONEY_DEPOSITED", "MONEY_WITHDRAWN");
+    }
+
+    @Test
+    @DisplayName("Should replay missed events when resuming with Last-Event-ID")
+    void shouldResumeFromLastEventId() {
+        WalletEventStreamRegistry registry = registry(Runnable::run, 10);
+        RecordingEmitter first = new RecordingEmitter();
+        registry.subscribe(wallet, null, () -> "{}", first);
+        registry.publish(wallet, "MONEY_DEPOSITED", "{\"n\":1}");
+        String lastEventId = first.ids().get(1);
+
+        registry.publish(wallet, "MONEY_WITHDRAWN", "{\"n\":2}");
+        registry.publish(wallet, "MONEY_DEPOSITED", "{\"n\":3}");
+        RecordingEmitter resumed = new RecordingEmitter();
+        registry.subscribe(wallet, lastEventId, () -> "{}", resumed);
+
+        assertThat(resumed.names()).containsExactly("MONEY_WITHDRAWN", "MONEY_DEPOSITED");
+        assertThat(resumed.sent.get(1)).contains("{\"n\":3}");
+    }
+
+    @Test
+    @DisplayName("Should send a snapshot when the missed events are no longer buffered")
+    void shouldSnapshotWhenReplayIsIncomplete() {
+        WalletEventStreamRegistry registry = registry(Runnable::run, 10, 2);
+        RecordingEmitter first = new RecordingEmitter();
+        registry.subscribe(wallet, null, () -> "{}", first);
+        String lastEventId = first.ids().get(0);
+        for (int i = 0; i < 3; i++) {
+            registry.publish(wallet, "MONEY_DEPOSITED", "{}");
+        }
+
+        RecordingEmitter resumed = new RecordingEmitter();
+        registry.subscribe(wallet, lastEventId, () -> "{}", resumed);
+        RecordingEmitter foreign = new RecordingEmitter();
+        registry.subscribe(wallet, "other-node-1", () -> "{}", foreign);
+
+        assertThat(resumed.names()).containsExactly("SNAPSHOT");
+        assertThat(foreign.names()).containsExactly("SNAPSHOT");
+    }
+
+    @Test
+    @DisplayName("Should disconnect a client whose queue overflows and keep the wallet resumable")
+    void shouldDisconnectSlowClient() {
+        List<Runnable> pending = new ArrayList<>();
+        WalletEventStreamRegistry registry = registry(pending::add, 2);
+        RecordingEmitter slow = new RecordingEmitter();
+        registry.subscribe(wallet, null, () -> "{}", slow);
+        registry.publish(wallet, "MONEY_DEPOSITED", "{}");
+        registry.publish(wallet, "MONEY_DEPOSITED", "{}");
+
+        pending.forEach(Runnable::run);
+        registry.heartbeat();
+        registry.publish(wallet, "MONEY_DEPOSITED", "{}");
+
+        assertThat(slow.completed).isTrue();
+        assertThat(slow.sent).isEmpty();
+        assertThat(registry.isWatched(wallet)).isTrue();
+    }
+
+    private WalletEventStreamRegistry registry(Executor executor, int queueCapacity) {
+        return registry(executor, queueCapacity, 100);
+    }
+
+    private WalletEventStreamRegistry registry(Executor executor, int queueCapacity, int replaySize) {
+        return new WalletEventStreamRegistry(executor, Duration.ofMinutes(1), queueCapacity, replaySize,
+                Duration.ofMinutes(5));
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+        private final List<String> sent = new ArrayList<>();
+        private boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sent.add(builder.build().stream()
+                    .map(part -> part.getData().toString())
+                    .collect(Collectors.joining()));
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+
+        List<String> names() {
+            return field("event:");
+        }
+
+        List<String> ids() {
+            return field("id:");
+        }
+
+        private List<String> field(String prefix) {
+            return sent.stream()
+                    .flatMap(event -> event.lines())
+                    .filter(line -> line.startsWith(prefix))
+                    .map(line -> line.substring(prefix.length()))
+                    .toList();
+        }
+    }
+}
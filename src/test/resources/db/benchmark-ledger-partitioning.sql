@@ -0,0 +1,95 @@
+-- Compares a one-month statement query on the plain and the partitioned ledger layout.
+-- Run with psql against a scratch PostgreSQL database:
+--   psql -d wallet_bench -f benchmark-ledger-partitioning.sql
+-- Seeds 10,000 wallets with 24 months of entries (about 12M rows per layout).
+
+DROP TABLE IF EXISTS bench_ledger_plain;
+DROP TABLE IF EXISTS bench_ledger_partitioned;
+
+CREATE TABLE bench_ledger_plain (
+    id UUID PRIMARY KEY,
+    wallet_id UUID NOT NULL,
+    entry_type VARCHAR(10) NOT NULL,
+    amount NUMERIC(19, 2) NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE bench_ledger_partitioned (
+    id UUID NOT NULL,
+    wallet_id UUID NOT NULL,
+    entry_type VARCHAR(10) NOT NULL,
+    amount NUMERIC(19, 2) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', CURRENT_DATE - INTERVAL '24 months')::date;
+BEGIN
+    FOR i IN 0..24 LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF bench_ledger_partitioned FOR VALUES FROM (%L) TO (%L)',
+                'bench_ledger_p' || i, month_start, (month_start + INTERVAL '1 month')::date);
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END;
+$$;
+
+CREATE TEMPORARY TABLE bench_wallets AS
+SELECT gen_random_uuid() AS wallet_id FROM generate_series(1, 10000);
+
+INSERT INTO bench_ledger_plain
+SELECT gen_random_uuid(), w.wallet_id,
+       CASE WHEN random() < 0.5 THEN 'CREDIT' ELSE 'DEBIT' END,
+       round((random() * 500)::numeric, 2),
+       CURRENT_DATE - (random() * INTERVAL '730 days')
+FROM bench_wallets w, generate_series(1, 1200);
+
+INSERT INTO bench_ledger_partitioned SELECT * FROM bench_ledger_plain;
+
+-- Old layout: separate single-column indexes
+CREATE INDEX ON bench_ledger_plain(wallet_id);
+CREATE INDEX ON bench_ledger_plain(created_at);
+-- New layout: one composite index per partition
+CREATE INDEX ON bench_ledger_partitioned(wallet_id, created_at);
+
+ANALYZE bench_ledger_plain;
+ANALYZE bench_ledger_partitioned;
+
+SELECT wallet_id AS bench_wallet FROM bench_wallets LIMIT 1 \gset
+
+-- What reports did before: every entry of the wallet
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM bench_ledger_plain WHERE wallet_id = :'bench_wallet';
+
+-- Statement period and opening balance, plain table
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM bench_ledger_plain
+WHERE wallet_id = :'bench_wallet'
+  AND created_at >= date_trunc('month', CURRENT_DATE - INTERVAL '1 month')
+  AND created_at < date_trunc('month', CURRENT_DATE)
+ORDER BY created_at;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT COALESCE(SUM(CASE WHEN entry_type = 'CREDIT' THEN amount ELSE -amount END), 0)
+FROM bench_ledger_plain
+WHERE wallet_id = :'bench_wallet'
+  AND created_at < date_trunc('month', CURRENT_DATE - INTERVAL '1 month');
+
+-- Statement period and opening balance, partitioned table: the plan should
+-- show a single partition for the period query
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM bench_ledger_partitioned
+WHERE wallet_id = :'bench_wallet'
+  AND created_at >= date_trunc('month', CURRENT_DATE - INTERVAL '1 month')
+  AND created_at < date_trunc('month', CURRENT_DATE)
+ORDER BY created_at;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT COALESCE(SUM(CASE WHEN entry_type = 'CREDIT' THEN amount ELSE -amount END), 0)
+FROM bench_ledger_partitioned
+WHERE wallet_id = :'bench_wallet'
+  AND created_at < date_trunc('month', CURRENT_DATE - INTERVAL '1 month');
+
+DROP TABLE bench_ledger_plain;
+DROP TABLE bench_ledger_partitioned;
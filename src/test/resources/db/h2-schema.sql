@@ -0,0 +1,9 @@
+-- Tables the H2 test database needs that no JPA entity creates.
+-- Applied before Hibernate's create-drop; see application-test.yml.
+
+CREATE TABLE shedlock (
+    name VARCHAR(64) PRIMARY KEY,
+    lock_until TIMESTAMP NOT NULL,
+    locked_at TIMESTAMP NOT NULL,
+    locked_by VARCHAR(255) NOT NULL
+);